@@ -0,0 +1,166 @@
+package edu.monash.fit2099.engine;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A set of abilities stored as a bitset.
+ *
+ * Every enum type used as an ability is given a block of bit positions the
+ * first time one of its constants is seen, one per constant, so any ability of
+ * any enum has a fixed global bit. Membership tests are then a single bit test,
+ * and combining the abilities of several entities is a word-wise OR.
+ *
+ * @author Riordan Alfredo
+ */
+public final class AbilitySet {
+
+    /**
+     * First bit of each enum type's block, assigned on first use.
+     */
+    private static final ClassValue<Integer> BASE = new ClassValue<>() {
+        @Override
+        protected Integer computeValue(Class<?> enumType) {
+            return register(enumType);
+        }
+    };
+
+    /**
+     * The ability behind each assigned bit, for listing a set's contents.
+     */
+    private static Enum<?>[] byBit = new Enum<?>[64];
+    private static int nextBit;
+
+    private long[] words = new long[1];
+
+    private static synchronized int register(Class<?> enumType) {
+        Object[] constants = enumType.getEnumConstants();
+        int base = nextBit;
+        nextBit += constants.length;
+        if (nextBit > byBit.length) {
+            byBit = Arrays.copyOf(byBit, Math.max(nextBit, byBit.length * 2));
+        }
+        for (int i = 0; i < constants.length; i++) {
+            byBit[base + i] = (Enum<?>) constants[i];
+        }
+        return base;
+    }
+
+    /**
+     * Get the global bit position of an ability.
+     *
+     * @param ability the ability
+     * @return its bit position, the same for the lifetime of the program
+     */
+    public static int bitOf(Enum<?> ability) {
+        return BASE.get(ability.getDeclaringClass()) + ability.ordinal();
+    }
+
+    private static synchronized Enum<?> abilityAt(int bit) {
+        return byBit[bit];
+    }
+
+    /**
+     * @param ability the ability to look for
+     * @return true if this set contains the ability
+     */
+    public boolean contains(Enum<?> ability) {
+        int bit = bitOf(ability);
+        int word = bit >>> 6;
+        return word < words.length && (words[word] & (1L << bit)) != 0;
+    }
+
+    /**
+     * @param ability the ability to add
+     * @return true if the set changed
+     */
+    public boolean add(Enum<?> ability) {
+        int bit = bitOf(ability);
+        int word = bit >>> 6;
+        if (word >= words.length) {
+            words = Arrays.copyOf(words, word + 1);
+        }
+        long before = words[word];
+        words[word] = before | (1L << bit);
+        return words[word] != before;
+    }
+
+    /**
+     * @param ability the ability to remove
+     * @return true if the set changed
+     */
+    public boolean remove(Enum<?> ability) {
+        int bit = bitOf(ability);
+        int word = bit >>> 6;
+        if (word >= words.length) {
+            return false;
+        }
+        long before = words[word];
+        words[word] = before & ~(1L << bit);
+        return words[word] != before;
+    }
+
+    /**
+     * Make this set a copy of another.
+     *
+     * @param other the set to copy
+     */
+    public void copyOf(AbilitySet other) {
+        if (words.length < other.words.length) {
+            words = new long[other.words.length];
+        }
+        System.arraycopy(other.words, 0, words, 0, other.words.length);
+        Arrays.fill(words, other.words.length, words.length, 0L);
+    }
+
+    /**
+     * Add every ability of another set to this one.
+     *
+     * @param other the set to merge in
+     */
+    public void addAll(AbilitySet other) {
+        if (words.length < other.words.length) {
+            words = Arrays.copyOf(words, other.words.length);
+        }
+        for (int i = 0; i < other.words.length; i++) {
+            words[i] |= other.words[i];
+        }
+    }
+
+    /**
+     * @param other another set
+     * @return true if both sets hold exactly the same abilities
+     */
+    public boolean sameAs(AbilitySet other) {
+        int common = Math.min(words.length, other.words.length);
+        for (int i = 0; i < common; i++) {
+            if (words[i] != other.words[i]) {
+                return false;
+            }
+        }
+        long[] longer = words.length > common ? words : other.words;
+        for (int i = common; i < longer.length; i++) {
+            if (longer[i] != 0L) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return the abilities in this set, in bit order
+     */
+    public List<Enum<?>> toList() {
+        List<Enum<?>> abilities = new ArrayList<>();
+        for (int i = 0; i < words.length; i++) {
+            long word = words[i];
+            while (word != 0) {
+                int bit = Long.numberOfTrailingZeros(word);
+                abilities.add(abilityAt((i << 6) + bit));
+                word &= word - 1;
+            }
+        }
+        return abilities;
+    }
+}
@@ -25,7 +25,7 @@ public abstract class GameEntity {
      */
     private final List<Status> statuses = new ArrayList<>();
 
-    private final Set<Enum<?>> abilitySet = new HashSet<>();
+    private final AbilitySet abilitySet = new AbilitySet();
 
     /**
      * Adds a status effect to this entity.
@@ -108,13 +108,14 @@ public abstract class GameEntity {
     }
 
     /**
-     * Attach ability/status to the instance
+     * Attach ability/status to the instance, unless it already has it; for an
+     * actor that includes abilities granted by the items it carries
      *
      * @param ability enum
      */
     public void enableAbility(Enum<?> ability) {
-        if (!hasAbility(ability)) {
-            abilitySet.add(ability);
+        if (!hasAbility(ability) && abilitySet.add(ability)) {
+            abilitiesChanged();
         }
     }
 
@@ -124,18 +125,89 @@ public abstract class GameEntity {
      * @param ability enum
      */
     public void disableAbility(Enum<?> ability) {
-        if (hasAbility(ability)) {
-            abilitySet.remove(ability);
+        if (abilitySet.remove(ability)) {
+            abilitiesChanged();
         }
     }
 
+    /**
+     * Called after this instance gains or loses an ability. Subclasses that
+     * cache anything derived from abilities invalidate it here.
+     */
+    protected void abilitiesChanged() {
+    }
+
+    /**
+     * Add this instance's own abilities to a set.
+     *
+     * @param into the set to add to
+     */
+    public final void collectAbilities(AbilitySet into) {
+        into.addAll(abilitySet);
+    }
+
+    /**
+     * The abilities of this instance alone, for subclasses building caches on top of them.
+     *
+     * @return the live ability set; do not modify
+     */
+    protected final AbilitySet ownAbilities() {
+        return abilitySet;
+    }
+
     /**
      * Get unmodifiable capabilities list to avoid privacy leak
      *
      * @return unmodifiable list of capabilities
      */
     public List<Enum<?>> abilities() {
-        return List.copyOf(abilitySet);
+        return Collections.unmodifiableList(abilitySet.toList());
+    }
+
+    /**
+     * Answers "does this class provide that capability?" once per (capability,
+     * class) pair. The outer value is keyed by capability and checks that it is
+     * a contract; the inner one is keyed by the entity's class.
+     */
+    private static final ClassValue<ClassValue<Boolean>> CAPABILITIES = new ClassValue<>() {
+        @Override
+        protected ClassValue<Boolean> computeValue(Class<?> capability) {
+            // Ensure that 'type' is an interface
+            if (!capability.isInterface() && !Modifier.isAbstract(capability.getModifiers()) ) {
+                throw new IllegalArgumentException("Capability must be a contract (abstract/interface): " + capability.getName());
+            }
+            return new ClassValue<>() {
+                @Override
+                protected Boolean computeValue(Class<?> type) {
+                    return capability.isAssignableFrom(type);
+                }
+            };
+        }
+    };
+
+    /**
+     * Checks whether this instance supports a capability. Cached per class, so
+     * it is cheap enough for per-tile and per-item loops.
+     *
+     * @param capability the capability contract (abstract class or interface)
+     * @return true if this instance supports it
+     * @throws IllegalArgumentException if the capability is a concrete class
+     */
+    public final boolean hasCapability(Class<?> capability) {
+        return CAPABILITIES.get(capability).get(getClass());
+    }
+
+    /**
+     * Returns this instance as the capability if supported, or null if not.
+     * Unlike {@link #asCapability(Class)} this allocates nothing.
+     *
+     * @param capability the capability contract (abstract class or interface)
+     * @param <T> the capability type
+     * @return this instance as the capability, or null
+     * @throws IllegalArgumentException if the capability is a concrete class
+     */
+    public final <T> T capabilityOrNull(Class<T> capability) {
+        return hasCapability(capability) ? capability.cast(this) : null;
     }
 
     /**
@@ -143,13 +215,6 @@ public abstract class GameEntity {
      * not.
      */
     public final <T> Optional<T> asCapability(Class<T> capability) {
-        // Ensure that 'type' is an interface
-        if (!capability.isInterface() && !Modifier.isAbstract(capability.getModifiers()) ) {
-            throw new IllegalArgumentException("Capability must be a contract (abstract/interface): " + capability.getName());
-        }
-        if (capability.isInstance(this)) {
-            return Optional.of(capability.cast(this));
-        }
-        return Optional.empty();
+        return Optional.ofNullable(capabilityOrNull(capability));
     }
 }
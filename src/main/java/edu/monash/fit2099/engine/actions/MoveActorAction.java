@@ -56,6 +56,13 @@ public class MoveActorAction extends Action {
 		this.hotKey = null;
 	}
 
+	/**
+	 * @return the Location the Actor moves to
+	 */
+	public Location getMoveToLocation() {
+		return moveToLocation;
+	}
+
 	/**
 	 * Allow the Actor to be moved.
 	 *
@@ -1,11 +1,13 @@
 package edu.monash.fit2099.engine.actors;
 
+import edu.monash.fit2099.engine.AbilitySet;
 import edu.monash.fit2099.engine.GameEntity;
 import edu.monash.fit2099.engine.actions.Action;
 import edu.monash.fit2099.engine.actions.ActionList;
 import edu.monash.fit2099.engine.actors.attributes.ActorAttribute;
 import edu.monash.fit2099.engine.actors.attributes.ActorAttributeOperation;
 import edu.monash.fit2099.engine.actors.attributes.BaseActorAttribute;
+import edu.monash.fit2099.engine.actors.attributes.BaseAttributeStore;
 import edu.monash.fit2099.engine.actors.attributes.BaseAttributes;
 import edu.monash.fit2099.engine.displays.Display;
 import edu.monash.fit2099.engine.displays.Printable;
@@ -33,6 +35,14 @@ public abstract class Actor extends GameEntity implements Printable {
      */
     private final Map<Enum<?>, ActorAttribute<Integer>> attributes = new HashMap<>();
 
+    /**
+     * Plain {@link BaseActorAttribute}s registered under a {@link BaseAttributes}
+     * key, such as health, are kept here as primitive ints instead of in the
+     * map above, since every hit, heal and {@link #toString()} reads them.
+     * Custom {@link ActorAttribute} implementations stay in the map.
+     */
+    private final BaseAttributeStore baseAttributes;
+
     /**
      * Actor's name
      */
@@ -45,7 +55,16 @@ public abstract class Actor extends GameEntity implements Printable {
     /**
      * A bag of items
      */
-    private final List<Item> itemInventory = new ArrayList<>();
+    private final ItemInventory itemInventory = new ItemInventory();
+
+    /**
+     * This Actor's abilities together with those of everything it carries.
+     * Rebuilt on demand after this Actor's abilities or inventory change, or
+     * after any Item's abilities change.
+     */
+    private final AbilitySet carriedAbilities = new AbilitySet();
+    private boolean carriedAbilitiesStale = true;
+    private int carriedAbilitiesEpoch;
 
     /**
      * Natural/intrinsic weapon, like a punch
@@ -61,8 +80,23 @@ public abstract class Actor extends GameEntity implements Printable {
      * @param hitPoints the Actor's starting hit points
      */
     public Actor(String name, char displayChar, int hitPoints) {
+        this(name, displayChar, hitPoints, new BaseAttributeStore());
+    }
+
+    /**
+     * Constructor for actors whose base attributes are kept outside the actor,
+     * for example in columns shared by a large population of similar actors.
+     *
+     * @param name the name of the Actor
+     * @param displayChar the character that will represent the Actor in the
+     * display
+     * @param hitPoints the Actor's starting hit points
+     * @param baseAttributes where this Actor's {@link BaseAttributes} are stored
+     */
+    protected Actor(String name, char displayChar, int hitPoints, BaseAttributeStore baseAttributes) {
         this.name = name;
         this.displayChar = displayChar;
+        this.baseAttributes = baseAttributes;
         this.addNewStatistic(BaseAttributes.HEALTH, new BaseActorAttribute(hitPoints));
     }
 
@@ -73,7 +107,8 @@ public abstract class Actor extends GameEntity implements Printable {
      * @return true if the actor has the queried attribute, false otherwise
      */
     public boolean hasStatistic(Enum<?> name) {
-        return this.attributes.containsKey(name);
+        return (name instanceof BaseAttributes base && baseAttributes.has(base))
+                || this.attributes.containsKey(name);
     }
 
     /**
@@ -82,9 +117,19 @@ public abstract class Actor extends GameEntity implements Printable {
      * @param name the name of the attribute to be added, which must be a value
      * of an enumeration, such as BaseActorattributes.STAMINA.
      * @param attribute an object that implements the {@link ActorAttribute}
-     * interface.
+     * interface. A plain {@link BaseActorAttribute} under a {@link BaseAttributes}
+     * name is copied into primitive storage; changes to the actor's attribute
+     * are then not reflected in that object, and vice versa.
      */
     public void addNewStatistic(Enum<?> name, ActorAttribute<Integer> attribute) {
+        if (name instanceof BaseAttributes base) {
+            if (attribute.getClass() == BaseActorAttribute.class) {
+                this.baseAttributes.define(base, attribute.getMaximum(), attribute.get());
+                this.attributes.remove(name);
+                return;
+            }
+            this.baseAttributes.remove(base);
+        }
         this.attributes.put(name, attribute);
     }
 
@@ -109,6 +154,10 @@ public abstract class Actor extends GameEntity implements Printable {
      * @throws IllegalArgumentException if the operation is invalid.
      */
     public <E extends Enum<E>> void modifyAttribute(Enum<E> name, ActorAttributeOperation operation, int value) throws IllegalArgumentException {
+        if (name instanceof BaseAttributes base && baseAttributes.has(base)) {
+            baseAttributes.modify(base, operation, value);
+            return;
+        }
         switch (operation) {
             case INCREASE:
                 this.attributes.get(name).increase(value);
@@ -138,6 +187,10 @@ public abstract class Actor extends GameEntity implements Printable {
      * @throws IllegalArgumentException if the operation is invalid.
      */
     public <E extends Enum<E>>void modifyStatsMaximum(Enum<E> name, ActorAttributeOperation operation, int value) throws IllegalArgumentException {
+        if (name instanceof BaseAttributes base && baseAttributes.has(base)) {
+            baseAttributes.modifyMaximum(base, operation, value);
+            return;
+        }
         switch (operation) {
             case INCREASE:
                 this.attributes.get(name).increaseMaximum(value);
@@ -162,6 +215,9 @@ public abstract class Actor extends GameEntity implements Printable {
      * @return the value of the attribute.
      */
     public int getAttribute(Enum<?> name) {
+        if (name instanceof BaseAttributes base && baseAttributes.has(base)) {
+            return baseAttributes.get(base);
+        }
         return this.attributes.get(name).get();
     }
 
@@ -174,6 +230,9 @@ public abstract class Actor extends GameEntity implements Printable {
      * @return the maximum value of the attribute.
      */
     public int getMaximumAttribute(Enum<?> name) {
+        if (name instanceof BaseAttributes base && baseAttributes.has(base)) {
+            return baseAttributes.getMaximum(base);
+        }
         return this.attributes.get(name).getMaximum();
     }
 
@@ -184,6 +243,7 @@ public abstract class Actor extends GameEntity implements Printable {
      */
     public void addItemToInventory(Item item) {
         itemInventory.add(item);
+        carriedAbilitiesStale = true;
     }
 
     /**
@@ -195,6 +255,7 @@ public abstract class Actor extends GameEntity implements Printable {
      */
     public void removeItemFromInventory(Item item) {
         itemInventory.remove(item);
+        carriedAbilitiesStale = true;
     }
 
     /**
@@ -205,7 +266,19 @@ public abstract class Actor extends GameEntity implements Printable {
      * @return An unmodifiable wrapper of the inventory.
      */
     public List<Item> getItemInventory() {
-        return Collections.unmodifiableList(itemInventory);
+        return itemInventory.asList();
+    }
+
+    /**
+     * Get this Actor's inventory for indexed queries, such as whether it
+     * carries any item of a given class or capability. The inventory cannot be
+     * changed through it; use {@link #addItemToInventory(Item)} and
+     * {@link #removeItemFromInventory(Item)}.
+     *
+     * @return this Actor's inventory
+     */
+    public ItemInventory getInventory() {
+        return itemInventory;
     }
 
     /**
@@ -216,17 +289,11 @@ public abstract class Actor extends GameEntity implements Printable {
      *
      * @param <T> the type of capability to retrieve
      * @param capability the class object representing the capability type
-     * @return a list containing all capabilities of the specified type found in the inventory;
+     * @return an unmodifiable list containing all capabilities of the specified type found in the inventory;
      *         the list is empty if no items provide the capability
      */
     public <T> List<T> getItemInventoryAs(Class<T> capability) {
-        List<T> result = new ArrayList<>();
-        for (Item item : itemInventory) {
-            if(item != null){
-                item.asCapability(capability).ifPresent(result::add);
-            }
-        }
-        return result;
+        return itemInventory.allOf(capability);
     }
 
 
@@ -293,6 +360,15 @@ public abstract class Actor extends GameEntity implements Printable {
         return this + " ceased to exist.";
     }
 
+    /**
+     * Called by the engine once this actor has been removed from the world and
+     * every {@link ActorLifecycleListener} has forgotten it. Subclasses that
+     * hold resources of their own (a slot in a shared store, a registration)
+     * give them back here. Does nothing by default.
+     */
+    protected void onRemoved() {
+    }
+
     /**
      * Hurt the current actor with the given damage points.
      *
@@ -339,12 +415,34 @@ public abstract class Actor extends GameEntity implements Printable {
      */
     @Override
     public final boolean hasAbility(Enum<?> ability) {
-        for (Item item : itemInventory) {
-            if (item.hasAbility(ability)) {
-                return true;
+        return carriedAbilities().contains(ability);
+    }
+
+    /**
+     * Copy this Actor's abilities, together with those of everything it carries,
+     * into a set, for code that needs to tell later whether they have changed.
+     *
+     * @param target the set to overwrite
+     */
+    public final void copyAbilitiesTo(AbilitySet target) {
+        target.copyOf(carriedAbilities());
+    }
+
+    private AbilitySet carriedAbilities() {
+        if (carriedAbilitiesStale || carriedAbilitiesEpoch != Item.abilityEpoch()) {
+            carriedAbilities.copyOf(ownAbilities());
+            for (Item item : itemInventory) {
+                item.collectAbilities(carriedAbilities);
             }
+            carriedAbilitiesEpoch = Item.abilityEpoch();
+            carriedAbilitiesStale = false;
         }
-        return super.hasAbility(ability);
+        return carriedAbilities;
+    }
+
+    @Override
+    protected void abilitiesChanged() {
+        carriedAbilitiesStale = true;
     }
 
     /**
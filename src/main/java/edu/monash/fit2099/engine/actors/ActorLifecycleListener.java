@@ -0,0 +1,27 @@
+package edu.monash.fit2099.engine.actors;
+
+/**
+ * Something that holds on to actors and must let go of them once they leave
+ * the world.
+ *
+ * An actor's life in the engine has four stages: it is spawned (constructed),
+ * becomes active when it is added to an {@link ActorLocationsIterator}, is
+ * removed when the iterator drops it (it fell unconscious, or the game took it
+ * out), and is released once every listener registered with that iterator has
+ * been told, followed by the actor's own {@link Actor#onRemoved()}. Removal is
+ * final: after it, nothing in the engine refers to the actor, so anything that
+ * kept a map, set or column keyed by actors should drop its entry here, or the
+ * actor and everything it refers to stays on the heap for the rest of the game.
+ *
+ * @author Riordan Alfredo
+ * @author Adrian Kristanto
+ */
+public interface ActorLifecycleListener {
+
+	/**
+	 * Called once, after the actor has been taken out of the world.
+	 *
+	 * @param actor the actor that was removed
+	 */
+	void actorRemoved(Actor actor);
+}
@@ -5,11 +5,16 @@ import edu.monash.fit2099.engine.GameEntity;
 import edu.monash.fit2099.engine.positions.Location;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Represents a bimap of locations and actors. Hence it enforces the one actor
  * per location rule. Has a nifty iterator that lets us modify the collection
  * while iterating it.
+ *
+ * Lookups are safe while another thread moves, adds or removes actors, so
+ * that the turns of actors far from the player can be played while the
+ * player is choosing an action. Only one thread may change it at a time.
  * @author Riordan Alfredo
  */
 public class ActorLocationsIterator implements Iterable<Actor> {
@@ -25,13 +30,17 @@ public class ActorLocationsIterator implements Iterable<Actor> {
 	 * Current actor
 	 */
 	private Actor player;
+	/**
+	 * Told about every actor that is removed
+	 */
+	private final List<ActorLifecycleListener> listeners = new ArrayList<>();
 
 	/**
 	 * Default constructor.
 	 */
 	public ActorLocationsIterator() {
-		locationToActor = new HashMap<Location, Actor>();
-		actorToLocation = new HashMap<Actor, Location>();
+		locationToActor = new ConcurrentHashMap<Location, Actor>();
+		actorToLocation = new ConcurrentHashMap<Actor, Location>();
 	}
 
 	/**
@@ -44,6 +53,16 @@ public class ActorLocationsIterator implements Iterable<Actor> {
 	}
 			
 			
+	/**
+	 * Register something to be told when an actor is removed, so that it can
+	 * forget the actor. Listeners are told in the order they were added.
+	 *
+	 * @param listener the listener
+	 */
+	public void addLifecycleListener(ActorLifecycleListener listener) {
+		listeners.add(Objects.requireNonNull(listener));
+	}
+
 	/**
 	 * Add a new Actor at the given Location.
 	 *
@@ -60,17 +79,27 @@ public class ActorLocationsIterator implements Iterable<Actor> {
 		
 		actorToLocation.put(actor, location);
 		locationToActor.put(location, actor);
+		location.map().spatialIndex().add(actor, location);
 	}
 
 	/**
-	 * Remove an Actor from the system.
+	 * Remove an Actor from the system, then release it: every lifecycle listener
+	 * is told, and then the actor itself. Removing an actor that is not in the
+	 * system does nothing.
 	 *
 	 * @param actor the Actor to remove
+	 * @see ActorLifecycleListener
 	 */
 	public void remove(Actor actor) {
-		Location location = actorToLocation.get(actor);
-		actorToLocation.remove(actor);
+		if (!actorToLocation.containsKey(actor))
+			return;
+		Location location = actorToLocation.remove(actor);
 		locationToActor.remove(location);
+		location.map().spatialIndex().remove(location);
+		for (ActorLifecycleListener listener : listeners) {
+			listener.actorRemoved(actor);
+		}
+		actor.onRemoved();
 	}
 
 	/**
@@ -88,6 +117,8 @@ public class ActorLocationsIterator implements Iterable<Actor> {
 		actorToLocation.put(actor, newLocation);
 		locationToActor.remove(oldLocation);
 		locationToActor.put(newLocation, actor);
+		oldLocation.map().spatialIndex().remove(oldLocation);
+		newLocation.map().spatialIndex().add(actor, newLocation);
 	}
 
 	/**
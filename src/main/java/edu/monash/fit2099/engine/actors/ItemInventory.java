@@ -0,0 +1,268 @@
+package edu.monash.fit2099.engine.actors;
+
+import edu.monash.fit2099.engine.items.Item;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The items an {@link Actor} is carrying.
+ * <p>
+ * Items are kept in an array that is replaced, never changed in place, when
+ * something is added or removed. Iterating therefore works on the array as it
+ * was when the loop started: items can be removed (or added) mid-loop without
+ * a defensive copy, and without a ConcurrentModificationException.
+ * <p>
+ * Queries by type are answered from indexes. The first query for a type scans
+ * the inventory once; from then on the index is kept up to date on every add
+ * and remove, so "does this actor carry any X", "how many X" and "all X" cost
+ * O(1). A type can be a concrete class, a superclass or a capability
+ * interface; {@link #countExactly(Class)} and friends match the class exactly.
+ * <p>
+ * Only the owning Actor changes the inventory; everyone else gets a read-only
+ * view through {@link Actor#getInventory()}.
+ *
+ * @author Riordan Alfredo
+ * @author Adrian Kristanto
+ */
+public class ItemInventory implements Iterable<Item> {
+    private static final Item[] EMPTY = new Item[0];
+
+    private Item[] items = EMPTY;
+    private List<Item> view = Collections.emptyList();
+
+    private final Map<Class<?>, TypeIndex> byType = new HashMap<>();
+    private final Map<Class<?>, TypeIndex> byExactClass = new HashMap<>();
+
+    /**
+     * The items of one type, maintained alongside the inventory itself.
+     */
+    private static final class TypeIndex {
+        private final Class<?> type;
+        private final boolean exact;
+        private Item[] members = EMPTY;
+        private List<Item> view = Collections.emptyList();
+
+        TypeIndex(Class<?> type, boolean exact, Item[] items) {
+            this.type = type;
+            this.exact = exact;
+            for (Item item : items) {
+                added(item);
+            }
+        }
+
+        boolean matches(Item item) {
+            return exact ? item.getClass() == type : type.isInstance(item);
+        }
+
+        void added(Item item) {
+            if (matches(item)) {
+                members = appended(members, item);
+                view = Collections.unmodifiableList(Arrays.asList(members));
+            }
+        }
+
+        void removed(Item item) {
+            if (matches(item)) {
+                members = without(members, item);
+                view = Collections.unmodifiableList(Arrays.asList(members));
+            }
+        }
+    }
+
+    /**
+     * Add an item. Only the owning Actor may do this. Nulls are ignored.
+     *
+     * @param item the item to add
+     */
+    void add(Item item) {
+        if (item == null) {
+            return;
+        }
+        items = appended(items, item);
+        view = Collections.unmodifiableList(Arrays.asList(items));
+        for (TypeIndex index : byType.values()) {
+            index.added(item);
+        }
+        for (TypeIndex index : byExactClass.values()) {
+            index.added(item);
+        }
+    }
+
+    /**
+     * Remove an item, if present. Only the owning Actor may do this.
+     *
+     * @param item the item to remove
+     * @return true if the item was in the inventory
+     */
+    boolean remove(Item item) {
+        Item[] remaining = without(items, item);
+        if (remaining == items) {
+            return false;
+        }
+        items = remaining;
+        view = Collections.unmodifiableList(Arrays.asList(items));
+        for (TypeIndex index : byType.values()) {
+            index.removed(item);
+        }
+        for (TypeIndex index : byExactClass.values()) {
+            index.removed(item);
+        }
+        return true;
+    }
+
+    /**
+     * @return a read-only list of the items at this moment; later changes to the inventory do not affect it
+     */
+    public List<Item> asList() {
+        return view;
+    }
+
+    /**
+     * Iterate over the items as they were when iteration started.
+     *
+     * @return an iterator that is unaffected by changes made while iterating
+     */
+    @Override
+    public Iterator<Item> iterator() {
+        return view.iterator();
+    }
+
+    /**
+     * @return the number of items carried
+     */
+    public int size() {
+        return items.length;
+    }
+
+    /**
+     * @return true if nothing is carried
+     */
+    public boolean isEmpty() {
+        return items.length == 0;
+    }
+
+    /**
+     * @param item the item to look for
+     * @return true if this exact item is carried
+     */
+    public boolean contains(Item item) {
+        return indexOf(items, item) >= 0;
+    }
+
+    /**
+     * @param type a class, superclass or capability interface
+     * @return true if any carried item is of that type
+     */
+    public boolean hasAny(Class<?> type) {
+        return index(type).members.length > 0;
+    }
+
+    /**
+     * @param type a class, superclass or capability interface
+     * @return the number of carried items of that type
+     */
+    public int count(Class<?> type) {
+        return index(type).members.length;
+    }
+
+    /**
+     * @param type a class, superclass or capability interface
+     * @param <T> the type
+     * @return the first carried item of that type, or null if there is none
+     */
+    public <T> T first(Class<T> type) {
+        Item[] members = index(type).members;
+        return members.length == 0 ? null : type.cast(members[0]);
+    }
+
+    /**
+     * @param type a class, superclass or capability interface
+     * @param <T> the type
+     * @return a read-only list of the carried items of that type, unaffected by later changes
+     */
+    @SuppressWarnings("unchecked")
+    public <T> List<T> allOf(Class<T> type) {
+        return (List<T>) index(type).view;
+    }
+
+    /**
+     * @param type an item class
+     * @return true if any carried item is of exactly that class (not a subclass)
+     */
+    public boolean hasAnyExactly(Class<? extends Item> type) {
+        return exactIndex(type).members.length > 0;
+    }
+
+    /**
+     * @param type an item class
+     * @return the number of carried items of exactly that class (not a subclass)
+     */
+    public int countExactly(Class<? extends Item> type) {
+        return exactIndex(type).members.length;
+    }
+
+    /**
+     * @param type an item class
+     * @param <T> the class
+     * @return the first carried item of exactly that class, or null if there is none
+     */
+    public <T extends Item> T firstExactly(Class<T> type) {
+        Item[] members = exactIndex(type).members;
+        return members.length == 0 ? null : type.cast(members[0]);
+    }
+
+    private TypeIndex index(Class<?> type) {
+        TypeIndex index = byType.get(type);
+        if (index == null) {
+            index = new TypeIndex(type, false, items);
+            byType.put(type, index);
+        }
+        return index;
+    }
+
+    private TypeIndex exactIndex(Class<?> type) {
+        TypeIndex index = byExactClass.get(type);
+        if (index == null) {
+            index = new TypeIndex(type, true, items);
+            byExactClass.put(type, index);
+        }
+        return index;
+    }
+
+    private static Item[] appended(Item[] array, Item item) {
+        Item[] grown = Arrays.copyOf(array, array.length + 1);
+        grown[array.length] = item;
+        return grown;
+    }
+
+    /**
+     * @return a copy of the array without the first occurrence of the item, or the same array if it is absent
+     */
+    private static Item[] without(Item[] array, Item item) {
+        int i = indexOf(array, item);
+        if (i < 0) {
+            return array;
+        }
+        if (array.length == 1) {
+            return EMPTY;
+        }
+        Item[] shrunk = new Item[array.length - 1];
+        System.arraycopy(array, 0, shrunk, 0, i);
+        System.arraycopy(array, i + 1, shrunk, i, array.length - i - 1);
+        return shrunk;
+    }
+
+    private static int indexOf(Item[] array, Item item) {
+        for (int i = 0; i < array.length; i++) {
+            if (array[i] == item || array[i].equals(item)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,179 @@
+package edu.monash.fit2099.engine.actors.attributes;
+
+/**
+ * Primitive storage for an actor's {@link BaseAttributes}.
+ * <p>
+ * Current and maximum points live in two {@code int[]} arrays indexed by the
+ * attribute's ordinal, so reading or changing them never boxes. The arithmetic
+ * is exactly that of {@link BaseActorAttribute}: points stay between zero and
+ * the maximum, and changing the maximum upwards refills the points.
+ * <p>
+ * Subclasses may keep the numbers somewhere else, for example in columns shared
+ * by many actors, by overriding the protected accessors; the arithmetic above
+ * is written once, here, in terms of them.
+ * @author Adrian Kristanto
+ * @author Riordan Alfredo
+ */
+public class BaseAttributeStore {
+    /** The number of {@link BaseAttributes}. */
+    protected static final int SIZE = BaseAttributes.values().length;
+
+    private final int[] points;
+    private final int[] maximumPoints;
+    private int present;
+
+    /**
+     * Constructor for a store that keeps its own numbers.
+     */
+    public BaseAttributeStore() {
+        this(true);
+    }
+
+    /**
+     * Constructor for subclasses.
+     * @param ownStorage false if the subclass overrides every protected accessor and needs no arrays of its own
+     */
+    protected BaseAttributeStore(boolean ownStorage) {
+        points = ownStorage ? new int[SIZE] : null;
+        maximumPoints = ownStorage ? new int[SIZE] : null;
+    }
+
+    /**
+     * Start tracking an attribute.
+     * @param attribute the attribute to add
+     * @param maximum the maximum points of the attribute
+     * @param current the current points of the attribute
+     */
+    public void define(BaseAttributes attribute, int maximum, int current) {
+        int i = attribute.ordinal();
+        setMaximumAt(i, maximum);
+        setPointsAt(i, current);
+        setPresentMask(presentMask() | 1 << i);
+    }
+
+    /**
+     * Stop tracking an attribute.
+     * @param attribute the attribute to remove
+     */
+    public void remove(BaseAttributes attribute) {
+        setPresentMask(presentMask() & ~(1 << attribute.ordinal()));
+    }
+
+    /**
+     * @param attribute the attribute to check
+     * @return true if this store tracks the attribute
+     */
+    public boolean has(BaseAttributes attribute) {
+        return (presentMask() & (1 << attribute.ordinal())) != 0;
+    }
+
+    /**
+     * @param attribute the attribute to read
+     * @return the current points of the attribute
+     */
+    public int get(BaseAttributes attribute) {
+        return pointsAt(checked(attribute));
+    }
+
+    /**
+     * @param attribute the attribute to read
+     * @return the maximum points of the attribute
+     */
+    public int getMaximum(BaseAttributes attribute) {
+        return maximumAt(checked(attribute));
+    }
+
+    /**
+     * Apply an operation to the current points of an attribute.
+     * @param attribute the attribute to change
+     * @param operation INCREASE, DECREASE or UPDATE
+     * @param value the operand
+     */
+    public void modify(BaseAttributes attribute, ActorAttributeOperation operation, int value) {
+        int i = checked(attribute);
+        switch (operation) {
+            case INCREASE -> setPointsAt(i, Math.min(pointsAt(i) + value, maximumAt(i)));
+            case DECREASE -> setPointsAt(i, Math.max(pointsAt(i) - value, 0));
+            case UPDATE -> setPointsAt(i, Math.min(value, maximumAt(i)));
+            default -> throw new IllegalArgumentException("Invalid operation for modifying the value of actor's attribute.");
+        }
+    }
+
+    /**
+     * Apply an operation to the maximum points of an attribute.
+     * @param attribute the attribute to change
+     * @param operation INCREASE, DECREASE or UPDATE
+     * @param value the operand
+     */
+    public void modifyMaximum(BaseAttributes attribute, ActorAttributeOperation operation, int value) {
+        int i = checked(attribute);
+        switch (operation) {
+            case INCREASE -> {
+                setMaximumAt(i, maximumAt(i) + value);
+                setPointsAt(i, maximumAt(i));
+            }
+            case DECREASE -> {
+                setMaximumAt(i, maximumAt(i) - value);
+                setPointsAt(i, Math.min(pointsAt(i), maximumAt(i)));
+            }
+            case UPDATE -> {
+                setMaximumAt(i, value);
+                setPointsAt(i, maximumAt(i));
+            }
+            default -> throw new IllegalArgumentException("Invalid operation for modifying the maximum value of actor's stats.");
+        }
+    }
+
+    /**
+     * @param i an attribute ordinal
+     * @return the current points stored for it
+     */
+    protected int pointsAt(int i) {
+        return points[i];
+    }
+
+    /**
+     * @param i an attribute ordinal
+     * @param value the new current points
+     */
+    protected void setPointsAt(int i, int value) {
+        points[i] = value;
+    }
+
+    /**
+     * @param i an attribute ordinal
+     * @return the maximum points stored for it
+     */
+    protected int maximumAt(int i) {
+        return maximumPoints[i];
+    }
+
+    /**
+     * @param i an attribute ordinal
+     * @param value the new maximum points
+     */
+    protected void setMaximumAt(int i, int value) {
+        maximumPoints[i] = value;
+    }
+
+    /**
+     * @return a bit per attribute ordinal, set if the attribute is tracked
+     */
+    protected int presentMask() {
+        return present;
+    }
+
+    /**
+     * @param mask the new set of tracked attributes, a bit per ordinal
+     */
+    protected void setPresentMask(int mask) {
+        present = mask;
+    }
+
+    private int checked(BaseAttributes attribute) {
+        if (!has(attribute)) {
+            throw new IllegalArgumentException("Attribute " + attribute + " is not defined");
+        }
+        return attribute.ordinal();
+    }
+}
@@ -0,0 +1,266 @@
+package edu.monash.fit2099.engine.displays;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * A Display that hands console output to a renderer thread.
+ * <p>
+ * Everything printed during a turn goes into a back buffer owned by the game
+ * thread. At the end of the turn the buffer is published as an immutable
+ * {@link Frame} and the game carries on with the next turn while the renderer
+ * writes it out. There is one pending slot next to the frame being written, so
+ * at most two frames are ever in flight; if the renderer falls that far behind,
+ * publishing waits for it.
+ * <p>
+ * Frames are written in the order they were published. Before reading input the
+ * display publishes whatever has been printed so far and waits until the
+ * renderer has caught up, so a prompt never appears ahead of its map.
+ * <p>
+ * When the JVM shuts down, whatever has already been published is written out
+ * and the frame listeners are told the display has closed. The back buffer is
+ * left alone then, as the game thread may still be printing into it; the
+ * game flushes before it exits so its last words are published.
+ * @author Riordan Alfredo
+ */
+public class BufferedDisplay extends Display {
+	private final PrintStream out;
+	private final List<FrameListener> listeners = new CopyOnWriteArrayList<>();
+	private final Object lock = new Object();
+
+	// Back buffer. Only touched by the game thread.
+	private List<String> messages = new ArrayList<>();
+	private final StringBuilder line = new StringBuilder();
+	private char[][] cells;
+	private int mapIndex;
+	private int turn;
+
+	// Hand-over between the game thread and the renderer. Guarded by lock.
+	private Frame pending;
+	private boolean rendering;
+	private boolean closed;
+
+	/**
+	 * Constructor. Frames are written to {@code System.out}.
+	 */
+	public BufferedDisplay() {
+		this(System.out);
+	}
+
+	/**
+	 * Constructor.
+	 *
+	 * @param out the stream frames are written to
+	 */
+	public BufferedDisplay(PrintStream out) {
+		this.out = out;
+		Thread renderer = new Thread(this::renderLoop, "display-renderer");
+		renderer.setDaemon(true);
+		renderer.start();
+		// System.exit() ends the game from inside a turn; make sure what it published gets out.
+		Runtime.getRuntime().addShutdownHook(new Thread(this::drain, "display-close"));
+	}
+
+	/**
+	 * Register a listener that sees every frame after it has been written.
+	 *
+	 * @param listener the listener to add
+	 */
+	public void addFrameListener(FrameListener listener) {
+		listeners.add(listener);
+	}
+
+	@Override
+	public void print(Printable printable) {
+		line.append(printable.getDisplayChar());
+	}
+
+	@Override
+	public void print(String s) {
+		int start = 0;
+		int newLine;
+		while ((newLine = s.indexOf('\n', start)) >= 0) {
+			line.append(s, start, newLine);
+			endLine();
+			start = newLine + 1;
+		}
+		line.append(s, start, s.length());
+	}
+
+	@Override
+	public void println(String s) {
+		print(s);
+		endLine();
+	}
+
+	@Override
+	public void endLine() {
+		messages.add(line.toString());
+		line.setLength(0);
+	}
+
+	@Override
+	public void drawMap(char[][] cells) {
+		if (this.cells != null) {
+			publish();
+		}
+		commitLine();
+		this.cells = cells;
+		this.mapIndex = messages.size();
+	}
+
+	@Override
+	public void endTurn() {
+		publish();
+		turn++;
+	}
+
+	@Override
+	public void flush() {
+		publish();
+		synchronized (lock) {
+			boolean interrupted = false;
+			while (pending != null || rendering) {
+				try {
+					lock.wait();
+				} catch (InterruptedException e) {
+					interrupted = true;
+				}
+			}
+			if (interrupted) {
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+
+	/**
+	 * Write out everything printed so far and tell the frame listeners that no
+	 * more frames will follow. Call from the thread that prints to the display;
+	 * calling it again does nothing.
+	 */
+	public void close() {
+		flush();
+		drain();
+	}
+
+	/**
+	 * Wait for the frames already published to be written, then tell the frame
+	 * listeners that no more frames will follow, unless they have been told.
+	 * Does not touch the back buffer, so it is safe from any thread.
+	 */
+	private void drain() {
+		synchronized (lock) {
+			boolean interrupted = false;
+			while (pending != null || rendering) {
+				try {
+					lock.wait();
+				} catch (InterruptedException e) {
+					interrupted = true;
+				}
+			}
+			if (interrupted) {
+				Thread.currentThread().interrupt();
+			}
+			if (closed) {
+				return;
+			}
+			closed = true;
+		}
+		for (FrameListener listener : listeners) {
+			listener.displayClosed();
+		}
+	}
+
+	@Override
+	public String readString() {
+		flush();
+		return super.readString();
+	}
+
+	/**
+	 * Turn the back buffer into a Frame and queue it for the renderer. A
+	 * partly printed line is ended first. Does nothing if nothing was printed.
+	 */
+	private void publish() {
+		commitLine();
+		if (cells == null && messages.isEmpty()) {
+			return;
+		}
+		Frame frame = new Frame(turn, cells, mapIndex, messages);
+		messages = new ArrayList<>();
+		cells = null;
+		mapIndex = 0;
+
+		synchronized (lock) {
+			boolean interrupted = false;
+			while (pending != null) {
+				try {
+					lock.wait();
+				} catch (InterruptedException e) {
+					interrupted = true;
+				}
+			}
+			pending = frame;
+			lock.notifyAll();
+			if (interrupted) {
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+
+	private void commitLine() {
+		if (line.length() > 0) {
+			endLine();
+		}
+	}
+
+	/**
+	 * Hand a frame to a listener. A listener that fails is reported on the
+	 * error stream and sees no more frames.
+	 */
+	private void tell(FrameListener listener, Frame frame) {
+		try {
+			listener.frameRendered(frame);
+		} catch (RuntimeException e) {
+			listeners.remove(listener);
+			System.err.println("Frame listener " + listener.getClass().getSimpleName()
+					+ " failed on turn " + frame.getTurn() + " and was removed: " + e);
+		}
+	}
+
+	private void renderLoop() {
+		StringBuilder text = new StringBuilder();
+		while (true) {
+			Frame frame;
+			synchronized (lock) {
+				while (pending == null) {
+					try {
+						lock.wait();
+					} catch (InterruptedException e) {
+						return;
+					}
+				}
+				frame = pending;
+				pending = null;
+				rendering = true;
+				lock.notifyAll();
+			}
+			try {
+				text.setLength(0);
+				frame.appendTo(text);
+				out.print(text);
+				out.flush();
+				for (FrameListener listener : listeners) {
+					tell(listener, frame);
+				}
+			} finally {
+				synchronized (lock) {
+					rendering = false;
+					lock.notifyAll();
+				}
+			}
+		}
+	}
+}
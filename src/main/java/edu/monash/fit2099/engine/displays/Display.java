@@ -1,6 +1,7 @@
 package edu.monash.fit2099.engine.displays;
 
 import java.util.Scanner;
+import java.util.function.Supplier;
 
 /**
  * Class that manages I/O for the system
@@ -10,9 +11,12 @@ import java.util.Scanner;
 public class Display  {
 
 	/**
-	 * Input
+	 * Input. Every Display reads the same keyboard, so there is one Scanner,
+	 * created the first time anything reads from it.
 	 */
-	private final Scanner keyboard = new Scanner(System.in);
+	private static class Keyboard {
+		private static final Scanner INPUT = new Scanner(System.in);
+	}
 
 	/**
 	 * Display a displayable object.
@@ -40,6 +44,15 @@ public class Display  {
 		System.out.println(s);
 	}
 
+	/**
+	 * Prints a lazily built String and then terminates the line. Displays
+	 * that discard output never call the supplier.
+	 * @param message supplies the string to print
+	 */
+	public void println(Supplier<String> message) {
+		println(message.get());
+	}
+
 	/**
 	 * Terminates the line.
 	 */
@@ -47,13 +60,52 @@ public class Display  {
 		System.out.println("");
 	}
 
+	/**
+	 * Draw a map snapshot, one row of cells per line.
+	 *
+	 * @param cells the display characters of the map, indexed as {@code cells[y][x]}
+	 * @see edu.monash.fit2099.engine.positions.GameMap#snapshot()
+	 */
+	public void drawMap(char[][] cells) {
+		for (char[] row : cells) {
+			print(new String(row));
+			endLine();
+		}
+	}
+
+	/**
+	 * Marks the end of a game turn. Everything printed since the previous call
+	 * belongs to the turn that just finished.
+	 * <p>
+	 * This Display writes straight through to the console, so there is nothing
+	 * to publish. Buffered displays override this.
+	 */
+	public void endTurn() {
+	}
+
+	/**
+	 * Block until everything printed so far has reached the console.
+	 */
+	public void flush() {
+		System.out.flush();
+	}
+
 	/**
 	 * Read a char from the keyboard.
 	 * 
 	 * @return the first char of the next entered string.
 	 */
 	public char readChar() {
-		String s = keyboard.next();
+		String s = readString();
 		return s.charAt(0);
 	}
+
+	/**
+	 * Read a whitespace-delimited string from the keyboard.
+	 *
+	 * @return the next entered string
+	 */
+	public String readString() {
+		return Keyboard.INPUT.next();
+	}
 }
@@ -0,0 +1,109 @@
+package edu.monash.fit2099.engine.displays;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * An immutable picture of one stretch of game output: an optional map snapshot
+ * and the message lines printed around it, in the order they were printed.
+ * <p>
+ * Messages before {@link #getMapIndex()} were printed before the map, the rest
+ * after it. A frame that carries no map has a map index of zero.
+ * @author Riordan Alfredo
+ */
+public final class Frame {
+	private final int turn;
+	private final char[][] cells;
+	private final int mapIndex;
+	private final List<String> messages;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param turn     the game turn this frame belongs to
+	 * @param cells    the map display characters as {@code cells[y][x]}, or null if no map was drawn.
+	 *                 Ownership passes to the frame; the caller must not modify it afterwards.
+	 * @param mapIndex the number of messages printed before the map
+	 * @param messages the message lines, in print order
+	 */
+	public Frame(int turn, char[][] cells, int mapIndex, List<String> messages) {
+		if (mapIndex < 0 || mapIndex > messages.size()) {
+			throw new IllegalArgumentException("map index " + mapIndex + " outside 0.." + messages.size());
+		}
+		this.turn = turn;
+		this.cells = cells;
+		this.mapIndex = cells == null ? 0 : mapIndex;
+		this.messages = Collections.unmodifiableList(messages);
+	}
+
+	/**
+	 * @return the game turn this frame belongs to
+	 */
+	public int getTurn() {
+		return turn;
+	}
+
+	/**
+	 * @return true if this frame carries a map snapshot
+	 */
+	public boolean hasMap() {
+		return cells != null;
+	}
+
+	/**
+	 * @return the number of rows in the map snapshot, or zero if there is none
+	 */
+	public int getHeight() {
+		return cells == null ? 0 : cells.length;
+	}
+
+	/**
+	 * @return the number of columns in the map snapshot, or zero if there is none
+	 */
+	public int getWidth() {
+		return cells == null || cells.length == 0 ? 0 : cells[0].length;
+	}
+
+	/**
+	 * @param x the column
+	 * @param y the row
+	 * @return the display character at (x, y)
+	 */
+	public char cellAt(int x, int y) {
+		return cells[y][x];
+	}
+
+	/**
+	 * @return the number of messages printed before the map
+	 */
+	public int getMapIndex() {
+		return mapIndex;
+	}
+
+	/**
+	 * @return an unmodifiable view of the message lines, in print order
+	 */
+	public List<String> getMessages() {
+		return messages;
+	}
+
+	/**
+	 * Append this frame exactly as it should appear on a console.
+	 *
+	 * @param out the builder to append to
+	 */
+	public void appendTo(StringBuilder out) {
+		String newLine = System.lineSeparator();
+		for (int i = 0; i < mapIndex; i++) {
+			out.append(messages.get(i)).append(newLine);
+		}
+		if (cells != null) {
+			for (char[] row : cells) {
+				out.append(row).append(newLine);
+			}
+		}
+		for (int i = mapIndex; i < messages.size(); i++) {
+			out.append(messages.get(i)).append(newLine);
+		}
+	}
+}
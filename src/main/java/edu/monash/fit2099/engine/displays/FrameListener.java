@@ -0,0 +1,24 @@
+package edu.monash.fit2099.engine.displays;
+
+/**
+ * Receives every Frame a BufferedDisplay writes to the console.
+ * <p>
+ * Listeners are called on the renderer thread, in frame order, after the frame
+ * has been written. They must not call back into the display.
+ * @author Riordan Alfredo
+ */
+public interface FrameListener {
+	/**
+	 * Called once for each rendered frame.
+	 *
+	 * @param frame the frame that was just written
+	 */
+	void frameRendered(Frame frame);
+
+	/**
+	 * Called once, on the thread closing the display, after the last frame has
+	 * been rendered. No more frames follow.
+	 */
+	default void displayClosed() {
+	}
+}
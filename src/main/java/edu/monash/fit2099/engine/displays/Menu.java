@@ -5,23 +5,61 @@ import edu.monash.fit2099.engine.actions.ActionList;
 import edu.monash.fit2099.engine.actors.Actor;
 
 import java.util.ArrayList;
-import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 
 /**
  * A menu GUI implementations
+ * <p>
+ * The menu is built once from the ActionList: actions with hotkeys come first,
+ * otherwise in their original order. Each page gets its own key table the first
+ * time it is shown, and an action's description is only computed when it is
+ * first shown (or searched) and then reused, so flipping back and forth between
+ * pages costs nothing extra.
+ * <p>
+ * Besides the action keys, '&gt;' and '&lt;' flip pages and '/' asks for text to
+ * filter the actions by (case-insensitive); filtering with {@value #CLEAR_FILTER}
+ * brings every action back. The filter key is listed below the actions on
+ * every page, and an action whose hotkey is '/' is given a letter instead.
  * @author Riordan Alfredo
  * @author Adrian Kristanto
  */
 public class Menu {
     private static final int MAXIMUM_PAGE_LENGTH = 26;
-    private ActionList actions;
+    private static final char NEXT_PAGE_KEY = '>';
+    private static final char PREVIOUS_PAGE_KEY = '<';
+    private static final char FILTER_KEY = '/';
+    private static final String CLEAR_FILTER = "*";
+    /** Key tables are indexed directly by char for anything below this. */
+    private static final int KEY_TABLE_SIZE = 128;
+
+    /** Every action, hotkeys first. */
+    private final List<Action> ordered;
+    /** Cached menu descriptions, parallel to {@link #ordered}. */
+    private final String[] descriptions;
+    /** Indices into {@link #ordered} of the actions currently on offer. */
+    private int[] view;
+    /** Key tables of the current view, built when a page is first shown. */
+    private Page[] pages;
     private int totalPage;
 
     public Menu(ActionList actions) {
-        this.actions = actions;
-        this.totalPage = actions.size() / MAXIMUM_PAGE_LENGTH + (actions.size() % MAXIMUM_PAGE_LENGTH > 0 ? 1 : 0);
+        List<Action> withHotkeys = new ArrayList<>();
+        List<Action> withoutHotkeys = new ArrayList<>();
+        for (Action action : actions) {
+            (hasOwnKey(action.hotkey()) ? withHotkeys : withoutHotkeys).add(action);
+        }
+        withHotkeys.addAll(withoutHotkeys);
+        this.ordered = withHotkeys;
+        this.descriptions = new String[ordered.size()];
+
+        int[] all = new int[ordered.size()];
+        for (int i = 0; i < all.length; i++) {
+            all[i] = i;
+        }
+        setView(all);
     }
 
     /**
@@ -46,66 +84,181 @@ public class Menu {
      * @return the Action selected by the user
      */
     Action showMenu(Actor actor, Display display, int page) {
-        ArrayList<Character> freeChars = new ArrayList<Character>();
-        HashMap<Character, Action> keyToActionMap = new HashMap<Character, Action>();
+        page = Math.max(1, Math.min(page, totalPage));
+        boolean redraw = true;
+        while (true) {
+            Page current = page(page, display);
+            if (redraw) {
+                show(actor, display, page, current);
+                redraw = false;
+            }
 
-        for (char j = 'a'; j <= 'z'; j++) {
-            freeChars.add(j);
+            char key = display.readChar();
+            Action selected = current.actionFor(key);
+            if (selected instanceof UpdatePageAction flip) {
+                page = flip.getPage();
+                redraw = true;
+            } else if (selected != null) {
+                return selected;
+            } else if (key == FILTER_KEY && filter(actor, display)) {
+                page = 1;
+                redraw = true;
+            }
         }
+    }
 
+    /**
+     * Print one page of the menu.
+     */
+    private void show(Actor actor, Display display, int page, Page current) {
         display.println("Page " + page + "/" + totalPage);
-
-        if (page < totalPage) {
-            char nextPageHotKey = '>';
-            UpdatePageAction updatePageAction = new UpdatePageAction(this, page + 1);
-            keyToActionMap.put(nextPageHotKey, updatePageAction);
-            display.println(nextPageHotKey + ": " + updatePageAction.menuDescription(actor));
+        if (current.next != null) {
+            display.println(NEXT_PAGE_KEY + ": " + current.next.menuDescription(actor));
         }
-
-        if (page > 1) {
-            char previousPageHotKey = '<';
-            UpdatePageAction updatePageAction = new UpdatePageAction(this, page - 1);
-            keyToActionMap.put(previousPageHotKey, updatePageAction);
-            display.println(previousPageHotKey + ": " + updatePageAction.menuDescription(actor));
+        if (current.previous != null) {
+            display.println(PREVIOUS_PAGE_KEY + ": " + current.previous.menuDescription(actor));
         }
+        for (int k = 0; k < current.keys.length; k++) {
+            display.println(current.keys[k] + ": " + description(current.first + k, actor));
+        }
+        display.println(FILTER_KEY + ": filter actions");
+    }
 
-        List<Action> sortedActions = actions.sorted(new SortHotkeysFirst());
+    /**
+     * Ask for filter text and narrow the view to matching actions.
+     *
+     * @return true if the view changed
+     */
+    private boolean filter(Actor actor, Display display) {
+        display.println("Filter actions (" + CLEAR_FILTER + " to show all):");
+        String text = display.readString().toLowerCase(Locale.ROOT);
 
-        // Show with the actions with hotkeys first;
-        for (int k = (page - 1) * MAXIMUM_PAGE_LENGTH; k < Math.min(page * MAXIMUM_PAGE_LENGTH, sortedActions.size()); k++) {
-            String hotKey = sortedActions.get(k).hotkey();
-            char c;
-            if (hotKey == null || hotKey.equals("")) {
-                c = freeChars.get(0);
-            } else {
-                c = hotKey.charAt(0);
+        List<Integer> matches = new ArrayList<>();
+        for (int i = 0; i < ordered.size(); i++) {
+            if (text.equals(CLEAR_FILTER) || descriptionAt(i, actor).toLowerCase(Locale.ROOT).contains(text)) {
+                matches.add(i);
             }
-            freeChars.remove(Character.valueOf(c));
-            keyToActionMap.put(c, sortedActions.get(k));
-            display.println(c + ": " + sortedActions.get(k).menuDescription(actor));
         }
+        if (matches.isEmpty()) {
+            display.println("No actions match \"" + text + "\".");
+            return false;
+        }
+        setView(matches.stream().mapToInt(Integer::intValue).toArray());
+        return true;
+    }
+
+    /**
+     * @param hotKey an action's hotkey
+     * @return true if the action is shown under that key; the filter key is
+     *         the menu's own, so an action asking for it gets a letter like any other
+     */
+    private static boolean hasOwnKey(String hotKey) {
+        return hotKey != null && !hotKey.isEmpty() && hotKey.charAt(0) != FILTER_KEY;
+    }
 
-        char key;
-        do {
-            key = display.readChar();
-        } while (!keyToActionMap.containsKey(key));
+    private void setView(int[] view) {
+        this.view = view;
+        this.totalPage = Math.max(1, (view.length + MAXIMUM_PAGE_LENGTH - 1) / MAXIMUM_PAGE_LENGTH);
+        this.pages = new Page[totalPage + 1];
+    }
 
-        return keyToActionMap.get(key);
+    /**
+     * @param position position in the current view
+     * @return the description of the action at that position, computed once
+     */
+    private String description(int position, Actor actor) {
+        return descriptionAt(view[position], actor);
+    }
+
+    private String descriptionAt(int index, Actor actor) {
+        String description = descriptions[index];
+        if (description == null) {
+            description = ordered.get(index).menuDescription(actor);
+            descriptions[index] = description;
+        }
+        return description;
+    }
+
+    private Page page(int page, Display display) {
+        if (pages[page] == null) {
+            pages[page] = new Page(page, display);
+        }
+        return pages[page];
     }
 
     /**
-     * Inner class that provides the ability to compare two Actions.
-     * This allows Actions to be sorted in order of their hotkeys.
+     * The keys of one page of the current view.
      */
-    class SortHotkeysFirst implements Comparator<Action> {
-        public int compare(Action a, Action b) {
-            if (a.hotkey() != null && b.hotkey() == null)
-                return -1;
+    private class Page {
+        /** Position in the view of the first action on this page. */
+        final int first;
+        /** The key of each action on this page, in display order. */
+        final char[] keys;
+        final UpdatePageAction next;
+        final UpdatePageAction previous;
+        private final Action[] table = new Action[KEY_TABLE_SIZE];
+        private Map<Character, Action> wideKeys;
 
-            if (a.hotkey() == null && b.hotkey() != null)
-                return 1;
+        Page(int page, Display display) {
+            first = (page - 1) * MAXIMUM_PAGE_LENGTH;
+            int end = Math.min(page * MAXIMUM_PAGE_LENGTH, view.length);
+            keys = new char[end - first];
 
-            return 0;
+            next = page < totalPage ? new UpdatePageAction(Menu.this, page + 1, display) : null;
+            previous = page > 1 ? new UpdatePageAction(Menu.this, page - 1, display) : null;
+            bind(NEXT_PAGE_KEY, next);
+            bind(PREVIOUS_PAGE_KEY, previous);
+
+            boolean[] lettersUsed = new boolean[26];
+            int nextFree = 0;
+            for (int k = 0; k < keys.length; k++) {
+                Action action = ordered.get(view[first + k]);
+                String hotKey = action.hotkey();
+                char c;
+                if (!hasOwnKey(hotKey)) {
+                    while (nextFree < lettersUsed.length && lettersUsed[nextFree]) {
+                        nextFree++;
+                    }
+                    if (nextFree == lettersUsed.length) {
+                        // Hotkeys took the letters this action would have used; it cannot be offered here
+                        keys[k] = '?';
+                        continue;
+                    }
+                    c = (char) ('a' + nextFree);
+                } else {
+                    c = hotKey.charAt(0);
+                }
+                if (c >= 'a' && c <= 'z') {
+                    lettersUsed[c - 'a'] = true;
+                }
+                keys[k] = c;
+                bind(c, action);
+            }
+        }
+
+        private void bind(char key, Action action) {
+            if (action == null) {
+                return;
+            }
+            if (key < KEY_TABLE_SIZE) {
+                table[key] = action;
+            } else {
+                if (wideKeys == null) {
+                    wideKeys = new HashMap<>();
+                }
+                wideKeys.put(key, action);
+            }
+        }
+
+        /**
+         * @param key the key pressed
+         * @return the action bound to that key on this page, or null
+         */
+        Action actionFor(char key) {
+            if (key < KEY_TABLE_SIZE) {
+                return table[key];
+            }
+            return wideKeys == null ? null : wideKeys.get(key);
         }
     }
 }
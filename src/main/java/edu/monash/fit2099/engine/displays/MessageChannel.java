@@ -0,0 +1,20 @@
+package edu.monash.fit2099.engine.displays;
+
+/**
+ * Where a message comes from, so that each source can be shown or muted on its own.
+ * @author Riordan Alfredo
+ */
+public enum MessageChannel {
+	/**
+	 * Messages about things happening on the map the player can see.
+	 */
+	PLAYER_MAP,
+	/**
+	 * Messages about things happening on maps the player is not on.
+	 */
+	OFF_MAP,
+	/**
+	 * Diagnostic output that is not part of the game.
+	 */
+	DEBUG
+}
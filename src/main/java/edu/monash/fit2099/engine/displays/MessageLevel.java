@@ -0,0 +1,29 @@
+package edu.monash.fit2099.engine.displays;
+
+/**
+ * How important a message is, from least to most. A channel shows a message
+ * only if its level is at least the channel's threshold.
+ * @author Riordan Alfredo
+ */
+public enum MessageLevel {
+	/**
+	 * Fine-grained detail, normally hidden.
+	 */
+	TRACE,
+	/**
+	 * Ordinary game narration.
+	 */
+	INFO,
+	/**
+	 * Something the player should not miss.
+	 */
+	ALERT;
+
+	/**
+	 * @param threshold the lowest level that is shown
+	 * @return true if a message at this level passes the threshold
+	 */
+	public boolean passes(MessageLevel threshold) {
+		return threshold != null && compareTo(threshold) >= 0;
+	}
+}
@@ -0,0 +1,193 @@
+package edu.monash.fit2099.engine.displays;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * Routes game messages to a Display by channel and level.
+ * <p>
+ * Messages are passed as {@link Supplier}s and are only formatted if their
+ * channel would show them, so muted output costs nothing beyond the lambda.
+ * Each channel also has one cached Display view, for code such as
+ * {@code Actor.playTurn} that expects a Display; muted channels share a single
+ * silent instance. No Display (and so no Scanner) is created per message or
+ * per turn.
+ * <p>
+ * By default {@link MessageChannel#PLAYER_MAP} shows {@link MessageLevel#INFO}
+ * and above, and the other channels are muted.
+ * @author Riordan Alfredo
+ */
+public class MessageSink {
+	private static final Display SILENT = new SilentDisplay();
+
+	private final Display target;
+	private final Map<MessageChannel, MessageLevel> thresholds = new EnumMap<>(MessageChannel.class);
+	private final Map<MessageChannel, Display> views = new EnumMap<>(MessageChannel.class);
+
+	/**
+	 * Constructor.
+	 *
+	 * @param target the Display that shown messages are written to
+	 */
+	public MessageSink(Display target) {
+		Objects.requireNonNull(target);
+		this.target = target;
+		thresholds.put(MessageChannel.PLAYER_MAP, MessageLevel.INFO);
+		for (MessageChannel channel : MessageChannel.values()) {
+			views.put(channel, new ChannelDisplay(channel));
+		}
+	}
+
+	/**
+	 * A Display that discards everything written to it. Reading input still
+	 * reads the keyboard.
+	 *
+	 * @return the shared silent Display
+	 */
+	public static Display silent() {
+		return SILENT;
+	}
+
+	/**
+	 * Show messages on a channel at or above the given level.
+	 *
+	 * @param channel   the channel to configure
+	 * @param threshold the lowest level shown, or null to mute the channel
+	 */
+	public void setThreshold(MessageChannel channel, MessageLevel threshold) {
+		if (threshold == null) {
+			thresholds.remove(channel);
+		} else {
+			thresholds.put(channel, threshold);
+		}
+	}
+
+	/**
+	 * @param channel the channel to check
+	 * @param level   the level of the message
+	 * @return true if a message on this channel at this level would be shown
+	 */
+	public boolean isEnabled(MessageChannel channel, MessageLevel level) {
+		return level.passes(thresholds.get(channel));
+	}
+
+	/**
+	 * Post a message. The supplier is only called if the message is shown.
+	 *
+	 * @param channel the channel the message belongs to
+	 * @param level   the level of the message
+	 * @param message supplies the text of the message
+	 */
+	public void post(MessageChannel channel, MessageLevel level, Supplier<String> message) {
+		if (isEnabled(channel, level)) {
+			target.println(message.get());
+		}
+	}
+
+	/**
+	 * Get a Display that writes to a channel at {@link MessageLevel#INFO}.
+	 * The same instance is returned on every call for a given channel.
+	 *
+	 * @param channel the channel
+	 * @return the Display for that channel
+	 */
+	public Display display(MessageChannel channel) {
+		return isEnabled(channel, MessageLevel.INFO) ? views.get(channel) : SILENT;
+	}
+
+	/**
+	 * A view of one channel. Checks the threshold on every write, so it stays
+	 * correct if the threshold changes while someone holds on to it.
+	 */
+	private class ChannelDisplay extends Display {
+		private final MessageChannel channel;
+
+		ChannelDisplay(MessageChannel channel) {
+			this.channel = channel;
+		}
+
+		private boolean shown() {
+			return isEnabled(channel, MessageLevel.INFO);
+		}
+
+		@Override
+		public void print(Printable printable) {
+			if (shown()) target.print(printable);
+		}
+
+		@Override
+		public void print(String s) {
+			if (shown()) target.print(s);
+		}
+
+		@Override
+		public void println(String s) {
+			if (shown()) target.println(s);
+		}
+
+		@Override
+		public void println(Supplier<String> message) {
+			if (shown()) target.println(message.get());
+		}
+
+		@Override
+		public void endLine() {
+			if (shown()) target.endLine();
+		}
+
+		@Override
+		public void drawMap(char[][] cells) {
+			if (shown()) target.drawMap(cells);
+		}
+
+		@Override
+		public void endTurn() {
+			target.endTurn();
+		}
+
+		@Override
+		public void flush() {
+			target.flush();
+		}
+
+		@Override
+		public String readString() {
+			return target.readString();
+		}
+	}
+
+	/**
+	 * Discards all output.
+	 */
+	private static class SilentDisplay extends Display {
+		@Override
+		public void print(Printable printable) {
+		}
+
+		@Override
+		public void print(String s) {
+		}
+
+		@Override
+		public void println(String s) {
+		}
+
+		@Override
+		public void println(Supplier<String> message) {
+		}
+
+		@Override
+		public void endLine() {
+		}
+
+		@Override
+		public void drawMap(char[][] cells) {
+		}
+
+		@Override
+		public void flush() {
+		}
+	}
+}
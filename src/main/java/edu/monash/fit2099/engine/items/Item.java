@@ -14,6 +14,12 @@ import edu.monash.fit2099.engine.positions.Location;
  */
 public abstract class Item extends GameEntity implements Printable {
 
+	/**
+	 * Bumped whenever any Item gains or loses an ability, so that Actors can
+	 * tell when the abilities they cached from their inventories are stale.
+	 */
+	private static int abilityEpoch;
+
 	private final String name;
 	private final char displayChar;
 	protected boolean portable;
@@ -49,6 +55,18 @@ public abstract class Item extends GameEntity implements Printable {
 	public void tick(Location currentLocation) {
 	}
 
+	/**
+	 * @return a counter that changes whenever any Item's abilities change
+	 */
+	public static int abilityEpoch() {
+		return abilityEpoch;
+	}
+
+	@Override
+	protected void abilitiesChanged() {
+		abilityEpoch++;
+	}
+
 	@Override
 	public String toString() {
 		return name;
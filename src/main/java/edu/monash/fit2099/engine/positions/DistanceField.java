@@ -0,0 +1,195 @@
+package edu.monash.fit2099.engine.positions;
+
+import edu.monash.fit2099.engine.actors.Actor;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The number of moves from every location of a {@link GameMap} to the nearest
+ * of a set of goals, usually just the player (a "Dijkstra map").
+ *
+ * Building the field is one breadth-first pass over the map, and each move
+ * costs one turn whatever its direction, so the pass gives exact distances.
+ * After that any number of actors take their next step by looking at their
+ * own neighbours only, so a hundred animals following the player cost one
+ * pass rather than a hundred searches.
+ *
+ * Only the ground decides whether a location can be walked through; actors
+ * move every turn, so they are not baked into the field but checked when a
+ * step is taken. Whether the ground lets an actor through can depend on the
+ * actor, so the field also remembers the {@link WalkerProfile profile} of the
+ * actor it was built for. It remembers the goal and the map's
+ * {@link GameMap#groundVersion() ground version} too, and
+ * {@link #nextStep(Actor, Location, Location)} rebuilds it only when one of
+ * the three has changed. Actors of several kinds, or heading for several
+ * goals, should share a map's {@link DistanceFields} instead, which keeps a
+ * field for each.
+ *
+ * @author Riordan Alfredo
+ * @author Adrian Kristanto
+ */
+public class DistanceField {
+
+	/** Distance of a location from which no goal can be reached. */
+	public static final int UNREACHABLE = Integer.MAX_VALUE;
+
+	private final GameMap map;
+	private final int height;
+	private final int[] distance;
+	private final int[] queue;
+
+	/** The single goal the field was last built for by nextStep, or null. */
+	private Location goal;
+	private int builtForVersion = -1;
+	private final WalkerProfile builtFor = new WalkerProfile();
+
+	/**
+	 * Constructor. Actors heading for the player should share
+	 * {@link GameMap#distanceFields()}; a system that keeps distances to a
+	 * fixed place of its own makes its own field.
+	 *
+	 * @param map the map the field covers
+	 */
+	public DistanceField(GameMap map) {
+		this.map = map;
+		this.height = map.heights.max() + 1;
+		int cells = (map.widths.max() + 1) * height;
+		distance = new int[cells];
+		queue = new int[cells];
+		Arrays.fill(distance, UNREACHABLE);
+	}
+
+	/**
+	 * Build the field for a set of goals.
+	 *
+	 * @param walker the actor whose view of the ground decides what can be walked through
+	 * @param goals the goals, all on this map
+	 */
+	public void build(Actor walker, List<Location> goals) {
+		Arrays.fill(distance, UNREACHABLE);
+		int head = 0;
+		int tail = 0;
+		for (int i = 0; i < goals.size(); i++) {
+			int cell = indexOf(goals.get(i));
+			if (distance[cell] != 0) {
+				distance[cell] = 0;
+				queue[tail++] = cell;
+			}
+		}
+		while (head < tail) {
+			int current = queue[head++];
+			int next = distance[current] + 1;
+			List<Exit> exits = at(current).exitList();
+			for (int i = 0; i < exits.size(); i++) {
+				Location neighbour = exits.get(i).getDestination();
+				if (neighbour.map() != map) {
+					continue;
+				}
+				int n = indexOf(neighbour);
+				if (distance[n] == UNREACHABLE && neighbour.getGround().canActorEnter(walker)) {
+					distance[n] = next;
+					queue[tail++] = n;
+				}
+			}
+		}
+		goal = null;
+		builtForVersion = map.groundVersion();
+		builtFor.set(walker);
+	}
+
+	/**
+	 * @param location a location on this map
+	 * @return the number of moves from it to the nearest goal, or {@link #UNREACHABLE}
+	 */
+	public int distanceTo(Location location) {
+		return distance[indexOf(location)];
+	}
+
+	/**
+	 * The exit of {@code from} that brings the actor closest to the goals the
+	 * field was last built for, among those it can enter now.
+	 *
+	 * @param actor the actor that will move
+	 * @param from where it is
+	 * @return the exit to take, or null if no free neighbour is closer than {@code from}
+	 */
+	public Exit nextStep(Actor actor, Location from) {
+		if (from.map() != map) {
+			return null;
+		}
+		int best = distance[indexOf(from)];
+		Exit bestExit = null;
+		List<Exit> exits = from.exitList();
+		for (int i = 0; i < exits.size(); i++) {
+			Location neighbour = exits.get(i).getDestination();
+			if (neighbour.map() != map) {
+				continue;
+			}
+			int d = distance[indexOf(neighbour)];
+			if (d < best && neighbour.canActorEnter(actor)) {
+				best = d;
+				bestExit = exits.get(i);
+			}
+		}
+		return bestExit;
+	}
+
+	/**
+	 * The exit of {@code from} that brings the actor closest to one goal,
+	 * rebuilding the field first if it was built for another goal or another
+	 * kind of walker, or the ground has changed since.
+	 *
+	 * @param actor the actor that will move
+	 * @param from where it is
+	 * @param target the goal; usually occupied by the actor being followed
+	 * @return the exit to take, or null if the target is on another map or no free neighbour is closer
+	 */
+	public Exit nextStep(Actor actor, Location from, Location target) {
+		if (target == null || target.map() != map) {
+			return null;
+		}
+		return towards(actor, target).nextStep(actor, from);
+	}
+
+	/**
+	 * Make sure the field holds the distances to one goal, rebuilding it only
+	 * if it was built for another goal or another kind of walker, or the
+	 * ground has changed since.
+	 *
+	 * @param walker the actor whose view of the ground decides what can be walked through
+	 * @param target the goal, on this map
+	 * @return this field
+	 */
+	public DistanceField towards(Actor walker, Location target) {
+		if (!holds(walker, target)) {
+			build(walker, List.of(target));
+			goal = target;
+		}
+		return this;
+	}
+
+	/**
+	 * @param walker an actor
+	 * @param target a goal
+	 * @return true if the field holds the distances to the goal as the actor sees the current ground
+	 */
+	boolean holds(Actor walker, Location target) {
+		return target == goal && builtForVersion == map.groundVersion() && builtFor.matches(walker);
+	}
+
+	/**
+	 * @return true if the ground has changed since the field was last built
+	 */
+	public boolean isStale() {
+		return builtForVersion != map.groundVersion();
+	}
+
+	private int indexOf(Location location) {
+		return location.x() * height + location.y();
+	}
+
+	private Location at(int index) {
+		return map.map[index / height][index % height];
+	}
+}
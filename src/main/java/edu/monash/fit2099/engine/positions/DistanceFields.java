@@ -0,0 +1,97 @@
+package edu.monash.fit2099.engine.positions;
+
+import edu.monash.fit2099.engine.actors.Actor;
+
+/**
+ * The {@link DistanceField distance fields} of one {@link GameMap}, one for
+ * each goal and {@link WalkerProfile walker profile} in use, least recently
+ * used first out.
+ *
+ * A single field holds the distances to one goal as one kind of walker sees
+ * the ground, so actors of different kinds following the same leader, or a
+ * portal network asking for the distances to a portal between two followers,
+ * would each throw away the field the last one built. Keeping a few fields
+ * side by side lets each goal and kind of walker keep its own, so each is
+ * built at most once per turn however the actors asking for them are
+ * interleaved. A field is built again only when the map's
+ * {@link GameMap#groundVersion() ground version} has changed since.
+ *
+ * Builds are counted so that the number of fields kept can be sized from a
+ * real game.
+ *
+ * @author Riordan Alfredo
+ * @author Adrian Kristanto
+ */
+public class DistanceFields {
+
+	/** How many goal and walker pairs a map keeps distance fields for. */
+	public static final int CAPACITY = 4;
+
+	private final GameMap map;
+	private final DistanceField[] fields = new DistanceField[CAPACITY];
+	private final long[] lastUsed = new long[CAPACITY];
+	private long uses;
+	private int builds;
+
+	/**
+	 * Constructor. Actors heading for a goal on a map should share
+	 * {@link GameMap#distanceFields()}.
+	 *
+	 * @param map the map the fields cover
+	 */
+	public DistanceFields(GameMap map) {
+		this.map = map;
+	}
+
+	/**
+	 * The field holding the distances to one goal as a walker sees the
+	 * ground, building it first in place of the least recently used field if
+	 * none does.
+	 *
+	 * @param walker the actor whose view of the ground decides what can be walked through
+	 * @param target the goal, on this map
+	 * @return the field
+	 */
+	public DistanceField towards(Actor walker, Location target) {
+		uses++;
+		int oldest = 0;
+		for (int i = 0; i < CAPACITY; i++) {
+			if (fields[i] != null && fields[i].holds(walker, target)) {
+				lastUsed[i] = uses;
+				return fields[i];
+			}
+			if (lastUsed[i] < lastUsed[oldest]) {
+				oldest = i;
+			}
+		}
+		if (fields[oldest] == null) {
+			fields[oldest] = new DistanceField(map);
+		}
+		lastUsed[oldest] = uses;
+		builds++;
+		return fields[oldest].towards(walker, target);
+	}
+
+	/**
+	 * The exit of {@code from} that brings the actor closest to one goal.
+	 *
+	 * @param actor the actor that will move
+	 * @param from where it is
+	 * @param target the goal; usually occupied by the actor being followed
+	 * @return the exit to take, or null if the target is on another map or no free neighbour is closer
+	 * @see DistanceField#nextStep(Actor, Location)
+	 */
+	public Exit nextStep(Actor actor, Location from, Location target) {
+		if (target == null || target.map() != map) {
+			return null;
+		}
+		return towards(actor, target).nextStep(actor, from);
+	}
+
+	/**
+	 * @return the number of times a field has been built
+	 */
+	public int getBuilds() {
+		return builds;
+	}
+}
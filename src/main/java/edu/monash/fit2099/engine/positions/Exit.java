@@ -1,5 +1,7 @@
 package edu.monash.fit2099.engine.positions;
 
+import edu.monash.fit2099.engine.actions.MoveActorAction;
+
 /**
  * Class that represents a route from one Location to another.
  * @author Riordan Alfredo
@@ -9,6 +11,7 @@ public class Exit {
 	private String name;
 	private Location destination;
 	private String hotKey;
+	private MoveActorAction moveAction;
 
 	/**
 	 *
@@ -45,4 +48,17 @@ public class Exit {
 	public String getHotKey() {
 		return hotKey;
 	}
+
+	/**
+	 * A move through this exit, without a hotkey, for actors that are not the
+	 * player. A MoveActorAction never changes once made, so one is made the
+	 * first time it is asked for and shared from then on.
+	 * @return the move through this exit
+	 */
+	public MoveActorAction getMoveAction() {
+		if (moveAction == null) {
+			moveAction = new MoveActorAction(destination, name);
+		}
+		return moveAction;
+	}
 }
@@ -9,7 +9,6 @@ import edu.monash.fit2099.engine.items.Item;
 import java.lang.reflect.InvocationTargetException;
 import java.nio.file.Files;
 import java.nio.file.Paths;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 
@@ -33,6 +32,10 @@ public class GameMap {
     protected ActorLocationsIterator actorLocations;
     protected GroundCreator groundCreator;
     protected String name;
+    private PathFinder pathFinder;
+    private DistanceFields distanceFields;
+    private SpatialIndex spatialIndex;
+    private int groundVersion;
 
     /**
      * Constructor.
@@ -169,6 +172,70 @@ public class GameMap {
         return new Location(this, x, y);
     }
 
+    /**
+     * The path finder shared by every Actor on this map. Created on first use,
+     * with search buffers sized to the map.
+     *
+     * @return this map's path finder
+     */
+    public PathFinder pathFinder() {
+        if (pathFinder == null) {
+            pathFinder = new PathFinder(this);
+        }
+        return pathFinder;
+    }
+
+    /**
+     * The distance fields shared by every Actor on this map that heads for a
+     * goal, usually the player, one for each goal and kind of walker. Created
+     * on first use.
+     *
+     * @return this map's distance fields
+     */
+    public DistanceFields distanceFields() {
+        if (distanceFields == null) {
+            distanceFields = new DistanceFields(this);
+        }
+        return distanceFields;
+    }
+
+    /**
+     * The index of where the actors on this map are, for radius and nearest
+     * actor queries. Kept up to date as actors are added, moved and removed.
+     *
+     * @return this map's spatial index
+     */
+    public SpatialIndex spatialIndex() {
+        if (spatialIndex == null) {
+            spatialIndex = new SpatialIndex(this);
+        }
+        return spatialIndex;
+    }
+
+    /**
+     * A counter that goes up every time the Ground of any Location on this map
+     * is replaced, so that anything computed from the terrain can tell whether
+     * it is out of date.
+     *
+     * @return the number of ground changes so far
+     */
+    public int groundVersion() {
+        return groundVersion;
+    }
+
+    /**
+     * Called by a Location of this map when its Ground is replaced.
+     *
+     * @param location the location whose ground changed
+     * @param previous the ground it had before, or null while the map is being built
+     */
+    void groundChanged(Location location, Ground previous) {
+        groundVersion++;
+        if (pathFinder != null && previous != null) {
+            pathFinder.groundChanged(location, previous);
+        }
+    }
+
     /**
      * Display the current GameMap.
      * <p>
@@ -178,12 +245,28 @@ public class GameMap {
      * @param display Display that will draw the state of the game
      */
     public void draw(Display display) {
-        for (int y : heights) {
-            for (int x : widths) {
-                display.print(this.at(x, y));
+        display.drawMap(snapshot());
+    }
+
+    /**
+     * Capture the display characters of every Location on this map.
+     * <p>
+     * The result is a fresh array owned by the caller, indexed as
+     * {@code cells[y][x]}, so it can be handed to another thread (e.g. a
+     * renderer) without exposing the live map.
+     *
+     * @return the current display characters of this map, one row per y coordinate
+     */
+    public char[][] snapshot() {
+        int width = map.length;
+        int height = width == 0 ? 0 : map[0].length;
+        char[][] cells = new char[height][width];
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                cells[y][x] = map[x][y].getDisplayChar();
             }
-            display.endLine();
         }
+        return cells;
     }
 
     /**
@@ -239,11 +322,13 @@ public class GameMap {
         // Tick over all the items in inventories as well as the status effects held by the current actor.
         for (Actor actor : actorLocations) {
             if (this.contains(actor)) {
-                for (Item item : new ArrayList<>(actor.getItemInventory())) { // Copy the list
-                    item.tick(actorLocations.locationOf(actor), actor);
-                    item.tickStatuses(actorLocations.locationOf(actor));
+                Location here = actorLocations.locationOf(actor);
+                // Iteration sees the inventory as it was here, so items may drop or consume themselves
+                for (Item item : actor.getInventory()) {
+                    item.tick(here, actor);
+                    item.tickStatuses(here);
                 }
-                actor.tickStatuses(actorLocations.locationOf(actor));
+                actor.tickStatuses(here);
             }
         }
         // tick ground and items on ground
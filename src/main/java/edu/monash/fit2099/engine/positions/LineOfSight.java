@@ -0,0 +1,64 @@
+package edu.monash.fit2099.engine.positions;
+
+import java.util.Arrays;
+
+/**
+ * Which cells of a {@link RangeStencil} can be seen from one location, for
+ * something that shoots or throws from where its holder stands.
+ *
+ * Each line is walked the first time it is asked about and the answer kept,
+ * so asking again from the same location costs an array read. The answers are
+ * dropped when the origin moves or the ground of its map changes.
+ *
+ * @author Riordan Alfredo
+ * @author Adrian Kristanto
+ */
+public class LineOfSight {
+
+	private static final byte UNKNOWN = 0;
+	private static final byte CLEAR = 1;
+	private static final byte BLOCKED = 2;
+
+	private final RangeStencil stencil;
+	private final byte[] sight;
+	private Location origin;
+	private int groundVersion;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param stencil the cells to answer for
+	 */
+	public LineOfSight(RangeStencil stencil) {
+		this.stencil = stencil;
+		this.sight = new byte[stencil.size()];
+	}
+
+	/**
+	 * @return the cells this answers for
+	 */
+	public RangeStencil stencil() {
+		return stencil;
+	}
+
+	/**
+	 * Whether a thrown object would get from a location to one of the
+	 * stencil's cells around it.
+	 *
+	 * @param from the location thrown from
+	 * @param i which stencil cell, which must be on the map
+	 * @return true if no ground on the way blocks thrown objects
+	 */
+	public boolean canSee(Location from, int i) {
+		GameMap map = from.map();
+		if (from != origin || map.groundVersion() != groundVersion) {
+			Arrays.fill(sight, UNKNOWN);
+			origin = from;
+			groundVersion = map.groundVersion();
+		}
+		if (sight[i] == UNKNOWN) {
+			sight[i] = stencil.lineIsClear(map, from.x(), from.y(), i) ? CLEAR : BLOCKED;
+		}
+		return sight[i] == CLEAR;
+	}
+}
@@ -91,13 +91,16 @@ public class Location implements Printable {
      *         provide the capability
      */
     public <T> List<T> getItemsAs(Class<T> capability) {
-        List<T> result = new ArrayList<>();
+        List<T> result = null;
         for (Item item : items) {
-            if(item != null) {
-                item.asCapability(capability).ifPresent(result::add);
+            if(item != null && item.hasCapability(capability)) {
+                if (result == null) {
+                    result = new ArrayList<>();
+                }
+                result.add(capability.cast(item));
             }
         }
-        return Collections.unmodifiableList(result);
+        return result == null ? Collections.emptyList() : Collections.unmodifiableList(result);
     }
 
     /**
@@ -143,7 +146,7 @@ public class Location implements Printable {
         if(ground == null) {
             return null;
         }
-        return ground.asCapability(capability).orElse(null);
+        return ground.capabilityOrNull(capability);
     }
 
     /**
@@ -152,7 +155,9 @@ public class Location implements Printable {
      * @param ground Ground type to set
      */
     public void setGround(Ground ground) {
+        Ground previous = this.ground;
         this.ground = ground;
+        map.groundChanged(this, previous);
     }
 
     /**
@@ -201,7 +206,7 @@ public class Location implements Printable {
         if (actor == null) {
             return null;
         }
-        return actor.asCapability(type).orElse(null);
+        return actor.capabilityOrNull(type);
     }
 
     /**
@@ -289,10 +294,22 @@ public class Location implements Printable {
         return Collections.unmodifiableList(exits);
     }
 
+    /**
+     * The exits themselves, for engine code that walks them often and must not
+     * allocate a view each time (see {@link PathFinder}). Not to be modified.
+     *
+     * @return the list of exits
+     */
+    List<Exit> exitList() {
+        return exits;
+    }
+
     /**
      * Returns a list of locations within the specified radius of this location.
      * The list includes all locations in the square area around this location,
      * excluding the current location itself. The radius is measured in map units.
+     * To find the actors near a location, {@link GameMap#spatialIndex()} answers
+     * without building the list.
      *
      * @param radius the distance from this location to search for nearby locations
      * @return an unmodifiable list of locations within the given radius, not including this location
@@ -0,0 +1,327 @@
+package edu.monash.fit2099.engine.positions;
+
+import edu.monash.fit2099.engine.actors.Actor;
+
+import java.util.Arrays;
+
+/**
+ * The paths a {@link PathFinder} found recently, least recently used first out.
+ *
+ * A path is stored as the cells it visits, from its start to its goal, along
+ * with the {@link WalkerProfile profile} of the actor it was found for, since
+ * what can be walked through depends on who is walking. Any later query for
+ * the same goal by an actor with the same profile that starts anywhere on a
+ * stored path is answered from it without searching: a hunter walking towards
+ * a target that has not moved, or a second animal of its kind that has fallen
+ * in behind the first, costs a scan of one path instead of a search.
+ *
+ * When the Ground of a location is replaced the change is queued. Each path
+ * remembers how far down the queue it has been checked, and is checked
+ * against the newer changes the next time an actor with its profile asks,
+ * because only then is an actor known that sees the ground the way the path
+ * does: if the location has become impassable for that actor, the path is
+ * dropped if it runs through it; if it has become passable, a shorter path
+ * may now exist and the path is dropped; if its passability is unchanged
+ * (snow catching fire, fire burning down to dirt) the path is kept. Paths
+ * that fall so far behind that the changes they need have left the queue are
+ * dropped.
+ *
+ * The arrays paths are stored in are reused when paths are replaced, so
+ * keeping a path allocates only when it is longer than any kept before in its
+ * place.
+ *
+ * Hits, misses, evictions and invalidations are counted so that the capacity
+ * can be sized from a real game.
+ *
+ * @author Riordan Alfredo
+ * @author Adrian Kristanto
+ */
+public class PathCache {
+
+	/** Number of paths kept unless {@link #setCapacity(int)} is called. */
+	public static final int DEFAULT_CAPACITY = 64;
+
+	private static final int MAX_PENDING = 32;
+
+	private int capacity;
+	private int size;
+	private int[] goals;
+	private int[][] paths;
+	private int[] lengths;
+	private long[] lastUsed;
+	private WalkerProfile[] profiles;
+	/** Number of ground changes each path has been checked against. */
+	private long[] checked;
+	private long clock;
+
+	/** The last {@value #MAX_PENDING} ground changes, by change number. */
+	private final int[] pendingCells = new int[MAX_PENDING];
+	private final Ground[] pendingGrounds = new Ground[MAX_PENDING];
+	/** Number of ground changes ever queued. */
+	private long changes;
+
+	/** Profile of the actor asking now. */
+	private final WalkerProfile asker = new WalkerProfile();
+	private final boolean[] wasOpen = new boolean[MAX_PENDING];
+	private final boolean[] isOpen = new boolean[MAX_PENDING];
+
+	private long hits;
+	private long misses;
+	private long evictions;
+	private long invalidations;
+
+	/**
+	 * Constructor.
+	 */
+	PathCache() {
+		setCapacity(DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * Change how many paths are kept. Drops every path kept so far.
+	 *
+	 * @param capacity the number of paths, at least one
+	 */
+	public void setCapacity(int capacity) {
+		if (capacity < 1)
+			throw new IllegalArgumentException("Path cache capacity must be positive");
+		this.capacity = capacity;
+		goals = new int[capacity];
+		paths = new int[capacity][];
+		lengths = new int[capacity];
+		lastUsed = new long[capacity];
+		profiles = new WalkerProfile[capacity];
+		checked = new long[capacity];
+		for (int e = 0; e < capacity; e++) {
+			paths[e] = new int[0];
+			profiles[e] = new WalkerProfile();
+		}
+		size = 0;
+	}
+
+	/**
+	 * @return the number of paths that can be kept
+	 */
+	public int getCapacity() {
+		return capacity;
+	}
+
+	/**
+	 * @return the number of paths kept now
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * @return queries answered from a kept path
+	 */
+	public long getHits() {
+		return hits;
+	}
+
+	/**
+	 * @return queries that needed a search
+	 */
+	public long getMisses() {
+		return misses;
+	}
+
+	/**
+	 * @return paths dropped to make room for newer ones
+	 */
+	public long getEvictions() {
+		return evictions;
+	}
+
+	/**
+	 * @return paths dropped because the ground on or near them changed
+	 */
+	public long getInvalidations() {
+		return invalidations;
+	}
+
+	/**
+	 * @return the share of queries answered from a kept path, or 0 before the first query
+	 */
+	public double getHitRate() {
+		long queries = hits + misses;
+		return queries == 0 ? 0 : (double) hits / queries;
+	}
+
+	/**
+	 * Reset the counters, leaving the kept paths alone.
+	 */
+	public void resetStatistics() {
+		hits = 0;
+		misses = 0;
+		evictions = 0;
+		invalidations = 0;
+	}
+
+	/**
+	 * Get ready for a query by an actor: remember its profile, and check the
+	 * paths kept for that profile against the ground changes since they were
+	 * last checked, as that actor sees them.
+	 *
+	 * @param actor the actor about to use the cache
+	 * @param finder the path finder, to look cells up
+	 */
+	void prepare(Actor actor, PathFinder finder) {
+		asker.set(actor);
+		long oldest = Math.max(0, changes - MAX_PENDING);
+		boolean evaluated = false;
+		for (int e = size - 1; e >= 0; e--) {
+			if (checked[e] == changes || !profiles[e].sameAs(asker)) {
+				continue;
+			}
+			if (checked[e] < oldest) {
+				remove(e);
+				continue;
+			}
+			if (!evaluated) {
+				evaluate(actor, finder, oldest);
+				evaluated = true;
+			}
+			if (invalidatedBy(e, checked[e])) {
+				remove(e);
+			} else {
+				checked[e] = changes;
+			}
+		}
+	}
+
+	/**
+	 * Work out, for every queued change, whether the location was and is open to an actor.
+	 */
+	private void evaluate(Actor actor, PathFinder finder, long oldest) {
+		for (long change = oldest; change < changes; change++) {
+			int i = (int) (change % MAX_PENDING);
+			wasOpen[i] = pendingGrounds[i].canActorEnter(actor);
+			isOpen[i] = finder.at(pendingCells[i]).getGround().canActorEnter(actor);
+		}
+	}
+
+	/**
+	 * @return true if a change from {@code from} on drops a kept path
+	 */
+	private boolean invalidatedBy(int e, long from) {
+		for (long change = from; change < changes; change++) {
+			int i = (int) (change % MAX_PENDING);
+			if (!wasOpen[i] && isOpen[i]) {
+				return true;
+			}
+			if (wasOpen[i] && !isOpen[i] && passesThrough(e, pendingCells[i])) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Find the cell after {@code start} on a path to {@code goal} kept for the
+	 * profile given to {@link #prepare(Actor, PathFinder)}.
+	 *
+	 * @return the next cell, or -1 if no such path passes through the start
+	 */
+	int next(int start, int goal) {
+		for (int e = 0; e < size; e++) {
+			if (goals[e] != goal || !profiles[e].sameAs(asker))
+				continue;
+			int[] path = paths[e];
+			for (int i = 0; i < lengths[e] - 1; i++) {
+				if (path[i] == start) {
+					lastUsed[e] = ++clock;
+					return path[i + 1];
+				}
+			}
+		}
+		return -1;
+	}
+
+	void hit() {
+		hits++;
+	}
+
+	void miss() {
+		misses++;
+	}
+
+	/**
+	 * Keep a path for the profile given to {@link #prepare(Actor, PathFinder)},
+	 * replacing the least recently used one if the cache is full. The cells
+	 * are copied, so the caller may reuse its array.
+	 *
+	 * @param path the cells of the path, start first and goal last
+	 * @param length how many of the cells are used
+	 */
+	void put(int[] path, int length) {
+		int e = size;
+		if (size == capacity) {
+			e = 0;
+			for (int i = 1; i < size; i++) {
+				if (lastUsed[i] < lastUsed[e])
+					e = i;
+			}
+			evictions++;
+		} else {
+			size++;
+		}
+		if (paths[e].length < length) {
+			paths[e] = new int[length];
+		}
+		System.arraycopy(path, 0, paths[e], 0, length);
+		goals[e] = path[length - 1];
+		lengths[e] = length;
+		lastUsed[e] = ++clock;
+		profiles[e].copyOf(asker);
+		checked[e] = changes;
+	}
+
+	/**
+	 * Note that a location's ground was replaced. Nothing is dropped until an
+	 * actor whose view decides what was passable asks.
+	 *
+	 * @param cell the location's cell
+	 * @param previous the ground it had before
+	 */
+	void groundChanged(int cell, Ground previous) {
+		if (size == 0) {
+			// Paths kept from now on are found on the new ground
+			return;
+		}
+		int i = (int) (changes % MAX_PENDING);
+		pendingCells[i] = cell;
+		pendingGrounds[i] = previous;
+		changes++;
+	}
+
+	private boolean passesThrough(int e, int cell) {
+		int[] path = paths[e];
+		for (int i = 0; i < lengths[e]; i++) {
+			if (path[i] == cell) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Drop a kept path, moving the last one into its place. The dropped
+	 * path's array is kept for reuse.
+	 */
+	private void remove(int e) {
+		size--;
+		int[] spare = paths[e];
+		WalkerProfile spareProfile = profiles[e];
+		goals[e] = goals[size];
+		paths[e] = paths[size];
+		lengths[e] = lengths[size];
+		lastUsed[e] = lastUsed[size];
+		profiles[e] = profiles[size];
+		checked[e] = checked[size];
+		paths[size] = spare;
+		profiles[size] = spareProfile;
+		invalidations++;
+	}
+}
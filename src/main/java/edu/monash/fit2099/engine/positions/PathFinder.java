@@ -0,0 +1,273 @@
+package edu.monash.fit2099.engine.positions;
+
+import edu.monash.fit2099.engine.actors.Actor;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A* search over the exits of one {@link GameMap}.
+ *
+ * Every Actor that walks towards something (a tamed animal following its
+ * owner, a hunter closing on its prey) asks the map's shared PathFinder for
+ * its next step instead of greedily picking the neighbour closest in a
+ * straight line, which gets stuck behind trees and walls. Each move costs one
+ * turn whatever its direction, so the heuristic is the Chebyshev distance,
+ * which never overestimates and keeps the search optimal.
+ *
+ * A location is on a path if {@link Location#canActorEnter(Actor)} lets the
+ * actor in, so both impassable ground and other actors are walked around. The
+ * goal is the exception: it is usually occupied by the actor being followed
+ * or hunted, and the path ends next to it.
+ *
+ * All the search state lives in primitive arrays sized to the map when the
+ * PathFinder is created, and a search counter stamps which entries belong to
+ * the current query, and the path found is written to a buffer of the same
+ * kind before the cache copies it, so a search neither allocates nor clears
+ * anything. Paths found are kept in a {@link PathCache}, and a
+ * query that starts on a kept path to the same goal is answered without
+ * searching at all.
+ *
+ * @author Riordan Alfredo
+ * @author Adrian Kristanto
+ */
+public class PathFinder {
+
+	private final GameMap map;
+	private final int height;
+
+	/** Cost of the best known path to each cell in the current search. */
+	private final int[] cost;
+	/** Cell each cell was reached from. */
+	private final int[] parent;
+	/** Search in which each cell was first reached; other values are stale. */
+	private final int[] seen;
+	/** Search in which each cell was expanded. */
+	private final int[] closed;
+	/** Binary min-heap of open cells, ordered by estimated total cost. */
+	private final int[] heap;
+	/** Estimated total cost of each open cell. */
+	private final int[] estimate;
+	/** Position of each open cell in the heap. */
+	private final int[] heapIndex;
+	private int heapSize;
+	private int search;
+	/** The path being handed to the cache, goal last; the cache copies it. */
+	private final int[] path;
+	private final PathCache cache = new PathCache();
+
+	/**
+	 * Constructor. Use {@link GameMap#pathFinder()} rather than making one.
+	 *
+	 * @param map the map to search
+	 */
+	PathFinder(GameMap map) {
+		this.map = map;
+		this.height = map.heights.max() + 1;
+		int cells = (map.widths.max() + 1) * height;
+		cost = new int[cells];
+		parent = new int[cells];
+		seen = new int[cells];
+		closed = new int[cells];
+		heap = new int[cells];
+		estimate = new int[cells];
+		heapIndex = new int[cells];
+		path = new int[cells];
+	}
+
+	/**
+	 * Find the first exit on a shortest path from one location to another.
+	 *
+	 * @param actor the actor that will walk the path
+	 * @param from where the actor is
+	 * @param to where it wants to get to; may be occupied
+	 * @return the exit of {@code from} to take, or null if {@code to} is on
+	 *         another map, is {@code from} itself, or cannot be reached
+	 */
+	public Exit firstStep(Actor actor, Location from, Location to) {
+		if (from.map() != map || to.map() != map || from == to) {
+			return null;
+		}
+		if (++search == 0) {
+			// The counter wrapped: forget every stamp so none matches by accident
+			Arrays.fill(seen, 0);
+			Arrays.fill(closed, 0);
+			search = 1;
+		}
+		int start = indexOf(from);
+		int goal = indexOf(to);
+		cache.prepare(actor, this);
+		int kept = cache.next(start, goal);
+		if (kept >= 0) {
+			Location step = at(kept);
+			if (kept == goal || step.canActorEnter(actor)) {
+				cache.hit();
+				return exitTo(from, step);
+			}
+		}
+		cache.miss();
+
+		heapSize = 0;
+		cost[start] = 0;
+		parent[start] = -1;
+		seen[start] = search;
+		push(start, heuristic(from, to));
+
+		while (heapSize > 0) {
+			int current = pop();
+			if (current == goal) {
+				return exitTowards(from, start, goal);
+			}
+			closed[current] = search;
+			Location here = at(current);
+			List<Exit> exits = here.exitList();
+			for (int i = 0; i < exits.size(); i++) {
+				Location next = exits.get(i).getDestination();
+				if (next.map() != map) {
+					continue;
+				}
+				int n = indexOf(next);
+				if (closed[n] == search || (n != goal && !next.canActorEnter(actor))) {
+					continue;
+				}
+				int tentative = cost[current] + 1;
+				if (seen[n] != search) {
+					seen[n] = search;
+					cost[n] = tentative;
+					parent[n] = current;
+					push(n, tentative + heuristic(next, to));
+				} else if (tentative < cost[n]) {
+					cost[n] = tentative;
+					parent[n] = current;
+					decrease(n, tentative + heuristic(next, to));
+				}
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * The paths found so far, with their hit rate.
+	 *
+	 * @return this path finder's cache
+	 */
+	public PathCache getCache() {
+		return cache;
+	}
+
+	/**
+	 * Called by the map when the Ground of one of its locations is replaced.
+	 *
+	 * @param location the location
+	 * @param previous its ground before the change
+	 */
+	void groundChanged(Location location, Ground previous) {
+		cache.groundChanged(indexOf(location), previous);
+	}
+
+	/**
+	 * Walk the parents back from the goal, keep the path in the cache, and
+	 * return the start's exit that leads along it.
+	 */
+	private Exit exitTowards(Location from, int start, int goal) {
+		int length = 1;
+		for (int cell = goal; cell != start; cell = parent[cell]) {
+			length++;
+		}
+		for (int cell = goal, i = length - 1; i >= 0; cell = parent[cell], i--) {
+			path[i] = cell;
+		}
+		cache.put(path, length);
+		return exitTo(from, at(path[1]));
+	}
+
+	private static Exit exitTo(Location from, Location destination) {
+		List<Exit> exits = from.exitList();
+		for (int i = 0; i < exits.size(); i++) {
+			if (exits.get(i).getDestination() == destination) {
+				return exits.get(i);
+			}
+		}
+		return null;
+	}
+
+	private int indexOf(Location location) {
+		return location.x() * height + location.y();
+	}
+
+	Location at(int index) {
+		return map.map[index / height][index % height];
+	}
+
+	private static int heuristic(Location a, Location b) {
+		return Math.max(Math.abs(a.x() - b.x()), Math.abs(a.y() - b.y()));
+	}
+
+	private void push(int cell, int f) {
+		estimate[cell] = f;
+		heap[heapSize] = cell;
+		heapIndex[cell] = heapSize;
+		siftUp(heapSize++);
+	}
+
+	private void decrease(int cell, int f) {
+		estimate[cell] = f;
+		siftUp(heapIndex[cell]);
+	}
+
+	private int pop() {
+		int top = heap[0];
+		heapSize--;
+		if (heapSize > 0) {
+			heap[0] = heap[heapSize];
+			heapIndex[heap[0]] = 0;
+			siftDown(0);
+		}
+		return top;
+	}
+
+	/**
+	 * Orders by estimated total cost, then prefers the cell that has come
+	 * further, which among the many equal-cost paths on an open grid heads
+	 * straight for the goal instead of widening the search.
+	 */
+	private boolean before(int a, int b) {
+		return estimate[a] < estimate[b] || (estimate[a] == estimate[b] && cost[a] > cost[b]);
+	}
+
+	private void siftUp(int i) {
+		int cell = heap[i];
+		while (i > 0) {
+			int up = (i - 1) >>> 1;
+			if (!before(cell, heap[up])) {
+				break;
+			}
+			heap[i] = heap[up];
+			heapIndex[heap[i]] = i;
+			i = up;
+		}
+		heap[i] = cell;
+		heapIndex[cell] = i;
+	}
+
+	private void siftDown(int i) {
+		int cell = heap[i];
+		while (true) {
+			int child = 2 * i + 1;
+			if (child >= heapSize) {
+				break;
+			}
+			if (child + 1 < heapSize && before(heap[child + 1], heap[child])) {
+				child++;
+			}
+			if (!before(heap[child], cell)) {
+				break;
+			}
+			heap[i] = heap[child];
+			heapIndex[heap[i]] = i;
+			i = child;
+		}
+		heap[i] = cell;
+		heapIndex[cell] = i;
+	}
+}
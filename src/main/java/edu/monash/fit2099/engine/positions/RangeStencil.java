@@ -0,0 +1,171 @@
+package edu.monash.fit2099.engine.positions;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The cells within a given range of a location, as offsets from it, worked
+ * out once per range and shared.
+ *
+ * The offsets cover the square of side {@code 2 * range + 1} around the
+ * origin, not counting the origin itself, ordered by distance in moves
+ * (diagonals included) so that nearer cells come first. For each offset the
+ * stencil also keeps the cells a straight line from the origin to it passes
+ * over, which is what {@link LineOfSight} checks for ground that blocks
+ * thrown objects.
+ *
+ * @author Riordan Alfredo
+ * @author Adrian Kristanto
+ */
+public final class RangeStencil {
+
+	private static final List<RangeStencil> byRange = new ArrayList<>();
+
+	private final int range;
+	private final int[] dx;
+	private final int[] dy;
+	private final int[] distance;
+	private final int[] lineStart;
+	private final int[] lineX;
+	private final int[] lineY;
+
+	/**
+	 * The stencil for a range, made the first time it is asked for.
+	 *
+	 * @param range how far the stencil reaches, in moves; at least 1
+	 * @return the shared stencil
+	 */
+	public static synchronized RangeStencil of(int range) {
+		if (range < 1) {
+			throw new IllegalArgumentException("Range must be at least 1, was " + range);
+		}
+		while (byRange.size() <= range) {
+			byRange.add(null);
+		}
+		RangeStencil stencil = byRange.get(range);
+		if (stencil == null) {
+			stencil = new RangeStencil(range);
+			byRange.set(range, stencil);
+		}
+		return stencil;
+	}
+
+	private RangeStencil(int range) {
+		this.range = range;
+		int cells = (2 * range + 1) * (2 * range + 1) - 1;
+		dx = new int[cells];
+		dy = new int[cells];
+		distance = new int[cells];
+		lineStart = new int[cells + 1];
+		List<int[]> line = new ArrayList<>();
+		int i = 0;
+		for (int r = 1; r <= range; r++) {
+			for (int y = -r; y <= r; y++) {
+				for (int x = -r; x <= r; x++) {
+					if (Math.max(Math.abs(x), Math.abs(y)) != r) {
+						continue;
+					}
+					dx[i] = x;
+					dy[i] = y;
+					distance[i] = r;
+					lineStart[i] = line.size();
+					addLine(x, y, line);
+					i++;
+				}
+			}
+		}
+		lineStart[cells] = line.size();
+		lineX = new int[line.size()];
+		lineY = new int[line.size()];
+		for (int j = 0; j < line.size(); j++) {
+			lineX[j] = line.get(j)[0];
+			lineY[j] = line.get(j)[1];
+		}
+	}
+
+	/**
+	 * Add the cells strictly between the origin and (x, y) on a Bresenham line.
+	 */
+	private static void addLine(int x, int y, List<int[]> line) {
+		int stepX = Integer.signum(x);
+		int stepY = Integer.signum(y);
+		int width = Math.abs(x);
+		int height = -Math.abs(y);
+		int error = width + height;
+		int cx = 0;
+		int cy = 0;
+		while (true) {
+			int doubled = 2 * error;
+			if (doubled >= height) {
+				error += height;
+				cx += stepX;
+			}
+			if (doubled <= width) {
+				error += width;
+				cy += stepY;
+			}
+			if (cx == x && cy == y) {
+				return;
+			}
+			line.add(new int[] {cx, cy});
+		}
+	}
+
+	/**
+	 * @return how far this stencil reaches, in moves
+	 */
+	public int range() {
+		return range;
+	}
+
+	/**
+	 * @return the number of cells in the stencil
+	 */
+	public int size() {
+		return dx.length;
+	}
+
+	/**
+	 * @param i which cell, from 0 to {@link #size()} - 1
+	 * @return its offset along x from the origin
+	 */
+	public int dx(int i) {
+		return dx[i];
+	}
+
+	/**
+	 * @param i which cell, from 0 to {@link #size()} - 1
+	 * @return its offset along y from the origin
+	 */
+	public int dy(int i) {
+		return dy[i];
+	}
+
+	/**
+	 * @param i which cell, from 0 to {@link #size()} - 1
+	 * @return its distance from the origin in moves; never less than that of an earlier cell
+	 */
+	public int distance(int i) {
+		return distance[i];
+	}
+
+	/**
+	 * Whether no cell on the line from the origin to one of the stencil's
+	 * cells, not counting either end, has ground that blocks thrown objects.
+	 * The cell must be on the map; the line then is too.
+	 *
+	 * @param map the map the origin is on
+	 * @param x the origin's x coordinate
+	 * @param y the origin's y coordinate
+	 * @param i which cell, from 0 to {@link #size()} - 1
+	 * @return true if a thrown object would get through
+	 */
+	public boolean lineIsClear(GameMap map, int x, int y, int i) {
+		for (int j = lineStart[i]; j < lineStart[i + 1]; j++) {
+			if (map.at(x + lineX[j], y + lineY[j]).getGround().blocksThrownObjects()) {
+				return false;
+			}
+		}
+		return true;
+	}
+}
@@ -0,0 +1,227 @@
+package edu.monash.fit2099.engine.positions;
+
+import edu.monash.fit2099.engine.actors.Actor;
+
+import java.util.function.Predicate;
+
+/**
+ * Where the actors on one {@link GameMap} are, for questions about an area:
+ * which actors are within some radius, which is the nearest one of a kind,
+ * how many of a class are in a region.
+ *
+ * There is at most one actor per location, so the index is an array holding
+ * the actor on each cell. The map is also divided into square buckets of
+ * {@link #BUCKET} by {@link #BUCKET} cells with a count of actors in each, and
+ * queries skip empty buckets without looking at their cells, so a large radius
+ * over a sparse map stays cheap. No query allocates.
+ *
+ * The index is kept up to date by {@link edu.monash.fit2099.engine.actors.ActorLocationsIterator}
+ * as actors are added, moved and removed; nothing else should call
+ * {@link #add(Actor, Location)} or {@link #remove(Location)}.
+ *
+ * @author Riordan Alfredo
+ * @author Adrian Kristanto
+ */
+public class SpatialIndex {
+
+	/** Width and height of a bucket, in cells. */
+	public static final int BUCKET = 8;
+
+	private final int width;
+	private final int height;
+	private final int bucketsAcross;
+	private final GameMap map;
+	private final Actor[] occupant;
+	private final int[] bucketCount;
+	private int size;
+
+	/**
+	 * Constructor. Use {@link GameMap#spatialIndex()} rather than making one.
+	 *
+	 * @param map the map to index
+	 */
+	SpatialIndex(GameMap map) {
+		this.map = map;
+		this.width = map.widths.max() + 1;
+		this.height = map.heights.max() + 1;
+		this.bucketsAcross = (width + BUCKET - 1) / BUCKET;
+		int bucketsDown = (height + BUCKET - 1) / BUCKET;
+		occupant = new Actor[width * height];
+		bucketCount = new int[bucketsAcross * bucketsDown];
+	}
+
+	/**
+	 * Record that an actor now stands on a location of this map.
+	 *
+	 * @param actor the actor
+	 * @param location where it stands
+	 */
+	public void add(Actor actor, Location location) {
+		int cell = cellOf(location.x(), location.y());
+		if (occupant[cell] == null) {
+			bucketCount[bucketOf(location.x(), location.y())]++;
+			size++;
+		}
+		occupant[cell] = actor;
+	}
+
+	/**
+	 * Record that the actor on a location of this map has left it.
+	 *
+	 * @param location the location it left
+	 */
+	public void remove(Location location) {
+		int cell = cellOf(location.x(), location.y());
+		if (occupant[cell] != null) {
+			occupant[cell] = null;
+			bucketCount[bucketOf(location.x(), location.y())]--;
+			size--;
+		}
+	}
+
+	/**
+	 * @return the number of actors on this map
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * @param x the x coordinate
+	 * @param y the y coordinate
+	 * @return the actor on that cell, or null if there is none or the cell is off the map
+	 */
+	public Actor actorAt(int x, int y) {
+		if (x < 0 || y < 0 || x >= width || y >= height) {
+			return null;
+		}
+		return occupant[cellOf(x, y)];
+	}
+
+	/**
+	 * Copy the actors within a radius of a location (the square of side
+	 * {@code 2 * radius + 1} around it, not counting the location itself)
+	 * into an array supplied by the caller.
+	 *
+	 * @param centre the location at the middle of the square
+	 * @param radius how far to look, in moves
+	 * @param into where to put the actors; only as many as fit are copied
+	 * @return how many actors there are, which may be more than were copied;
+	 *         none if {@code centre} is null or on another map
+	 */
+	public int actorsWithin(Location centre, int radius, Actor[] into) {
+		if (centre == null || centre.map() != map)
+			return 0;
+		int found = 0;
+		int cx = centre.x();
+		int cy = centre.y();
+		int minX = Math.max(0, cx - radius);
+		int maxX = Math.min(width - 1, cx + radius);
+		int minY = Math.max(0, cy - radius);
+		int maxY = Math.min(height - 1, cy + radius);
+		for (int bx = minX / BUCKET; bx <= maxX / BUCKET; bx++) {
+			for (int by = minY / BUCKET; by <= maxY / BUCKET; by++) {
+				if (bucketCount[by * bucketsAcross + bx] == 0)
+					continue;
+				int toX = Math.min(maxX, bx * BUCKET + BUCKET - 1);
+				int toY = Math.min(maxY, by * BUCKET + BUCKET - 1);
+				for (int x = Math.max(minX, bx * BUCKET); x <= toX; x++) {
+					for (int y = Math.max(minY, by * BUCKET); y <= toY; y++) {
+						Actor actor = occupant[cellOf(x, y)];
+						if (actor != null && (x != cx || y != cy)) {
+							if (found < into.length)
+								into[found] = actor;
+							found++;
+						}
+					}
+				}
+			}
+		}
+		return found;
+	}
+
+	/**
+	 * Find the closest actor to a location that matches a condition, looking
+	 * outwards one ring of cells at a time, so the search stops at the first
+	 * ring with a match. Distance is counted in moves, diagonals included.
+	 *
+	 * @param centre where to look from; an actor standing there is not considered
+	 * @param maxRadius how far to look, in moves
+	 * @param matching the condition
+	 * @return the nearest matching actor, or null if there is none within the
+	 *         radius or {@code centre} is null or on another map
+	 */
+	public Actor nearest(Location centre, int maxRadius, Predicate<? super Actor> matching) {
+		if (centre == null || centre.map() != map)
+			return null;
+		int cx = centre.x();
+		int cy = centre.y();
+		int limit = Math.min(maxRadius, Math.max(width, height));
+		for (int r = 1; r <= limit && size > 0; r++) {
+			// Top and bottom rows of the ring, then the sides between them
+			for (int x = cx - r; x <= cx + r; x++) {
+				Actor actor = match(x, cy - r, matching);
+				if (actor == null)
+					actor = match(x, cy + r, matching);
+				if (actor != null)
+					return actor;
+			}
+			for (int y = cy - r + 1; y <= cy + r - 1; y++) {
+				Actor actor = match(cx - r, y, matching);
+				if (actor == null)
+					actor = match(cx + r, y, matching);
+				if (actor != null)
+					return actor;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Count the actors of a class within a region of this map.
+	 *
+	 * @param type the class, or an interface the actors implement
+	 * @param minX the left edge of the region, included
+	 * @param minY the top edge of the region, included
+	 * @param maxX the right edge of the region, included
+	 * @param maxY the bottom edge of the region, included
+	 * @return the number of such actors in the region
+	 */
+	public int count(Class<?> type, int minX, int minY, int maxX, int maxY) {
+		int found = 0;
+		minX = Math.max(0, minX);
+		minY = Math.max(0, minY);
+		maxX = Math.min(width - 1, maxX);
+		maxY = Math.min(height - 1, maxY);
+		for (int bx = minX / BUCKET; bx <= maxX / BUCKET; bx++) {
+			for (int by = minY / BUCKET; by <= maxY / BUCKET; by++) {
+				if (bucketCount[by * bucketsAcross + bx] == 0)
+					continue;
+				int toX = Math.min(maxX, bx * BUCKET + BUCKET - 1);
+				int toY = Math.min(maxY, by * BUCKET + BUCKET - 1);
+				for (int x = Math.max(minX, bx * BUCKET); x <= toX; x++) {
+					for (int y = Math.max(minY, by * BUCKET); y <= toY; y++) {
+						if (type.isInstance(occupant[cellOf(x, y)]))
+							found++;
+					}
+				}
+			}
+		}
+		return found;
+	}
+
+	private Actor match(int x, int y, Predicate<? super Actor> matching) {
+		if (x < 0 || y < 0 || x >= width || y >= height || bucketCount[bucketOf(x, y)] == 0)
+			return null;
+		Actor actor = occupant[cellOf(x, y)];
+		return actor != null && matching.test(actor) ? actor : null;
+	}
+
+	private int cellOf(int x, int y) {
+		return x * height + y;
+	}
+
+	private int bucketOf(int x, int y) {
+		return (y / BUCKET) * bucketsAcross + x / BUCKET;
+	}
+}
@@ -0,0 +1,66 @@
+package edu.monash.fit2099.engine.positions;
+
+import edu.monash.fit2099.engine.AbilitySet;
+import edu.monash.fit2099.engine.actors.Actor;
+
+/**
+ * What decides how an actor sees the ground: its class and its abilities,
+ * including those of the items it carries. {@link Ground#canActorEnter(Actor)}
+ * looks at one or the other, so two actors with the same profile can share
+ * whatever was worked out from passability for either of them.
+ *
+ * @author Riordan Alfredo
+ * @author Adrian Kristanto
+ */
+final class WalkerProfile {
+
+	private static final AbilitySet NONE = new AbilitySet();
+
+	private Class<?> kind;
+	private final AbilitySet abilities = new AbilitySet();
+	private final AbilitySet scratch = new AbilitySet();
+
+	/**
+	 * Remember an actor's profile.
+	 *
+	 * @param walker the actor, or null to forget
+	 */
+	void set(Actor walker) {
+		kind = walker == null ? null : walker.getClass();
+		if (walker != null) {
+			walker.copyAbilitiesTo(abilities);
+		} else {
+			abilities.copyOf(NONE);
+		}
+	}
+
+	/**
+	 * @param walker an actor
+	 * @return true if it has the profile remembered last
+	 */
+	boolean matches(Actor walker) {
+		if (walker == null || kind != walker.getClass()) {
+			return walker == null && kind == null;
+		}
+		walker.copyAbilitiesTo(scratch);
+		return scratch.sameAs(abilities);
+	}
+
+	/**
+	 * @param other another profile
+	 * @return true if both are the same
+	 */
+	boolean sameAs(WalkerProfile other) {
+		return kind == other.kind && abilities.sameAs(other.abilities);
+	}
+
+	/**
+	 * Make this profile a copy of another.
+	 *
+	 * @param other the profile to copy
+	 */
+	void copyOf(WalkerProfile other) {
+		kind = other.kind;
+		abilities.copyOf(other.abilities);
+	}
+}
@@ -36,6 +36,8 @@ public abstract class World {
 	public World(Display display) {
 		Objects.requireNonNull(display);
 		this.display = display;
+		// An actor that has left the world takes no more turns, so its last action can go
+		actorLocations.addLifecycleListener(lastActionMap::remove);
 	}
 
 	/**
@@ -90,6 +92,9 @@ public abstract class World {
 		catch (GameEngineException exception){
 			display.println(exception.getMessage());
 		}
+		finally {
+			display.flush();
+		}
 	}
 
 	protected void gameLoop() throws GameEngineException{
@@ -106,6 +111,8 @@ public abstract class World {
 			if (stillRunning())
 				processActorTurn(actor);
 		}
+
+		display.endTurn();
 	}
 
 	/**
@@ -132,7 +139,8 @@ public abstract class World {
 		Action action = actor.playTurn(actions, lastActionMap.get(actor), map, display); //get the action from the actor.
 
 		// after
-		lastActionMap.put(actor, action); // record selected action
+		if (actorLocations.contains(actor))
+			lastActionMap.put(actor, action); // record selected action, unless the actor left the world while choosing it
 		String result = action.execute(actor, map); // execute selected action
 		display.println(result); // resolve.
 	}
@@ -1,15 +1,24 @@
 package game;
 
-import edu.monash.fit2099.engine.displays.Display;
+import edu.monash.fit2099.engine.displays.BufferedDisplay;
+import game.recording.RecordingConfig;
+import game.recording.SessionRecorder;
 import game.utils.FancyMessage;
 
+import java.nio.file.Paths;
+
 public class Application {
     public static void main(String[] args) {
-        Display terminalDisplay = new Display();
+        BufferedDisplay terminalDisplay = new BufferedDisplay();
         Earth earth = new Earth(terminalDisplay);
         try{
+            if (RecordingConfig.isEnabled()) {
+                terminalDisplay.addFrameListener(new SessionRecorder(Paths.get(RecordingConfig.recordFile())));
+            }
+
             for (String line : FancyMessage.GAME_TITLE.split("\n")) {
-                new Display().println(line);
+                terminalDisplay.println(line);
+                terminalDisplay.flush();
                 try {
                     Thread.sleep(200);
                 } catch (Exception exception) {
@@ -4,21 +4,26 @@ import edu.monash.fit2099.engine.GameEngineException;
 import edu.monash.fit2099.engine.actions.Action;
 import edu.monash.fit2099.engine.actions.ActionList;
 import edu.monash.fit2099.engine.actions.DoNothingAction;
+import edu.monash.fit2099.engine.actions.MoveActorAction;
 import edu.monash.fit2099.engine.actors.Actor;
-import edu.monash.fit2099.engine.actors.attributes.ActorAttributeOperation;
-import edu.monash.fit2099.engine.actors.attributes.BaseAttributes;
 import edu.monash.fit2099.engine.displays.Display;
+import edu.monash.fit2099.engine.displays.MessageChannel;
+import edu.monash.fit2099.engine.displays.MessageLevel;
+import edu.monash.fit2099.engine.displays.MessageSink;
 import edu.monash.fit2099.engine.items.Item;
 import edu.monash.fit2099.engine.positions.DefaultGroundCreator;
 import edu.monash.fit2099.engine.positions.Exit;
 import edu.monash.fit2099.engine.positions.GameMap;
 import edu.monash.fit2099.engine.positions.Location;
 import edu.monash.fit2099.engine.positions.World;
-import game.abilities.Abilities;
 import game.actors.*;
 import game.actors.Questmaster;
+import game.actions.AttackAction;
+import game.actions.TeleportAction;
+import game.behaviours.AiScheduler;
 import game.items.Axe;
 import game.items.TeleportCube;
+import game.teleportation.PortalNetwork;
 import game.teleportation.TeleportDestination;
 import game.terrain.*;
 import game.terrain.Cave;
@@ -34,6 +39,12 @@ import game.spawning.DeerAppleDropEffect;
 import game.spawning.BearYewberryScatterEffect;
 import game.spawning.WolfTreeGrowthEffect;
 import game.spawning.CrocodilePoisonPulseEffect;
+import game.population.WarmthBand;
+import game.population.WarmthListener;
+import game.lifecycle.RegistryCleanup;
+import game.population.WarmthSystem;
+import game.status.StatusEffectScheduler;
+import game.taming.TameableAnimal;
 
 import java.util.*;
 import java.util.stream.Collectors;
@@ -47,7 +58,7 @@ import java.util.stream.Collectors;
  * creates the survival scenario.
  *
  * @author Muhamad Shafy Dimas Rafarrel
- * @version 3.6
+ * @version 3.7
  */
 public class Earth extends World {
 
@@ -89,6 +100,26 @@ public class Earth extends World {
         PostSpawnEffectRegistry.register(Crocodile.class, new CrocodilePoisonPulseEffect());
     }
 
+    /**
+     * Routes output to the display; messages from other maps are suppressed here.
+     */
+    private final MessageSink messages;
+
+    /**
+     * Skips showing the turns the player spends in a multi-turn action.
+     */
+    private final FastForward fastForward;
+
+    /**
+     * Decides the actions of actors on other maps while the player chooses an action.
+     */
+    private final SpeculativeTurns speculation = new SpeculativeTurns();
+
+    /**
+     * Whether turns are speculated at all.
+     */
+    private boolean speculating = true;
+
     /**
      * Constructs a new Earth world with the specified display.
      *
@@ -96,18 +127,47 @@ public class Earth extends World {
      */
     public Earth(Display display) {
         super(display);
+        this.fastForward = new FastForward(display);
+        this.messages = new MessageSink(fastForward.screen());
+        actorLocations.addLifecycleListener(new RegistryCleanup());
     }
 
     /**
-     * Override the game loop to increment the global turn counter for spawning
-     * and handle animal warmth decrease every turn.
-     * Also ensures that only actions from actors on the player's current map are displayed.
+     * Gets the message sink that routes game output by channel and level.
+     * Off-map messages are muted unless a threshold is set for them.
+     *
+     * @return the message sink for this world
+     */
+    public MessageSink getMessages() {
+        return messages;
+    }
+
+    /**
+     * Turn on or off deciding the actions of actors on other maps while the
+     * player is choosing an action (see {@link SpeculativeTurns}). On by default.
+     *
+     * @param speculating true to speculate
+     */
+    public void setSpeculating(boolean speculating) {
+        this.speculating = speculating;
+    }
+
+    /**
+     * Override the game loop to increment the global turn counter for spawning,
+     * start the animals' planning budget afresh and handle animal warmth decrease every turn.
+     * Also ensures that only actions from actors on the player's current map are displayed,
+     * and that turns the player spends in a multi-turn action are not shown (see {@link FastForward}).
+     * Actors on maps other than the player's may decide their actions while the
+     * player is still choosing one (see {@link SpeculativeTurns}).
      */
     @Override
     protected void gameLoop() throws GameEngineException {
         // Increment the global turn counter for spawning
         SpawnHelper.incrementTurn();
 
+        // Give the animals a fresh planning budget
+        AiScheduler.beginTurn();
+
         // Handle animal warmth decrease every turn
         handleAnimalWarmthDecrease();
 
@@ -119,8 +179,19 @@ public class Earth extends World {
             gameMap.tick();
         }
 
+        // Apply every active status effect in one batch pass
+        applyStatusEffects(playersMap);
+
+        // Turns the player spends sleeping or waiting are run without being shown, unless something interrupts them
+        if (fastForward.interrupts(player, lastActionMap.get(player), actorLocations.locationOf(player))) {
+            lastActionMap.put(player, new DoNothingAction());
+        }
+        boolean skipped = fastForward.beginTurn(lastActionMap.get(player));
+
         // Draw the player's map
-        playersMap.draw(display);
+        if (!skipped) {
+            playersMap.draw(display);
+        }
 
         // Process all the actors, but only display actions for actors on the player's map
         for (Actor actor : actorLocations) {
@@ -128,6 +199,30 @@ public class Earth extends World {
                 processActorTurnWithMapFilter(actor, playersMap);
             }
         }
+        speculation.clear();
+
+        // Hand this turn's output to the display; it may render while the next turn runs.
+        // A skipped turn ends too, with nothing in it, so recorded turn numbers stay in step
+        display.endTurn();
+    }
+
+    /**
+     * Ticks every active status effect once, and removes the animals and other
+     * non-player actors that the effects knock out. A player who is knocked out
+     * stays on the map so their own turn can end the game.
+     *
+     * @param playersMap the map the player is currently on (used to filter display output)
+     */
+    private void applyStatusEffects(GameMap playersMap) {
+        for (Actor fallen : StatusEffectScheduler.tick(actorLocations)) {
+            if (fallen == player) {
+                continue;
+            }
+            GameMap map = actorLocations.locationOf(fallen).map();
+            MessageChannel channel = (map == playersMap) ? MessageChannel.PLAYER_MAP : MessageChannel.OFF_MAP;
+            String result = fallen.unconscious(map);
+            messages.post(channel, MessageLevel.ALERT, () -> result);
+        }
     }
 
     /**
@@ -150,22 +245,167 @@ public class Earth extends World {
         // Prepare all allowable actions for this actor
         ActionList actions = prepareActorActions(actor, here);
 
-        // Use a dummy display for actors not on the player's map to suppress their messages
-        Display actorDisplay = (map == playersMap) ? display : new Display();
+        // Actors not on the player's map write to the off-map channel, which is muted by default
+        MessageChannel channel = (map == playersMap) ? MessageChannel.PLAYER_MAP : MessageChannel.OFF_MAP;
+        Display actorDisplay = messages.display(channel);
+
+        // Get the action from the actor, unless it was decided while the player was choosing
+        // and still holds; actors on other maps decide in the meantime
+        Action action;
+        SpeculativeTurns.Decision decision = speculation.take(actor);
+        if (decision != null) {
+            for (String message : decision.messages()) {
+                messages.post(channel, MessageLevel.INFO, () -> message);
+            }
+            action = decision.action();
+        } else {
+            Action lastAction = lastActionMap.get(actor);
+            boolean speculated = actor == player && speculate(map, lastAction);
+            try {
+                action = actor.playTurn(actions, lastAction, map, actorDisplay);
+            } finally {
+                if (speculated) {
+                    finishSpeculation();
+                }
+            }
+        }
 
-        // Get the action from the actor
-        Action action = actor.playTurn(actions, lastActionMap.get(actor), map, actorDisplay);
+        // Record the action, unless the actor left the world while choosing it
+        if (actorLocations.contains(actor)) {
+            lastActionMap.put(actor, action);
+        }
 
-        // Record the action
-        lastActionMap.put(actor, action);
+        // Whatever was decided ahead on a map this actor moves to no longer holds,
+        // and what is decided on its own map is checked once it has acted
+        Location destination = destinationOf(action);
+        if (destination != null && destination.map() != map) {
+            speculation.disturb(destination.map());
+        }
+        if (decision == null || !(action instanceof DoNothingAction)) {
+            speculation.markChanged(map);
+        }
 
         // Execute the action
         String result = action.execute(actor, map);
 
-        // Only display the result if the actor is on the player's current map
-        if (map == playersMap) {
-            display.println(result);
+        // Only display the result if the actor's channel is shown
+        messages.post(channel, MessageLevel.INFO, () -> result);
+    }
+
+    /**
+     * Start deciding, in the background, the actions of the wild animals on
+     * maps other than the player's whose turns only decide what they do (see
+     * {@link TameableAnimal#decidesAhead()}). The player can reach other maps,
+     * through portals or the teleport cube, but if the player's action moves
+     * the player onto one the decisions made there are thrown away. Their
+     * planning is charged to a budget of its own, so it does not hold back the
+     * animals on the player's map. Not done while the player carries on with a
+     * multi-turn action, as no menu is shown then.
+     *
+     * @param playersMap the map the player is on
+     * @param lastAction the action the player played last turn
+     * @return true if a speculation was started
+     */
+    private boolean speculate(GameMap playersMap, Action lastAction) {
+        if (!speculating || FastForward.continues(lastAction)) {
+            return false;
+        }
+        List<Actor> ahead = new ArrayList<>();
+        for (Actor actor : actorLocations) {
+            if (actor != player && actorLocations.locationOf(actor).map() != playersMap) {
+                ahead.add(actor);
+            }
+        }
+        if (ahead.isEmpty()) {
+            return false;
         }
+        AiScheduler.planAside(true);
+        speculation.start(ahead, new SpeculativeTurns.Turn() {
+            @Override
+            public Location locationOf(Actor actor) {
+                return actorLocations.contains(actor) ? actorLocations.locationOf(actor) : null;
+            }
+
+            @Override
+            public boolean decidesAhead(Actor actor) {
+                return actor instanceof TameableAnimal animal && animal.decidesAhead();
+            }
+
+            @Override
+            public Action decide(Actor actor, Display display) {
+                Location here = actorLocations.locationOf(actor);
+                return actor.playTurn(prepareActorActions(actor, here), lastActionMap.get(actor), here.map(), display);
+            }
+
+            @Override
+            public GameMap destinationOf(Action action) {
+                Location destination = Earth.destinationOf(action);
+                return destination == null ? null : destination.map();
+            }
+
+            @Override
+            public boolean stillHolds(Actor actor, SpeculativeTurns.Decision decision) {
+                return actorLocations.locationOf(actor) == decision.from() && canStillDo(actor, decision);
+            }
+        }, messages.isEnabled(MessageChannel.OFF_MAP, MessageLevel.INFO));
+        return true;
+    }
+
+    /**
+     * Stop deciding ahead once the player has chosen; the actors not decided
+     * yet decide in their usual places. Planning is charged to the turn's
+     * budget again.
+     */
+    private void finishSpeculation() {
+        speculation.cancel();
+        try {
+            speculation.finish();
+        } finally {
+            AiScheduler.planAside(false);
+        }
+    }
+
+    /**
+     * Whether an action decided ahead from where its actor still is can be
+     * executed after other actors have acted: a step still leads somewhere
+     * the actor can enter, and a bite still reaches its target. Other kinds
+     * of action are not checked, so they are decided again.
+     *
+     * @param actor the actor that decided it
+     * @param decision the decision
+     * @return true if the action can still be executed as it is
+     */
+    private boolean canStillDo(Actor actor, SpeculativeTurns.Decision decision) {
+        Action action = decision.action();
+        if (action instanceof DoNothingAction) {
+            return true;
+        }
+        if (action instanceof MoveActorAction move) {
+            return move.getMoveToLocation().canActorEnter(actor);
+        }
+        if (action instanceof AttackAction attack && actorLocations.contains(attack.getTarget())) {
+            Location target = actorLocations.locationOf(attack.getTarget());
+            for (Exit exit : decision.from().getExits()) {
+                if (exit.getDestination() == target) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @param action an action
+     * @return where it moves its actor, or null if it does not move it
+     */
+    private static Location destinationOf(Action action) {
+        if (action instanceof TeleportAction teleport) {
+            return teleport.getDestination().getTargetLocation();
+        }
+        if (action instanceof MoveActorAction move) {
+            return move.getMoveToLocation();
+        }
+        return null;
     }
 
     /**
@@ -220,78 +460,30 @@ public class Earth extends World {
     }
 
     /**
-     * Handles warmth decrease for all animals every turn.
-     * Animals lose 1 warmth each turn, and become unconscious when warmth reaches 0.
-     * Animals with cold resistance don't lose warmth.
-     * Only displays status messages for animals on the player's current map.
+     * Cools every animal by one point of warmth via the {@link WarmthSystem}.
+     * Animals with cold resistance don't lose warmth, and say so every turn. A message is posted only
+     * when an animal becomes colder than it was (getting cold, cold, very cold,
+     * frozen), and animals that freeze are removed through the usual
+     * unconscious path. Messages about animals on other maps go to the off-map
+     * channel, so they are never formatted unless that channel is shown.
      */
     private void handleAnimalWarmthDecrease() {
-        // Get the player's current map
         GameMap playersMap = actorLocations.locationOf(player).map();
+        WarmthSystem.tick(actorLocations, new WarmthListener() {
+            @Override
+            public void colder(Actor animal, WarmthBand band, GameMap map) {
+                MessageChannel channel = (map == playersMap) ? MessageChannel.PLAYER_MAP : MessageChannel.OFF_MAP;
+                MessageLevel level = (band == WarmthBand.FROZEN) ? MessageLevel.ALERT : MessageLevel.INFO;
+                messages.post(channel, level, () -> animal + band.message());
+            }
 
-        // Process all actors on all maps
-        for (GameMap gameMap : gameMaps) {
-            // Check if this is the player's current map
-            boolean isPlayersMap = (gameMap == playersMap);
-
-            // Get all actors on this map
-            for (int x = 0; x < gameMap.getXRange().max(); x++) {
-                for (int y = 0; y < gameMap.getYRange().max(); y++) {
-                    try {
-                        if (gameMap.at(x, y).containsAnActor()) {
-                            Actor actor = gameMap.at(x, y).getActor();
-
-                            // Check if actor has warmth attribute (only animals with warmth need processing)
-                            if (actor.hasStatistic(BaseAttributes.WARMTH)) {
-                                // Check if actor has cold resistance
-                                if (actor.hasAbility(Abilities.COLD_RESISTANCE)) {
-                                    // Animal is immune to cold - display status message
-                                    if (isPlayersMap) {
-                                        display.println(actor + " is immune to cold and feels comfortable in the frozen tundra.");
-                                    }
-                                } else {
-                                    // Decrease warmth by 1 each turn for non-resistant animals
-                                    actor.modifyAttribute(
-                                            BaseAttributes.WARMTH,
-                                            ActorAttributeOperation.DECREASE,
-                                            1
-                                    );
-
-                                    // Check current warmth level
-                                    int currentWarmth = actor.getAttribute(BaseAttributes.WARMTH);
-
-                                    // Only show status messages for animals on the player's map
-                                    if (isPlayersMap) {
-                                        // Show status messages based on warmth level
-                                        if (currentWarmth <= ActorConstants.WARMTH_CRITICAL) {
-                                            // Animal becomes unconscious due to cold
-                                            display.println(actor + " becomes unconscious due to extreme cold and collapses!");
-                                        } else if (currentWarmth <= ActorConstants.WARMTH_VERY_COLD) {
-                                            // Animal is very cold
-                                            display.println(actor + " shivers violently from the cold!");
-                                        } else if (currentWarmth <= ActorConstants.WARMTH_COLD) {
-                                            // Animal is cold
-                                            display.println(actor + " feels very cold and is struggling to stay warm.");
-                                        } else if (currentWarmth <= ActorConstants.WARMTH_GETTING_COLD) {
-                                            // Animal is getting cold
-                                            display.println(actor + " feels cold and is looking for warmth.");
-                                        }
-                                    }
-
-                                    // Remove actor from map if warmth reaches 0 (regardless of which map)
-                                    if (currentWarmth <= ActorConstants.WARMTH_CRITICAL) {
-                                        gameMap.removeActor(actor);
-                                    }
-                                }
-                            }
-                        }
-                    } catch (Exception e) {
-                        // Skip invalid coordinates
-                        continue;
-                    }
-                }
+            @Override
+            public void immune(Actor animal, GameMap map) {
+                MessageChannel channel = (map == playersMap) ? MessageChannel.PLAYER_MAP : MessageChannel.OFF_MAP;
+                messages.post(channel, MessageLevel.INFO,
+                        () -> animal + " is immune to cold and feels comfortable in the frozen tundra.");
             }
-        }
+        });
     }
 
     /**
@@ -605,5 +797,10 @@ public class Earth extends World {
                 "Forest via Cube"
         ));
         player.addItemToInventory(cube);
+
+        // Let animals plan routes through the fixed portals
+        PortalNetwork.clear();
+        PortalNetwork.scan(forestMap);
+        PortalNetwork.scan(plainsMap);
     }
 }
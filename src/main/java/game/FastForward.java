@@ -0,0 +1,296 @@
+package game;
+
+import edu.monash.fit2099.engine.actions.Action;
+import edu.monash.fit2099.engine.actors.Actor;
+import edu.monash.fit2099.engine.actors.attributes.BaseAttributes;
+import edu.monash.fit2099.engine.displays.Display;
+import edu.monash.fit2099.engine.displays.Printable;
+import edu.monash.fit2099.engine.positions.Exit;
+import edu.monash.fit2099.engine.positions.Location;
+import game.actions.Interruptible;
+import game.actors.ActorConstants;
+import game.actors.Player;
+import game.taming.TameableAnimal;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Runs the turns the player spends in a multi-turn action, such as sleeping
+ * or waiting, without showing them one by one.
+ *
+ * An action continues when its {@code getNextAction()} returns something, and
+ * the player then plays it without being asked. While the player's last
+ * action continues, the world skips drawing the map, and the game's messages
+ * are kept back instead of being printed. The turn still ends on the display,
+ * with nothing in it, so that turn numbers stay in step. When the action ends,
+ * the turns that went by are summarised, identical messages once each with a
+ * count, and the game is shown as usual again.
+ *
+ * The action is cut short, and the game shown again, when the player took
+ * damage since the last turn, is very thirsty or very cold, or a wild animal
+ * is next to them. Actions that are {@link Interruptible} are told, so that a
+ * sleeper wakes up.
+ *
+ * Everything the game prints should go through {@link #screen()}, which
+ * passes output through to the real display unless turns are being skipped.
+ * Flushing it shows the summary so far, so a game that ends in the middle of
+ * a skipped turn still says why.
+ *
+ * @author Muhamad Shafy Dimas Rafarrel
+ * @version 1.0
+ */
+public final class FastForward {
+
+    /** The most distinct messages a summary shows. */
+    public static final int SUMMARY_LINES = 12;
+
+    private final Display target;
+    private final Display screen = new Screen();
+
+    private boolean active;
+    private int turnsSkipped;
+    private int lastHealth = -1;
+    private String interruptedBy;
+
+    private final List<String> kept = new ArrayList<>();
+    private final StringBuilder line = new StringBuilder();
+
+    /**
+     * Constructor.
+     *
+     * @param target the display the game is shown on
+     */
+    public FastForward(Display target) {
+        this.target = target;
+    }
+
+    /**
+     * @return the display everything the game prints should go to
+     */
+    public Display screen() {
+        return screen;
+    }
+
+    /**
+     * @return true if the current turn is being skipped
+     */
+    public boolean isActive() {
+        return active;
+    }
+
+    /**
+     * @return how many turns have been skipped since the player's action began
+     */
+    public int turnsSkipped() {
+        return turnsSkipped;
+    }
+
+    /**
+     * @param action an action
+     * @return true if it goes on into the next turn
+     */
+    public static boolean continues(Action action) {
+        return action != null && action.getNextAction() != null;
+    }
+
+    /**
+     * Cut the player's continuing action short if they were hurt since the
+     * last turn, are very thirsty or very cold, or a wild animal is next to them. Call once a turn before
+     * {@link #beginTurn(Action)}.
+     *
+     * @param player the player
+     * @param lastAction the action the player played last turn
+     * @param here where the player is
+     * @return true if the action was interrupted; the player should then choose a new one
+     */
+    public boolean interrupts(Actor player, Action lastAction, Location here) {
+        int health = player.getAttribute(BaseAttributes.HEALTH);
+        boolean hurt = lastHealth >= 0 && health < lastHealth;
+        lastHealth = health;
+        if (!continues(lastAction)) {
+            return false;
+        }
+        String reason = hurt ? player + " is hurt" : critical(player);
+        if (reason == null) {
+            reason = wildAnimalNextTo(here);
+        }
+        if (reason == null) {
+            return false;
+        }
+        interruptedBy = reason;
+        if (lastAction instanceof Interruptible interruptible) {
+            screen.println(interruptible.interrupt(player, here.map()));
+        }
+        return true;
+    }
+
+    /**
+     * Decide whether this turn is skipped: it is if the player's last action
+     * goes on into it. The first turn that is not skipped after some that
+     * were prints their summary.
+     *
+     * @param lastAction the action the player played last turn
+     * @return true if the turn should be run without drawing or publishing it
+     */
+    public boolean beginTurn(Action lastAction) {
+        if (continues(lastAction)) {
+            active = true;
+            turnsSkipped++;
+            return true;
+        }
+        if (active) {
+            active = false;
+            summarise();
+        }
+        interruptedBy = null;
+        return false;
+    }
+
+    /**
+     * Print what happened in the skipped turns and forget it.
+     */
+    private void summarise() {
+        if (line.length() > 0) {
+            kept.add(line.toString());
+            line.setLength(0);
+        }
+        if (turnsSkipped == 0 && kept.isEmpty()) {
+            return;
+        }
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        for (String message : kept) {
+            String text = message.strip();
+            if (!text.isEmpty()) {
+                counts.merge(text, 1, Integer::sum);
+            }
+        }
+        target.println("--- " + turnsSkipped + (turnsSkipped == 1 ? " turn passes" : " turns pass")
+                + (interruptedBy != null ? " (interrupted: " + interruptedBy + ")" : "") + " ---");
+        int shown = 0;
+        for (Map.Entry<String, Integer> entry : counts.entrySet()) {
+            if (shown == SUMMARY_LINES) {
+                target.println("... and " + (counts.size() - shown) + " more");
+                break;
+            }
+            target.println(entry.getValue() == 1 ? entry.getKey() : entry.getKey() + " (x" + entry.getValue() + ")");
+            shown++;
+        }
+        kept.clear();
+        turnsSkipped = 0;
+        interruptedBy = null;
+    }
+
+    /**
+     * @return a description of how the player is about to run out of water or
+     *         warmth, or null if they are not
+     */
+    private static String critical(Actor player) {
+        if (!(player instanceof Player explorer)) {
+            return null;
+        }
+        if (explorer.getHydration() <= ActorConstants.HYDRATION_VERY_THIRSTY) {
+            return player + " is very thirsty";
+        }
+        if (explorer.getWarmth() <= ActorConstants.WARMTH_VERY_COLD) {
+            return player + " is very cold";
+        }
+        return null;
+    }
+
+    /**
+     * @return a description of a wild animal next to a location, or null if there is none
+     */
+    private static String wildAnimalNextTo(Location here) {
+        List<Exit> exits = here.getExits();
+        for (int i = 0; i < exits.size(); i++) {
+            Location adjacent = exits.get(i).getDestination();
+            if (adjacent.containsAnActor() && adjacent.getActor() instanceof TameableAnimal animal && !animal.isTamed()) {
+                return animal + " is nearby";
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Passes everything through to the real display, except while turns are
+     * skipped: then lines of text are kept for the summary and the map is
+     * dropped, and flushing prints the summary so far.
+     */
+    private class Screen extends Display {
+
+        @Override
+        public void print(Printable printable) {
+            if (active) {
+                line.append(printable.getDisplayChar());
+            } else {
+                target.print(printable);
+            }
+        }
+
+        @Override
+        public void print(String s) {
+            if (active) {
+                line.append(s);
+            } else {
+                target.print(s);
+            }
+        }
+
+        @Override
+        public void println(String s) {
+            if (active) {
+                kept.add(line.length() == 0 ? s : line.append(s).toString());
+                line.setLength(0);
+            } else {
+                target.println(s);
+            }
+        }
+
+        @Override
+        public void println(Supplier<String> message) {
+            if (active) {
+                println(message.get());
+            } else {
+                target.println(message);
+            }
+        }
+
+        @Override
+        public void endLine() {
+            if (active) {
+                println("");
+            } else {
+                target.endLine();
+            }
+        }
+
+        @Override
+        public void drawMap(char[][] cells) {
+            if (!active) {
+                target.drawMap(cells);
+            }
+        }
+
+        @Override
+        public void endTurn() {
+            target.endTurn();
+        }
+
+        @Override
+        public void flush() {
+            if (active) {
+                summarise();
+            }
+            target.flush();
+        }
+
+        @Override
+        public String readString() {
+            return target.readString();
+        }
+    }
+}
@@ -0,0 +1,315 @@
+package game;
+
+import edu.monash.fit2099.engine.actions.Action;
+import edu.monash.fit2099.engine.actors.Actor;
+import edu.monash.fit2099.engine.displays.Display;
+import edu.monash.fit2099.engine.displays.MessageSink;
+import edu.monash.fit2099.engine.displays.Printable;
+import edu.monash.fit2099.engine.positions.GameMap;
+import edu.monash.fit2099.engine.positions.Location;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+
+/**
+ * Decides the actions of actors far from the player while the player is
+ * still choosing what to do.
+ *
+ * The player always acts first, and the game then waits for as long as the
+ * player takes to pick from the menu. Actors on other maps mostly do not
+ * depend on what the player picks, so their actions can be decided on a
+ * background thread in the meantime. Nothing is executed there: once the
+ * player has chosen, the world {@link #finish() stops} the speculation, and
+ * each actor's action is executed on the game thread in the actor's usual
+ * place in the turn, as if it had just decided it.
+ *
+ * Every actor on those maps is decided against the world as it was when the
+ * player started choosing, not as the actors before it in the turn leave it.
+ * So once something has been done on a map, a decision is only
+ * {@link #take(Actor) taken} if it {@link Turn#stillHolds(Actor, Decision)
+ * still holds}: its actor has not been moved, and where it steps is still
+ * free or what it bites is still next to it. If not, the actor decides again
+ * in its usual place. An actor that decides to move to another map is
+ * decided again too, when it can see where it is going. If an actor's action
+ * in the turn moves it onto a map, the player included, the world
+ * {@link #disturb(GameMap) disturbs} the map and every decision made there is
+ * thrown away, as what was decided did not know about the newcomer.
+ *
+ * Only actors whose turn does nothing but decide (see {@link
+ * Turn#decidesAhead(Actor)}) are decided ahead. Deciding must only touch
+ * state that belongs to the actors being decided or their maps, which the
+ * game thread does not use while the player chooses: the animals' rows in
+ * the animal store and their blackboards, their maps' wolf packs, paths and
+ * distance fields, and the planning time the
+ * {@link game.behaviours.AiScheduler} sets aside for it.
+ *
+ * @author Muhamad Shafy Dimas Rafarrel
+ * @version 2.1
+ */
+public final class SpeculativeTurns {
+
+    /**
+     * How the speculated actors' actions are decided.
+     */
+    public interface Turn {
+
+        /**
+         * @param actor an actor
+         * @return where it is, or null if it has left the world
+         */
+        Location locationOf(Actor actor);
+
+        /**
+         * @param actor an actor
+         * @return true if its turn only decides its action, changing nothing
+         *         outside the actor until the action is executed
+         */
+        boolean decidesAhead(Actor actor);
+
+        /**
+         * Decide an actor's action.
+         *
+         * @param actor the actor
+         * @param display where the actor's messages go
+         * @return the action
+         */
+        Action decide(Actor actor, Display display);
+
+        /**
+         * @param action an action
+         * @return the map it moves its actor to, or null if it does not move it
+         */
+        GameMap destinationOf(Action action);
+
+        /**
+         * Whether an action decided ahead can still be executed as it is,
+         * now that other actors have acted on its map. Called on the game
+         * thread.
+         *
+         * @param actor the actor that decided it
+         * @param decision the decision
+         * @return true if it still holds; false to have the actor decide again
+         */
+        boolean stillHolds(Actor actor, Decision decision);
+    }
+
+    /**
+     * An action decided ahead, with what the actor printed while deciding it.
+     *
+     * @param action the action
+     * @param from where the actor was
+     * @param messages the lines the actor printed, in order
+     */
+    public record Decision(Action action, Location from, List<String> messages) {
+
+        /**
+         * @return the map the actor was on
+         */
+        public GameMap map() {
+            return from.map();
+        }
+    }
+
+    private ExecutorService worker;
+    private Future<?> running;
+    private volatile boolean cancelled;
+
+    private Turn turn;
+    private final Map<Actor, Decision> decided = new HashMap<>();
+    /** The maps something has been done on since the speculation started. */
+    private final Set<GameMap> changed = new HashSet<>();
+    private List<String> said;
+    private final StringBuilder line = new StringBuilder();
+    private final Display capture = new Capture();
+
+    /**
+     * Start deciding actors' actions in the background.
+     *
+     * @param actors the actors on the maps other than the player's, in turn order
+     * @param turn how their actions are decided
+     * @param keepMessages true to keep what the actors print, false to discard it
+     */
+    public void start(List<Actor> actors, Turn turn, boolean keepMessages) {
+        if (running != null) {
+            throw new IllegalStateException("speculation already running");
+        }
+        if (worker == null) {
+            worker = Executors.newSingleThreadExecutor(task -> {
+                Thread thread = new Thread(task, "speculative-turns");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        cancelled = false;
+        this.turn = turn;
+        Display display = keepMessages ? capture : MessageSink.silent();
+        running = worker.submit(() -> decide(actors, turn, display));
+    }
+
+    private void decide(List<Actor> actors, Turn turn, Display display) {
+        for (Actor actor : actors) {
+            if (cancelled) {
+                return;
+            }
+            Location from = turn.locationOf(actor);
+            if (from == null || !turn.decidesAhead(actor)) {
+                continue;
+            }
+            said = new ArrayList<>();
+            Action action = turn.decide(actor, display);
+            if (line.length() > 0) {
+                said.add(line.toString());
+                line.setLength(0);
+            }
+            GameMap destination = turn.destinationOf(action);
+            if (destination == null || destination == from.map()) {
+                decided.put(actor, new Decision(action, from, said));
+            }
+        }
+    }
+
+    /**
+     * @return true if a speculation has been started and not yet finished
+     */
+    public boolean isRunning() {
+        return running != null;
+    }
+
+    /**
+     * Stop the speculation after the actor being decided, if any. The actors
+     * not yet decided are left to decide in their usual places.
+     */
+    public void cancel() {
+        cancelled = true;
+    }
+
+    /**
+     * Wait for the speculation to stop. Errors thrown while deciding are
+     * thrown here.
+     */
+    public void finish() {
+        if (running == null) {
+            return;
+        }
+        try {
+            running.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("interrupted waiting for speculative turns", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        } finally {
+            running = null;
+        }
+    }
+
+    /**
+     * Take the action decided ahead for an actor, if it still holds. Call
+     * only once the speculation has {@link #finish() finished}.
+     *
+     * @param actor an actor
+     * @return its decision, or null if it has none and should decide as usual
+     */
+    public Decision take(Actor actor) {
+        Decision decision = decided.isEmpty() ? null : decided.remove(actor);
+        if (decision == null || !changed.contains(decision.map()) || turn.stillHolds(actor, decision)) {
+            return decision;
+        }
+        return null;
+    }
+
+    /**
+     * Note that something has been done on a map, so that the decisions
+     * still to be taken there are checked before they are.
+     *
+     * @param map the map
+     */
+    public void markChanged(GameMap map) {
+        changed.add(map);
+    }
+
+    /**
+     * Throw away the decisions made on a map, because something has come
+     * onto it since they were made.
+     *
+     * @param map the map
+     */
+    public void disturb(GameMap map) {
+        Iterator<Decision> decisions = decided.values().iterator();
+        while (decisions.hasNext()) {
+            if (decisions.next().map() == map) {
+                decisions.remove();
+            }
+        }
+    }
+
+    /**
+     * Forget the speculation, ready for the next turn.
+     */
+    public void clear() {
+        finish();
+        decided.clear();
+        changed.clear();
+        turn = null;
+    }
+
+    /**
+     * Keeps every line the actor being decided prints.
+     */
+    private class Capture extends Display {
+
+        @Override
+        public void print(Printable printable) {
+            line.append(printable.getDisplayChar());
+        }
+
+        @Override
+        public void print(String s) {
+            line.append(s);
+        }
+
+        @Override
+        public void println(String s) {
+            said.add(line.length() == 0 ? s : line.append(s).toString());
+            line.setLength(0);
+        }
+
+        @Override
+        public void println(Supplier<String> message) {
+            println(message.get());
+        }
+
+        @Override
+        public void endLine() {
+            println("");
+        }
+
+        @Override
+        public void drawMap(char[][] cells) {
+        }
+
+        @Override
+        public void endTurn() {
+        }
+
+        @Override
+        public void flush() {
+        }
+    }
+}
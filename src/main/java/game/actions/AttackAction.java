@@ -56,6 +56,28 @@ public class AttackAction extends Action {
         this.direction = direction;
     }
 
+    /**
+     * @return the Actor to attack
+     */
+    public Actor getTarget() {
+        return target;
+    }
+
+    /**
+     * Point this action at another target, so that an actor attacking turn
+     * after turn can keep reusing one action.
+     *
+     * @param target the Actor to attack
+     * @param direction the direction where the attack should be performed (only
+     * used for display purposes)
+     * @param weapon the weapon to attack with, or null for the attacker's intrinsic weapon
+     */
+    protected void retarget(Actor target, String direction, Weapon weapon) {
+        this.target = target;
+        this.direction = direction;
+        this.weapon = weapon;
+    }
+
     @Override
     public String execute(Actor actor, GameMap map) {
         if (weapon == null) {
@@ -52,7 +52,7 @@ public class BowAttackAction extends Action {
    *
    * @param bow the Bow item used
    * @param target the target GameActor
-   * @param distance distance from attacker to target (1..3)
+   * @param distance distance from attacker to target (1 to the bow's range)
    */
   public BowAttackAction (Bow bow, GameActor target, int distance) {
     this.bow = bow;
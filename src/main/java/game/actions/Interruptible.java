@@ -0,0 +1,25 @@
+package game.actions;
+
+import edu.monash.fit2099.engine.actors.Actor;
+import edu.monash.fit2099.engine.positions.GameMap;
+
+/**
+ * An action that goes on over several turns (its {@code getNextAction()}
+ * returns itself) and can be cut short, for example when the actor is
+ * attacked in their sleep.
+ *
+ * @author Muhamad Shafy Dimas Rafarrel
+ * @version 1.0
+ */
+public interface Interruptible {
+
+    /**
+     * Stop the action before its time, undoing anything it holds on the actor.
+     * Afterwards {@code getNextAction()} returns null.
+     *
+     * @param actor the actor carrying out the action
+     * @param map the map the actor is on
+     * @return a description of what happened
+     */
+    String interrupt(Actor actor, GameMap map);
+}
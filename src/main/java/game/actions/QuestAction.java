@@ -146,9 +146,8 @@ public class QuestAction extends Action {
                 int toRemove = o.getRequiredAmount();
                 if (target == null || target.isBlank() || toRemove <= 0) continue;
                 int removed = 0;
-                // Work on a copy since engine inventory is unmodifiable
-                java.util.List<edu.monash.fit2099.engine.items.Item> items = new java.util.ArrayList<>(asActor.getItemInventory());
-                for (edu.monash.fit2099.engine.items.Item it : items) {
+                // Inventory iteration sees the items as they were when the loop began, so removing is safe
+                for (edu.monash.fit2099.engine.items.Item it : asActor.getInventory()) {
                     if (removed >= toRemove) break;
                     if (it.getClass().getSimpleName().equalsIgnoreCase(target)) {
                         asActor.removeItemFromInventory(it);
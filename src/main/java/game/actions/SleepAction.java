@@ -11,10 +11,11 @@ import java.util.Random;
 /**
  * Action for sleeping on a bedroll.
  * Sleeping skips 6-10 turns randomly, during which hydration and warmth don't decrease.
+ * A sleeper can be woken early, for example by being attacked.
  * @author Muhamad Shafy Dimas Rafarrel
- * @version 1.3
+ * @version 1.4
  */
-public class SleepAction extends Action {
+public class SleepAction extends Action implements Interruptible {
     private Bedroll bedroll;
     private boolean isSleeping = false;
     private int turnsRemaining;
@@ -60,6 +61,14 @@ public class SleepAction extends Action {
         return null; // Stop sleeping
     }
 
+    @Override
+    public String interrupt(Actor actor, GameMap map) {
+        turnsRemaining = 0;
+        isSleeping = false;
+        actor.disableAbility(Abilities.SLEEPING);
+        return actor + " is woken up!";
+    }
+
     /**
      * Check if the actor is currently sleeping
      * @return true if sleeping, false otherwise
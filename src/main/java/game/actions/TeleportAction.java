@@ -27,6 +27,15 @@ public class TeleportAction extends Action {
         this.teleportType = teleportType;
     }
 
+    /**
+     * Gets the destination.
+     *
+     * @return where the actor is teleported to
+     */
+    public TeleportDestination getDestination() {
+        return destination;
+    }
+
     /**
      * Executes the teleportation.
      *
@@ -0,0 +1,53 @@
+package game.actions;
+
+import edu.monash.fit2099.engine.actions.Action;
+import edu.monash.fit2099.engine.actors.Actor;
+import edu.monash.fit2099.engine.positions.GameMap;
+
+/**
+ * Action for letting several turns go by without doing anything. Unlike
+ * sleeping, the actor stays awake and keeps getting hungry and cold.
+ * @author Muhamad Shafy Dimas Rafarrel
+ * @version 1.0
+ */
+public class WaitAction extends Action implements Interruptible {
+
+    /** How many turns the player's wait option lasts. */
+    public static final int DEFAULT_TURNS = 10;
+
+    private final int turns;
+    private int turnsRemaining;
+
+    /**
+     * @param turns how many turns to wait, at least 1
+     */
+    public WaitAction(int turns) {
+        this.turns = Math.max(1, turns);
+        this.turnsRemaining = this.turns;
+    }
+
+    @Override
+    public String execute(Actor actor, GameMap map) {
+        turnsRemaining--;
+        if (turnsRemaining <= 0) {
+            return actor + " has finished waiting.";
+        }
+        return actor + " waits... (" + turnsRemaining + " turns remaining)";
+    }
+
+    @Override
+    public String menuDescription(Actor actor) {
+        return actor + " waits for " + turns + " turns";
+    }
+
+    @Override
+    public Action getNextAction() {
+        return turnsRemaining > 0 ? this : null;
+    }
+
+    @Override
+    public String interrupt(Actor actor, GameMap map) {
+        turnsRemaining = 0;
+        return actor + " stops waiting!";
+    }
+}
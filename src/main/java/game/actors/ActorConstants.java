@@ -13,4 +13,7 @@ public final class ActorConstants {
   public static final int WARMTH_COLD = 5;
   public static final int WARMTH_GETTING_COLD = 8;
 
+   //Constants related to Hydration of the actor
+  public static final int HYDRATION_VERY_THIRSTY = 3;
+
 }
@@ -2,17 +2,13 @@ package game.actors;
 
 import edu.monash.fit2099.engine.actions.Action;
 import edu.monash.fit2099.engine.actions.ActionList;
-import edu.monash.fit2099.engine.actions.DoNothingAction;
-import edu.monash.fit2099.engine.actions.MoveActorAction;
-import edu.monash.fit2099.engine.actors.Actor;
 import edu.monash.fit2099.engine.actors.attributes.BaseActorAttribute;
 import edu.monash.fit2099.engine.actors.attributes.BaseAttributes;
 import edu.monash.fit2099.engine.displays.Display;
-import edu.monash.fit2099.engine.positions.Exit;
 import edu.monash.fit2099.engine.positions.GameMap;
-import edu.monash.fit2099.engine.positions.Location;
 import game.abilities.Abilities;
-import game.actions.AttackAction;
+import game.behaviours.BehaviourTree;
+import game.behaviours.Selector;
 import game.items.Apple;
 import game.items.YewBerry;
 import game.taming.CombatAssistant;
@@ -38,11 +34,6 @@ import java.util.*;
  */
 public class Bear extends TameableAnimal implements Follower, CombatAssistant {
 
-    /**
-     * Random number generator for behavior decisions.
-     */
-    private Random random = new Random();
-
     /**
      * Constructs a new Bear with combat capabilities.
      */
@@ -58,6 +49,16 @@ public class Bear extends TameableAnimal implements Follower, CombatAssistant {
         this.enableAbility(Abilities.TAMED);
     }
 
+    /**
+     * Wild bears attack any adjacent untamed actor, otherwise wander.
+     */
+    private static final BehaviourTree WILD = new BehaviourTree(new Selector(ATTACK_ADJACENT, WANDER));
+
+    /**
+     * Tamed bears defend their owner first, otherwise follow them.
+     */
+    private static final BehaviourTree TAMED = new BehaviourTree(new Selector(DEFEND_TAMER, FOLLOW_TAMER));
+
     /**
      * Defines behavior for wild (untamed) bears.
      * Wild bears attack any adjacent actors and wander randomly.
@@ -70,25 +71,7 @@ public class Bear extends TameableAnimal implements Follower, CombatAssistant {
      */
     @Override
     protected Action wildBehavior(ActionList actions, Action lastAction, GameMap map, Display display) {
-        Location currentLocation = map.locationOf(this);
-        // If the bear is no longer on the map (e.g., died from consuming poison), return do nothing
-        if (currentLocation == null || !map.contains(this)) {
-            return new DoNothingAction();
-        }
-
-        // Attack any adjacent actors
-        for (Exit exit : currentLocation.getExits()) {
-            Location adjacentLocation = exit.getDestination();
-            if (adjacentLocation.containsAnActor()) {
-                Actor target = adjacentLocation.getActor();
-                // Attack any actor that doesn't have TAMED ability
-                if (!target.hasAbility(Abilities.TAMED)) {
-                    return new AttackAction(target, exit.getName(), this.getIntrinsicWeapon());
-                }
-            }
-        }
-
-        return wanderRandomly(map);
+        return WILD.decide(this, map, display);
     }
 
     /**
@@ -103,20 +86,7 @@ public class Bear extends TameableAnimal implements Follower, CombatAssistant {
      */
     @Override
     protected Action tamedBehavior(ActionList actions, Action lastAction, GameMap map, Display display) {
-        Location myLoc = map.locationOf(this);
-        // If the bear is no longer on the map (e.g., died from consuming poison), return do nothing
-        if (myLoc == null || !map.contains(this)) {
-            return new DoNothingAction();
-        }
-        
-        // Priority 1: Combat assistance
-        Action combatAction = findCombatTarget(map);
-        if (combatAction != null) {
-            return combatAction;
-        }
-
-        // Priority 2: Follow owner
-        return followOwner(map);
+        return TAMED.decide(this, map, display);
     }
 
     /**
@@ -128,22 +98,8 @@ public class Bear extends TameableAnimal implements Follower, CombatAssistant {
      */
     @Override
     public Action followOwner(GameMap map) {
-        if (!shouldFollow()) {
-            return new DoNothingAction();
-        }
-
-        Location myLocation = map.locationOf(this);
-        Location tamerLocation = map.locationOf(tamer);
-        // If the bear or tamer is no longer on the map, return do nothing
-        if (myLocation == null || tamerLocation == null || !map.contains(this) || !map.contains(tamer)) {
-            return new DoNothingAction();
-        }
-
-        if (isAdjacentTo(myLocation, tamerLocation)) {
-            return new DoNothingAction();
-        }
-
-        return moveTowards(tamerLocation, map);
+        Action step = FOLLOW_TAMER.generateAction(this, map);
+        return step != null ? step : BehaviourTree.IDLE;
     }
 
     /**
@@ -153,7 +109,7 @@ public class Bear extends TameableAnimal implements Follower, CombatAssistant {
      */
     @Override
     public boolean shouldFollow() {
-        return tamed && tamer != null;
+        return isTamed() && getTamer() != null;
     }
 
     /**
@@ -164,28 +120,7 @@ public class Bear extends TameableAnimal implements Follower, CombatAssistant {
      */
     @Override
     public Action findCombatTarget(GameMap map) {
-        if (!canAssistInCombat()) {
-            return null;
-        }
-
-        Location myLocation = map.locationOf(this);
-        Location tamerLocation = map.locationOf(tamer);
-        // If the bear or tamer is no longer on the map, return null
-        if (myLocation == null || tamerLocation == null || !map.contains(this) || !map.contains(tamer)) {
-            return null;
-        }
-
-        // Check if tamer is being threatened
-        for (Exit exit : tamerLocation.getExits()) {
-            Location adjacentLocation = exit.getDestination();
-            if (adjacentLocation.containsAnActor()) {
-                Actor potentialThreat = adjacentLocation.getActor();
-                if (potentialThreat != this && !potentialThreat.hasAbility(Abilities.TAMED)) {
-                    return moveTowardsOrAttack(potentialThreat, map);
-                }
-            }
-        }
-        return null;
+        return DEFEND_TAMER.generateAction(this, map);
     }
 
     /**
@@ -195,122 +130,7 @@ public class Bear extends TameableAnimal implements Follower, CombatAssistant {
      */
     @Override
     public boolean canAssistInCombat() {
-        return tamed && tamer != null;
-    }
-
-    /**
-     * Makes the bear wander randomly when not engaged in specific tasks.
-     *
-     * @param map the current game map
-     * @return a random movement action or do nothing if no valid moves
-     */
-    private Action wanderRandomly(GameMap map) {
-        Location currentLocation = map.locationOf(this);
-        // If the bear is no longer on the map (e.g., died from consuming poison), return do nothing
-        if (currentLocation == null || !map.contains(this)) {
-            return new DoNothingAction();
-        }
-        List<Exit> exits = new ArrayList<>(currentLocation.getExits());
-
-        if (!exits.isEmpty()) {
-            Collections.shuffle(exits, random);
-            for (Exit exit : exits) {
-                Location destination = exit.getDestination();
-                if (!destination.containsAnActor()) {
-                    return new MoveActorAction(destination, exit.getName());
-                }
-            }
-        }
-        return new DoNothingAction();
-    }
-
-    /**
-     * Moves the bear towards a target location using pathfinding.
-     * Selects the adjacent location that minimizes distance to the target.
-     *
-     * @param target the location to move towards
-     * @param map the current game map
-     * @return a movement action towards the target, or do nothing if no valid path
-     */
-    private Action moveTowards(Location target, GameMap map) {
-        Location myLocation = map.locationOf(this);
-        // If the bear is no longer on the map (e.g., died from consuming poison), return do nothing
-        if (myLocation == null || !map.contains(this)) {
-            return new DoNothingAction();
-        }
-        List<Exit> exits = new ArrayList<>(myLocation.getExits());
-
-        Exit bestExit = null;
-        double shortestDistance = Double.MAX_VALUE;
-
-        for (Exit exit : exits) {
-            Location destination = exit.getDestination();
-            if (!destination.containsAnActor()) {
-                double distance = calculateDistance(destination, target);
-                if (distance < shortestDistance) {
-                    shortestDistance = distance;
-                    bestExit = exit;
-                }
-            }
-        }
-
-        if (bestExit != null) {
-            return new MoveActorAction(bestExit.getDestination(), bestExit.getName());
-        }
-
-        return new DoNothingAction();
-    }
-
-    /**
-     * Calculates the distance between two locations.
-     *
-     * @param loc1 the first location
-     * @param loc2 the second location
-     * @return the distance between the two locations
-     */
-    private double calculateDistance(Location loc1, Location loc2) {
-        int deltaX = loc1.x() - loc2.x();
-        int deltaY = loc1.y() - loc2.y();
-        return Math.sqrt(deltaX * deltaX + deltaY * deltaY);
-    }
-
-    /**
-     * Moves toward or attacks a target actor based on proximity.
-     *
-     * @param target the actor to engage
-     * @param map the current game map
-     * @return an attack action if adjacent, otherwise a movement action
-     */
-    private Action moveTowardsOrAttack(Actor target, GameMap map) {
-        Location myLocation = map.locationOf(this);
-        Location targetLocation = map.locationOf(target);
-        // If the bear or target is no longer on the map, return do nothing
-        if (myLocation == null || targetLocation == null || !map.contains(this) || !map.contains(target)) {
-            return new DoNothingAction();
-        }
-
-        // Check if adjacent - if so, attack
-        for (Exit exit : myLocation.getExits()) {
-            if (exit.getDestination().equals(targetLocation)) {
-                return new AttackAction(target, exit.getName(), this.getIntrinsicWeapon());
-            }
-        }
-
-        // Otherwise move towards target
-        return moveTowards(targetLocation, map);
-    }
-
-    /**
-     * Checks if two locations are adjacent to each other.
-     *
-     * @param loc1 the first location
-     * @param loc2 the second location
-     * @return true if locations are adjacent, false otherwise
-     */
-    private boolean isAdjacentTo(Location loc1, Location loc2) {
-        int deltaX = Math.abs(loc1.x() - loc2.x());
-        int deltaY = Math.abs(loc1.y() - loc2.y());
-        return deltaX <= 1 && deltaY <= 1 && !(deltaX == 0 && deltaY == 0);
+        return isTamed() && getTamer() != null;
     }
 
     /**
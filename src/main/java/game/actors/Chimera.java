@@ -2,26 +2,29 @@ package game.actors;
 
 import edu.monash.fit2099.engine.actions.Action;
 import edu.monash.fit2099.engine.actions.ActionList;
-import edu.monash.fit2099.engine.actions.DoNothingAction;
-import edu.monash.fit2099.engine.actions.MoveActorAction;
 import edu.monash.fit2099.engine.actors.Actor;
+import edu.monash.fit2099.engine.actors.Behaviour;
 import edu.monash.fit2099.engine.actors.attributes.ActorAttributeOperation;
 import edu.monash.fit2099.engine.actors.attributes.BaseAttributes;
 import edu.monash.fit2099.engine.displays.Display;
 import edu.monash.fit2099.engine.positions.Exit;
 import edu.monash.fit2099.engine.positions.GameMap;
-import edu.monash.fit2099.engine.positions.Location;
 import game.abilities.Abilities;
+import game.behaviours.BehaviourTree;
+import game.behaviours.Guard;
+import game.behaviours.Ignore;
+import game.behaviours.Memo;
+import game.behaviours.Selector;
 import game.items.Apple;
 import game.items.YewBerry;
+import game.states.ChimeraContext;
 import game.states.ChimeraState;
+import game.states.ChimeraTransitions;
 import game.states.DefaultChimeraState;
 import game.taming.TameableAnimal;
 import game.taming.Follower;
 import game.taming.CombatAssistant;
 
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Random;
 import java.util.Set;
 
@@ -31,7 +34,12 @@ import java.util.Set;
  * The Chimera follows predetermined state transitions:
  * - Default State: Can only transition to Fire State (60% chance after 3 turns)
  * - Fire State: Can transition to Ice State (60% chance after 3 turns)
- * - Ice State: Can transition to Fire (70% when surrounded) or Default (50% when isolated 4+ turns)
+ * - Ice State: Can transition to Poison (40% chance after 3 turns) or Default (30% when isolated 4+ turns)
+ * - Poison State: Can transition to Fire (50% chance after 4 turns) or Default (30% after 5 turns without attacking)
+ *
+ * The transitions are declared in one table, {@link ChimeraTransitions}. The
+ * states are shared by every chimera; what they remember about this one is
+ * kept in its {@link ChimeraContext}.
  *
  * This implementation extends TameableAnimal and implements Follower and CombatAssistant interfaces,
  * allowing it to be tamed by players and assist in combat while following its owner.
@@ -47,16 +55,45 @@ public class Chimera extends TameableAnimal implements Follower, CombatAssistant
     private ChimeraState currentState;
 
     /**
-     * Random number generator for behavior decisions.
+     * What the chimera's states remember about this chimera: counters, its
+     * random stream and its attack action.
+     */
+    private final ChimeraContext context = new ChimeraContext(new Random());
+
+    /**
+     * The current state's own behaviour. Run at most once a turn: a tamed
+     * chimera runs it only to keep the state's counters going.
      */
-    private Random random = new Random();
+    private static final Behaviour CURRENT_STATE = new Memo((actor, map) -> {
+        Chimera chimera = (Chimera) actor;
+        chimera.context.increment(ChimeraContext.Counter.TURNS_IN_STATE);
+        return chimera.currentState.getBehaviorAction(chimera, chimera.context, map, chimera.blackboard().display());
+    });
+
+    /**
+     * Wild and tamed chimeras first see whether their state changes. A tamed
+     * chimera then defends and follows its owner; a wild one does whatever
+     * its state does.
+     */
+    private static final BehaviourTree TREE = new BehaviourTree(new Selector(
+            new Ignore((actor, map) -> {
+                Chimera chimera = (Chimera) actor;
+                chimera.handleStateTransition(map, chimera.blackboard().display());
+                return null;
+            }),
+            new Guard((actor, map) -> ((Chimera) actor).isTamed(), new Selector(
+                    new Ignore(CURRENT_STATE),
+                    DEFEND_TAMER,
+                    FOLLOW_TAMER,
+                    BehaviourTree.STAY)),
+            CURRENT_STATE));
 
     /**
      * Creates a new Chimera starting in default state.
      */
     public Chimera() {
         super("Chimera", 'c', 350, Set.of(Apple.class, YewBerry.class));
-        this.currentState = new DefaultChimeraState();
+        this.currentState = DefaultChimeraState.INSTANCE;
         this.setIntrinsicWeapon(currentState.getStateWeapon());
     }
 
@@ -70,19 +107,16 @@ public class Chimera extends TameableAnimal implements Follower, CombatAssistant
     }
 
     /**
-     * Handles state transitions for both wild and tamed chimeras.
+     * Handles state transitions for both wild and tamed chimeras, as decided
+     * by the {@link ChimeraTransitions transition table}.
      */
     private void handleStateTransition(GameMap map, Display display) {
-        ChimeraState newState = currentState.attemptStateTransition(this, map, display);
+        ChimeraState newState = ChimeraTransitions.next(currentState, context, display);
 
         if (newState != currentState) {
-            this.currentState = newState;
-            this.setIntrinsicWeapon(newState.getStateWeapon());
-            newState.onEnterState(this, map, display);
-
-            newState.applyBuffsToAllies(this, map, display);
-            String status = tamed ? "Tamed" : "Wild";
-            display.println(status + " Chimera is now in state: " + newState.getStateName() + " (" + newState.getStateDisplayChar() + ")\n");
+            setState(newState, map, display);
+            String status = isTamed() ? "Tamed" : "Wild";
+            display.println(() -> status + " Chimera is now in state: " + newState.getStateName() + " (" + newState.getStateDisplayChar() + ")\n");
         }
     }
 
@@ -98,8 +132,7 @@ public class Chimera extends TameableAnimal implements Follower, CombatAssistant
      */
     @Override
     protected Action wildBehavior(ActionList actions, Action lastAction, GameMap map, Display display) {
-        handleStateTransition(map, display);
-        return currentState.getBehaviorAction(this, actions, lastAction, map, display);
+        return TREE.decide(this, map, display);
     }
 
     /**
@@ -114,19 +147,7 @@ public class Chimera extends TameableAnimal implements Follower, CombatAssistant
      */
     @Override
     protected Action tamedBehavior(ActionList actions, Action lastAction, GameMap map, Display display) {
-        handleStateTransition(map, display);
-
-        // Run state behavior to update internal counters (but don't use the returned action)
-        currentState.getBehaviorAction(this, actions, lastAction, map, display);
-
-        // Priority 1: Combat assistance
-        Action combatAction = findCombatTarget(map);
-        if (combatAction != null) {
-            return combatAction;
-        }
-
-        // Priority 2: Follow owner
-        return followOwner(map);
+        return TREE.decide(this, map, display);
     }
 
     /**
@@ -134,12 +155,24 @@ public class Chimera extends TameableAnimal implements Follower, CombatAssistant
      */
     private void setState(ChimeraState newState, GameMap map, Display display) {
         this.currentState = newState;
+        context.enterState();
         this.setIntrinsicWeapon(newState.getStateWeapon());
         newState.onEnterState(this, map, display);
 
         newState.applyBuffsToAllies(this, map, display);
     }
 
+    /**
+     * A chimera that changes state may buff its allies, so its turn is never
+     * decided ahead.
+     *
+     * @return false
+     */
+    @Override
+    public boolean decidesAhead() {
+        return false;
+    }
+
     /**
      * Makes the chimera follow its owner by moving towards them.
      * If already adjacent to the owner, the chimera stays in place.
@@ -149,20 +182,8 @@ public class Chimera extends TameableAnimal implements Follower, CombatAssistant
      */
     @Override
     public Action followOwner(GameMap map) {
-        if (!shouldFollow()) {
-            return new DoNothingAction();
-        }
-
-        Location tamerLocation = map.locationOf(tamer);
-        Location myLocation = map.locationOf(this);
-
-        // If already adjacent, stay put
-        if (isAdjacentTo(myLocation, tamerLocation)) {
-            return new DoNothingAction();
-        }
-
-        // Move towards tamer
-        return moveTowards(tamerLocation, map);
+        Action step = FOLLOW_TAMER.generateAction(this, map);
+        return step != null ? step : BehaviourTree.IDLE;
     }
 
     /**
@@ -172,7 +193,7 @@ public class Chimera extends TameableAnimal implements Follower, CombatAssistant
      */
     @Override
     public boolean shouldFollow() {
-        return tamed && tamer != null;
+        return isTamed() && getTamer() != null;
     }
 
     /**
@@ -183,23 +204,7 @@ public class Chimera extends TameableAnimal implements Follower, CombatAssistant
      */
     @Override
     public Action findCombatTarget(GameMap map) {
-        if (!canAssistInCombat()) {
-            return null;
-        }
-
-        Location tamerLocation = map.locationOf(tamer);
-
-        // Check if tamer is being threatened
-        for (Exit exit : tamerLocation.getExits()) {
-            Location adjacentLocation = exit.getDestination();
-            if (adjacentLocation.containsAnActor()) {
-                Actor potentialThreat = adjacentLocation.getActor();
-                if (potentialThreat != this && !potentialThreat.hasAbility(Abilities.TAMED)) {
-                    return moveTowardsOrAttack(potentialThreat, map);
-                }
-            }
-        }
-        return null;
+        return DEFEND_TAMER.generateAction(this, map);
     }
 
     /**
@@ -209,99 +214,31 @@ public class Chimera extends TameableAnimal implements Follower, CombatAssistant
      */
     @Override
     public boolean canAssistInCombat() {
-        return tamed && tamer != null;
-    }
-
-    /**
-     * Gets the current state for external inspection.
-     *
-     * @return the current state of the chimera
-     */
-    public ChimeraState getCurrentState() {
-        return currentState;
+        return isTamed() && getTamer() != null;
     }
 
     /**
-     * Moves the chimera towards a target location using pathfinding.
-     * Selects the adjacent location that minimizes distance to the target.
+     * Attacks with the current state's attack, which carries the state's
+     * elemental effect.
      *
-     * @param target the location to move towards
+     * @param target the actor to attack
+     * @param exit the exit from the chimera's location to the target's
      * @param map the current game map
-     * @return a movement action towards the target, or do nothing if no valid path
-     */
-    private Action moveTowards(Location target, GameMap map) {
-        Location myLocation = map.locationOf(this);
-        List<Exit> exits = new ArrayList<>(myLocation.getExits());
-
-        Exit bestExit = null;
-        double shortestDistance = Double.MAX_VALUE;
-
-        // Find the exit that gets us closest to the target
-        for (Exit exit : exits) {
-            Location destination = exit.getDestination();
-            if (!destination.containsAnActor()) {
-                double distance = calculateDistance(destination, target);
-                if (distance < shortestDistance) {
-                    shortestDistance = distance;
-                    bestExit = exit;
-                }
-            }
-        }
-
-        if (bestExit != null) {
-            return new MoveActorAction(bestExit.getDestination(), bestExit.getName());
-        }
-
-        return new DoNothingAction();
-    }
-
-    /**
-     * Calculates the Euclidean distance between two locations.
-     *
-     * @param loc1 the first location
-     * @param loc2 the second location
-     * @return the distance between the two locations
+     * @param display where messages about the attack go
+     * @return the state-specific attack
      */
-    private double calculateDistance(Location loc1, Location loc2) {
-        int deltaX = loc1.x() - loc2.x();
-        int deltaY = loc1.y() - loc2.y();
-        return Math.sqrt(deltaX * deltaX + deltaY * deltaY);
-    }
-
-    /**
-     * Moves toward or attacks a target actor based on proximity.
-     *
-     * @param target the actor to engage
-     * @param map the current game map
-     * @return an attack action if adjacent, otherwise a movement action
-     */
-    private Action moveTowardsOrAttack(Actor target, GameMap map) {
-        Location targetLocation = map.locationOf(target);
-        Location myLocation = map.locationOf(this);
-
-        // Check if adjacent - if so, attack using state-specific attack
-        for (Exit exit : myLocation.getExits()) {
-            if (exit.getDestination().equals(targetLocation)) {
-                Display display = new Display();
-                return currentState.createAttackAction(target, exit.getName(), targetLocation, map, display);
-            }
-        }
-
-        // Otherwise move towards target
-        return moveTowards(targetLocation, map);
+    @Override
+    protected Action attack(Actor target, Exit exit, GameMap map, Display display) {
+        return currentState.createAttackAction(context, target, exit.getName(), exit.getDestination());
     }
 
     /**
-     * Checks if two locations are adjacent to each other.
+     * Gets the current state for external inspection.
      *
-     * @param loc1 the first location
-     * @param loc2 the second location
-     * @return true if locations are adjacent, false otherwise
+     * @return the current state of the chimera
      */
-    private boolean isAdjacentTo(Location loc1, Location loc2) {
-        int deltaX = Math.abs(loc1.x() - loc2.x());
-        int deltaY = Math.abs(loc1.y() - loc2.y());
-        return deltaX <= 1 && deltaY <= 1 && !(deltaX == 0 && deltaY == 0);
+    public ChimeraState getCurrentState() {
+        return currentState;
     }
 
     /**
@@ -311,17 +248,16 @@ public class Chimera extends TameableAnimal implements Follower, CombatAssistant
      * @param display the display for buff notifications
      */
     public void applyIceArmorToTamer(Display display) {
-        if (tamed && tamer != null) {
-            int tBefore = tamer.getMaximumAttribute(BaseAttributes.HEALTH);
-            tamer.modifyStatsMaximum(BaseAttributes.HEALTH, ActorAttributeOperation.INCREASE, 5);
-            int tAfter = tamer.getMaximumAttribute(BaseAttributes.HEALTH);
-            display.println("Ice armor extends to " + tamer
+        if (isTamed() && getTamer() != null) {
+            int tBefore = getTamer().getMaximumAttribute(BaseAttributes.HEALTH);
+            getTamer().modifyStatsMaximum(BaseAttributes.HEALTH, ActorAttributeOperation.INCREASE, 5);
+            int tAfter = getTamer().getMaximumAttribute(BaseAttributes.HEALTH);
+            display.println(() -> "Ice armor extends to " + getTamer()
                     + ", increasing their resilience! (Max Health: "
                     + tBefore + " → " + tAfter + ")\n");
         }
     }
 
-
     /**
      * Returns a string representation of the chimera showing current state information.
      * Displays state name, display character, and current/maximum health values.
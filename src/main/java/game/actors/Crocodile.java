@@ -2,17 +2,13 @@ package game.actors;
 
 import edu.monash.fit2099.engine.actions.Action;
 import edu.monash.fit2099.engine.actions.ActionList;
-import edu.monash.fit2099.engine.actions.DoNothingAction;
-import edu.monash.fit2099.engine.actions.MoveActorAction;
-import edu.monash.fit2099.engine.actors.Actor;
 import edu.monash.fit2099.engine.actors.attributes.BaseActorAttribute;
 import edu.monash.fit2099.engine.actors.attributes.BaseAttributes;
 import edu.monash.fit2099.engine.displays.Display;
-import edu.monash.fit2099.engine.positions.Exit;
 import edu.monash.fit2099.engine.positions.GameMap;
-import edu.monash.fit2099.engine.positions.Location;
 import game.abilities.Abilities;
-import game.actions.AttackAction;
+import game.behaviours.BehaviourTree;
+import game.behaviours.Selector;
 import game.items.Apple;
 import game.items.YewBerry;
 import game.taming.TameableAnimal;
@@ -42,8 +38,16 @@ import java.util.*;
  * @version 1.0
  */
 public class Crocodile extends TameableAnimal {
-    /** Random number generator for movement decisions. */
-    private final Random random = new Random();
+
+    /**
+     * Wild crocodiles attack any adjacent untamed actor, otherwise wander.
+     */
+    private static final BehaviourTree WILD = new BehaviourTree(new Selector(ATTACK_ADJACENT, WANDER));
+
+    /**
+     * Tamed crocodiles follow their owner and stay next to them.
+     */
+    private static final BehaviourTree TAMED = new BehaviourTree(FOLLOW_TAMER);
 
     /**
      * Constructs a new Crocodile with default characteristics.
@@ -76,21 +80,7 @@ public class Crocodile extends TameableAnimal {
      */
     @Override
     protected Action wildBehavior(ActionList actions, Action lastAction, GameMap map, Display display) {
-        Location currentLocation = map.locationOf(this);
-        // If the crocodile is no longer on the map (e.g., died from consuming poison), return do nothing
-        if (currentLocation == null || !map.contains(this)) {
-            return new DoNothingAction();
-        }
-        for (Exit exit : currentLocation.getExits()) {
-            Location adjacentLocation = exit.getDestination();
-            if (adjacentLocation.containsAnActor()) {
-                Actor target = adjacentLocation.getActor();
-                if (!target.hasAbility(Abilities.TAMED)) {
-                    return new AttackAction(target, exit.getName(), this.getIntrinsicWeapon());
-                }
-            }
-        }
-        return wanderRandomly(map);
+        return WILD.decide(this, map, display);
     }
 
     /**
@@ -105,98 +95,7 @@ public class Crocodile extends TameableAnimal {
      */
     @Override
     protected Action tamedBehavior(ActionList actions, Action lastAction, GameMap map, Display display) {
-        if (tamer == null) {
-            return new DoNothingAction();
-        }
-        Location myLocation = map.locationOf(this);
-        Location tamerLocation = map.locationOf(tamer);
-        // If the crocodile or tamer is no longer on the map, return do nothing
-        if (myLocation == null || tamerLocation == null || !map.contains(this) || !map.contains(tamer)) {
-            return new DoNothingAction();
-        }
-        if (isAdjacentTo(myLocation, tamerLocation)) {
-            return new DoNothingAction();
-        }
-        return moveTowards(tamerLocation, map);
-    }
-
-    /**
-     * Makes the crocodile wander randomly to an unoccupied adjacent location.
-     * 
-     * @param map the current game map
-     * @return a random movement action, or do nothing if no valid move
-     */
-    private Action wanderRandomly(GameMap map) {
-        Location currentLocation = map.locationOf(this);
-        // If the crocodile is no longer on the map (e.g., died from consuming poison), return do nothing
-        if (currentLocation == null || !map.contains(this)) {
-            return new DoNothingAction();
-        }
-        List<Exit> exits = new ArrayList<>(currentLocation.getExits());
-        if (!exits.isEmpty()) {
-            Collections.shuffle(exits, random);
-            for (Exit exit : exits) {
-                Location destination = exit.getDestination();
-                if (!destination.containsAnActor()) {
-                    return new MoveActorAction(destination, exit.getName());
-                }
-            }
-        }
-        return new DoNothingAction();
+        return TAMED.decide(this, map, display);
     }
 
-    /**
-     * Moves the crocodile towards a target location using pathfinding.
-     * Selects the adjacent location that minimizes distance to the target.
-     * 
-     * @param target the location to move towards
-     * @param map the current game map
-     * @return a movement action towards the target, or do nothing if no valid path
-     */
-    private Action moveTowards(Location target, GameMap map) {
-        Location myLocation = map.locationOf(this);
-        List<Exit> exits = new ArrayList<>(myLocation.getExits());
-        Exit bestExit = null;
-        double shortestDistance = Double.MAX_VALUE;
-        for (Exit exit : exits) {
-            Location destination = exit.getDestination();
-            if (!destination.containsAnActor()) {
-                double distance = calculateDistance(destination, target);
-                if (distance < shortestDistance) {
-                    shortestDistance = distance;
-                    bestExit = exit;
-                }
-            }
-        }
-        if (bestExit != null) {
-            return new MoveActorAction(bestExit.getDestination(), bestExit.getName());
-        }
-        return new DoNothingAction();
-    }
-
-    /**
-     * Checks if two locations are adjacent (including diagonals).
-     * 
-     * @param loc1 the first location
-     * @param loc2 the second location
-     * @return true if the locations are adjacent, false otherwise
-     */
-    private boolean isAdjacentTo(Location loc1, Location loc2) {
-        int deltaX = Math.abs(loc1.x() - loc2.x());
-        int deltaY = Math.abs(loc1.y() - loc2.y());
-        return deltaX <= 1 && deltaY <= 1 && !(deltaX == 0 && deltaY == 0);
-    }
-
-    /**
-     * Calculates the Euclidean distance between two locations.
-     * 
-     * @param loc1 the first location
-     * @param loc2 the second location
-     * @return the distance between the two locations
-     */
-    private double calculateDistance(Location loc1, Location loc2) {
-        int dx = loc1.x() - loc2.x();
-        int dy = loc1.y() - loc2.y();
-        return Math.sqrt(dx * dx + dy * dy);
-    }
 }
@@ -2,8 +2,6 @@ package game.actors;
 
 import edu.monash.fit2099.engine.actions.Action;
 import edu.monash.fit2099.engine.actions.ActionList;
-import edu.monash.fit2099.engine.actions.DoNothingAction;
-import edu.monash.fit2099.engine.actions.MoveActorAction;
 import edu.monash.fit2099.engine.actors.attributes.BaseActorAttribute;
 import edu.monash.fit2099.engine.actors.attributes.BaseAttributes;
 import edu.monash.fit2099.engine.displays.Display;
@@ -12,6 +10,9 @@ import edu.monash.fit2099.engine.positions.Exit;
 import edu.monash.fit2099.engine.positions.GameMap;
 import edu.monash.fit2099.engine.positions.Location;
 import game.abilities.Abilities;
+import game.behaviours.BehaviourTree;
+import game.behaviours.Ignore;
+import game.behaviours.Selector;
 import game.items.Apple;
 import game.items.YewBerry;
 import game.taming.Follower;
@@ -38,14 +39,34 @@ import java.util.*;
 public class Deer extends TameableAnimal implements ItemCollector, Follower {
 
     /**
-     * Random number generator for movement decisions.
+     * List of items collected by this deer.
      */
-    private Random random = new Random();
+    private List<Item> collectedItems = new ArrayList<>();
 
     /**
-     * List of items collected by this deer.
+     * Wild deer wander.
      */
-    private List<Item> collectedItems = new ArrayList<>();
+    private static final BehaviourTree WILD = new BehaviourTree(WANDER);
+
+    /**
+     * Tamed deer hand over what they have collected when next to their owner,
+     * pick up what is around them, then follow their owner, wandering when
+     * they cannot get closer.
+     */
+    private static final BehaviourTree TAMED = new BehaviourTree(new Selector(
+            new Ignore((actor, map) -> {
+                Deer deer = (Deer) actor;
+                if (deer.isAdjacentToOwner(map)) {
+                    deer.giveItemsToOwner(deer.blackboard().display());
+                }
+                return null;
+            }),
+            new Ignore((actor, map) -> {
+                ((Deer) actor).collectNearbyItems(map, ((Deer) actor).blackboard().display());
+                return null;
+            }),
+            FOLLOW_TAMER,
+            WANDER));
 
     /**
      * Constructs a new Deer with default characteristics.
@@ -73,7 +94,7 @@ public class Deer extends TameableAnimal implements ItemCollector, Follower {
      */
     @Override
     protected Action wildBehavior(ActionList actions, Action lastAction, GameMap map, Display display) {
-        return wanderRandomly(map);
+        return WILD.decide(this, map, display);
     }
 
     /**
@@ -88,16 +109,7 @@ public class Deer extends TameableAnimal implements ItemCollector, Follower {
      */
     @Override
     protected Action tamedBehavior(ActionList actions, Action lastAction, GameMap map, Display display) {
-        // Priority 1: Give items to owner if adjacent
-        if (isAdjacentToOwner(map)) {
-            giveItemsToOwner(display);
-        }
-
-        // Priority 2: Collect nearby items
-        collectNearbyItems(map, display);
-
-        // Priority 3: Follow owner
-        return followOwner(map);
+        return TAMED.decide(this, map, display);
     }
 
     /**
@@ -108,8 +120,9 @@ public class Deer extends TameableAnimal implements ItemCollector, Follower {
      * @param display  the display for output messages (can be null)
      */
     private void collectItemsFromLocation(Location location, Display display) {
-        List<Item> items = new ArrayList<>(location.getItems());
-        for (Item item : items) {
+        List<Item> items = location.getItems();
+        while (!items.isEmpty()) {
+            Item item = items.get(0);
             location.removeItem(item);
             collectedItems.add(item);
             if (display != null) {
@@ -145,9 +158,9 @@ public class Deer extends TameableAnimal implements ItemCollector, Follower {
      * @param display the display for output messages (can be null)
      */
     public void giveItemsToOwner(Display display) {
-        if (tamer != null && !collectedItems.isEmpty()) {
+        if (getTamer() != null && !collectedItems.isEmpty()) {
             for (Item item : collectedItems) {
-                tamer.addItemToInventory(item);
+                getTamer().addItemToInventory(item);
                 if (display != null) {
                     display.println("Deer gave explorer an " + item.toString());
                 }
@@ -175,20 +188,8 @@ public class Deer extends TameableAnimal implements ItemCollector, Follower {
      */
     @Override
     public Action followOwner(GameMap map) {
-        if (!shouldFollow()) {
-            return wanderRandomly(map);
-        }
-
-        Location tamerLocation = map.locationOf(tamer);
-        Location myLocation = map.locationOf(this);
-
-        // If already adjacent, stay put
-        if (isAdjacentTo(myLocation, tamerLocation)) {
-            return new DoNothingAction();
-        }
-
-        // Move towards tamer
-        return moveTowards(tamerLocation, map);
+        Action step = FOLLOW_TAMER.generateAction(this, map);
+        return step != null ? step : wander(map);
     }
 
     /**
@@ -198,7 +199,7 @@ public class Deer extends TameableAnimal implements ItemCollector, Follower {
      */
     @Override
     public boolean shouldFollow() {
-        return tamed && tamer != null;
+        return isTamed() && getTamer() != null;
     }
 
     /**
@@ -208,100 +209,12 @@ public class Deer extends TameableAnimal implements ItemCollector, Follower {
      * @return true if adjacent to owner, false otherwise
      */
     private boolean isAdjacentToOwner(GameMap map) {
-        if (tamer == null) {
+        if (getTamer() == null) {
             return false;
         }
-        Location tamerLocation = map.locationOf(tamer);
-        Location myLocation = map.locationOf(this);
-        return isAdjacentTo(myLocation, tamerLocation);
-    }
-
-    /**
-     * Makes the deer wander randomly when not following specific tasks.
-     *
-     * @param map the current game map
-     * @return a random movement action or do nothing if no movement possible
-     */
-    private Action wanderRandomly(GameMap map) {
-        Location currentLocation = map.locationOf(this);
-        
-        // If the deer is no longer on the map (e.g., died from consuming poison), return do nothing
-        if (currentLocation == null) {
-            return new DoNothingAction();
-        }
-        
-        List<Exit> exits = new ArrayList<>(currentLocation.getExits());
-
-        if (!exits.isEmpty()) {
-            Collections.shuffle(exits, random);
-            for (Exit exit : exits) {
-                Location destination = exit.getDestination();
-                if (!destination.containsAnActor()) {
-                    return new MoveActorAction(destination, exit.getName());
-                }
-            }
-        }
-        return new DoNothingAction();
-    }
-
-    /**
-     * Moves the deer towards a target location using pathfinding.
-     * Selects the adjacent location that minimizes distance to the target.
-     *
-     * @param target the location to move towards
-     * @param map the current game map
-     * @return a movement action towards the target, or do nothing if no valid path
-     */
-    private Action moveTowards(Location target, GameMap map) {
+        Location tamerLocation = map.locationOf(getTamer());
         Location myLocation = map.locationOf(this);
-        List<Exit> exits = new ArrayList<>(myLocation.getExits());
-
-        Exit bestExit = null;
-        double shortestDistance = Double.MAX_VALUE;
-
-        // Find the exit that gets us closest to the target
-        for (Exit exit : exits) {
-            Location destination = exit.getDestination();
-            if (!destination.containsAnActor()) {
-                double distance = calculateDistance(destination, target);
-                if (distance < shortestDistance) {
-                    shortestDistance = distance;
-                    bestExit = exit;
-                }
-            }
-        }
-
-        if (bestExit != null) {
-            return new MoveActorAction(bestExit.getDestination(), bestExit.getName());
-        }
-
-        return wanderRandomly(map);
-    }
-
-    /**
-     * Calculates the Euclidean distance between two locations.
-     *
-     * @param loc1 the first location
-     * @param loc2 the second location
-     * @return the distance between the two locations
-     */
-    private double calculateDistance(Location loc1, Location loc2) {
-        int deltaX = loc1.x() - loc2.x();
-        int deltaY = loc1.y() - loc2.y();
-        return Math.sqrt(deltaX * deltaX + deltaY * deltaY);
-    }
-
-    /**
-     * Checks if two locations are adjacent to each other.
-     *
-     * @param loc1 the first location
-     * @param loc2 the second location
-     * @return true if locations are adjacent, false otherwise
-     */
-    private boolean isAdjacentTo(Location loc1, Location loc2) {
-        int deltaX = Math.abs(loc1.x() - loc2.x());
-        int deltaY = Math.abs(loc1.y() - loc2.y());
-        return deltaX <= 1 && deltaY <= 1 && !(deltaX == 0 && deltaY == 0);
+        return myLocation != null && tamerLocation != null && isAdjacent(myLocation, tamerLocation);
     }
 
     /**
@@ -3,14 +3,12 @@ package game.actors;
 import static game.capabilities.StatusAbilities.CAN_RECIEVE_STATUS;
 
 import edu.monash.fit2099.engine.actors.Actor;
-import edu.monash.fit2099.engine.positions.GameMap;
+import edu.monash.fit2099.engine.actors.attributes.BaseAttributeStore;
 
 import game.status.StatusEffect;
+import game.status.StatusEffectScheduler;
 import game.status.StatusRecipient;
 import game.status.StatusRecipientRegistry;
-import java.util.ArrayList;
-import java.util.Iterator;
-import java.util.List;
 
 /**
  * Base class for all game-specific actors that can receive timed status effects
@@ -18,9 +16,9 @@ import java.util.List;
  *
  * <p>Responsibilities:
  * <ul>
- *   <li>Maintain a list of active {@link StatusEffect} instances.</li>
- *   <li>Provide {@link #addStatusEffect(StatusEffect)} so other systems can apply effects.</li>
- *   <li>Tick and expire status effects each turn via {@link #tickStatusEffects(GameMap)}.</li>
+ *   <li>Provide {@link #addStatusEffect(StatusEffect)} so other systems can apply effects.
+ *       Effects are handed to the {@link StatusEffectScheduler}, which ticks the
+ *       effects of every actor once per turn from the world loop.</li>
  *   <li>Register itself with {@link StatusRecipientRegistry} so non-game code can
  *       obtain a {@link StatusRecipient} for an {@link Actor} without using instanceof.</li>
  * </ul>
@@ -33,12 +31,6 @@ import java.util.List;
  */
 public abstract class GameActor extends Actor implements StatusRecipient {
 
-  /**
-   * Active status effects currently applied to this actor. Effects are applied in
-   * insertion order each tick and may stack depending on their implementations.
-   */
-  protected final List<StatusEffect> statusEffects = new ArrayList<>();
-
   /**
    * Constructs a new GameActor and registers it as a {@link StatusRecipient}.
    *
@@ -59,37 +51,27 @@ public abstract class GameActor extends Actor implements StatusRecipient {
   }
 
   /**
-   * Add a status effect to this actor.
+   * Constructs a new GameActor whose base attributes live in the given store,
+   * and registers it as a {@link StatusRecipient}.
    *
-   * @param effect the status effect to add (may be stackable)
+   * @param name the actor's display name
+   * @param displayChar the character shown on the map
+   * @param hitPoints the initial hit points
+   * @param baseAttributes where the actor's health and other base attributes are kept
    */
-  public void addStatusEffect (StatusEffect effect) {
-    statusEffects.add(effect);
+  protected GameActor(String name, char displayChar, int hitPoints, BaseAttributeStore baseAttributes) {
+    super(name, displayChar, hitPoints, baseAttributes);
+    this.enableAbility(CAN_RECIEVE_STATUS);
+    StatusRecipientRegistry.register(this, this);
   }
 
   /**
-   * Apply one tick for every active {@link StatusEffect}, decrementing their
-   * durations and removing expired effects.
-   *
-   * <p>This method should be called once at the start of the actor's turn (for
-   * example in {@code playTurn(...)}) so effects are processed consistently.
+   * Add a status effect to this actor.
    *
-   * @param map the current game map (passed to effects that need contextual info)
+   * @param effect the status effect to add (may be stackable)
    */
-  public void tickStatusEffects(GameMap map) {
-    if (statusEffects.isEmpty()) {
-      return;
-    }
-
-    Iterator<StatusEffect> it = statusEffects.iterator();
-    while (it.hasNext()) {
-      StatusEffect eff = it.next();
-      eff.applyEffect(this, map);
-      eff.decrementDuration();
-      if (eff.isExpired()) {
-        it.remove();
-      }
-    }
+  public void addStatusEffect (StatusEffect effect) {
+    StatusEffectScheduler.schedule(this, effect);
   }
 
 }
@@ -9,6 +9,7 @@ import edu.monash.fit2099.engine.displays.Menu;
 import edu.monash.fit2099.engine.positions.GameMap;
 import game.abilities.Abilities;
 import game.abilities.HydrationCapability;
+import game.actions.WaitAction;
 import game.items.Apple;
 import game.items.Bedroll;
 import game.items.Bottle;
@@ -23,7 +24,7 @@ import edu.monash.fit2099.engine.positions.Ground;
  * Class representing the Player (Explorer).
  * The Explorer has hydration and warmth levels that decrease each turn.
  * @author Muhamad Shafy Dimas Rafarrel
- * @version 3.8
+ * @version 3.9
  */
 public class Player extends GameActor implements HydrationCapability, QuestParticipant {
     private BaseActorAttribute hydration;
@@ -71,7 +72,6 @@ public class Player extends GameActor implements HydrationCapability, QuestParti
      */
     @Override
     public Action playTurn(ActionList actions, Action lastAction, GameMap map, Display display) {
-        tickStatusEffects(map);
         // Quest VISIT tracking: record location-based visits in order
         try {
             Location here = map.locationOf(this);
@@ -91,14 +91,12 @@ public class Player extends GameActor implements HydrationCapability, QuestParti
             }
         } catch (Exception ignored) { }
         // Check if player is unconscious (health, hydration, or warmth at 0)
-        if (!this.isConscious() || this.getAttribute(BaseAttributes.HEALTH) <= 0) {
-            display.println(name + " becomes unconscious! Game Over!");
-            display.println("GAME OVER - Survival failed!");
-            System.exit(0);
-        }
-        if (hydration.get() <= 0 || warmth.get() <= 0) {
+        if (!this.isConscious() || this.getAttribute(BaseAttributes.HEALTH) <= 0
+                || hydration.get() <= 0 || warmth.get() <= 0) {
             display.println(name + " becomes unconscious! Game Over!");
             display.println("GAME OVER - Survival failed!");
+            // Make sure the last turns reach the screen, even ones being skipped
+            display.flush();
             System.exit(0);
         }
 
@@ -108,15 +106,17 @@ public class Player extends GameActor implements HydrationCapability, QuestParti
             warmth.decrease(1);
         }
 
+        // Carry on with a multi-turn action; the turn is not shown, so neither are the stats
+        if (lastAction != null && lastAction.getNextAction() != null)
+            return lastAction.getNextAction();
+
         display.println(String.format("%s (%d/%d)", name,
                 this.getAttribute(BaseAttributes.HEALTH),
                 this.getMaximumAttribute(BaseAttributes.HEALTH)));
         display.println("HYDRATION: " + hydration.get());
         display.println("WARMTH: " + warmth.get());
 
-        if (lastAction != null && lastAction.getNextAction() != null)
-            return lastAction.getNextAction();
-
+        actions.add(new WaitAction(WaitAction.DEFAULT_TURNS));
         Menu menu = new Menu(actions);
         return menu.showMenu(this, display);
     }
@@ -131,6 +131,20 @@ public class Player extends GameActor implements HydrationCapability, QuestParti
         this.hydration.increase(amount);
     }
 
+    /**
+     * @return the player's current hydration level
+     */
+    public int getHydration() {
+        return hydration.get();
+    }
+
+    /**
+     * @return the player's current warmth level
+     */
+    public int getWarmth() {
+        return warmth.get();
+    }
+
     /**
      * Access the player's quest tracker.
      */
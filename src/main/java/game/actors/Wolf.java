@@ -2,17 +2,13 @@ package game.actors;
 
 import edu.monash.fit2099.engine.actions.Action;
 import edu.monash.fit2099.engine.actions.ActionList;
-import edu.monash.fit2099.engine.actions.DoNothingAction;
-import edu.monash.fit2099.engine.actions.MoveActorAction;
-import edu.monash.fit2099.engine.actors.Actor;
 import edu.monash.fit2099.engine.actors.attributes.BaseActorAttribute;
 import edu.monash.fit2099.engine.actors.attributes.BaseAttributes;
 import edu.monash.fit2099.engine.displays.Display;
-import edu.monash.fit2099.engine.positions.Exit;
 import edu.monash.fit2099.engine.positions.GameMap;
-import edu.monash.fit2099.engine.positions.Location;
 import game.abilities.Abilities;
-import game.actions.AttackAction;
+import game.behaviours.BehaviourTree;
+import game.behaviours.Selector;
 import game.items.Apple;
 import game.items.YewBerry;
 import game.taming.CombatAssistant;
@@ -31,6 +27,8 @@ import java.util.*;
  * Combat characteristics:
  * - 100 hit points
  * - Bite attack: 50 damage with 50% hit rate
+ * - Hunts prey in sight together with the other wild wolves on its map
+ *   (see {@link WolfPack})
  * - Wanders when not engaged in combat
  *
  * @author Muhamad Shafy Dimas Rafarrel
@@ -39,9 +37,10 @@ import java.util.*;
 public class Wolf extends TameableAnimal implements Follower, CombatAssistant  {
 
     /**
-     * Random number generator for behavior decisions.
+     * The pack this wolf hunts with while wild, and its place in it; kept by {@link WolfPack}.
      */
-    private Random random = new Random();
+    WolfPack pack;
+    int packIndex;
 
     /**
      * Constructs a new Wolf with combat capabilities.
@@ -58,9 +57,23 @@ public class Wolf extends TameableAnimal implements Follower, CombatAssistant  {
         this.enableAbility(Abilities.TAMED);
     }
 
+    /**
+     * Wild wolves attack any adjacent untamed actor, otherwise close in on the
+     * prey their pack has given them, otherwise wander.
+     */
+    private static final BehaviourTree WILD = new BehaviourTree(new Selector(
+            ATTACK_ADJACENT,
+            (actor, map) -> WolfPack.of(map).nextStep((Wolf) actor),
+            WANDER));
+
+    /**
+     * Tamed wolves defend their owner first, otherwise follow them.
+     */
+    private static final BehaviourTree TAMED = new BehaviourTree(new Selector(DEFEND_TAMER, FOLLOW_TAMER));
+
     /**
      * Defines behavior for wild (untamed) wolves.
-     * Wild wolves attack adjacent non-tamed actors and wander randomly.
+     * Wild wolves attack adjacent non-tamed actors, hunt with their pack and wander randomly.
      *
      * @param actions available actions for this turn
      * @param lastAction the previous action performed
@@ -70,21 +83,7 @@ public class Wolf extends TameableAnimal implements Follower, CombatAssistant  {
      */
     @Override
     protected Action wildBehavior(ActionList actions, Action lastAction, GameMap map, Display display) {
-        Location currentLocation = map.locationOf(this);
-
-        // Attack any adjacent non-tamed actors
-        for (Exit exit : currentLocation.getExits()) {
-            Location adjacentLocation = exit.getDestination();
-            if (adjacentLocation.containsAnActor()) {
-                Actor target = adjacentLocation.getActor();
-                // Only attack if target doesn't have TAMED ability (avoiding player)
-                if (!target.hasAbility(Abilities.TAMED)) {
-                    return new AttackAction(target, exit.getName(), this.getIntrinsicWeapon());
-                }
-            }
-        }
-
-        return wanderRandomly(map);
+        return WILD.decide(this, map, display);
     }
 
     /**
@@ -99,14 +98,7 @@ public class Wolf extends TameableAnimal implements Follower, CombatAssistant  {
      */
     @Override
     protected Action tamedBehavior(ActionList actions, Action lastAction, GameMap map, Display display) {
-        // Priority 1: Combat assistance
-        Action combatAction = findCombatTarget(map);
-        if (combatAction != null) {
-            return combatAction;
-        }
-
-        // Priority 2: Follow owner
-        return followOwner(map);
+        return TAMED.decide(this, map, display);
     }
 
     /**
@@ -118,20 +110,8 @@ public class Wolf extends TameableAnimal implements Follower, CombatAssistant  {
      */
     @Override
     public Action followOwner(GameMap map) {
-        if (!shouldFollow()) {
-            return new DoNothingAction();
-        }
-
-        Location tamerLocation = map.locationOf(tamer);
-        Location myLocation = map.locationOf(this);
-
-        // If already adjacent, stay put
-        if (isAdjacentTo(myLocation, tamerLocation)) {
-            return new DoNothingAction();
-        }
-
-        // Move towards tamer
-        return moveTowards(tamerLocation, map);
+        Action step = FOLLOW_TAMER.generateAction(this, map);
+        return step != null ? step : BehaviourTree.IDLE;
     }
 
     /**
@@ -141,123 +121,17 @@ public class Wolf extends TameableAnimal implements Follower, CombatAssistant  {
      */
     @Override
     public boolean shouldFollow() {
-        return tamed && tamer != null;
+        return isTamed() && getTamer() != null;
     }
 
     @Override
     public Action findCombatTarget(GameMap map) {
-        if (!canAssistInCombat()) {
-            return null;
-        }
-
-        Location tamerLocation = map.locationOf(tamer);
-
-        // Check if tamer is being threatened
-        for (Exit exit : tamerLocation.getExits()) {
-            Location adjacentLocation = exit.getDestination();
-            if (adjacentLocation.containsAnActor()) {
-                Actor potentialThreat = adjacentLocation.getActor();
-                if (potentialThreat != this && !potentialThreat.hasAbility(Abilities.TAMED)) {
-                    return moveTowardsOrAttack(potentialThreat, map);
-                }
-            }
-        }
-        return null;
+        return DEFEND_TAMER.generateAction(this, map);
     }
 
     @Override
     public boolean canAssistInCombat() {
-        return tamed && tamer != null;
-    }
-
-    private Action wanderRandomly(GameMap map) {
-        Location currentLocation = map.locationOf(this);
-        
-        // If the wolf is no longer on the map (e.g., died from consuming poison), return do nothing
-        if (currentLocation == null) {
-            return new DoNothingAction();
-        }
-        
-        List<Exit> exits = new ArrayList<>(currentLocation.getExits());
-
-        if (!exits.isEmpty()) {
-            Collections.shuffle(exits, random);
-            for (Exit exit : exits) {
-                Location destination = exit.getDestination();
-                if (!destination.containsAnActor()) {
-                    return new MoveActorAction(destination, exit.getName());
-                }
-            }
-        }
-        return new DoNothingAction();
-    }
-
-    /**
-     * Moves the wolf towards a target location using pathfinding.
-     * Selects the adjacent location that minimizes distance to the target.
-     *
-     * @param target the location to move towards
-     * @param map the current game map
-     * @return a movement action towards the target, or do nothing if no valid path
-     */
-    private Action moveTowards(Location target, GameMap map) {
-        Location myLocation = map.locationOf(this);
-        List<Exit> exits = new ArrayList<>(myLocation.getExits());
-
-        Exit bestExit = null;
-        double shortestDistance = Double.MAX_VALUE;
-
-        // Find the exit that gets us closest to the target
-        for (Exit exit : exits) {
-            Location destination = exit.getDestination();
-            if (!destination.containsAnActor()) {
-                double distance = calculateDistance(destination, target);
-                if (distance < shortestDistance) {
-                    shortestDistance = distance;
-                    bestExit = exit;
-                }
-            }
-        }
-
-        if (bestExit != null) {
-            return new MoveActorAction(bestExit.getDestination(), bestExit.getName());
-        }
-
-        return new DoNothingAction();
-    }
-
-    /**
-     * Calculates the Euclidean distance between two locations.
-     *
-     * @param loc1 the first location
-     * @param loc2 the second location
-     * @return the distance between the two locations
-     */
-    private double calculateDistance(Location loc1, Location loc2) {
-        int deltaX = loc1.x() - loc2.x();
-        int deltaY = loc1.y() - loc2.y();
-        return Math.sqrt(deltaX * deltaX + deltaY * deltaY);
-    }
-
-    private Action moveTowardsOrAttack(Actor target, GameMap map) {
-        Location targetLocation = map.locationOf(target);
-        Location myLocation = map.locationOf(this);
-
-        // Check if adjacent - if so, attack
-        for (Exit exit : myLocation.getExits()) {
-            if (exit.getDestination().equals(targetLocation)) {
-                return new AttackAction(target, exit.getName(), this.getIntrinsicWeapon());
-            }
-        }
-
-        // Otherwise move towards target
-        return moveTowards(targetLocation, map);
-    }
-
-    private boolean isAdjacentTo(Location loc1, Location loc2) {
-        int deltaX = Math.abs(loc1.x() - loc2.x());
-        int deltaY = Math.abs(loc1.y() - loc2.y());
-        return deltaX <= 1 && deltaY <= 1 && !(deltaX == 0 && deltaY == 0);
+        return isTamed() && getTamer() != null;
     }
 
     /**
@@ -0,0 +1,345 @@
+package game.actors;
+
+import edu.monash.fit2099.engine.actions.Action;
+import edu.monash.fit2099.engine.actors.Actor;
+import edu.monash.fit2099.engine.positions.DistanceField;
+import edu.monash.fit2099.engine.positions.Exit;
+import edu.monash.fit2099.engine.positions.GameMap;
+import edu.monash.fit2099.engine.positions.Location;
+import game.abilities.Abilities;
+import game.tuning.Tuning;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The wild wolves of one map, hunting together.
+ *
+ * Instead of every wolf looking for prey and searching for a path to it on its
+ * own, the pack works out the hunt once per round, when the first of its
+ * members acts: each member notices the nearest prey in sight, every prey
+ * noticed gets one {@link DistanceField} that all wolves after it share, and
+ * each wolf is given one of the free locations around its prey to close in on,
+ * so that the pack surrounds the prey rather than queueing behind each other.
+ * The members then take their steps by looking at their own neighbours only.
+ * A round ends when a member that has already been given its step this round
+ * acts again.
+ *
+ * Wolves notice prey within {@link Tuning#WOLF_PACK_SIGHT} moves, so a pack
+ * runs down prey, the player included, from that far away.
+ *
+ * Wolves join the pack of the map they are on when they first hunt there and
+ * are dropped when they leave it, are tamed or fall unconscious. A wolf or
+ * prey that leaves the world is {@link #forget(Actor) forgotten} by every
+ * pack at once.
+ *
+ * @author Muhamad Shafy Dimas Rafarrel
+ * @version 1.1
+ */
+public final class WolfPack {
+
+    /** Looked up by wolves deciding ahead on another thread too (see {@code game.SpeculativeTurns}). */
+    private static final Map<GameMap, WolfPack> packs = new ConcurrentHashMap<>();
+
+    private final GameMap map;
+
+    private Wolf[] members = new Wolf[4];
+    private int size;
+
+    /** Which round each member was last given its step in. */
+    private int[] served = new int[4];
+    /** How many members the current round was worked out for. */
+    private int assigned;
+    private int round;
+
+    /** Index into {@link #targets} of each member's prey, or -1 if it has none. */
+    private int[] targetOf = new int[4];
+    /** The location each member closes in on, next to its prey; null if every one was taken. */
+    private Location[] slotOf = new Location[4];
+
+    private Actor[] targets = new Actor[4];
+    private DistanceField[] fields = new DistanceField[4];
+    /** Which of the exits around each prey have been given to a member, one bit per exit. */
+    private int[] claimed = new int[4];
+    private int targetCount;
+
+    private WolfPack(GameMap map) {
+        this.map = map;
+    }
+
+    /**
+     * @param map a map
+     * @return the pack of wild wolves on it, created the first time it is asked for
+     */
+    public static WolfPack of(GameMap map) {
+        return packs.computeIfAbsent(map, WolfPack::new);
+    }
+
+    /**
+     * Forget every pack. Intended for tests and for starting a new game.
+     */
+    public static void clear() {
+        packs.clear();
+    }
+
+    /**
+     * Drop an actor that has left the world from every pack, as a member and
+     * as prey.
+     *
+     * @param actor the actor that was removed
+     */
+    public static void forget(Actor actor) {
+        for (WolfPack pack : packs.values()) {
+            pack.drop(actor);
+        }
+    }
+
+    /**
+     * Whether the pack hunts an actor: anything that is neither a wolf nor tamed.
+     *
+     * @param actor the actor
+     * @return true if it is prey
+     */
+    public static boolean isPrey(Actor actor) {
+        return !(actor instanceof Wolf) && !actor.hasAbility(Abilities.TAMED);
+    }
+
+    /**
+     * @return the number of wolves in the pack as of the last round
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @param wolf a member of the pack
+     * @return the prey the pack gave it this round, or null if it has none
+     */
+    public Actor targetOf(Wolf wolf) {
+        int member = indexOf(wolf);
+        return member < 0 || targetOf[member] < 0 ? null : targets[targetOf[member]];
+    }
+
+    /**
+     * Take a wolf's step in the hunt, joining it to the pack if it is not
+     * already a member, and working out the round if it is the first member
+     * to act in it.
+     *
+     * @param wolf a wild wolf on this pack's map
+     * @return a move closer to its prey, or null if it has none in sight or cannot get closer
+     */
+    public Action nextStep(Wolf wolf) {
+        if (!map.contains(wolf)) {
+            return null;
+        }
+        if (wolf.pack != this) {
+            join(wolf);
+        }
+        int member = wolf.packIndex;
+        if (served[member] == round) {
+            round++;
+            assign();
+        } else if (member >= assigned) {
+            // Joined after the round was worked out; work it out again with the newcomer
+            assign();
+        }
+        member = wolf.packIndex;
+        served[member] = round;
+        int target = targetOf[member];
+        if (target < 0) {
+            return null;
+        }
+        Exit step = stepTowards(wolf, map.locationOf(wolf), fields[target], slotOf[member]);
+        return step == null ? null : step.getMoveAction();
+    }
+
+    private void join(Wolf wolf) {
+        if (size == members.length) {
+            int length = size * 2;
+            members = Arrays.copyOf(members, length);
+            served = Arrays.copyOf(served, length);
+            targetOf = Arrays.copyOf(targetOf, length);
+            slotOf = Arrays.copyOf(slotOf, length);
+        }
+        wolf.pack = this;
+        wolf.packIndex = size;
+        members[size] = wolf;
+        served[size] = round - 1;
+        size++;
+    }
+
+    /**
+     * Work out the round: drop members that have left, give every member its
+     * prey and a location next to it, and bring one field per prey up to date.
+     */
+    private void assign() {
+        prune();
+        Arrays.fill(targets, 0, targetCount, null);
+        targetCount = 0;
+        for (int member = 0; member < size; member++) {
+            Location here = map.locationOf(members[member]);
+            Actor prey = map.spatialIndex().nearest(here, Tuning.WOLF_PACK_SIGHT, WolfPack::isPrey);
+            targetOf[member] = prey == null ? -1 : targetIndex(prey, members[member]);
+            slotOf[member] = null;
+        }
+        for (int member = 0; member < size; member++) {
+            if (targetOf[member] >= 0) {
+                slotOf[member] = claimSlot(targetOf[member], map.locationOf(members[member]));
+            }
+        }
+        assigned = size;
+    }
+
+    private void prune() {
+        int kept = 0;
+        for (int member = 0; member < size; member++) {
+            Wolf wolf = members[member];
+            if (wolf.pack == this && map.contains(wolf) && !wolf.isTamed() && wolf.isConscious()) {
+                members[kept] = wolf;
+                served[kept] = served[member];
+                wolf.packIndex = kept;
+                kept++;
+            } else if (wolf.pack == this) {
+                wolf.pack = null;
+            }
+        }
+        Arrays.fill(members, kept, size, null);
+        size = kept;
+    }
+
+    /**
+     * Drop an actor from the pack: from its members, keeping the rest of the
+     * round as it was worked out, and from its targets, leaving the members
+     * that hunted it with none until the next round.
+     */
+    private void drop(Actor actor) {
+        for (int target = 0; target < targetCount; target++) {
+            if (targets[target] != actor) {
+                continue;
+            }
+            targets[target] = null;
+            for (int member = 0; member < size; member++) {
+                if (targetOf[member] == target) {
+                    targetOf[member] = -1;
+                    slotOf[member] = null;
+                }
+            }
+        }
+        if (!(actor instanceof Wolf wolf) || indexOf(wolf) < 0) {
+            return;
+        }
+        int gone = wolf.packIndex;
+        for (int member = gone + 1; member < size; member++) {
+            members[member - 1] = members[member];
+            served[member - 1] = served[member];
+            targetOf[member - 1] = targetOf[member];
+            slotOf[member - 1] = slotOf[member];
+            members[member - 1].packIndex = member - 1;
+        }
+        size--;
+        members[size] = null;
+        slotOf[size] = null;
+        if (gone < assigned) {
+            assigned--;
+        }
+        wolf.pack = null;
+    }
+
+    /**
+     * @return the index of a prey among this round's targets, adding it and
+     *         bringing a field up to date for it if it is new
+     */
+    private int targetIndex(Actor prey, Wolf walker) {
+        for (int target = 0; target < targetCount; target++) {
+            if (targets[target] == prey) {
+                return target;
+            }
+        }
+        if (targetCount == targets.length) {
+            int length = targetCount * 2;
+            targets = Arrays.copyOf(targets, length);
+            fields = Arrays.copyOf(fields, length);
+            claimed = Arrays.copyOf(claimed, length);
+        }
+        if (fields[targetCount] == null) {
+            fields[targetCount] = new DistanceField(map);
+        }
+        fields[targetCount].towards(walker, map.locationOf(prey));
+        targets[targetCount] = prey;
+        claimed[targetCount] = 0;
+        return targetCount++;
+    }
+
+    /**
+     * Give a member the unclaimed location next to its prey that is nearest to
+     * it. Locations the pack cannot reach, or where something other than a
+     * wolf stands, are not handed out.
+     *
+     * @return the location, or null if every one has been claimed
+     */
+    private Location claimSlot(int target, Location from) {
+        List<Exit> around = map.locationOf(targets[target]).getExits();
+        DistanceField field = fields[target];
+        int best = -1;
+        int bestDistance = Integer.MAX_VALUE;
+        for (int i = 0; i < around.size() && i < Integer.SIZE; i++) {
+            Location slot = around.get(i).getDestination();
+            if (slot.map() != map || (claimed[target] & (1 << i)) != 0 || field.distanceTo(slot) != 1
+                    || (slot.containsAnActor() && !(slot.getActor() instanceof Wolf))) {
+                continue;
+            }
+            int distance = chebyshev(from, slot);
+            if (distance < bestDistance) {
+                best = i;
+                bestDistance = distance;
+            }
+        }
+        if (best < 0) {
+            return null;
+        }
+        claimed[target] |= 1 << best;
+        return around.get(best).getDestination();
+    }
+
+    /**
+     * The free neighbour that most reduces the distance to the prey plus the
+     * distance to the member's own slot, so that members heading for
+     * different sides of the prey go round it. Falls back on the plain
+     * field step when that sum cannot be reduced.
+     */
+    private static Exit stepTowards(Wolf wolf, Location here, DistanceField field, Location slot) {
+        if (slot == null) {
+            return field.nextStep(wolf, here);
+        }
+        Exit chosen = null;
+        int best = field.distanceTo(here) == DistanceField.UNREACHABLE
+                ? Integer.MAX_VALUE : field.distanceTo(here) + chebyshev(here, slot);
+        List<Exit> exits = here.getExits();
+        for (int i = 0; i < exits.size(); i++) {
+            Location next = exits.get(i).getDestination();
+            if (next.map() != here.map() || !next.canActorEnter(wolf)) {
+                continue;
+            }
+            int distance = field.distanceTo(next);
+            if (distance == DistanceField.UNREACHABLE) {
+                continue;
+            }
+            int score = distance + chebyshev(next, slot);
+            if (score < best) {
+                best = score;
+                chosen = exits.get(i);
+            }
+        }
+        return chosen != null ? chosen : field.nextStep(wolf, here);
+    }
+
+    private int indexOf(Wolf wolf) {
+        return wolf.pack == this && wolf.packIndex < size ? wolf.packIndex : -1;
+    }
+
+    private static int chebyshev(Location a, Location b) {
+        return Math.max(Math.abs(a.x() - b.x()), Math.abs(a.y() - b.y()));
+    }
+}
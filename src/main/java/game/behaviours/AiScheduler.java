@@ -0,0 +1,186 @@
+package game.behaviours;
+
+/**
+ * Shares out the time that non-player actors may spend planning each turn.
+ *
+ * Reflexes, such as attacking a neighbour, are ordinary nodes and always run.
+ * Planning, such as finding a path or heading for a target beyond reach, sits
+ * under a {@link Deferred} node, which asks this scheduler before it runs.
+ * When the planning asked for in a turn would cost more than the budget, actors
+ * take turns: each has a phase, and only those whose phase comes up plan that
+ * turn, the rest replay their last plan. The number of phases in use follows
+ * the measured cost of planning, so a crowd from the spawners spreads its
+ * planning over a few turns instead of making every turn slower. No actor goes
+ * more than {@link #MAX_STRIDE} turns without planning.
+ *
+ * Actors whose turns are decided ahead while the player chooses (see
+ * {@code game.SpeculativeTurns}) {@link #planAside(boolean) plan aside}: their
+ * planning is charged to a budget of its own, so it does not hold back the
+ * actors that decide after the player.
+ *
+ * All methods are static; like the other game-wide services, the scheduler is
+ * a single global for the game package. {@code Earth} calls
+ * {@link #beginTurn()} once per turn. Only one thread plans at a time: actors
+ * are decided ahead only while the game thread waits for the player, and the
+ * game thread takes over again after it has waited for them.
+ *
+ * @author Muhamad Shafy Dimas Rafarrel
+ * @version 1.0
+ */
+public final class AiScheduler {
+
+    /** Planning time allowed per turn unless configured otherwise: 2 ms. */
+    public static final long DEFAULT_BUDGET_NANOS = 2_000_000L;
+
+    /** The most turns an actor can go without planning. */
+    public static final int MAX_STRIDE = 8;
+
+    /** Weight of the newest sample in the running average cost of a plan. */
+    private static final double COST_SMOOTHING = 0.1;
+
+    private static long budgetNanos = DEFAULT_BUDGET_NANOS;
+    private static int turn;
+    private static int stride = 1;
+    private static long spentThisTurn;
+    private static boolean aside;
+    private static long spentAside;
+    private static int askedThisTurn;
+    private static double averageCost;
+    private static int nextPhase;
+    private static long plansMade;
+    private static long plansDeferred;
+
+    // Preventing instantiation
+    private AiScheduler() {}
+
+    /**
+     * Start a new turn: reset the time spent and work out from the last turn
+     * how many phases planning has to be spread over.
+     */
+    public static void beginTurn() {
+        double demand = askedThisTurn * averageCost;
+        if (budgetNanos <= 0) {
+            stride = MAX_STRIDE;
+        } else {
+            stride = (int) Math.max(1, Math.min(MAX_STRIDE, Math.ceil(demand / budgetNanos)));
+        }
+        turn++;
+        spentThisTurn = 0;
+        spentAside = 0;
+        askedThisTurn = 0;
+    }
+
+    /**
+     * Charge planning from now on to the budget set aside for deciding ahead,
+     * or back to the turn's own. Planning aside gets the same budget, and does
+     * not count towards how many phases the turn's planning is spread over.
+     *
+     * @param aside true to plan aside
+     */
+    public static void planAside(boolean aside) {
+        AiScheduler.aside = aside;
+    }
+
+    /**
+     * @param nanos the planning time allowed per turn; 0 lets actors plan only when they must
+     */
+    public static void setBudgetNanos(long nanos) {
+        budgetNanos = Math.max(0, nanos);
+    }
+
+    /**
+     * @return the planning time allowed per turn
+     */
+    public static long getBudgetNanos() {
+        return budgetNanos;
+    }
+
+    /**
+     * @return how many turns apart an actor plans at the moment; 1 when everyone can plan every turn
+     */
+    public static int getStride() {
+        return stride;
+    }
+
+    /**
+     * @return the number of plans made since the last {@link #reset()}
+     */
+    public static long getPlansMade() {
+        return plansMade;
+    }
+
+    /**
+     * @return the number of times an actor replayed its last plan instead of planning
+     */
+    public static long getPlansDeferred() {
+        return plansDeferred;
+    }
+
+    /**
+     * Go back to the default budget and forget all measurements. Intended for
+     * tests and for starting a new game.
+     */
+    public static void reset() {
+        budgetNanos = DEFAULT_BUDGET_NANOS;
+        stride = 1;
+        spentThisTurn = 0;
+        aside = false;
+        spentAside = 0;
+        askedThisTurn = 0;
+        averageCost = 0;
+        plansMade = 0;
+        plansDeferred = 0;
+    }
+
+    /**
+     * @return a phase for a new actor; consecutive actors get consecutive phases
+     */
+    static int assignPhase() {
+        return nextPhase++;
+    }
+
+    /**
+     * Whether an actor may plan now. An actor that has not planned for
+     * {@link #MAX_STRIDE} turns always may; otherwise the turn's budget must
+     * not be spent and the actor's phase must come up.
+     *
+     * @param blackboard the actor's blackboard
+     * @return true if it may plan
+     */
+    static boolean mayPlan(Blackboard blackboard) {
+        if (!aside) {
+            askedThisTurn++;
+        }
+        if (turn - blackboard.lastPlanned >= MAX_STRIDE) {
+            return true;
+        }
+        if ((aside ? spentAside : spentThisTurn) >= budgetNanos) {
+            return false;
+        }
+        return Math.floorMod(blackboard.phase, stride) == Math.floorMod(turn, stride);
+    }
+
+    /**
+     * Record that an actor planned.
+     *
+     * @param blackboard the actor's blackboard
+     * @param nanos how long planning took
+     */
+    static void planned(Blackboard blackboard, long nanos) {
+        if (aside) {
+            spentAside += nanos;
+        } else {
+            spentThisTurn += nanos;
+        }
+        averageCost = averageCost == 0 ? nanos : averageCost + COST_SMOOTHING * (nanos - averageCost);
+        blackboard.lastPlanned = turn;
+        plansMade++;
+    }
+
+    /**
+     * Record that an actor replayed its last plan.
+     */
+    static void deferred() {
+        plansDeferred++;
+    }
+}
@@ -0,0 +1,16 @@
+package game.behaviours;
+
+/**
+ * An actor that decides its turns with a {@link BehaviourTree} and keeps a
+ * {@link Blackboard} for it.
+ *
+ * @author Muhamad Shafy Dimas Rafarrel
+ * @version 1.0
+ */
+public interface BehaviourAgent {
+
+    /**
+     * @return this actor's blackboard; always the same one
+     */
+    Blackboard blackboard();
+}
@@ -0,0 +1,61 @@
+package game.behaviours;
+
+import edu.monash.fit2099.engine.actions.Action;
+import edu.monash.fit2099.engine.actions.DoNothingAction;
+import edu.monash.fit2099.engine.actors.Actor;
+import edu.monash.fit2099.engine.actors.Behaviour;
+import edu.monash.fit2099.engine.displays.Display;
+import edu.monash.fit2099.engine.positions.GameMap;
+
+/**
+ * The root of a tree of {@link Behaviour}s that decides an actor's turn.
+ *
+ * A tree is built once per kind of actor, from nodes that keep nothing about
+ * any one actor, and shared by all of them; what belongs to one actor lives in
+ * its {@link Blackboard}. A node returns the action it wants, or null to let
+ * the next option be tried, as with any engine {@link Behaviour}. The composite
+ * nodes are {@link Selector}, {@link Guard}, {@link Ignore}, {@link Memo}
+ * and {@link Deferred}.
+ *
+ * @author Muhamad Shafy Dimas Rafarrel
+ * @version 1.0
+ */
+public final class BehaviourTree {
+
+    /**
+     * Doing nothing. The action has no state, so one is shared by every
+     * actor that has nothing better to do.
+     */
+    public static final Action IDLE = new DoNothingAction();
+
+    /**
+     * A node that always does nothing, for the end of a {@link Selector}
+     * that must not fall through to what comes after it.
+     */
+    public static final Behaviour STAY = (actor, map) -> IDLE;
+
+    private final Behaviour root;
+
+    /**
+     * Constructor.
+     *
+     * @param root the node tried first
+     */
+    public BehaviourTree(Behaviour root) {
+        this.root = root;
+    }
+
+    /**
+     * Decide an actor's turn.
+     *
+     * @param actor the actor, which must be a {@link BehaviourAgent}
+     * @param map the map it is on
+     * @param display where messages for the turn go
+     * @return the action chosen, or {@link #IDLE} if no node had one
+     */
+    public Action decide(Actor actor, GameMap map, Display display) {
+        ((BehaviourAgent) actor).blackboard().beginTurn(display);
+        Action action = root.generateAction(actor, map);
+        return action != null ? action : IDLE;
+    }
+}
@@ -0,0 +1,103 @@
+package game.behaviours;
+
+import edu.monash.fit2099.engine.displays.Display;
+import edu.monash.fit2099.engine.displays.MessageSink;
+
+import java.util.Arrays;
+
+/**
+ * What one actor's behaviour tree remembers while it decides a turn.
+ *
+ * Behaviour nodes are shared between every actor that uses them, so anything
+ * that belongs to one actor lives here instead: the display for the turn being
+ * decided, the results of {@link Memo} nodes, which last until the actor's
+ * next turn starts, and the last plan of each {@link Deferred} node. Nothing is allocated once the tree has been run a few times.
+ *
+ * @author Muhamad Shafy Dimas Rafarrel
+ * @version 1.0
+ */
+public final class Blackboard {
+
+    /** Stands for a remembered null result, which is different from nothing remembered. */
+    private static final Object NONE = new Object();
+
+    /** When this actor plans if planning has to be shared out; see {@link AiScheduler}. */
+    final int phase = AiScheduler.assignPhase();
+
+    /** The scheduler turn this actor last planned in; far in the past until it first does. */
+    int lastPlanned = Integer.MIN_VALUE / 2;
+
+    private int turn = 1;
+    private Display display = MessageSink.silent();
+    private Object[] values = new Object[0];
+    private int[] stamps = new int[0];
+    private int[] plans = new int[0];
+
+    /**
+     * Start a new turn: forget this turn's results and remember where messages go.
+     *
+     * @param display the display for the turn, or null for none
+     */
+    void beginTurn(Display display) {
+        turn++;
+        this.display = display != null ? display : MessageSink.silent();
+    }
+
+    /**
+     * @return the display for the turn being decided; never null
+     */
+    public Display display() {
+        return display;
+    }
+
+    /**
+     * @param id the slot
+     * @return whether something was remembered in the slot this turn
+     */
+    boolean has(int id) {
+        return id < stamps.length && stamps[id] == turn;
+    }
+
+    /**
+     * @param id the slot, which must have something remembered this turn
+     * @return what was remembered, which may be null
+     */
+    Object recall(int id) {
+        return values[id] == NONE ? null : values[id];
+    }
+
+    /**
+     * Remember a value until the next turn starts.
+     *
+     * @param id the slot
+     * @param value the value, which may be null
+     */
+    void remember(int id, Object value) {
+        if (id >= stamps.length) {
+            int length = Math.max(id + 1, stamps.length * 2);
+            values = Arrays.copyOf(values, length);
+            stamps = Arrays.copyOf(stamps, length);
+        }
+        values[id] = value != null ? value : NONE;
+        stamps[id] = turn;
+    }
+
+    /**
+     * @param id the {@link Deferred} node
+     * @return the plan it last made for this actor, encoded by the node; 0 if none
+     */
+    int plan(int id) {
+        return id < plans.length ? plans[id] : 0;
+    }
+
+    /**
+     * @param id the {@link Deferred} node
+     * @param plan the plan it made, encoded by the node
+     */
+    void plan(int id, int plan) {
+        if (id >= plans.length) {
+            plans = Arrays.copyOf(plans, Math.max(id + 1, plans.length * 2));
+        }
+        plans[id] = plan;
+    }
+}
@@ -0,0 +1,102 @@
+package game.behaviours;
+
+import edu.monash.fit2099.engine.actions.Action;
+import edu.monash.fit2099.engine.actors.Actor;
+import edu.monash.fit2099.engine.actors.Behaviour;
+import edu.monash.fit2099.engine.positions.Exit;
+import edu.monash.fit2099.engine.positions.GameMap;
+import edu.monash.fit2099.engine.positions.Location;
+
+import java.util.List;
+
+/**
+ * Runs an expensive subtree only when the {@link AiScheduler} has time for it,
+ * and otherwise repeats what it decided last time.
+ *
+ * What is remembered is the kind of plan rather than the action: a step is
+ * remembered as its direction, and repeated from wherever the actor now is if
+ * that way is free, so an actor heading somewhere keeps heading there while it
+ * waits for its turn to plan. Standing still is repeated as standing still.
+ * Anything else (an attack, a teleport) is not repeated, and the tree carries
+ * on to its next option.
+ *
+ * @author Muhamad Shafy Dimas Rafarrel
+ * @version 1.0
+ */
+public final class Deferred implements Behaviour {
+
+    private static final int NONE = 0;
+    private static final int STAY = 1;
+    /** Plans at or above this are steps, with the direction packed in. */
+    private static final int STEP = 2;
+
+    private static int nextId;
+
+    private final int id;
+    private final Behaviour child;
+
+    /**
+     * Constructor.
+     *
+     * @param child the planning subtree
+     */
+    public Deferred(Behaviour child) {
+        synchronized (Deferred.class) {
+            this.id = nextId++;
+        }
+        this.child = child;
+    }
+
+    @Override
+    public Action generateAction(Actor actor, GameMap map) {
+        Blackboard blackboard = ((BehaviourAgent) actor).blackboard();
+        Location here = map.locationOf(actor);
+        if (here == null) {
+            return null;
+        }
+        if (!AiScheduler.mayPlan(blackboard)) {
+            AiScheduler.deferred();
+            return replay(blackboard.plan(id), actor, here);
+        }
+        long start = System.nanoTime();
+        Action action = child.generateAction(actor, map);
+        AiScheduler.planned(blackboard, System.nanoTime() - start);
+        blackboard.plan(id, encode(action, here));
+        return action;
+    }
+
+    private static int encode(Action action, Location here) {
+        if (action == BehaviourTree.IDLE) {
+            return STAY;
+        }
+        List<Exit> exits = here.getExits();
+        for (int i = 0; action != null && i < exits.size(); i++) {
+            Exit exit = exits.get(i);
+            Location there = exit.getDestination();
+            if (exit.getMoveAction() == action && there.map() == here.map()) {
+                return STEP + (there.x() - here.x() + 1) * 3 + (there.y() - here.y() + 1);
+            }
+        }
+        return NONE;
+    }
+
+    private static Action replay(int plan, Actor actor, Location here) {
+        if (plan == STAY) {
+            return BehaviourTree.IDLE;
+        }
+        if (plan < STEP) {
+            return null;
+        }
+        int dx = (plan - STEP) / 3 - 1;
+        int dy = (plan - STEP) % 3 - 1;
+        List<Exit> exits = here.getExits();
+        for (int i = 0; i < exits.size(); i++) {
+            Exit exit = exits.get(i);
+            Location there = exit.getDestination();
+            if (there.map() == here.map() && there.x() - here.x() == dx && there.y() - here.y() == dy) {
+                return !there.containsAnActor() && there.canActorEnter(actor) ? exit.getMoveAction() : null;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,36 @@
+package game.behaviours;
+
+import edu.monash.fit2099.engine.actions.Action;
+import edu.monash.fit2099.engine.actors.Actor;
+import edu.monash.fit2099.engine.actors.Behaviour;
+import edu.monash.fit2099.engine.positions.GameMap;
+
+import java.util.function.BiPredicate;
+
+/**
+ * Runs its child only while a condition holds.
+ *
+ * @author Muhamad Shafy Dimas Rafarrel
+ * @version 1.0
+ */
+public final class Guard implements Behaviour {
+
+    private final BiPredicate<Actor, GameMap> condition;
+    private final Behaviour child;
+
+    /**
+     * Constructor.
+     *
+     * @param condition checked every time the guard is reached
+     * @param child what to do when it holds
+     */
+    public Guard(BiPredicate<Actor, GameMap> condition, Behaviour child) {
+        this.condition = condition;
+        this.child = child;
+    }
+
+    @Override
+    public Action generateAction(Actor actor, GameMap map) {
+        return condition.test(actor, map) ? child.generateAction(actor, map) : null;
+    }
+}
@@ -0,0 +1,33 @@
+package game.behaviours;
+
+import edu.monash.fit2099.engine.actions.Action;
+import edu.monash.fit2099.engine.actors.Actor;
+import edu.monash.fit2099.engine.actors.Behaviour;
+import edu.monash.fit2099.engine.positions.GameMap;
+
+/**
+ * Runs its child for what it does along the way (picking things up, counting
+ * turns) and lets the tree carry on as if it had no action.
+ *
+ * @author Muhamad Shafy Dimas Rafarrel
+ * @version 1.0
+ */
+public final class Ignore implements Behaviour {
+
+    private final Behaviour child;
+
+    /**
+     * Constructor.
+     *
+     * @param child the node to run
+     */
+    public Ignore(Behaviour child) {
+        this.child = child;
+    }
+
+    @Override
+    public Action generateAction(Actor actor, GameMap map) {
+        child.generateAction(actor, map);
+        return null;
+    }
+}
@@ -0,0 +1,46 @@
+package game.behaviours;
+
+import edu.monash.fit2099.engine.actions.Action;
+import edu.monash.fit2099.engine.actors.Actor;
+import edu.monash.fit2099.engine.actors.Behaviour;
+import edu.monash.fit2099.engine.positions.GameMap;
+
+/**
+ * Runs its child at most once per turn for each actor and gives the same
+ * answer, null included, every other time it is reached that turn. Use it for
+ * a subtree that appears in more than one place in a tree, so that it is
+ * neither paid for nor has its side effects twice.
+ *
+ * @author Muhamad Shafy Dimas Rafarrel
+ * @version 1.0
+ */
+public final class Memo implements Behaviour {
+
+    private static int nextId;
+
+    private final int id;
+    private final Behaviour child;
+
+    /**
+     * Constructor.
+     *
+     * @param child the subtree to remember the result of
+     */
+    public Memo(Behaviour child) {
+        synchronized (Memo.class) {
+            this.id = nextId++;
+        }
+        this.child = child;
+    }
+
+    @Override
+    public Action generateAction(Actor actor, GameMap map) {
+        Blackboard blackboard = ((BehaviourAgent) actor).blackboard();
+        if (blackboard.has(id)) {
+            return (Action) blackboard.recall(id);
+        }
+        Action action = child.generateAction(actor, map);
+        blackboard.remember(id, action);
+        return action;
+    }
+}
@@ -0,0 +1,38 @@
+package game.behaviours;
+
+import edu.monash.fit2099.engine.actions.Action;
+import edu.monash.fit2099.engine.actors.Actor;
+import edu.monash.fit2099.engine.actors.Behaviour;
+import edu.monash.fit2099.engine.positions.GameMap;
+
+/**
+ * Tries its children in priority order and takes the first action any of them
+ * returns.
+ *
+ * @author Muhamad Shafy Dimas Rafarrel
+ * @version 1.0
+ */
+public final class Selector implements Behaviour {
+
+    private final Behaviour[] children;
+
+    /**
+     * Constructor.
+     *
+     * @param children the options, most preferred first
+     */
+    public Selector(Behaviour... children) {
+        this.children = children.clone();
+    }
+
+    @Override
+    public Action generateAction(Actor actor, GameMap map) {
+        for (Behaviour child : children) {
+            Action action = child.generateAction(actor, map);
+            if (action != null) {
+                return action;
+            }
+        }
+        return null;
+    }
+}
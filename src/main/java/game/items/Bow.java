@@ -5,22 +5,22 @@ import static game.capabilities.StatusAbilities.CAN_RECIEVE_STATUS;
 import edu.monash.fit2099.engine.actions.ActionList;
 import edu.monash.fit2099.engine.actors.Actor;
 import edu.monash.fit2099.engine.items.Item;
-import edu.monash.fit2099.engine.positions.Exit;
 import edu.monash.fit2099.engine.positions.GameMap;
+import edu.monash.fit2099.engine.positions.LineOfSight;
 import edu.monash.fit2099.engine.positions.Location;
+import edu.monash.fit2099.engine.positions.RangeStencil;
+import edu.monash.fit2099.engine.positions.SpatialIndex;
 import game.actions.BowAttackAction;
 import game.actors.GameActor;
 import game.coating.Coatable;
 import game.coating.CoatingType;
-import java.util.ArrayDeque;
-import java.util.HashSet;
-import java.util.Queue;
-import java.util.Set;
 
 /**
- * A ranged weapon that exposes BowAttackAction(s) for targets within a
- * 3-tile radius. Targets are discovered using a breadth-first search (BFS)
- * from the owner's location.
+ * A ranged weapon that exposes BowAttackAction(s) for targets within its range
+ * (3 tiles unless upgraded). Cells in range come from a shared
+ * {@link RangeStencil}, nearest first, and the actors on them are read from the
+ * map's spatial index; a target behind ground that blocks thrown objects
+ * cannot be shot.
  *
  * <p>Only actors that advertise the {@code CAN_RECIEVE_STATUS} capability are
  * considered valid targets (this keeps the action-creation boundary capability-driven).
@@ -29,78 +29,72 @@ import java.util.Set;
  */
 public class Bow extends Item implements Coatable {
 
+  /** Range of a bow that has not been upgraded, in tiles. */
+  public static final int DEFAULT_RANGE = 3;
+
+  /** Used only to count actors in range without copying them. */
+  private static final Actor[] NO_ACTORS = new Actor[0];
+
   private CoatingType coating = CoatingType.NONE;
 
+  private final LineOfSight sight;
+
   /**
-   * Constructs a new Bow item.
+   * Constructs a new Bow item with the default range.
    * Symbol: {@code 'c'}, portable: {@code true}.
    */
   public Bow() {
+    this(DEFAULT_RANGE);
+  }
+
+  /**
+   * Constructs a new Bow item that reaches further (or less far) than usual.
+   *
+   * @param range how far the bow shoots, in tiles; at least 1
+   */
+  public Bow(int range) {
     super("Bow", 'c', true);
+    this.sight = new LineOfSight(RangeStencil.of(range));
   }
 
   /**
-   * Produces BowAttackAction instances for each valid target within range 3.
-   * The BFS guarantees that each reachable location is visited once, and
-   * that the {@code depth} passed to BowAttackAction corresponds to the
-   * shortest distance (in tiles) from the owner.
+   * @return how far this bow shoots, in tiles
+   */
+  public int getRange() {
+    return sight.stencil().range();
+  }
+
+  /**
+   * Produces BowAttackAction instances for each valid target within range,
+   * nearest first. The {@code distance} passed to BowAttackAction is the
+   * number of moves (diagonals included) from the owner to the target.
    *
    * @param owner the actor carrying the bow
    * @param map the game map
-   * @return an ActionList containing BowAttackAction for each discovered target
+   * @return an ActionList containing BowAttackAction for each target in range and in sight
    */
   @Override
   public ActionList allowableActions(Actor owner, GameMap map) {
     ActionList actions = new ActionList();
     Location start = map.locationOf(owner);
+    SpatialIndex index = map.spatialIndex();
+    RangeStencil stencil = sight.stencil();
 
-    Set<Location> visited = new HashSet<>();
-    Queue<LocationDepth> q = new ArrayDeque<>();
-    q.add (new LocationDepth(start, 0));
-    visited.add(start);
-
-    while (!q.isEmpty()) {
-      LocationDepth ld = q.poll();
-      Location loc = ld.location;
-      int depth = ld.depth;
-
-      // Skipping start location as a target (depth==0)
-      if (depth > 0 && loc.containsAnActor()) {
-        Actor maybeTarget = loc.getActor();
-        if (maybeTarget.hasAbility(CAN_RECIEVE_STATUS)) {
-          GameActor gameTarget = (GameActor) maybeTarget;
-          actions.add(new BowAttackAction(this, gameTarget, depth));
-        }
-      }
-      // Continuing Breadth First Search until range (depth) limit reached
-      if (depth < 3) {
-        for (Exit exit : loc.getExits()) {
-          Location next = exit.getDestination();
-          if (!visited.contains(next)) {
-            visited.add(next);
-            q.add(new LocationDepth(next, depth + 1));
-          }
-        }
+    // Nothing but the owner nearby: skip the stencil
+    if (index.actorsWithin(start, stencil.range(), NO_ACTORS) == 0) {
+      return actions;
+    }
+
+    for (int i = 0; i < stencil.size(); i++) {
+      Actor maybeTarget = index.actorAt(start.x() + stencil.dx(i), start.y() + stencil.dy(i));
+      if (maybeTarget != null && maybeTarget.hasAbility(CAN_RECIEVE_STATUS) && sight.canSee(start, i)) {
+        actions.add(new BowAttackAction(this, (GameActor) maybeTarget, stencil.distance(i)));
       }
     }
 
     return actions;
   }
 
-  /**
-   * Simple helper that pairs a {@link Location} with its BFS depth.
-   * Kept package-private and minimal; no additional behavior required.
-   */
-  private static class LocationDepth {
-    final Location location;
-    final int depth;
-
-    LocationDepth(Location l, int d) {
-      this.location = l;
-      this.depth = d;
-    }
-  }
-
   /**
    * Set the current coating of the bow.
    *
@@ -0,0 +1,42 @@
+package game.lifecycle;
+
+import edu.monash.fit2099.engine.actors.Actor;
+import edu.monash.fit2099.engine.actors.ActorLifecycleListener;
+import game.actors.WolfPack;
+import game.population.AnimalStore;
+import game.quest.core.QuestParticipantRegistry;
+import game.status.StatusEffectScheduler;
+import game.status.StatusRecipientRegistry;
+
+/**
+ * Removes an actor from every global registry in the game once it has left the
+ * world.
+ *
+ * The world registers one of these with its actor locations, so it runs for
+ * every removal, whatever caused it: an attack, poison, cold, a yew berry. It
+ * drops the actor's status effects, its status and quest registrations, its
+ * place in any wolf pack as a member or prey, and any animal's reference to
+ * it as a tamer. The world itself forgets the
+ * actor's last action, and an animal gives its row in the {@link AnimalStore}
+ * back in its own {@code onRemoved}. After that nothing in the game refers to
+ * the actor, and it can be garbage collected.
+ *
+ * @author Muhamad Shafy Dimas Rafarrel
+ * @version 1.0
+ */
+public class RegistryCleanup implements ActorLifecycleListener {
+
+    /**
+     * Forget an actor that has been removed from the world.
+     *
+     * @param actor the actor that was removed
+     */
+    @Override
+    public void actorRemoved(Actor actor) {
+        StatusEffectScheduler.forget(actor);
+        StatusRecipientRegistry.unregister(actor);
+        QuestParticipantRegistry.unregister(actor);
+        WolfPack.forget(actor);
+        AnimalStore.forgetTamer(actor);
+    }
+}
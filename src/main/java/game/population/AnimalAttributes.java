@@ -0,0 +1,128 @@
+package game.population;
+
+import edu.monash.fit2099.engine.actors.Actor;
+import edu.monash.fit2099.engine.actors.attributes.BaseAttributeStore;
+
+/**
+ * One animal's row of the {@link AnimalStore}, seen through the engine's
+ * {@link BaseAttributeStore} interface so that {@code Actor.hurt},
+ * {@code getAttribute} and friends read and write the shared columns.
+ *
+ * When the animal's slot is released the row keeps a private copy of the
+ * final numbers and of whether, and by whom, the animal was tamed, so a dead
+ * animal still reports the health it died with and its tamer, and can never
+ * see the next animal's values.
+ *
+ * @author Muhamad Shafy Dimas Rafarrel
+ * @version 1.0
+ */
+public final class AnimalAttributes extends BaseAttributeStore {
+
+    private int slot;
+    private int[] keptPoints;
+    private int[] keptMaximum;
+    private int keptPresent;
+    private boolean keptTamed;
+    private Actor keptTamer;
+
+    AnimalAttributes(int slot) {
+        super(false);
+        this.slot = slot;
+    }
+
+    /**
+     * @return the animal's slot in the {@link AnimalStore}, or -1 once released
+     */
+    public int slot() {
+        return slot;
+    }
+
+    /**
+     * @return true if the animal has been tamed
+     */
+    public boolean isTamed() {
+        return slot >= 0 ? AnimalStore.isTamed(slot) : keptTamed;
+    }
+
+    /**
+     * @return the actor who tamed the animal, or null
+     */
+    public Actor tamer() {
+        return slot >= 0 ? AnimalStore.tamerOf(slot) : keptTamer;
+    }
+
+    /**
+     * Mark the animal as tamed.
+     *
+     * @param tamer the actor who tamed it
+     */
+    public void tame(Actor tamer) {
+        if (slot >= 0) {
+            AnimalStore.tame(slot, tamer);
+        } else {
+            keptTamed = true;
+            keptTamer = tamer;
+        }
+    }
+
+    /**
+     * Copy this row out of the shared columns and stop using them.
+     *
+     * @param tamed whether the animal was tamed
+     * @param tamer the actor who tamed it, or null
+     */
+    void detach(boolean tamed, Actor tamer) {
+        keptTamed = tamed;
+        keptTamer = tamer;
+        keptPoints = new int[SIZE];
+        keptMaximum = new int[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            keptPoints[i] = AnimalStore.points[i][slot];
+            keptMaximum[i] = AnimalStore.maximum[i][slot];
+        }
+        keptPresent = AnimalStore.present[slot];
+        slot = -1;
+    }
+
+    @Override
+    protected int pointsAt(int i) {
+        return slot >= 0 ? AnimalStore.points[i][slot] : keptPoints[i];
+    }
+
+    @Override
+    protected void setPointsAt(int i, int value) {
+        if (slot >= 0) {
+            AnimalStore.points[i][slot] = value;
+        } else {
+            keptPoints[i] = value;
+        }
+    }
+
+    @Override
+    protected int maximumAt(int i) {
+        return slot >= 0 ? AnimalStore.maximum[i][slot] : keptMaximum[i];
+    }
+
+    @Override
+    protected void setMaximumAt(int i, int value) {
+        if (slot >= 0) {
+            AnimalStore.maximum[i][slot] = value;
+        } else {
+            keptMaximum[i] = value;
+        }
+    }
+
+    @Override
+    protected int presentMask() {
+        return slot >= 0 ? AnimalStore.present[slot] : keptPresent;
+    }
+
+    @Override
+    protected void setPresentMask(int mask) {
+        if (slot >= 0) {
+            AnimalStore.present[slot] = mask;
+        } else {
+            keptPresent = mask;
+        }
+    }
+}
@@ -0,0 +1,244 @@
+package game.population;
+
+import edu.monash.fit2099.engine.actors.Actor;
+import edu.monash.fit2099.engine.actors.attributes.BaseAttributes;
+import game.abilities.Abilities;
+import game.taming.TameableAnimal;
+
+import java.util.Arrays;
+
+/**
+ * Column-oriented storage for the state of every animal in the game.
+ *
+ * Each animal ({@link TameableAnimal}: bears, wolves, deer, crocodiles and the
+ * chimera) is given a slot when it is created. Its base attributes (health,
+ * warmth), whether it is tamed and by whom, and its random number stream are
+ * kept in arrays indexed by that slot, one array per field, rather than in
+ * objects owned by the animal. The animal object stays as a thin facade, so
+ * GameMap, actions and the quest tracker use it exactly as before, while
+ * systems that touch every animal (wandering, warmth) walk a few primitive
+ * arrays instead of chasing a {@code HashMap} and a {@code java.util.Random}
+ * per animal.
+ *
+ * Slots are recycled: an animal that dies releases its slot, which the next
+ * animal to be created reuses, so the arrays are as large as the largest
+ * population seen, not the number of animals ever spawned.
+ *
+ * All methods are static; like the other registries in the game, the class is
+ * a single global store.
+ *
+ * @author Muhamad Shafy Dimas Rafarrel
+ * @version 1.0
+ */
+public final class AnimalStore {
+
+    private static final int ATTRIBUTES = BaseAttributes.values().length;
+    private static final byte TAMED = 1;
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private static int capacity = 64;
+
+    /** Current points, one column per {@link BaseAttributes} ordinal. */
+    static int[][] points = new int[ATTRIBUTES][capacity];
+    /** Maximum points, one column per {@link BaseAttributes} ordinal. */
+    static int[][] maximum = new int[ATTRIBUTES][capacity];
+    /** A bit per attribute ordinal, set if the animal has that attribute. */
+    static int[] present = new int[capacity];
+
+    /** The {@link WarmthBand} ordinal each animal was last seen in. */
+    static byte[] warmthBand = new byte[capacity];
+
+    private static long[] rng = new long[capacity];
+    private static byte[] flags = new byte[capacity];
+    private static Actor[] tamers = new Actor[capacity];
+    private static TameableAnimal[] animals = new TameableAnimal[capacity];
+
+    /** Slots below this have been handed out at least once. */
+    private static int slotLimit;
+    private static int[] freeSlots = new int[16];
+    private static int freeCount;
+    private static int live;
+
+    /** State of the generator that seeds each new animal's stream. */
+    private static long seeder = System.nanoTime();
+
+    // Preventing instantiation
+    private AnimalStore() {}
+
+    /**
+     * Reserve a slot for a new animal. Called by {@link TameableAnimal}'s
+     * constructor, which passes the result on as the animal's attribute store.
+     *
+     * @return a view of the new slot's attributes
+     */
+    public static AnimalAttributes allocate() {
+        int slot;
+        if (freeCount > 0) {
+            slot = freeSlots[--freeCount];
+        } else {
+            if (slotLimit == capacity) {
+                grow();
+            }
+            slot = slotLimit++;
+        }
+        for (int a = 0; a < ATTRIBUTES; a++) {
+            points[a][slot] = 0;
+            maximum[a][slot] = 0;
+        }
+        present[slot] = 0;
+        warmthBand[slot] = 0;
+        flags[slot] = 0;
+        tamers[slot] = null;
+        seeder += GOLDEN_GAMMA;
+        rng[slot] = mix(seeder);
+        live++;
+        return new AnimalAttributes(slot);
+    }
+
+    /**
+     * Record which animal owns a slot.
+     *
+     * @param attributes the slot's attributes, as returned by {@link #allocate()}
+     * @param animal     the animal
+     */
+    public static void bind(AnimalAttributes attributes, TameableAnimal animal) {
+        animals[attributes.slot()] = animal;
+    }
+
+    /**
+     * Give an animal's slot back. The animal keeps a private copy of its final
+     * attributes and tamed state, so it can still be inspected; it just no
+     * longer takes part in the store. Releasing twice does nothing.
+     *
+     * @param attributes the attributes of the animal being released
+     */
+    public static void release(AnimalAttributes attributes) {
+        int slot = attributes.slot();
+        if (slot < 0) {
+            return;
+        }
+        attributes.detach(isTamed(slot), tamers[slot]);
+        animals[slot] = null;
+        tamers[slot] = null;
+        flags[slot] = 0;
+        if (freeCount == freeSlots.length) {
+            freeSlots = Arrays.copyOf(freeSlots, freeCount * 2);
+        }
+        freeSlots[freeCount++] = slot;
+        live--;
+    }
+
+    /**
+     * @return the number of animals holding a slot
+     */
+    public static int size() {
+        return live;
+    }
+
+    /**
+     * Systems iterate slots from zero up to this bound and skip empty ones.
+     *
+     * @return one more than the highest slot ever handed out
+     */
+    public static int slotLimit() {
+        return slotLimit;
+    }
+
+    /**
+     * @param slot a slot below {@link #slotLimit()}
+     * @return the animal in that slot, or null if the slot is free
+     */
+    public static TameableAnimal animalAt(int slot) {
+        return animals[slot];
+    }
+
+    /**
+     * @param slot an animal's slot
+     * @return true if the animal has been tamed
+     */
+    public static boolean isTamed(int slot) {
+        return (flags[slot] & TAMED) != 0;
+    }
+
+    /**
+     * @param slot an animal's slot
+     * @return the actor who tamed the animal, or null
+     */
+    public static Actor tamerOf(int slot) {
+        return tamers[slot];
+    }
+
+    /**
+     * Mark an animal as tamed.
+     *
+     * @param slot  the animal's slot
+     * @param tamer the actor who tamed it
+     */
+    public static void tame(int slot, Actor tamer) {
+        flags[slot] |= TAMED;
+        tamers[slot] = tamer;
+    }
+
+    /**
+     * Let go of an actor that has left the world as a tamer: every animal it
+     * tamed goes back to the wild, rather than following a tamer who is no
+     * longer there and keeping it on the heap.
+     *
+     * @param tamer the actor that was removed
+     */
+    public static void forgetTamer(Actor tamer) {
+        if (tamer == null) {
+            return;
+        }
+        for (int slot = 0; slot < slotLimit; slot++) {
+            if (tamers[slot] == tamer) {
+                tamers[slot] = null;
+                flags[slot] &= ~TAMED;
+                animals[slot].disableAbility(Abilities.TAMED);
+            }
+        }
+    }
+
+    /**
+     * Draw from an animal's own random stream (SplitMix64), which replaces a
+     * {@code java.util.Random} object per animal.
+     *
+     * @param slot  the animal's slot
+     * @param bound the exclusive upper bound, greater than zero
+     * @return a value in {@code [0, bound)}
+     */
+    public static int nextInt(int slot, int bound) {
+        rng[slot] += GOLDEN_GAMMA;
+        long bits = mix(rng[slot]) >>> 33;
+        return (int) ((bits * bound) >>> 31);
+    }
+
+    /**
+     * Make the streams of animals created from now on reproducible.
+     *
+     * @param seed the seed
+     */
+    public static void seed(long seed) {
+        seeder = seed;
+    }
+
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    private static void grow() {
+        capacity *= 2;
+        for (int a = 0; a < ATTRIBUTES; a++) {
+            points[a] = Arrays.copyOf(points[a], capacity);
+            maximum[a] = Arrays.copyOf(maximum[a], capacity);
+        }
+        present = Arrays.copyOf(present, capacity);
+        warmthBand = Arrays.copyOf(warmthBand, capacity);
+        rng = Arrays.copyOf(rng, capacity);
+        flags = Arrays.copyOf(flags, capacity);
+        tamers = Arrays.copyOf(tamers, capacity);
+        animals = Arrays.copyOf(animals, capacity);
+    }
+}
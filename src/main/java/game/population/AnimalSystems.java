@@ -0,0 +1,159 @@
+package game.population;
+
+import edu.monash.fit2099.engine.actions.Action;
+import edu.monash.fit2099.engine.actors.Actor;
+import edu.monash.fit2099.engine.positions.Exit;
+import edu.monash.fit2099.engine.positions.GameMap;
+import edu.monash.fit2099.engine.positions.Location;
+import game.abilities.Abilities;
+import game.actions.AttackAction;
+import game.behaviours.BehaviourTree;
+import game.teleportation.PortalNetwork;
+
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Behaviour shared by every animal, written once against the
+ * {@link AnimalStore} instead of once per species.
+ *
+ * Each method works from an animal's slot: the random choices come from the
+ * slot's own stream, and nothing is copied or shuffled. Moves are the exits'
+ * shared {@link Exit#getMoveAction() move actions}, so a wandering or following
+ * animal allocates nothing.
+ *
+ * @author Muhamad Shafy Dimas Rafarrel
+ * @version 1.0
+ */
+public final class AnimalSystems {
+
+    // Preventing instantiation
+    private AnimalSystems() {}
+
+    /**
+     * Pick a random unoccupied neighbouring location to move to. Every free
+     * exit is equally likely, as with shuffling the exits and taking the first
+     * free one, but the choice is made in a single pass.
+     *
+     * @param animal the animal that is wandering
+     * @param slot   its slot in the {@link AnimalStore}
+     * @param map    the map it is on
+     * @return a move to a free neighbour, or {@link BehaviourTree#IDLE} if there is none or the animal is not on the map
+     */
+    public static Action wander(Actor animal, int slot, GameMap map) {
+        if (!map.contains(animal)) {
+            return BehaviourTree.IDLE;
+        }
+        List<Exit> exits = map.locationOf(animal).getExits();
+        Exit chosen = null;
+        int free = 0;
+        for (int i = 0; i < exits.size(); i++) {
+            Exit exit = exits.get(i);
+            if (!exit.getDestination().containsAnActor() && AnimalStore.nextInt(slot, ++free) == 0) {
+                chosen = exit;
+            }
+        }
+        return chosen == null ? BehaviourTree.IDLE : chosen.getMoveAction();
+    }
+
+    /**
+     * Pick a random exit to an unoccupied location with a caller's random
+     * stream, each free exit equally likely, without copying or shuffling the
+     * exits.
+     *
+     * @param from   where to leave from
+     * @param random the random stream to draw from
+     * @return a free exit, or null if every neighbour is occupied
+     */
+    public static Exit randomFreeExit(Location from, Random random) {
+        List<Exit> exits = from.getExits();
+        Exit chosen = null;
+        int free = 0;
+        for (int i = 0; i < exits.size(); i++) {
+            Exit exit = exits.get(i);
+            if (!exit.getDestination().containsAnActor() && random.nextInt(++free) == 0) {
+                chosen = exit;
+            }
+        }
+        return chosen;
+    }
+
+    /**
+     * Find a neighbouring actor to attack: the first one, in exit order, that
+     * is not tamed.
+     *
+     * @param animal the attacking animal
+     * @param map    the map it is on
+     * @return an attack with the animal's intrinsic weapon, or null if there is no target or the animal is not on the map
+     */
+    public static Action attackAdjacent(Actor animal, GameMap map) {
+        if (!map.contains(animal)) {
+            return null;
+        }
+        Location here = map.locationOf(animal);
+        List<Exit> exits = here.getExits();
+        for (int i = 0; i < exits.size(); i++) {
+            Exit exit = exits.get(i);
+            Location adjacent = exit.getDestination();
+            if (adjacent.containsAnActor()) {
+                Actor target = adjacent.getActor();
+                if (!target.hasAbility(Abilities.TAMED)) {
+                    return new AttackAction(target, exit.getName(), animal.getIntrinsicWeapon());
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Take the first step of a shortest path to a target, found by the map's
+     * shared {@link edu.monash.fit2099.engine.positions.PathFinder}, so that
+     * followers and hunters walk around trees and other actors rather than
+     * pressing against them.
+     *
+     * @param animal the moving animal
+     * @param target where it is heading; usually occupied by the actor it follows or hunts
+     * @param map    the map it is on
+     * @return a move along the path, or null if the animal or target is not on this map, the target cannot be
+     *         reached, or the animal is already next to it
+     */
+    public static Action moveTowards(Actor animal, Location target, GameMap map) {
+        if (target == null || !map.contains(animal)) {
+            return null;
+        }
+        Exit step = map.pathFinder().firstStep(animal, map.locationOf(animal), target);
+        if (step == null || step.getDestination().containsAnActor()) {
+            // Unreachable, or already next to an occupied target
+            return null;
+        }
+        return step.getMoveAction();
+    }
+
+    /**
+     * Take a step towards another actor, usually the tamer, using the map's
+     * shared {@link edu.monash.fit2099.engine.positions.DistanceFields}. A
+     * field is built once for every kind of animal heading for that actor, so each
+     * follower only looks at its own neighbours. A leader on another map is
+     * followed through the {@link PortalNetwork}.
+     *
+     * @param animal the following animal
+     * @param leader the actor it follows
+     * @param map    the map it is on
+     * @return a move closer to the leader or a teleport towards them, or null if there is none
+     */
+    public static Action follow(Actor animal, Actor leader, GameMap map) {
+        if (leader == null || !map.contains(animal)) {
+            return null;
+        }
+        Location here = map.locationOf(animal);
+        Location there = map.locationOf(leader);
+        if (there == null) {
+            return null;
+        }
+        if (there.map() != map) {
+            return PortalNetwork.nextAction(animal, here, there);
+        }
+        Exit step = map.distanceFields().nextStep(animal, here, there);
+        return step == null ? null : step.getMoveAction();
+    }
+}
@@ -0,0 +1,48 @@
+package game.population;
+
+import game.actors.ActorConstants;
+
+/**
+ * How cold an animal is, from comfortable to frozen. The bands are bounded by
+ * the thresholds in {@link ActorConstants}.
+ *
+ * @author Muhamad Shafy Dimas Rafarrel
+ * @version 1.0
+ */
+public enum WarmthBand {
+    COMFORTABLE(Integer.MAX_VALUE, null),
+    GETTING_COLD(ActorConstants.WARMTH_GETTING_COLD, " feels cold and is looking for warmth."),
+    COLD(ActorConstants.WARMTH_COLD, " feels very cold and is struggling to stay warm."),
+    VERY_COLD(ActorConstants.WARMTH_VERY_COLD, " shivers violently from the cold!"),
+    FROZEN(ActorConstants.WARMTH_CRITICAL, " becomes unconscious due to extreme cold and collapses!");
+
+    private static final WarmthBand[] COLDEST_FIRST = {FROZEN, VERY_COLD, COLD, GETTING_COLD};
+
+    private final int upperBound;
+    private final String message;
+
+    WarmthBand(int upperBound, String message) {
+        this.upperBound = upperBound;
+        this.message = message;
+    }
+
+    /**
+     * @param warmth a warmth value
+     * @return the band it falls in
+     */
+    public static WarmthBand of(int warmth) {
+        for (WarmthBand band : COLDEST_FIRST) {
+            if (warmth <= band.upperBound) {
+                return band;
+            }
+        }
+        return COMFORTABLE;
+    }
+
+    /**
+     * @return what is shown, after the animal's name, when an animal enters this band; null for COMFORTABLE
+     */
+    public String message() {
+        return message;
+    }
+}
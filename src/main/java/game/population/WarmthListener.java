@@ -0,0 +1,36 @@
+package game.population;
+
+import edu.monash.fit2099.engine.actors.Actor;
+import edu.monash.fit2099.engine.positions.GameMap;
+
+/**
+ * Told when an animal gets colder than it was, and, if it likes, about every
+ * cold resistant animal each turn.
+ *
+ * @author Muhamad Shafy Dimas Rafarrel
+ * @version 1.0
+ */
+@FunctionalInterface
+public interface WarmthListener {
+
+    /**
+     * Called when an animal moves into a colder {@link WarmthBand}. For
+     * {@link WarmthBand#FROZEN} this is called while the animal is still on
+     * the map, just before it is removed.
+     *
+     * @param animal the animal
+     * @param band   the band it has just entered
+     * @param map    the map it is on
+     */
+    void colder(Actor animal, WarmthBand band, GameMap map);
+
+    /**
+     * Called every turn for each cold resistant animal in the world, which
+     * keeps its warmth. Does nothing unless overridden.
+     *
+     * @param animal the animal
+     * @param map    the map it is on
+     */
+    default void immune(Actor animal, GameMap map) {
+    }
+}
@@ -0,0 +1,105 @@
+package game.population;
+
+import edu.monash.fit2099.engine.actors.Actor;
+import edu.monash.fit2099.engine.actors.ActorLocationsIterator;
+import edu.monash.fit2099.engine.actors.attributes.ActorAttributeOperation;
+import edu.monash.fit2099.engine.actors.attributes.BaseAttributes;
+import edu.monash.fit2099.engine.positions.GameMap;
+import game.abilities.Abilities;
+import game.taming.TameableAnimal;
+
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Makes every animal that has {@link BaseAttributes#WARMTH} one point colder
+ * per turn.
+ *
+ * The system walks the warmth column of the {@link AnimalStore}, so a turn
+ * costs time in proportion to the animal population, however large the maps
+ * are. The band each animal was last in is kept in the store as well, and the
+ * listener only hears about an animal when it moves into a colder band, not on
+ * every turn it spends there. Cold resistant animals keep their warmth, and
+ * the listener is told about them every turn. An animal that freezes falls
+ * unconscious through {@code unconscious(GameMap)}, like any other death,
+ * which also gives its slot back.
+ *
+ * Actors with warmth that are not {@link TameableAnimal}s have no row in the
+ * store. They are found by walking the actors in the world once a turn, and
+ * their bands are remembered on the side, so they cool the same way.
+ *
+ * @author Muhamad Shafy Dimas Rafarrel
+ * @version 1.0
+ */
+public final class WarmthSystem {
+
+    private static final int WARMTH = BaseAttributes.WARMTH.ordinal();
+
+    /** The band each actor with warmth but no row in the store was last seen in. */
+    private static final Map<Actor, WarmthBand> otherBands = new WeakHashMap<>();
+
+    // Preventing instantiation
+    private WarmthSystem() {}
+
+    /**
+     * Cool every animal in the world by one point.
+     *
+     * @param actors   where every actor in the world is; animals not in the world are left alone
+     * @param listener told about animals that have become colder
+     */
+    public static void tick(ActorLocationsIterator actors, WarmthListener listener) {
+        for (int slot = 0; slot < AnimalStore.slotLimit(); slot++) {
+            TameableAnimal animal = AnimalStore.animalAt(slot);
+            if (animal == null || (AnimalStore.present[slot] & (1 << WARMTH)) == 0 || !actors.contains(animal)) {
+                continue;
+            }
+            if (animal.hasAbility(Abilities.COLD_RESISTANCE)) {
+                listener.immune(animal, actors.locationOf(animal).map());
+                continue;
+            }
+
+            int warmth = Math.max(AnimalStore.points[WARMTH][slot] - 1, 0);
+            AnimalStore.points[WARMTH][slot] = warmth;
+
+            WarmthBand band = WarmthBand.of(warmth);
+            int previous = AnimalStore.warmthBand[slot];
+            AnimalStore.warmthBand[slot] = (byte) band.ordinal();
+            if (band.ordinal() <= previous) {
+                continue;
+            }
+
+            GameMap map = actors.locationOf(animal).map();
+            listener.colder(animal, band, map);
+            if (band == WarmthBand.FROZEN) {
+                animal.unconscious(map);
+            }
+        }
+
+        for (Actor actor : actors) {
+            if (!(actor instanceof TameableAnimal) && actor.hasStatistic(BaseAttributes.WARMTH)) {
+                coolOther(actor, actors.locationOf(actor).map(), listener);
+            }
+        }
+    }
+
+    /**
+     * Cool an actor with warmth that has no row in the store.
+     */
+    private static void coolOther(Actor actor, GameMap map, WarmthListener listener) {
+        if (actor.hasAbility(Abilities.COLD_RESISTANCE)) {
+            listener.immune(actor, map);
+            return;
+        }
+        actor.modifyAttribute(BaseAttributes.WARMTH, ActorAttributeOperation.DECREASE, 1);
+        WarmthBand band = WarmthBand.of(actor.getAttribute(BaseAttributes.WARMTH));
+        WarmthBand previous = otherBands.put(actor, band);
+        if (band.ordinal() <= (previous == null ? 0 : previous.ordinal())) {
+            return;
+        }
+        listener.colder(actor, band, map);
+        if (band == WarmthBand.FROZEN) {
+            otherBands.remove(actor);
+            actor.unconscious(map);
+        }
+    }
+}
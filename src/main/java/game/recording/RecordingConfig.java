@@ -0,0 +1,39 @@
+package game.recording;
+
+/**
+ * Reads session recording settings from environment variables or system properties.
+ *
+ * <p>Configuration is read in the following order:
+ * <ol>
+ *   <li>Environment variables</li>
+ *   <li>System properties</li>
+ *   <li>Default values</li>
+ * </ol>
+ */
+public final class RecordingConfig {
+    private static final String RECORD_FILE_ENV = "WSG_RECORD_FILE";
+
+    private RecordingConfig() {}
+
+    /**
+     * Returns the file the session should be recorded to.
+     *
+     * @return the recording path, or empty string if recording is off
+     */
+    public static String recordFile() {
+        String v = System.getenv(RECORD_FILE_ENV);
+        if (v == null || v.isBlank()) {
+            v = System.getProperty(RECORD_FILE_ENV, "");
+        }
+        return v;
+    }
+
+    /**
+     * Checks whether session recording has been requested.
+     *
+     * @return true if a recording file is configured, false otherwise
+     */
+    public static boolean isEnabled() {
+        return !recordFile().isBlank();
+    }
+}
@@ -0,0 +1,34 @@
+package game.recording;
+
+/**
+ * Layout constants shared by {@link SessionRecorder} and {@link SessionPlayer}.
+ *
+ * <p>A recording is an 8-byte header (magic, version) followed by blocks. Each
+ * block has an uncompressed 16-byte header (first turn, last turn, frame count,
+ * compressed length) and then a self-contained deflate stream holding up to
+ * {@link #FRAMES_PER_BLOCK} frames. The first map in a block is stored whole
+ * (a keyframe); later maps in the block store only the cells that changed.
+ * Because blocks never refer to each other, a reader can hop from header to
+ * header to find a turn and inflate just that block.
+ *
+ * @author Muhamad Shafy Dimas Rafarrel
+ * @version 1.0
+ */
+final class RecordingFormat {
+    /** "WSGR" - Winter Survival Game Recording. */
+    static final int MAGIC = 0x57534752;
+    static final int VERSION = 1;
+
+    static final int FILE_HEADER_BYTES = 8;
+    static final int BLOCK_HEADER_BYTES = 16;
+    static final int FRAMES_PER_BLOCK = 64;
+
+    /** Frame carries no map. */
+    static final byte NO_MAP = 0;
+    /** Frame carries every cell of its map. */
+    static final byte KEYFRAME = 1;
+    /** Frame carries only the cells that differ from the previous map in the block. */
+    static final byte DELTA = 2;
+
+    private RecordingFormat() {}
+}
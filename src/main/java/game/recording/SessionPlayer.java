@@ -0,0 +1,287 @@
+package game.recording;
+
+import edu.monash.fit2099.engine.displays.Frame;
+
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Reads recordings made by {@link SessionRecorder} and replays chosen turns.
+ *
+ * <p>Opening a recording only reads the block headers, hopping from one to the
+ * next, so it is quick even for very long sessions. Looking up a turn then
+ * inflates just the block (or the few blocks) holding it. A recording cut off
+ * part-way through a block, e.g. by a crash, is read up to its last complete
+ * block.
+ *
+ * <p>Run from the command line as
+ * {@code SessionPlayer <file>} for a summary, {@code SessionPlayer <file> <turn>}
+ * to print one turn, or {@code SessionPlayer <file> <from> <to>} for a range.
+ *
+ * @author Muhamad Shafy Dimas Rafarrel
+ * @version 1.0
+ */
+public class SessionPlayer implements Closeable {
+    private final FileChannel channel;
+    private final List<Block> blocks = new ArrayList<>();
+
+    /** The most recently inflated block, so stepping through consecutive turns inflates each block once. */
+    private Block cachedBlock;
+    private List<Frame> cachedFrames;
+
+    /**
+     * Where one block lives in the file and which turns it covers.
+     */
+    private record Block(int firstTurn, int lastTurn, int frameCount, long offset, int length) {}
+
+    private SessionPlayer(FileChannel channel) {
+        this.channel = channel;
+    }
+
+    /**
+     * Opens a recording and indexes its blocks.
+     *
+     * @param file the recording file
+     * @return a player for the recording
+     * @throws IOException if the file cannot be read or is not a recording
+     */
+    public static SessionPlayer open(Path file) throws IOException {
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+        SessionPlayer player = new SessionPlayer(channel);
+        try {
+            player.index();
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+        return player;
+    }
+
+    private void index() throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(RecordingFormat.FILE_HEADER_BYTES);
+        readFully(header, 0);
+        if (header.getInt() != RecordingFormat.MAGIC) {
+            throw new IOException("Not a session recording");
+        }
+        int version = header.getInt();
+        if (version != RecordingFormat.VERSION) {
+            throw new IOException("Unsupported recording version " + version);
+        }
+
+        long size = channel.size();
+        long position = RecordingFormat.FILE_HEADER_BYTES;
+        ByteBuffer blockHeader = ByteBuffer.allocate(RecordingFormat.BLOCK_HEADER_BYTES);
+        while (position + RecordingFormat.BLOCK_HEADER_BYTES <= size) {
+            blockHeader.clear();
+            readFully(blockHeader, position);
+            int firstTurn = blockHeader.getInt();
+            int lastTurn = blockHeader.getInt();
+            int frameCount = blockHeader.getInt();
+            int length = blockHeader.getInt();
+            long data = position + RecordingFormat.BLOCK_HEADER_BYTES;
+            if (length < 0 || data + length > size) {
+                break; // truncated tail
+            }
+            blocks.add(new Block(firstTurn, lastTurn, frameCount, data, length));
+            position = data + length;
+        }
+    }
+
+    /**
+     * @return true if the recording holds no frames
+     */
+    public boolean isEmpty() {
+        return blocks.isEmpty();
+    }
+
+    /**
+     * @return the first recorded turn
+     */
+    public int firstTurn() {
+        return blocks.get(0).firstTurn();
+    }
+
+    /**
+     * @return the last recorded turn
+     */
+    public int lastTurn() {
+        return blocks.get(blocks.size() - 1).lastTurn();
+    }
+
+    /**
+     * @return the total number of recorded frames
+     */
+    public int frameCount() {
+        int total = 0;
+        for (Block block : blocks) {
+            total += block.frameCount();
+        }
+        return total;
+    }
+
+    /**
+     * Returns every frame rendered during a turn, in order, each with its map
+     * fully reconstructed.
+     *
+     * @param turn the turn to look up
+     * @return the frames of that turn; empty if the turn was not recorded
+     * @throws IOException if the recording cannot be read
+     */
+    public List<Frame> framesOf(int turn) throws IOException {
+        List<Frame> frames = new ArrayList<>();
+        // Turns only grow, so the first block that ends at or after the turn is where it starts.
+        int low = 0;
+        int high = blocks.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (blocks.get(mid).lastTurn() < turn) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        for (int i = low; i < blocks.size() && blocks.get(i).firstTurn() <= turn; i++) {
+            for (Frame frame : decode(blocks.get(i))) {
+                if (frame.getTurn() == turn) {
+                    frames.add(frame);
+                }
+            }
+        }
+        return frames;
+    }
+
+    /**
+     * Closes the recording file.
+     *
+     * @throws IOException if closing fails
+     */
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private List<Frame> decode(Block block) throws IOException {
+        if (block != cachedBlock) {
+            cachedFrames = inflate(block);
+            cachedBlock = block;
+        }
+        return cachedFrames;
+    }
+
+    private List<Frame> inflate(Block block) throws IOException {
+        ByteBuffer bytes = ByteBuffer.allocate(block.length());
+        readFully(bytes, block.offset());
+
+        List<Frame> frames = new ArrayList<>(block.frameCount());
+        try (DataInputStream in = new DataInputStream(new InflaterInputStream(
+                new ByteArrayInputStream(bytes.array(), 0, block.length())))) {
+            char[][] cells = null;
+            for (int f = 0; f < block.frameCount(); f++) {
+                int turn = in.readInt();
+                byte kind = in.readByte();
+                char[][] frameCells = null;
+                if (kind == RecordingFormat.KEYFRAME) {
+                    int width = in.readInt();
+                    int height = in.readInt();
+                    cells = new char[height][width];
+                    for (int y = 0; y < height; y++) {
+                        for (int x = 0; x < width; x++) {
+                            cells[y][x] = in.readChar();
+                        }
+                    }
+                    frameCells = copyOf(cells);
+                } else if (kind == RecordingFormat.DELTA) {
+                    if (cells == null) {
+                        throw new IOException("Delta before keyframe at turn " + turn);
+                    }
+                    int width = cells[0].length;
+                    int changed = in.readInt();
+                    for (int i = 0; i < changed; i++) {
+                        int index = in.readInt();
+                        cells[index / width][index % width] = in.readChar();
+                    }
+                    frameCells = copyOf(cells);
+                } else if (kind != RecordingFormat.NO_MAP) {
+                    throw new IOException("Unknown frame kind " + kind + " at turn " + turn);
+                }
+
+                int mapIndex = in.readInt();
+                int messageCount = in.readInt();
+                List<String> messages = new ArrayList<>(messageCount);
+                for (int m = 0; m < messageCount; m++) {
+                    byte[] text = new byte[in.readInt()];
+                    in.readFully(text);
+                    messages.add(new String(text, StandardCharsets.UTF_8));
+                }
+                frames.add(new Frame(turn, frameCells, mapIndex, messages));
+            }
+        }
+        return frames;
+    }
+
+    private static char[][] copyOf(char[][] cells) {
+        char[][] copy = new char[cells.length][];
+        for (int y = 0; y < cells.length; y++) {
+            copy[y] = cells[y].clone();
+        }
+        return copy;
+    }
+
+    private void readFully(ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, position + buffer.position());
+            if (read < 0) {
+                throw new IOException("Unexpected end of recording");
+            }
+        }
+        buffer.flip();
+    }
+
+    /**
+     * Prints a summary of a recording, or the frames of a turn or range of turns.
+     *
+     * @param args the recording file, then optionally a turn or a from/to pair
+     */
+    public static void main(String[] args) {
+        if (args.length < 1 || args.length > 3) {
+            System.err.println("Usage: SessionPlayer <file> [turn [toTurn]]");
+            System.exit(2);
+        }
+        try (SessionPlayer player = SessionPlayer.open(Paths.get(args[0]))) {
+            if (player.isEmpty()) {
+                System.out.println("Recording is empty.");
+                return;
+            }
+            if (args.length == 1) {
+                System.out.println("Turns " + player.firstTurn() + " to " + player.lastTurn()
+                        + ", " + player.frameCount() + " frames in " + player.blocks.size() + " blocks.");
+                return;
+            }
+            int from = Integer.parseInt(args[1]);
+            int to = args.length == 3 ? Integer.parseInt(args[2]) : from;
+            StringBuilder out = new StringBuilder();
+            for (int turn = from; turn <= to; turn++) {
+                out.setLength(0);
+                out.append("=== Turn ").append(turn).append(" ===").append(System.lineSeparator());
+                for (Frame frame : player.framesOf(turn)) {
+                    frame.appendTo(out);
+                }
+                System.out.print(out);
+            }
+        } catch (IOException | NumberFormatException e) {
+            System.err.println(e.getMessage());
+            System.exit(1);
+        }
+    }
+}
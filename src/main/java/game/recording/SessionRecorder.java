@@ -0,0 +1,222 @@
+package game.recording;
+
+import edu.monash.fit2099.engine.displays.Frame;
+import edu.monash.fit2099.engine.displays.FrameListener;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+
+/**
+ * Records every frame a {@code BufferedDisplay} renders to a compact file that
+ * {@link SessionPlayer} can seek through.
+ *
+ * <p>Frames are grouped into blocks of up to {@link RecordingFormat#FRAMES_PER_BLOCK}.
+ * Within a block the first map is written whole and the rest as cell deltas,
+ * so a turn in which a single animal moves costs a handful of bytes. Each block
+ * is deflated on its own and appended to the file through a {@link FileChannel}.
+ *
+ * <p>Frames arrive on the renderer thread, so recording never slows a turn
+ * down. If writing fails the recorder reports it once and stops recording; the
+ * game itself carries on.
+ *
+ * @author Muhamad Shafy Dimas Rafarrel
+ * @version 1.0
+ */
+public class SessionRecorder implements FrameListener, Closeable {
+    private final FileChannel channel;
+    private final Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+    private final ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+    private final ByteBuffer blockHeader = ByteBuffer.allocate(RecordingFormat.BLOCK_HEADER_BYTES);
+
+    private DeflaterOutputStream deflating;
+    private DataOutputStream block;
+    private int framesInBlock;
+    private int firstTurn;
+    private int lastTurn;
+
+    /** The previous map in the current block, row-major, or null if there is none yet. */
+    private char[] previousCells;
+    private int previousWidth;
+    private int previousHeight;
+
+    private boolean closed;
+
+    /**
+     * Creates a recorder writing to the given file, replacing anything already there.
+     *
+     * @param file the recording file
+     * @throws IOException if the file cannot be opened
+     */
+    public SessionRecorder(Path file) throws IOException {
+        this.channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        ByteBuffer header = ByteBuffer.allocate(RecordingFormat.FILE_HEADER_BYTES);
+        header.putInt(RecordingFormat.MAGIC).putInt(RecordingFormat.VERSION).flip();
+        writeFully(header);
+        startBlock();
+    }
+
+    /**
+     * Appends a frame to the recording.
+     *
+     * @param frame the frame that was just rendered
+     */
+    @Override
+    public synchronized void frameRendered(Frame frame) {
+        if (closed) {
+            return;
+        }
+        try {
+            writeFrame(frame);
+            if (framesInBlock == RecordingFormat.FRAMES_PER_BLOCK) {
+                finishBlock();
+                startBlock();
+            }
+        } catch (IOException e) {
+            System.err.println("Session recording stopped: " + e.getMessage());
+            closeQuietly();
+        }
+    }
+
+    /**
+     * Writes out the last partial block once the display has nothing more to show.
+     */
+    @Override
+    public void displayClosed() {
+        closeQuietly();
+    }
+
+    /**
+     * Writes out the last partial block and closes the file.
+     *
+     * @throws IOException if the final block cannot be written
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            finishBlock();
+        } finally {
+            deflater.end();
+            channel.close();
+        }
+    }
+
+    private void closeQuietly() {
+        try {
+            close();
+        } catch (IOException e) {
+            System.err.println("Session recording could not be finished: " + e.getMessage());
+        }
+    }
+
+    private void startBlock() {
+        compressed.reset();
+        deflater.reset();
+        deflating = new DeflaterOutputStream(compressed, deflater);
+        block = new DataOutputStream(deflating);
+        framesInBlock = 0;
+        previousCells = null;
+    }
+
+    private void finishBlock() throws IOException {
+        if (framesInBlock == 0) {
+            return;
+        }
+        block.flush();
+        deflating.finish();
+
+        blockHeader.clear();
+        blockHeader.putInt(firstTurn).putInt(lastTurn).putInt(framesInBlock).putInt(compressed.size()).flip();
+        writeFully(blockHeader);
+        writeFully(ByteBuffer.wrap(compressed.toByteArray()));
+        framesInBlock = 0;
+    }
+
+    private void writeFrame(Frame frame) throws IOException {
+        if (framesInBlock == 0) {
+            firstTurn = frame.getTurn();
+        }
+        lastTurn = frame.getTurn();
+        framesInBlock++;
+
+        block.writeInt(frame.getTurn());
+        if (!frame.hasMap()) {
+            block.writeByte(RecordingFormat.NO_MAP);
+        } else if (previousCells == null
+                || frame.getWidth() != previousWidth || frame.getHeight() != previousHeight) {
+            writeKeyframe(frame);
+        } else {
+            writeDelta(frame);
+        }
+
+        List<String> messages = frame.getMessages();
+        block.writeInt(frame.getMapIndex());
+        block.writeInt(messages.size());
+        for (String message : messages) {
+            byte[] bytes = message.getBytes(StandardCharsets.UTF_8);
+            block.writeInt(bytes.length);
+            block.write(bytes);
+        }
+    }
+
+    private void writeKeyframe(Frame frame) throws IOException {
+        int width = frame.getWidth();
+        int height = frame.getHeight();
+        previousWidth = width;
+        previousHeight = height;
+        previousCells = new char[width * height];
+
+        block.writeByte(RecordingFormat.KEYFRAME);
+        block.writeInt(width);
+        block.writeInt(height);
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                char c = frame.cellAt(x, y);
+                previousCells[y * width + x] = c;
+                block.writeChar(c);
+            }
+        }
+    }
+
+    private void writeDelta(Frame frame) throws IOException {
+        int width = previousWidth;
+        int changed = 0;
+        for (int i = 0; i < previousCells.length; i++) {
+            if (frame.cellAt(i % width, i / width) != previousCells[i]) {
+                changed++;
+            }
+        }
+
+        block.writeByte(RecordingFormat.DELTA);
+        block.writeInt(changed);
+        for (int i = 0; i < previousCells.length && changed > 0; i++) {
+            char c = frame.cellAt(i % width, i / width);
+            if (c != previousCells[i]) {
+                previousCells[i] = c;
+                block.writeInt(i);
+                block.writeChar(c);
+                changed--;
+            }
+        }
+    }
+
+    private void writeFully(ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package game.states;
+
+import edu.monash.fit2099.engine.actors.Actor;
+import edu.monash.fit2099.engine.actors.attributes.BaseAttributes;
+import edu.monash.fit2099.engine.positions.GameMap;
+import edu.monash.fit2099.engine.positions.Location;
+import edu.monash.fit2099.engine.weapons.IntrinsicWeapon;
+import game.actions.AttackAction;
+
+/**
+ * A chimera's attack with its state's weapon, followed by the state's
+ * on-hit effect if the attack drew blood and the target is still standing.
+ * Each chimera has one, kept in its {@link ChimeraContext} and aimed anew for
+ * every attack.
+ *
+ * @author Muhamad Shafy Dimas Rafarrel
+ * @version 1.0
+ */
+class ChimeraAttackAction extends AttackAction {
+
+    private final ChimeraContext context;
+    private ChimeraState effect;
+    private Actor target;
+    private Location targetLocation;
+
+    ChimeraAttackAction(ChimeraContext context) {
+        super(null, null, null);
+        this.context = context;
+    }
+
+    void aim(ChimeraState effect, IntrinsicWeapon weapon, Actor target, String direction, Location targetLocation) {
+        retarget(target, direction, weapon);
+        this.effect = effect;
+        this.target = target;
+        this.targetLocation = targetLocation;
+    }
+
+    @Override
+    public String execute(Actor actor, GameMap map) {
+        int healthBefore = target.getAttribute(BaseAttributes.HEALTH);
+        String result = super.execute(actor, map);
+        int healthAfter = target.getAttribute(BaseAttributes.HEALTH);
+
+        // Only a hit that leaves the target conscious carries the state's effect
+        if (effect != null && healthAfter < healthBefore && target.isConscious()) {
+            String extra = effect.onHit(context, target, targetLocation);
+            if (extra != null) {
+                result += "\n" + extra;
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,137 @@
+package game.states;
+
+import edu.monash.fit2099.engine.actions.Action;
+import edu.monash.fit2099.engine.actors.Actor;
+import edu.monash.fit2099.engine.positions.Location;
+import edu.monash.fit2099.engine.weapons.IntrinsicWeapon;
+
+import java.util.Collections;
+import java.util.Random;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+/**
+ * Everything about one chimera that its elemental states need to remember.
+ *
+ * The states themselves are shared by every chimera, so they hold nothing of
+ * their own: the counters the {@link ChimeraTransitions transition table}
+ * looks at, the random stream, the actors a poison chimera is keeping track of
+ * and the one attack action the chimera reuses for every attack all live here,
+ * one record per chimera.
+ *
+ * @author Muhamad Shafy Dimas Rafarrel
+ * @version 1.0
+ */
+public final class ChimeraContext {
+
+    /**
+     * The counters states keep up and transitions are decided on. All of them
+     * start again at 0 when the chimera changes state.
+     */
+    public enum Counter {
+        /** Turns since the chimera entered its current state. */
+        TURNS_IN_STATE,
+        /** Turns in a row without an enemy next to the chimera. */
+        TURNS_ALONE,
+        /** Turns since the chimera last attacked. */
+        TURNS_SINCE_ATTACK
+    }
+
+    private static final Counter[] COUNTERS = Counter.values();
+
+    private final int[] counters = new int[COUNTERS.length];
+
+    private final Random random;
+
+    /** Actors poisoned in the current poison state; created the first time one is. */
+    private Set<Actor> poisonedActors;
+
+    private ChimeraAttackAction attack;
+
+    /**
+     * Constructor.
+     *
+     * @param random the chimera's own random stream
+     */
+    public ChimeraContext(Random random) {
+        this.random = random;
+    }
+
+    /**
+     * @param counter a counter
+     * @return its value
+     */
+    public int get(Counter counter) {
+        return counters[counter.ordinal()];
+    }
+
+    /**
+     * Add one to a counter.
+     *
+     * @param counter a counter
+     */
+    public void increment(Counter counter) {
+        counters[counter.ordinal()]++;
+    }
+
+    /**
+     * Set a counter back to 0.
+     *
+     * @param counter a counter
+     */
+    public void clear(Counter counter) {
+        counters[counter.ordinal()] = 0;
+    }
+
+    /**
+     * Start a new state: every counter goes back to 0 and poisoned actors are forgotten.
+     */
+    public void enterState() {
+        for (Counter counter : COUNTERS) {
+            clear(counter);
+        }
+        if (poisonedActors != null) {
+            poisonedActors.clear();
+        }
+    }
+
+    /**
+     * @return the chimera's random stream
+     */
+    public Random random() {
+        return random;
+    }
+
+    /**
+     * The actors poisoned in the current poison state, for status messages.
+     * Weakly held, so an actor that dies is not kept alive by the chimera.
+     *
+     * @return the actors; modifiable
+     */
+    Set<Actor> poisonedActors() {
+        if (poisonedActors == null) {
+            poisonedActors = Collections.newSetFromMap(new WeakHashMap<>());
+        }
+        return poisonedActors;
+    }
+
+    /**
+     * The chimera's attack action, aimed at a new target. The same action is
+     * returned every time; it is executed in the turn it is returned, before
+     * the chimera can attack again.
+     *
+     * @param effect the state whose {@link ChimeraState#onHit on-hit effect} a hit has, or null for none
+     * @param weapon the weapon to attack with
+     * @param target the actor being attacked
+     * @param direction the direction of the attack
+     * @param targetLocation the location of the target
+     * @return the attack
+     */
+    Action attack(ChimeraState effect, IntrinsicWeapon weapon, Actor target, String direction, Location targetLocation) {
+        if (attack == null) {
+            attack = new ChimeraAttackAction(this);
+        }
+        attack.aim(effect, weapon, target, direction, targetLocation);
+        return attack;
+    }
+}
@@ -1,10 +1,10 @@
 package game.states;
 
 import edu.monash.fit2099.engine.actions.Action;
-import edu.monash.fit2099.engine.actions.ActionList;
 import edu.monash.fit2099.engine.actors.Actor;
 import edu.monash.fit2099.engine.displays.Display;
 import edu.monash.fit2099.engine.positions.GameMap;
+import edu.monash.fit2099.engine.positions.Location;
 import edu.monash.fit2099.engine.weapons.IntrinsicWeapon;
 import game.actors.Chimera;
 
@@ -14,27 +14,29 @@ import game.actors.Chimera;
  * This interface enables chimeras to dynamically change their behavior, appearance,
  * and combat capabilities based on their current elemental state.
  *
- * Each state manages its own internal counters, transition conditions, and behavioral logic
- * while providing a consistent interface for the Chimera class to interact with.
+ * States are flyweights: there is one instance of each, shared by every chimera,
+ * and whatever one chimera needs remembered (its counters, its random stream,
+ * its attack action) is kept in that chimera's {@link ChimeraContext}. When a
+ * state is left for another is not decided by the states either but by the
+ * {@link ChimeraTransitions transition table}.
  *
  * @author Muhamad Shafy Dimas Rafarrel
- * @version 2.2
+ * @version 3.0
  */
 public interface ChimeraState {
     /**
      * Determines the behavior action for this state on the current turn.
      *
-     * Each state implements unique behavioral patterns.
+     * Each state implements unique behavioral patterns, and keeps up the
+     * counters in the context that its transitions look at.
      *
      * @param chimera the chimera actor executing the behavior
-     * @param actions the list of available actions for this turn
-     * @param lastAction the action performed in the previous turn
+     * @param context the chimera's context
      * @param map the current game map for spatial context
      * @param display the display object for outputting messages
      * @return the action to be performed this turn
      */
-    Action getBehaviorAction(Actor chimera, ActionList actions, Action lastAction,
-                             GameMap map, Display display);
+    Action getBehaviorAction(Chimera chimera, ChimeraContext context, GameMap map, Display display);
 
     /**
      * Gets the intrinsic weapon associated with this elemental state.
@@ -48,20 +50,6 @@ public interface ChimeraState {
      */
     IntrinsicWeapon getStateWeapon();
 
-    /**
-     * Attempts to transition to a different state based on predetermined conditions.
-     *
-     * State transitions are governed by specific rules and probability checks:
-     * - Time-based transitions (turns spent in current state)
-     * - Probability-based decisions using random chance
-     *
-     * @param chimera the chimera attempting the transition
-     * @param map the current game map for environmental context
-     * @param display the display for transition announcement messages
-     * @return the new state to transition to, or current state if no transition occurs
-     */
-    ChimeraState attemptStateTransition(Actor chimera, GameMap map, Display display);
-
     /**
      * Gets the display name of this state for user interface purposes.
      *
@@ -85,25 +73,31 @@ public interface ChimeraState {
      * Creates an attack action appropriate for this state.
      * Some states may add special effects (like fire spreading) to attacks.
      *
+     * @param context the attacking chimera's context, whose attack action is reused
      * @param target the actor being attacked
      * @param direction the direction of the attack
      * @param targetLocation the location of the target
-     * @param map the current game map
-     * @param display the display for attack messages
      * @return an attack action with state-specific effects
      */
-    Action createAttackAction(Actor target, String direction, edu.monash.fit2099.engine.positions.Location targetLocation,
-                              GameMap map, Display display);
+    Action createAttackAction(ChimeraContext context, Actor target, String direction, Location targetLocation);
 
     /**
-     * Called when the chimera enters this state.
+     * What a hit from this state's attack does besides the weapon's damage.
+     * Called only when the attack hurt the target and left it conscious.
      *
-     * Handles state initialization, counter resets, and any special effects
-     * that occur during state transitions. May include:
-     * - Resetting internal counters and tracking variables
-     * - Applying stat modifications or buffs
-     * - Displaying transition messages to the player
-     * - Affecting the tamer if the chimera is tamed
+     * @param context the attacking chimera's context
+     * @param target the actor that was hit
+     * @param targetLocation where it stands
+     * @return a line to add to the attack's result, or null for none
+     */
+    default String onHit(ChimeraContext context, Actor target, Location targetLocation) {
+        return null;
+    }
+
+    /**
+     * Called when the chimera enters this state, after the context's counters
+     * have been reset. Handles any special effects that occur during state
+     * transitions, such as stat modifications and entry messages.
      *
      * @param chimera the chimera entering this state
      * @param map the current game map for context
@@ -121,4 +115,4 @@ public interface ChimeraState {
     default void applyBuffsToAllies(Chimera chimera, GameMap map, Display display) {
         // Default: no buffs to allies
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,99 @@
+package game.states;
+
+import edu.monash.fit2099.engine.displays.Display;
+import game.states.ChimeraContext.Counter;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Every way a chimera can change state, declared in one table.
+ *
+ * Each turn the rows for the chimera's current state are looked at in order,
+ * and the first whose counter has reached its threshold is the one that
+ * applies: the chimera changes to the row's target with the row's chance,
+ * and otherwise stays as it is. Later rows are only looked at when an earlier
+ * one's counter has not reached its threshold, so a chimera that could make
+ * either of two changes tries the first one only.
+ *
+ * Tuning a transition, or adding one, is a change to {@link #TABLE} alone.
+ *
+ * @author Muhamad Shafy Dimas Rafarrel
+ * @version 1.0
+ */
+public final class ChimeraTransitions {
+
+    /**
+     * One row of the table.
+     *
+     * @param from the state the row applies in
+     * @param counter the counter the row looks at
+     * @param atLeast the value the counter must have reached
+     * @param percent the chance, out of 100, that the chimera changes state when it has
+     * @param to the state the chimera changes to
+     * @param message what is shown when it does
+     */
+    public record Transition(ChimeraState from, Counter counter, int atLeast, int percent,
+                             ChimeraState to, String message) {}
+
+    private static final List<Transition> TABLE = List.of(
+            new Transition(DefaultChimeraState.INSTANCE, Counter.TURNS_IN_STATE, 3, 60, FireState.INSTANCE,
+                    "\nThe chimera's body begins to glow with inner fire!"),
+            new Transition(FireState.INSTANCE, Counter.TURNS_IN_STATE, 3, 60, IceState.INSTANCE,
+                    "\nThe flames die down as ice crystals form around the chimera!"),
+            new Transition(IceState.INSTANCE, Counter.TURNS_IN_STATE, 3, 40, PoisonState.INSTANCE,
+                    "\nThe ice transforms into toxic vapors as the chimera seeks a different approach!\n"),
+            new Transition(IceState.INSTANCE, Counter.TURNS_ALONE, 4, 30, DefaultChimeraState.INSTANCE,
+                    "The ice melts away as the chimera returns to its natural form!\n"),
+            new Transition(PoisonState.INSTANCE, Counter.TURNS_IN_STATE, 4, 50, FireState.INSTANCE,
+                    "The poison boils away as the chimera erupts in flames!"),
+            new Transition(PoisonState.INSTANCE, Counter.TURNS_SINCE_ATTACK, 5, 30, DefaultChimeraState.INSTANCE,
+                    "The toxins fade as the chimera returns to its natural form!"));
+
+    private static final Transition[] NONE = new Transition[0];
+
+    /** The table's rows grouped by the state they apply in, in table order. */
+    private static final Map<ChimeraState, Transition[]> BY_STATE = new IdentityHashMap<>();
+
+    static {
+        Map<ChimeraState, List<Transition>> grouped = new IdentityHashMap<>();
+        for (Transition transition : TABLE) {
+            grouped.computeIfAbsent(transition.from(), state -> new ArrayList<>()).add(transition);
+        }
+        grouped.forEach((state, rows) -> BY_STATE.put(state, rows.toArray(NONE)));
+    }
+
+    // Preventing instantiation
+    private ChimeraTransitions() {}
+
+    /**
+     * @return every row of the table, in order
+     */
+    public static List<Transition> table() {
+        return TABLE;
+    }
+
+    /**
+     * Decide whether a chimera changes state this turn.
+     *
+     * @param current the chimera's current state
+     * @param context the chimera's context, whose counters and random stream are used
+     * @param display where the message of a transition made goes
+     * @return the state to change to, or {@code current} if the chimera stays as it is
+     */
+    public static ChimeraState next(ChimeraState current, ChimeraContext context, Display display) {
+        Transition[] rows = BY_STATE.getOrDefault(current, NONE);
+        for (Transition row : rows) {
+            if (context.get(row.counter()) >= row.atLeast()) {
+                if (context.random().nextInt(100) < row.percent()) {
+                    display.println(row.message());
+                    return row.to();
+                }
+                return current;
+            }
+        }
+        return current;
+    }
+}
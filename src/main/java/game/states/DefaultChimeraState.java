@@ -1,9 +1,6 @@
 package game.states;
 
 import edu.monash.fit2099.engine.actions.Action;
-import edu.monash.fit2099.engine.actions.ActionList;
-import edu.monash.fit2099.engine.actions.DoNothingAction;
-import edu.monash.fit2099.engine.actions.MoveActorAction;
 import edu.monash.fit2099.engine.actors.Actor;
 import edu.monash.fit2099.engine.displays.Display;
 import edu.monash.fit2099.engine.positions.Exit;
@@ -11,13 +8,12 @@ import edu.monash.fit2099.engine.positions.GameMap;
 import edu.monash.fit2099.engine.positions.Location;
 import edu.monash.fit2099.engine.weapons.IntrinsicWeapon;
 import game.abilities.Abilities;
-import game.actions.AttackAction;
+import game.actors.Chimera;
+import game.behaviours.BehaviourTree;
+import game.population.AnimalSystems;
 import game.weapons.BearClaw;
 
-import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
-import java.util.Random;
 
 /**
  * The default elemental state of the Chimera, representing its natural form.
@@ -26,50 +22,51 @@ import java.util.Random;
  * and basic physical attacks. The chimera exhibits opportunistic combat behavior,
  * attacking adjacent enemies when encountered and wandering randomly otherwise.
  *
- * State Transition Rules:
+ * State Transition Rules (see {@link ChimeraTransitions}):
  * - Can only transition to Fire State
  *
  * @author Muhamad Shafy Dimas Rafarrel
- * @version 3.1
+ * @version 4.0
  */
 public class DefaultChimeraState implements ChimeraState {
-    private static final Random random = new Random();
-    private final IntrinsicWeapon defaultAttack = new BearClaw();
-    private int turnsInState = 0;
+
+    /** The one default state, shared by every chimera. */
+    public static final DefaultChimeraState INSTANCE = new DefaultChimeraState();
+
+    private static final IntrinsicWeapon defaultAttack = new BearClaw();
+
+    private DefaultChimeraState() {}
 
     /**
      * Executes the default state behavior for the chimera.
      *
      * Behavior pattern:
-     * 1. Increment turn counter for state transition tracking
-     * 2. Check all adjacent locations for enemy actors
-     * 3. Attack the first non-tamed actor found
-     * 4. If no enemies present, wander randomly
+     * 1. Check all adjacent locations for enemy actors
+     * 2. Attack the first non-tamed actor found
+     * 3. If no enemies present, wander randomly
      *
      * @param chimera the chimera actor performing the behavior
-     * @param actions the list of available actions (unused in this state)
-     * @param lastAction the previous action performed (unused in this state)
+     * @param context the chimera's context
      * @param map the current game map for spatial context
      * @param display the display object for messages (unused in this method)
      * @return AttackAction if enemy found, otherwise random movement or DoNothing
      */
     @Override
-    public Action getBehaviorAction(Actor chimera, ActionList actions, Action lastAction,
-                                    GameMap map, Display display) {
-        turnsInState++;
+    public Action getBehaviorAction(Chimera chimera, ChimeraContext context, GameMap map, Display display) {
         Location currentLocation = map.locationOf(chimera);
 
-        for (Exit exit : currentLocation.getExits()) {
-            Location adjacentLocation = exit.getDestination();
+        List<Exit> exits = currentLocation.getExits();
+        for (int i = 0; i < exits.size(); i++) {
+            Location adjacentLocation = exits.get(i).getDestination();
             if (adjacentLocation.containsAnActor()) {
                 Actor target = adjacentLocation.getActor();
                 if (!target.hasAbility(Abilities.TAMED)) {
-                    return new AttackAction(target, exit.getName(), defaultAttack);
+                    return createAttackAction(context, target, exits.get(i).getName(), adjacentLocation);
                 }
             }
         }
 
-        return wanderRandomly(currentLocation);
+        return wanderRandomly(currentLocation, context);
     }
 
     /**
@@ -82,31 +79,6 @@ public class DefaultChimeraState implements ChimeraState {
         return defaultAttack;
     }
 
-    /**
-     * Attempts state transition from Default to Fire state.
-     *
-     * Transition Logic:
-     * - 60% probability of transitioning to Fire state
-     * - 40% probability of remaining in Default state
-     *
-     * @param chimera the chimera attempting transition
-     * @param map the current game map (unused in this transition)
-     * @param display the display for transition messages
-     * @return FireState if transition successful, otherwise this state
-     */
-    @Override
-    public ChimeraState attemptStateTransition(Actor chimera, GameMap map, Display display) {
-        // Predetermined: Default can only transition to Fire state
-        if (turnsInState >= 3) {
-            int chance = random.nextInt(100);
-            if (chance < 60) {
-                display.println("\nThe chimera's body begins to glow with inner fire!");
-                return new FireState();
-            }
-        }
-        return this;
-    }
-
     /**
      * Gets the display name for this state.
      *
@@ -128,8 +100,8 @@ public class DefaultChimeraState implements ChimeraState {
     }
 
     /**
-     * Handles entry into the default state.
-     * Resets the turn counter to begin tracking time for next transition.
+     * Handles entry into the default state. Nothing happens beyond the
+     * counters being reset.
      *
      * @param chimera the chimera entering this state
      * @param map the current game map (unused in this method)
@@ -137,32 +109,22 @@ public class DefaultChimeraState implements ChimeraState {
      */
     @Override
     public void onEnterState(Actor chimera, GameMap map, Display display) {
-        turnsInState = 0;
     }
 
     /**
      * Executes random wandering behavior when no enemies are present.
      *
      * @param currentLocation the chimera's current position
+     * @param context the chimera's context, whose random stream picks the exit
      * @return MoveActorAction to random valid destination, or DoNothingAction if stuck
      */
-    private Action wanderRandomly(Location currentLocation) {
-        List<Exit> exits = new ArrayList<>(currentLocation.getExits());
-        if (!exits.isEmpty()) {
-            Collections.shuffle(exits, random);
-            for (Exit exit : exits) {
-                Location destination = exit.getDestination();
-                if (!destination.containsAnActor()) {
-                    return new MoveActorAction(destination, exit.getName());
-                }
-            }
-        }
-        return new DoNothingAction();
+    private Action wanderRandomly(Location currentLocation, ChimeraContext context) {
+        Exit exit = AnimalSystems.randomFreeExit(currentLocation, context.random());
+        return exit != null ? exit.getMoveAction() : BehaviourTree.IDLE;
     }
 
     @Override
-    public Action createAttackAction(Actor target, String direction, Location targetLocation,
-                                     GameMap map, Display display) {
-        return new AttackAction(target, direction, getStateWeapon());
+    public Action createAttackAction(ChimeraContext context, Actor target, String direction, Location targetLocation) {
+        return context.attack(null, defaultAttack, target, direction, targetLocation);
     }
-}
\ No newline at end of file
+}
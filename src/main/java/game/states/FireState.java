@@ -1,11 +1,7 @@
 package game.states;
 
 import edu.monash.fit2099.engine.actions.Action;
-import edu.monash.fit2099.engine.actions.ActionList;
-import edu.monash.fit2099.engine.actions.DoNothingAction;
-import edu.monash.fit2099.engine.actions.MoveActorAction;
 import edu.monash.fit2099.engine.actors.Actor;
-import edu.monash.fit2099.engine.actors.attributes.BaseAttributes;
 import edu.monash.fit2099.engine.displays.Display;
 import edu.monash.fit2099.engine.positions.Exit;
 import edu.monash.fit2099.engine.positions.GameMap;
@@ -13,17 +9,16 @@ import edu.monash.fit2099.engine.positions.Ground;
 import edu.monash.fit2099.engine.positions.Location;
 import edu.monash.fit2099.engine.weapons.IntrinsicWeapon;
 import game.abilities.Abilities;
-import game.actions.AttackAction;
+import game.actors.Chimera;
+import game.behaviours.BehaviourTree;
+import game.population.AnimalSystems;
 import game.status.BurnEffect;
 import game.status.StatusRecipient;
 import game.status.StatusRecipientRegistry;
 import game.terrain.FireGround;
 import game.weapons.FlameBreath;
 
-import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
-import java.util.Random;
 
 /**
  * The fire elemental state of the Chimera, representing aggressive flame-based combat.
@@ -31,108 +26,96 @@ import java.util.Random;
  * In this state, the chimera becomes more aggressive and destructive, using flame breath
  * attacks against enemies.
  *
- * State Transition Rules:
+ * State Transition Rules (see {@link ChimeraTransitions}):
  * - Can only transition to Ice State
  * - Requires minimum 3 turns in fire state
  * - 60% chance to transition to Ice State after conditions are met
  * - 40% chance to remain in Fire State each turn
  *
  * @author Muhamad Shafy Dimas Rafarrel
- * @version 3.3
+ * @version 4.0
  */
 public class FireState implements ChimeraState {
-    private static final Random random = new Random();
-    private final IntrinsicWeapon flameBreath = new FlameBreath();
-    private int enemiesAttacked = 0;
-    private int turnsInState = 0;
+
+    /** The one fire state, shared by every chimera. */
+    public static final FireState INSTANCE = new FireState();
+
+    private static final IntrinsicWeapon flameBreath = new FlameBreath();
 
     // Burn effect constants
     private static final int BURN_DAMAGE_PER_TURN = 5;
     private static final int BURN_DURATION = 5;
 
+    /** How many locations around a target a hit sets alight. */
+    private static final int LOCATIONS_BURNED = 2;
+
+    private FireState() {}
+
     /**
      * Executes the fire state behavior for the chimera.
      *
      * @param chimera the chimera actor performing the behavior
-     * @param actions the list of available actions (unused in this state)
-     * @param lastAction the previous action performed (unused in this state)
+     * @param context the chimera's context
      * @param map the current game map for spatial context
      * @param display the display object for messages (unused in this method)
      * @return AttackAction with flame breath if enemy found, otherwise aggressive movement
      */
     @Override
-    public Action getBehaviorAction(Actor chimera, ActionList actions, Action lastAction,
-                                    GameMap map, Display display) {
-        turnsInState++;
+    public Action getBehaviorAction(Chimera chimera, ChimeraContext context, GameMap map, Display display) {
         Location currentLocation = map.locationOf(chimera);
 
-        for (Exit exit : currentLocation.getExits()) {
-            Location adjacentLocation = exit.getDestination();
+        List<Exit> exits = currentLocation.getExits();
+        for (int i = 0; i < exits.size(); i++) {
+            Location adjacentLocation = exits.get(i).getDestination();
             if (adjacentLocation.containsAnActor()) {
                 Actor target = adjacentLocation.getActor();
                 if (!target.hasAbility(Abilities.TAMED)) {
-                    enemiesAttacked++;
-                    return new FireAttackAction(target, exit.getName(), flameBreath, adjacentLocation, display);
+                    return createAttackAction(context, target, exits.get(i).getName(), adjacentLocation);
                 }
             }
         }
-        return aggressiveWander(currentLocation);
+        return aggressiveWander(currentLocation, context);
     }
 
     /**
      * Creates a fire attack action that spreads flames to surrounding locations.
      * When executed, this attack burns up to two random adjacent tiles around the target.
      *
+     * @param context the attacking chimera's context
      * @param target the actor being attacked
      * @param direction the direction of the attack
      * @param targetLocation the location of the target
-     * @param map the current game map
-     * @param display the display for attack and fire spread messages
-     * @return a FireAttackAction with flame spreading effects
+     * @return the chimera's attack action, carrying the fire state's burning
      */
     @Override
-    public Action createAttackAction(Actor target, String direction, Location targetLocation,
-                                     GameMap map, Display display) {
-        return new FireAttackAction(target, direction, flameBreath, targetLocation, display);
+    public Action createAttackAction(ChimeraContext context, Actor target, String direction, Location targetLocation) {
+        return context.attack(this, flameBreath, target, direction, targetLocation);
     }
 
     /**
-     * Gets the intrinsic weapon for the fire state.
+     * Sets the target ablaze and burns up to two free locations around it.
      *
-     * @return FlameBreath weapon representing fire-based attacks
+     * @param context the attacking chimera's context, whose random stream picks the locations
+     * @param target the actor that was hit
+     * @param targetLocation where it stands
+     * @return the burning message
      */
     @Override
-    public IntrinsicWeapon getStateWeapon() {
-        return flameBreath;
+    public String onHit(ChimeraContext context, Actor target, Location targetLocation) {
+        applyBurningEffect(target);
+        burnSurroundings(targetLocation, context);
+        return target + " is set ablaze! (5 damage per turn for 5 turns)"
+                + "\n(Fire spreads around the target!)";
     }
 
     /**
-     * Attempts state transition from Fire to Ice state.
-     *
-     * Transition Logic:
-     * - Must spend at least 3 turns in fire state
-     * - 60% probability of transitioning to Ice state
-     * - 40% probability of remaining in Fire state
+     * Gets the intrinsic weapon for the fire state.
      *
-     * @param chimera the chimera attempting transition
-     * @param map the current game map (unused in this transition)
-     * @param display the display for transition messages
-     * @return IceState if transition successful, otherwise this state
+     * @return FlameBreath weapon representing fire-based attacks
      */
     @Override
-    public ChimeraState attemptStateTransition(Actor chimera, GameMap map, Display display) {
-        // Predetermined: Fire can only transition to Ice or Default state
-        int chance = random.nextInt(100);
-
-        if (turnsInState >= 3) {
-            // Fire -> Ice after 3 turns: 60% chance, 40% stay Fire
-            if (chance < 60) {
-                display.println("\nThe flames die down as ice crystals form around the chimera!");
-                return new IceState();
-            }
-        }
-
-        return this; // Stay in Fire state
+    public IntrinsicWeapon getStateWeapon() {
+        return flameBreath;
     }
 
     /**
@@ -165,8 +148,6 @@ public class FireState implements ChimeraState {
     @Override
     public void onEnterState(Actor chimera, GameMap map, Display display) {
         display.println("Flames engulf the chimera as it enters its fire form!\n");
-        enemiesAttacked = 0;
-        turnsInState = 0;
     }
 
     /**
@@ -176,103 +157,66 @@ public class FireState implements ChimeraState {
      * nature of the fire state. The chimera moves unpredictably while seeking combat.
      *
      * Movement Algorithm:
-     * 1. Get all available exits from current location
-     * 2. Shuffle exits randomly for unpredictable aggressive movement
-     * 3. Try each exit in random order until unoccupied destination found
+     * 1. Look at every exit from the current location once
+     * 2. Pick one of the unoccupied destinations at random, each equally likely
      *
      * @param currentLocation the chimera's current position
+     * @param context the chimera's context, whose random stream picks the exit
      * @return MoveActorAction to random valid destination, or DoNothingAction if blocked
      */
-    private Action aggressiveWander(Location currentLocation) {
-        List<Exit> exits = new ArrayList<>(currentLocation.getExits());
-        if (!exits.isEmpty()) {
-            Collections.shuffle(exits, random);
-            for (Exit exit : exits) {
-                Location destination = exit.getDestination();
-                if (!destination.containsAnActor()) {
-                    return new MoveActorAction(destination, exit.getName());
-                }
-            }
-        }
-        return new DoNothingAction();
+    private Action aggressiveWander(Location currentLocation, ChimeraContext context) {
+        Exit exit = AnimalSystems.randomFreeExit(currentLocation, context.random());
+        return exit != null ? exit.getMoveAction() : BehaviourTree.IDLE;
     }
 
     /**
-     * Custom attack action that burns two surrounding locations of the target.
+     * Applies burning status effect to the target actor.
+     *
+     * @param target the actor to apply burning to
      */
-    private class FireAttackAction extends AttackAction {
-        private Actor target;
-        private Location targetLocation;
-        private Display display;
-
-        public FireAttackAction(Actor target, String direction, IntrinsicWeapon weapon,
-                                Location targetLoc, Display disp) {
-            super(target, direction, weapon);
-            this.targetLocation = targetLoc;
-            this.target = target;
-            this.display = disp;
+    private static void applyBurningEffect(Actor target) {
+        StatusRecipient recipient = StatusRecipientRegistry.getRecipient(target);
+        if (recipient != null) {
+            recipient.addStatusEffect(new BurnEffect(BURN_DURATION, BURN_DAMAGE_PER_TURN));
         }
+    }
 
-        @Override
-        public String execute(Actor actor, GameMap map) {
-            // Check health before attack
-            int healthBefore = target.getAttribute(BaseAttributes.HEALTH);
-
-            // Execute attack
-            String result = super.execute(actor, map);
-
-            // Check health after attack
-            int healthAfter = target.getAttribute(BaseAttributes.HEALTH);
-
-            // Only apply burning and fire spread if attack actually hit
-            if (healthAfter < healthBefore && target.isConscious()) {
-                applyBurningEffect(target);
-                burnSurroundings(targetLocation);
-                result += "\n" + target + " is set ablaze! (5 damage per turn for 5 turns)";
-                result += "\n(Fire spreads around the target!)";
+    /**
+     * Burns two random surrounding locations of the target. The locations
+     * are picked in one pass over the exits, every pair of free locations
+     * being equally likely, as with shuffling them and taking the first two.
+     *
+     * @param center the location of the attacked target
+     * @param context the attacking chimera's context, whose random stream picks the locations
+     */
+    private static void burnSurroundings(Location center, ChimeraContext context) {
+        Location first = null;
+        Location second = null;
+        int candidates = 0;
+
+        List<Exit> exits = center.getExits();
+        for (int i = 0; i < exits.size(); i++) {
+            Location adjacentLocation = exits.get(i).getDestination();
+            if (adjacentLocation.containsAnActor() || adjacentLocation.getGround().getDisplayChar() == '^') {
+                continue;
             }
-
-            return result;
-        }
-
-        /**
-         * Applies burning status effect to the target actor.
-         *
-         * @param target the actor to apply burning to
-         */
-        private void applyBurningEffect(Actor target) {
-            StatusRecipient recipient = StatusRecipientRegistry.getRecipient(target);
-            if (recipient != null) {
-                recipient.addStatusEffect(new BurnEffect(BURN_DURATION, BURN_DAMAGE_PER_TURN));
+            candidates++;
+            int pick = candidates <= LOCATIONS_BURNED ? candidates - 1 : context.random().nextInt(candidates);
+            if (pick == 0) {
+                first = adjacentLocation;
+            } else if (pick == 1) {
+                second = adjacentLocation;
             }
         }
 
-        /**
-         * Burns two random surrounding locations of the target.
-         *
-         * @param center the location of the attacked target
-         */
-        private void burnSurroundings(Location center) {
-            List<Location> validLocations = new ArrayList<>();
-
-            // Find all valid locations to burn
-            for (Exit exit : center.getExits()) {
-                Location adjacentLocation = exit.getDestination();
-                if (!adjacentLocation.containsAnActor() &&
-                        adjacentLocation.getGround().getDisplayChar() != '^') {
-                    validLocations.add(adjacentLocation);
-                }
-            }
+        burn(first);
+        burn(second);
+    }
 
-            // Burn up to 2 random locations
-            Collections.shuffle(validLocations, random);
-            int burned = 0;
-            for (Location loc : validLocations) {
-                if (burned >= 2) break;
-                Ground originalGround = loc.getGround();
-                loc.setGround(new FireGround(3, originalGround));
-                burned++;
-            }
+    private static void burn(Location location) {
+        if (location != null) {
+            Ground originalGround = location.getGround();
+            location.setGround(new FireGround(3, originalGround));
         }
     }
-}
\ No newline at end of file
+}
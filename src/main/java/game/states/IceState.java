@@ -1,9 +1,6 @@
 package game.states;
 
 import edu.monash.fit2099.engine.actions.Action;
-import edu.monash.fit2099.engine.actions.ActionList;
-import edu.monash.fit2099.engine.actions.DoNothingAction;
-import edu.monash.fit2099.engine.actions.MoveActorAction;
 import edu.monash.fit2099.engine.actors.Actor;
 import edu.monash.fit2099.engine.actors.attributes.ActorAttributeOperation;
 import edu.monash.fit2099.engine.actors.attributes.BaseAttributes;
@@ -13,15 +10,15 @@ import edu.monash.fit2099.engine.positions.GameMap;
 import edu.monash.fit2099.engine.positions.Location;
 import edu.monash.fit2099.engine.weapons.IntrinsicWeapon;
 import game.abilities.Abilities;
-import game.actions.AttackAction;
+import game.actors.Chimera;
+import game.behaviours.BehaviourTree;
+import game.states.ChimeraContext.Counter;
 import game.status.FrostBiteEffect;
 import game.status.StatusRecipient;
 import game.status.StatusRecipientRegistry;
 import game.weapons.IceShard;
 
-import java.util.ArrayList;
 import java.util.List;
-import java.util.Random;
 
 /**
  * The ice elemental state of the Chimera, representing defensive combat.
@@ -34,19 +31,26 @@ import java.util.Random;
  * - Grants ice armor buff (+5 max health) to chimera and tamer on entry
  * - Seeks defensive positions with fewer exits when possible
  *
+ * State Transition Rules (see {@link ChimeraTransitions}):
+ * - After 3+ turns in state: 40% chance to Poison
+ * - Otherwise, after 4+ turns alone: 30% chance to Default
+ *
  * @author Muhamad Shafy Dimas Rafarrel
- * @version 3.1
+ * @version 4.0
  */
 public class IceState implements ChimeraState {
-    private static final Random random = new Random();
-    private final IntrinsicWeapon iceShard = new IceShard();
-    private int turnsAlone = 0;
-    private int turnsInState = 0;
+
+    /** The one ice state, shared by every chimera. */
+    public static final IceState INSTANCE = new IceState();
+
+    private static final IntrinsicWeapon iceShard = new IceShard();
 
     // Frostbite effect constants
     private static final int FROSTBITE_WARMTH_REDUCTION = 2;
     private static final int FROSTBITE_DURATION = 4;
 
+    private IceState() {}
+
     /**
      * Executes the ice state behavior for the chimera.
      *
@@ -54,31 +58,28 @@ public class IceState implements ChimeraState {
      *
      * The ice state prioritizes defensive positioning and precise strikes over
      * aggressive advancement, reflecting the calculated nature of ice tactics.
+     * Turns without an enemy next to the chimera are counted in the context.
      *
      * @param chimera the chimera actor performing the behavior
-     * @param actions the list of available actions (unused in this state)
-     * @param lastAction the previous action performed (unused in this state)
+     * @param context the chimera's context
      * @param map the current game map for spatial context
      * @param display the display object for messages (unused in this method)
      * @return AttackAction with ice shard if enemy found, otherwise defensive movement
      */
     @Override
-    public Action getBehaviorAction(Actor chimera, ActionList actions, Action lastAction,
-                                    GameMap map, Display display) {
-        turnsInState++;
+    public Action getBehaviorAction(Chimera chimera, ChimeraContext context, GameMap map, Display display) {
         Location currentLocation = map.locationOf(chimera);
-        List<Actor> adjacentEnemies = findAdjacentEnemies(currentLocation);
-
-        if (adjacentEnemies.isEmpty()) {
-            turnsAlone++;
+        if (!hasAdjacentEnemy(currentLocation)) {
+            context.increment(Counter.TURNS_ALONE);
         } else {
-            turnsAlone = 0;
-            for (Exit exit : currentLocation.getExits()) {
-                Location adjacentLocation = exit.getDestination();
+            context.clear(Counter.TURNS_ALONE);
+            List<Exit> exits = currentLocation.getExits();
+            for (int i = 0; i < exits.size(); i++) {
+                Location adjacentLocation = exits.get(i).getDestination();
                 if (adjacentLocation.containsAnActor()) {
                     Actor target = adjacentLocation.getActor();
                     if (!target.hasAbility(Abilities.TAMED)) {
-                        return new IceAttackAction(target, exit.getName(), iceShard, display);
+                        return context.attack(this, iceShard, target, exits.get(i).getName(), adjacentLocation);
                     }
                 }
             }
@@ -96,36 +97,6 @@ public class IceState implements ChimeraState {
         return iceShard;
     }
 
-    /**
-     * Attempts state transition from Ice to Poison or Default states based on time conditions.
-     *
-     * Transition Logic:
-     * - After 3+ turns in state: 40% chance to Poison, 60% stay Ice
-     * - After 4+ turns alone: 30% chance to Default, 70% stay Ice
-     *
-     * @param chimera the chimera attempting transition
-     * @param map the current game map (unused in this transition)
-     * @param display the display for transition messages
-     * @return PoisonState, DefaultChimeraState, or this state based on conditions
-     */
-    @Override
-    public ChimeraState attemptStateTransition(Actor chimera, GameMap map, Display display) {
-        int chance = random.nextInt(100);
-
-        if (turnsInState >= 3) {
-            if (chance < 40) {
-                display.println("\nThe ice transforms into toxic vapors as the chimera seeks a different approach!\n");
-                return new PoisonState();
-            }
-        } else if (turnsAlone >= 4) {
-            if (chance < 30) {
-                display.println("The ice melts away as the chimera returns to its natural form!\n");
-                return new DefaultChimeraState();
-            }
-        }
-        return this; // Stay in Ice state
-    }
-
     /**
      * Gets the display name for this state.
      *
@@ -159,8 +130,6 @@ public class IceState implements ChimeraState {
     @Override
     public void onEnterState(Actor chimera, GameMap map, Display display) {
         display.println("Frost spreads as the chimera takes its ice form!\n");
-        turnsAlone = 0;
-        turnsInState = 0;
 
         // Give ice armor buff - increase max health by 5 (only happens once per ice transition)
         int beforeMax = chimera.getMaximumAttribute(BaseAttributes.HEALTH);
@@ -168,7 +137,7 @@ public class IceState implements ChimeraState {
                 ActorAttributeOperation.INCREASE, 5);
         int afterMax = chimera.getMaximumAttribute(BaseAttributes.HEALTH);
 
-        display.println("Ice armor forms around the chimera, increasing its resilience! (Max Health: "
+        display.println(() -> "Ice armor forms around the chimera, increasing its resilience! (Max Health: "
                 + beforeMax + " → " + afterMax + ")");
     }
 
@@ -181,38 +150,55 @@ public class IceState implements ChimeraState {
      * @param display the display for buff notifications
      */
     @Override
-    public void applyBuffsToAllies(game.actors.Chimera chimera, GameMap map, Display display) {
+    public void applyBuffsToAllies(Chimera chimera, GameMap map, Display display) {
         chimera.applyIceArmorToTamer(display);
     }
 
 
     /**
-     * Finds all adjacent enemy actors for threat assessment.
+     * Checks for adjacent enemy actors for threat assessment.
      *
-     * Scans all exits from the given location and identifies non-tamed actors
-     * as potential threats. Used for both combat targeting and state transition logic.
+     * Scans the exits from the given location for a non-tamed actor.
+     * Used for both combat targeting and state transition logic.
      *
      * @param center the location to scan around for enemies
-     * @return list of adjacent enemy actors (may be empty)
+     * @return true if at least one adjacent actor is not tamed
      */
-    private List<Actor> findAdjacentEnemies(Location center) {
-        List<Actor> enemies = new ArrayList<>();
-        for (Exit exit : center.getExits()) {
-            Location adjacentLoc = exit.getDestination();
-            if (adjacentLoc.containsAnActor()) {
-                Actor actor = adjacentLoc.getActor();
-                if (!actor.hasAbility(Abilities.TAMED)) {
-                    enemies.add(actor);
-                }
+    private static boolean hasAdjacentEnemy(Location center) {
+        List<Exit> exits = center.getExits();
+        for (int i = 0; i < exits.size(); i++) {
+            Location adjacentLoc = exits.get(i).getDestination();
+            if (adjacentLoc.containsAnActor() && !adjacentLoc.getActor().hasAbility(Abilities.TAMED)) {
+                return true;
             }
         }
-        return enemies;
+        return false;
     }
 
+    /**
+     * Creates a plain ice shard attack, without frostbite; used when a tamed
+     * ice chimera defends its owner.
+     */
     @Override
-    public Action createAttackAction(Actor target, String direction, Location targetLocation,
-                                     GameMap map, Display display) {
-        return new AttackAction(target, direction, getStateWeapon());
+    public Action createAttackAction(ChimeraContext context, Actor target, String direction, Location targetLocation) {
+        return context.attack(null, iceShard, target, direction, targetLocation);
+    }
+
+    /**
+     * Afflicts the target with frostbite.
+     *
+     * @param context the attacking chimera's context (unused)
+     * @param target the actor that was hit
+     * @param targetLocation where it stands (unused)
+     * @return the frostbite message
+     */
+    @Override
+    public String onHit(ChimeraContext context, Actor target, Location targetLocation) {
+        StatusRecipient recipient = StatusRecipientRegistry.getRecipient(target);
+        if (recipient != null) {
+            recipient.addStatusEffect(new FrostBiteEffect(FROSTBITE_DURATION, FROSTBITE_WARMTH_REDUCTION));
+        }
+        return target + " is afflicted with frostbite! (WARMTH -2 per turn for 4 turns)";
     }
 
     /**
@@ -224,81 +210,23 @@ public class IceState implements ChimeraState {
      * @param currentLocation the chimera's current position
      * @return MoveActorAction to tactically advantageous position, or DoNothingAction if blocked
      */
-    private Action defensiveMovement(Location currentLocation) {
-        List<Exit> exits = new ArrayList<>(currentLocation.getExits());
-        if (!exits.isEmpty()) {
-            Exit bestExit = null;
-            int minExits = Integer.MAX_VALUE;
-
-            for (Exit exit : exits) {
-                Location destination = exit.getDestination();
-                if (!destination.containsAnActor()) {
-                    int exitCount = destination.getExits().size();
-                    if (exitCount < minExits) {
-                        minExits = exitCount;
-                        bestExit = exit;
-                    }
-                }
-            }
-
-            if (bestExit != null) {
-                return new MoveActorAction(bestExit.getDestination(), bestExit.getName());
-            }
-
-            for (Exit exit : exits) {
-                Location destination = exit.getDestination();
-                if (!destination.containsAnActor()) {
-                    return new MoveActorAction(destination, exit.getName());
+    private static Action defensiveMovement(Location currentLocation) {
+        List<Exit> exits = currentLocation.getExits();
+        Exit bestExit = null;
+        int minExits = Integer.MAX_VALUE;
+
+        for (int i = 0; i < exits.size(); i++) {
+            Exit exit = exits.get(i);
+            Location destination = exit.getDestination();
+            if (!destination.containsAnActor()) {
+                int exitCount = destination.getExits().size();
+                if (exitCount < minExits) {
+                    minExits = exitCount;
+                    bestExit = exit;
                 }
             }
         }
-        return new DoNothingAction();
-    }
-
-    /**
-     * Custom attack action that applies frostbite effect to the target.
-     */
-    private class IceAttackAction extends AttackAction {
-        private Actor target;
-        private Display display;
-
-        public IceAttackAction(Actor target, String direction, IntrinsicWeapon weapon, Display disp) {
-            super(target, direction, weapon);
-            this.target = target;
-            this.display = disp;
-        }
-
-
-        @Override
-        public String execute(Actor actor, GameMap map) {
-            // Check health before attack
-            int healthBefore = target.getAttribute(BaseAttributes.HEALTH);
-
-            // Execute attack
-            String result = super.execute(actor, map);
-
-            // Check health after attack
-            int healthAfter = target.getAttribute(BaseAttributes.HEALTH);
-
-            // Only apply frostbite if attack actually hit
-            if (healthAfter < healthBefore && target.isConscious()) {
-                applyFrostbiteEffect(target);
-                result += "\n" + target + " is afflicted with frostbite! (WARMTH -2 per turn for 4 turns)";
-            }
-
-            return result;
-        }
 
-        /**
-         * Applies frostbite status effect to the target actor.
-         *
-         * @param target the actor to apply frostbite to
-         */
-        private void applyFrostbiteEffect(Actor target) {
-            StatusRecipient recipient = StatusRecipientRegistry.getRecipient(target);
-            if (recipient != null) {
-                recipient.addStatusEffect(new FrostBiteEffect(FROSTBITE_DURATION, FROSTBITE_WARMTH_REDUCTION));
-            }
-        }
+        return bestExit != null ? bestExit.getMoveAction() : BehaviourTree.IDLE;
     }
 }
@@ -1,25 +1,26 @@
 package game.states;
 
 import edu.monash.fit2099.engine.actions.Action;
-import edu.monash.fit2099.engine.actions.ActionList;
-import edu.monash.fit2099.engine.actions.DoNothingAction;
-import edu.monash.fit2099.engine.actions.MoveActorAction;
 import edu.monash.fit2099.engine.actors.Actor;
-import edu.monash.fit2099.engine.actors.attributes.BaseAttributes;
 import edu.monash.fit2099.engine.displays.Display;
 import edu.monash.fit2099.engine.positions.Exit;
 import edu.monash.fit2099.engine.positions.GameMap;
 import edu.monash.fit2099.engine.positions.Location;
 import edu.monash.fit2099.engine.weapons.IntrinsicWeapon;
 import game.abilities.Abilities;
-import game.actions.AttackAction;
 import game.actors.Chimera;
+import game.behaviours.BehaviourTree;
+import game.states.ChimeraContext.Counter;
+import game.status.EffectKind;
 import game.status.PoisonEffect;
+import game.status.StatusEffectScheduler;
 import game.status.StatusRecipient;
 import game.status.StatusRecipientRegistry;
 import game.weapons.VenomedStrike;
 
-import java.util.*;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
 
 /**
  * The poison elemental state of the Chimera, representing toxic damage-over-time combat.
@@ -31,89 +32,75 @@ import java.util.*;
  * Combat Characteristics:
  * - Uses VenomedStrike as intrinsic weapon (moderate damage + DOT)
  * - Applies poison DOT effect: -2 health per turn for 3 turns
- * - Tracks poisoned enemies and DOT timers
+ * - Tracks poisoned enemies (in the chimera's {@link ChimeraContext})
  * - Maintains distance to let poison effects work
  *
+ * State Transition Rules (see {@link ChimeraTransitions}):
+ * - After 4+ turns in state: 50% chance to Fire
+ * - Otherwise, after 5+ turns without attacking: 30% chance to Default
+ *
  * @author Muhamad Shafy Dimas Rafarrel
- * @version 3.3
+ * @version 4.0
  */
 public class PoisonState implements ChimeraState {
 
-    private static final Random random = new Random();
-
-    private final IntrinsicWeapon venomedStrike = new VenomedStrike();
-
-    private final Map<Actor, PoisonTracker> poisonedActors = new HashMap<>();
+    /** The one poison state, shared by every chimera. */
+    public static final PoisonState INSTANCE = new PoisonState();
 
-    private int turnsSinceAttack = 0;
-
-    private int turnsInState = 0;
+    private static final IntrinsicWeapon venomedStrike = new VenomedStrike();
 
     // Poison effect constants
     private static final int POISON_DAMAGE_PER_TURN = 2;
     private static final int POISON_DURATION = 3;
 
-    /**
-     * Tracks poison information for display purposes
-     */
-    private static class PoisonTracker {
-        int turnsRemaining;
-
-        PoisonTracker(int turns) {
-            this.turnsRemaining = turns;
-        }
-    }
-
+    private PoisonState() {}
 
     /**
      * Executes the poison state behavior for the chimera.
      *
      * Behavior pattern:
-     * 1. Increment turn counter and process DOT effects on poisoned enemies
+     * 1. Report on the enemies this chimera has poisoned
      * 2. Look for new targets to poison (prioritize unpoisoned enemies)
      * 3. If enemies present, attack with venomed strike and apply DOT
      *
+     * Turns without an attack are counted in the context.
+     *
      * @param chimera the chimera actor performing the behavior
-     * @param actions the list of available actions (unused in this state)
-     * @param lastAction the previous action performed (unused in this state)
+     * @param context the chimera's context, which remembers whom it has poisoned
      * @param map the current game map for spatial context
      * @param display the display object for DOT messages and combat feedback
      * @return AttackAction with venomed strike if enemy found, otherwise stalking movement
      */
     @Override
-    public Action getBehaviorAction(Actor chimera, ActionList actions, Action lastAction,
-                                    GameMap map, Display display) {
-        turnsInState++;
-
+    public Action getBehaviorAction(Chimera chimera, ChimeraContext context, GameMap map, Display display) {
         // Display poison status for all poisoned actors
-        updatePoisonTracking(map, display);
+        updatePoisonTracking(context, map, display);
 
         Location currentLocation = map.locationOf(chimera);
 
-        Chimera chimeraActor = (Chimera) chimera;
-
         // Look for adjacent enemies to poison
-        for (Exit exit : currentLocation.getExits()) {
-            Location adjacentLocation = exit.getDestination();
+        List<Exit> exits = currentLocation.getExits();
+        for (int i = 0; i < exits.size(); i++) {
+            Location adjacentLocation = exits.get(i).getDestination();
             if (adjacentLocation.containsAnActor()) {
                 Actor target = adjacentLocation.getActor();
 
-                if (chimeraActor.isTamed()) {
-                    if (target.equals(chimeraActor.getTamer()) || target.hasAbility(Abilities.TAMED)) {
+                if (chimera.isTamed()) {
+                    if (target.equals(chimera.getTamer()) || target.hasAbility(Abilities.TAMED)) {
                         continue;
                     }
                 }
 
                 // Attack non-tamed actors (or all actors if chimera is wild)
                 if (!target.hasAbility(Abilities.TAMED)) {
-                    turnsSinceAttack = 0;
-                    return new PoisonAttackAction(target, exit.getName(), venomedStrike, display);
+                    context.clear(Counter.TURNS_SINCE_ATTACK);
+                    return createAttackAction(context, target, exits.get(i).getName(), adjacentLocation);
                 }
             }
         }
 
-        turnsSinceAttack++;
-        return stalkingMovement(currentLocation);
+        context.increment(Counter.TURNS_SINCE_ATTACK);
+        return stalkingMovement(currentLocation, context);
     }
 
     /**
@@ -127,37 +114,26 @@ public class PoisonState implements ChimeraState {
     }
 
     @Override
-    public Action createAttackAction(Actor target, String direction, Location targetLocation,
-                                     GameMap map, Display display) {
-        return new PoisonAttackAction(target, direction, getStateWeapon(), display);
+    public Action createAttackAction(ChimeraContext context, Actor target, String direction, Location targetLocation) {
+        return context.attack(this, venomedStrike, target, direction, targetLocation);
     }
 
     /**
-     * Attempts state transition from Poison to Fire or Default states.
+     * Poisons the target and remembers it for status messages.
      *
-     * @param chimera the chimera attempting transition
-     * @param map the current game map (unused in this transition)
-     * @param display the display for transition messages
-     * @return FireState if low health, DefaultChimeraState if passive too long, otherwise this state
+     * @param context the attacking chimera's context
+     * @param target the actor that was hit
+     * @param targetLocation where it stands (unused)
+     * @return the poisoning message
      */
     @Override
-    public ChimeraState attemptStateTransition(Actor chimera, GameMap map, Display display) {
-        int chance = random.nextInt(100);
-
-        if (turnsInState >= 4) {
-            // Poison -> Fire after 3 turns: 50% chance, 50% stay Poison
-            if (chance < 50) {
-                display.println("The poison boils away as the chimera erupts in flames!");
-                return new FireState();
-            }
-        } else if (turnsSinceAttack >= 5) {
-            // Poison -> Default when passive too long: 30% chance, 70% stay Poison
-            if (chance < 30) {
-                display.println("The toxins fade as the chimera returns to its natural form!");
-                return new DefaultChimeraState();
-            }
+    public String onHit(ChimeraContext context, Actor target, Location targetLocation) {
+        StatusRecipient recipient = StatusRecipientRegistry.getRecipient(target);
+        if (recipient != null) {
+            recipient.addStatusEffect(new PoisonEffect(POISON_DURATION, POISON_DAMAGE_PER_TURN));
+            context.poisonedActors().add(target);
         }
-        return this; // Stay in Poison state
+        return target + " has been poisoned! (-2 HP per turn for 3 turns)";
     }
 
     /**
@@ -190,41 +166,33 @@ public class PoisonState implements ChimeraState {
     @Override
     public void onEnterState(Actor chimera, GameMap map, Display display) {
         display.println("Toxic vapors swirl around the chimera as it takes its poisonous form!");
-        poisonedActors.clear();
-        turnsSinceAttack = 0;
-        turnsInState = 0;
     }
 
     /**
-     * Updates poison tracking and displays status messages for poisoned actors.
-     * Removes dead actors from tracking.
+     * Displays status messages for the actors this chimera has poisoned.
+     * The poison itself is ticked by the {@link StatusEffectScheduler}, and actors
+     * it kills are removed by the world; they are simply forgotten here.
      */
-    private void updatePoisonTracking(GameMap map, Display display) {
-        Iterator<Map.Entry<Actor, PoisonTracker>> iterator = poisonedActors.entrySet().iterator();
+    private static void updatePoisonTracking(ChimeraContext context, GameMap map, Display display) {
+        Iterator<Actor> iterator = context.poisonedActors().iterator();
 
         while (iterator.hasNext()) {
-            Map.Entry<Actor, PoisonTracker> entry = iterator.next();
-            Actor actor = entry.getKey();
-            PoisonTracker tracker = entry.getValue();
+            Actor actor = iterator.next();
 
-            // Check if actor is dead or unconscious
-            if (!actor.isConscious() || actor.getAttribute(edu.monash.fit2099.engine.actors.attributes.BaseAttributes.HEALTH) <= 0) {
+            // Forget actors that have died or left this map
+            if (!actor.isConscious() || map == null || !map.contains(actor)) {
                 iterator.remove();
-                if (map != null && map.contains(actor)) {
-                    map.removeActor(actor);
-                    display.println(actor + " succumbs to poison and dies!\n");
-                }
                 continue;
             }
 
             // Display poison status
-            if (tracker.turnsRemaining > 0) {
-                display.println(actor + " is poisoned! (" + tracker.turnsRemaining + " turns remaining)");
-                tracker.turnsRemaining--;
+            int turnsRemaining = StatusEffectScheduler.remainingTurns(actor, EffectKind.POISON);
+            if (turnsRemaining > 0) {
+                display.println(() -> actor + " is poisoned! (" + turnsRemaining + " turns remaining)");
             } else {
                 // Poison expired
                 iterator.remove();
-                display.println(actor + " recovers from poison.\n");
+                display.println(() -> actor + " recovers from poison.\n");
             }
         }
     }
@@ -236,97 +204,42 @@ public class PoisonState implements ChimeraState {
      * seeking to spread toxins efficiently rather than rushing into combat.
      *
      * @param currentLocation the chimera's current position
+     * @param context the chimera's context, whose random stream picks the exit
      * @return MoveActorAction to tactically advantageous position, or DoNothingAction if blocked
      */
-    private Action stalkingMovement(Location currentLocation) {
-        List<Exit> exits = new ArrayList<>(currentLocation.getExits());
-        if (!exits.isEmpty()) {
-            Collections.shuffle(exits, random);
-
-            // Prefer locations that might have enemies to poison nearby
-            for (Exit exit : exits) {
-                Location destination = exit.getDestination();
-                if (!destination.containsAnActor()) {
-                    int nearbyEnemies = 0;
-                    for (Exit destExit : destination.getExits()) {
-                        Location nearbyLoc = destExit.getDestination();
-                        if (nearbyLoc.containsAnActor()) {
-                            Actor nearby = nearbyLoc.getActor();
-                            if (!nearby.hasAbility(Abilities.TAMED) && !poisonedActors.containsKey(nearby)) {
-                                nearbyEnemies++;
-                            }
-                        }
-                    }
-
-                    // Prefer positions with unpoisoned enemies nearby
-                    if (nearbyEnemies > 0) {
-                        return new MoveActorAction(destination, exit.getName());
-                    }
-                }
+    private static Action stalkingMovement(Location currentLocation, ChimeraContext context) {
+        Random random = context.random();
+        // One pass picks a random free exit, preferring those next to unpoisoned enemies
+        List<Exit> exits = currentLocation.getExits();
+        Exit preferred = null;
+        Exit fallback = null;
+        int preferredCount = 0;
+        int freeCount = 0;
+        for (int i = 0; i < exits.size(); i++) {
+            Exit exit = exits.get(i);
+            Location destination = exit.getDestination();
+            if (destination.containsAnActor()) {
+                continue;
             }
-
-            // If no tactical advantage, move randomly
-            for (Exit exit : exits) {
-                Location destination = exit.getDestination();
-                if (!destination.containsAnActor()) {
-                    return new MoveActorAction(destination, exit.getName());
-                }
+            if (random.nextInt(++freeCount) == 0) {
+                fallback = exit;
+            }
+            if (destination.map().spatialIndex().nearest(destination, 1, PoisonState::isUnpoisonedEnemy) != null
+                    && random.nextInt(++preferredCount) == 0) {
+                preferred = exit;
             }
         }
-        return new DoNothingAction();
+        Exit chosen = preferred != null ? preferred : fallback;
+        return chosen != null ? chosen.getMoveAction() : BehaviourTree.IDLE;
     }
 
     /**
-     * Processes damage-over-time effects for all poisoned actors.
-     *
-     * DOT Processing:
-     * 1. Iterate through all poisoned actors
-     * 2. Apply -2 health damage per turn
-     * 3. Decrement remaining poison turns
-     * 4. Remove actors when poison expires or they die
+     * Whether an actor is worth stalking: wild and not yet poisoned.
      *
+     * @param actor the actor to check
+     * @return true if the actor is untamed and has no active poison
      */
-    private class PoisonAttackAction extends AttackAction {
-        private Actor target;
-        private Display display;
-
-        public PoisonAttackAction(Actor target, String direction, IntrinsicWeapon weapon, Display disp) {
-            super(target, direction, weapon);
-            this.target = target;
-            this.display = disp;
-        }
-
-        @Override
-        public String execute(Actor actor, GameMap map) {
-            // Check health before attack
-            int healthBefore = target.getAttribute(BaseAttributes.HEALTH);
-
-            // Execute attack
-            String result = super.execute(actor, map);
-
-            // Check health after attack
-            int healthAfter = target.getAttribute(BaseAttributes.HEALTH);
-
-            // Only poison if attack actually hit
-            if (healthAfter < healthBefore && target.isConscious()) {
-                applyPoisonEffect(target);
-                result += "\n" + target + " has been poisoned! (-2 HP per turn for 3 turns)";
-            }
-
-            return result;
-        }
-
-        /**
-         * Applies poison status effect to the target actor.
-         *
-         * @param target the actor to apply poison to
-         */
-        private void applyPoisonEffect(Actor target) {
-            StatusRecipient recipient = StatusRecipientRegistry.getRecipient(target);
-            if (recipient != null) {
-                recipient.addStatusEffect(new PoisonEffect(POISON_DURATION, POISON_DAMAGE_PER_TURN));
-                poisonedActors.put(target, new PoisonTracker(POISON_DURATION));
-            }
-        }
+    private static boolean isUnpoisonedEnemy(Actor actor) {
+        return !actor.hasAbility(Abilities.TAMED) && !StatusEffectScheduler.isAffected(actor, EffectKind.POISON);
     }
-}
\ No newline at end of file
+}
@@ -9,7 +9,7 @@ import edu.monash.fit2099.engine.positions.GameMap;
  * <p>When applied, this effect deals a fixed amount of damage to the target
  * each tick (turn) for a limited number of turns. Multiple instances of
  * {@code BleedEffect} can be added to a {@code GameActor} and their damage
- * stacks.
+ * stacks ({@link StackingPolicy#INDEPENDENT}).
  *
  * <p>Example: two BleedEffect(2, 10) instances cause 20 damage per tick for
  * the next tick, then 10 damage on the following tick (each instance expires
@@ -72,4 +72,20 @@ public class BleedEffect implements StatusEffect {
     return remainingTurns;
   }
 
+  /**
+   * @return {@link EffectKind#BLEED}
+   */
+  @Override
+  public EffectKind kind() {
+    return EffectKind.BLEED;
+  }
+
+  /**
+   * @return damage dealt each tick
+   */
+  @Override
+  public int amountPerTurn() {
+    return damagePerTurn;
+  }
+
 }
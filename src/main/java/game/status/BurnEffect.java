@@ -4,11 +4,12 @@ import edu.monash.fit2099.engine.actors.Actor;
 import edu.monash.fit2099.engine.positions.GameMap;
 
 /**
- * A stackable burning status effect.
+ * A refreshing burning status effect.
  *
  * <p>This effect deals a fixed amount of damage to the target each tick (turn)
- * for a limited number of turns. Multiple instances of {@code BurnEffect} can be
- * applied to a {@code GameActor} and their damage stacks.
+ * for a limited number of turns. Burning again does not add a second burn: the
+ * target keeps one, lasting as long as the longest and hitting as hard as the
+ * strongest application ({@link StackingPolicy#REFRESH}).
  *
  * <p>Example: applying BurnEffect(7, 3) will cause the target to lose 3 HP at
  * the start of each of the next 7 ticks.
@@ -70,4 +71,20 @@ public class BurnEffect implements StatusEffect {
     return remainingTurns;
   }
 
+  /**
+   * @return {@link EffectKind#BURN}
+   */
+  @Override
+  public EffectKind kind() {
+    return EffectKind.BURN;
+  }
+
+  /**
+   * @return damage dealt each tick
+   */
+  @Override
+  public int amountPerTurn() {
+    return damagePerTurn;
+  }
+
 }
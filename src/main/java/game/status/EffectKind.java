@@ -0,0 +1,81 @@
+package game.status;
+
+import static edu.monash.fit2099.engine.actors.attributes.ActorAttributeOperation.DECREASE;
+import static edu.monash.fit2099.engine.actors.attributes.BaseAttributes.WARMTH;
+
+import edu.monash.fit2099.engine.actors.Actor;
+import game.abilities.Abilities;
+import game.tuning.Tuning;
+
+/**
+ * The built-in kinds of timed status effect.
+ *
+ * <p>Every effect of a built-in kind is fully described by its target, its
+ * remaining turns and the amount it applies per turn, so the
+ * {@link StatusEffectScheduler} can keep each kind in compact parallel arrays
+ * instead of as objects. What one tick of each kind does lives here, so the
+ * scheduler and the effect classes share a single definition. Each kind also
+ * has a {@link StackingPolicy} saying how repeated applications combine.
+ *
+ * @author Ahmed
+ */
+public enum EffectKind {
+
+  /** Loses {@code amount} hit points per tick; repeated doses add up to a cap. */
+  POISON(StackingPolicy.INTENSIFY, Tuning.POISON_MAX_DPT),
+
+  /** Loses {@code amount} hit points per tick; re-igniting refreshes the burn. */
+  BURN(StackingPolicy.REFRESH, 0),
+
+  /** Loses {@code amount} hit points per tick; every wound bleeds separately. */
+  BLEED(StackingPolicy.INDEPENDENT, 0),
+
+  /** Loses {@code amount} WARMTH per tick, unless cold resistant; re-exposure refreshes it. */
+  FROSTBITE(StackingPolicy.REFRESH, 0) {
+    @Override
+    public void apply(Actor target, int amount) {
+      // Animals with COLD_RESISTANCE (spawned from Tundra) are immune to frostbite
+      if (target.hasAbility(Abilities.COLD_RESISTANCE)) {
+        return;
+      }
+
+      //Only applying if the actor has the WARMTH statistic
+      if (target.hasStatistic(WARMTH)) {
+        target.modifyAttribute(WARMTH, DECREASE, amount);
+      }
+    }
+  };
+
+  private final StackingPolicy stacking;
+  private final int maxAmount;
+
+  EffectKind(StackingPolicy stacking, int maxAmount) {
+    this.stacking = stacking;
+    this.maxAmount = maxAmount;
+  }
+
+  /**
+   * @return how repeated applications of this kind to one actor combine
+   */
+  public StackingPolicy stacking() {
+    return stacking;
+  }
+
+  /**
+   * @return the most an {@link StackingPolicy#INTENSIFY} effect of this kind
+   *         can apply per tick (unused by other policies)
+   */
+  public int maxAmount() {
+    return maxAmount;
+  }
+
+  /**
+   * Apply one tick of this kind of effect.
+   *
+   * @param target the actor receiving the effect
+   * @param amount the amount applied per tick
+   */
+  public void apply(Actor target, int amount) {
+    target.hurt(amount);
+  }
+}
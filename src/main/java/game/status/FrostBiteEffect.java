@@ -1,7 +1,5 @@
 package game.status;
 
-import static edu.monash.fit2099.engine.actors.attributes.ActorAttributeOperation.DECREASE;
-import static game.abilities.Abilities.WARMTH;
 import edu.monash.fit2099.engine.actors.Actor;
 import edu.monash.fit2099.engine.positions.GameMap;
 
@@ -13,7 +11,8 @@ import edu.monash.fit2099.engine.positions.GameMap;
  *   <li>Lasts for {@code remainingTurns} ticks.</li>
  *   <li>Each tick reduces the target's {@code WARMTH} by {@code warmthReductionPerTurn}
  *       using the engine attribute API.</li>
- *   <li>The effect is stackable: multiple instances are additive.</li>
+ *   <li>Re-applying refreshes the effect rather than stacking it
+ *       ({@link StackingPolicy#REFRESH}).</li>
  * </ul>
  *
  * <p>Note: the tundra-immunity check (skip applying frostbite to actors spawned from
@@ -54,16 +53,7 @@ public class FrostBiteEffect implements StatusEffect {
    */
   @Override
   public void applyEffect(Actor target, GameMap map) {
-
-    // Animals with COLD_RESISTANCE (spawned from Tundra) are immune to frostbite
-    if (target.hasAbility(game.abilities.Abilities.COLD_RESISTANCE)) {
-      return;
-    }
-
-    //Only applying if the actor has the WARMTH statistic
-    if (target.hasStatistic(WARMTH)) {
-      target.modifyAttribute(WARMTH, DECREASE, warmthReductionPerTurn);
-    }
+    EffectKind.FROSTBITE.apply(target, warmthReductionPerTurn);
   }
 
   /** Decrease the remaining duration by one tick. */
@@ -84,4 +74,20 @@ public class FrostBiteEffect implements StatusEffect {
     return remainingTurns;
   }
 
+  /**
+   * @return {@link EffectKind#FROSTBITE}
+   */
+  @Override
+  public EffectKind kind() {
+    return EffectKind.FROSTBITE;
+  }
+
+  /**
+   * @return WARMTH removed each tick
+   */
+  @Override
+  public int amountPerTurn() {
+    return warmthReductionPerTurn;
+  }
+
 }
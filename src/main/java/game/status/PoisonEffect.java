@@ -10,7 +10,9 @@ import edu.monash.fit2099.engine.positions.GameMap;
  * <ul>
  *   <li>Lasts for {@code remainingTurns} ticks.</li>
  *   <li>Each tick deals {@code damagePerTurn} hit points of damage.</li>
- *   <li>Stackable: multiple PoisonEffect instances on the same actor sum their damage.</li>
+ *   <li>Stackable: further doses on the same actor add their damage to the existing
+ *       poison, up to {@link game.tuning.Tuning#POISON_MAX_DPT}, and extend it to the
+ *       longest duration ({@link StackingPolicy#INTENSIFY}).</li>
  * </ul>
  *
  * <p>This class is intentionally simple — it delegates actual HP modification to
@@ -67,4 +69,20 @@ public class PoisonEffect implements StatusEffect {
     return remainingTurns;
   }
 
+  /**
+   * @return {@link EffectKind#POISON}
+   */
+  @Override
+  public EffectKind kind() {
+    return EffectKind.POISON;
+  }
+
+  /**
+   * @return damage dealt each tick
+   */
+  @Override
+  public int amountPerTurn() {
+    return damagePerTurn;
+  }
+
 }
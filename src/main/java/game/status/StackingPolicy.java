@@ -0,0 +1,29 @@
+package game.status;
+
+/**
+ * What happens when an actor receives an effect of a kind it already has.
+ *
+ * <p>Sources such as burning ground or a swamp re-apply their effect every turn
+ * an actor stays exposed. With a merging policy the actor keeps a single effect
+ * of that kind however long the exposure lasts, so the scheduler's pools stay
+ * bounded by the number of actors rather than by the number of turns.
+ *
+ * @author Ahmed
+ */
+public enum StackingPolicy {
+
+  /** Every application is a separate effect; their amounts add up. */
+  INDEPENDENT,
+
+  /**
+   * Keeps one effect, which lasts as long as the longest application and hits
+   * as hard as the strongest.
+   */
+  REFRESH,
+
+  /**
+   * Keeps one effect, which lasts as long as the longest application; each
+   * application adds its amount, up to the kind's cap.
+   */
+  INTENSIFY
+}
@@ -10,6 +10,12 @@ import edu.monash.fit2099.engine.positions.GameMap;
  * behaviour which is executed once per tick via {@link #applyEffect(Actor, GameMap)}.
  * The lifecycle is: apply -> decrementDuration -> removed when {@link #isExpired()} is true.
  *
+ * <p>Effects of a built-in {@link EffectKind} are handed to the
+ * {@link StatusEffectScheduler}, which copies their duration and per-turn amount
+ * into its pools and ticks them from there; the effect object itself is not
+ * ticked again. Effects of any other kind return {@code null} from
+ * {@link #kind()} and are ticked through this interface.
+ *
  * <p>Examples: {@link BleedEffect}, {@link BurnEffect}.
  *
  * @author Ahmed
@@ -40,4 +46,18 @@ public interface StatusEffect {
    * @return number of remaining turns this effect will still apply
    */
   int remainingTurns();
+
+  /**
+   * @return the built-in kind of this effect, or {@code null} for a custom effect
+   */
+  default EffectKind kind() {
+    return null;
+  }
+
+  /**
+   * @return the amount a built-in effect applies each tick (unused by custom effects)
+   */
+  default int amountPerTurn() {
+    return 0;
+  }
 }
@@ -0,0 +1,378 @@
+package game.status;
+
+import edu.monash.fit2099.engine.actors.Actor;
+import edu.monash.fit2099.engine.actors.ActorLocationsIterator;
+import edu.monash.fit2099.engine.positions.Location;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Holds every active timed status effect in the game and ticks them all once
+ * per turn.
+ *
+ * <p>Effects of a built-in {@link EffectKind} are not kept as objects: each kind
+ * has a pool of parallel arrays (target, remaining turns, amount per turn), and
+ * the world loop calls {@link #tick(ActorLocationsIterator)} to apply every
+ * pool in one pass. An effect that expires is swapped with the last entry of
+ * its pool, so removal is O(1), and a turn costs time in proportion to the
+ * number of active effects rather than to the number of actors. Custom
+ * {@link StatusEffect} implementations are kept in one extra pool and ticked
+ * through their own methods.
+ *
+ * <p>Repeated applications of a kind are combined according to its
+ * {@link StackingPolicy}. For a merging kind the per-actor record remembers
+ * which pool slot holds the actor's effect, so merging is O(1) too, and an
+ * actor standing in fire for a hundred turns still has one burn.
+ *
+ * <p>A per-actor count of active effects by kind answers "is this actor
+ * poisoned" in O(1) for other systems (for example the Chimera's poison state).
+ *
+ * <p>All methods are static; like {@link StatusRecipientRegistry}, the class is
+ * a single global service for the game package.
+ *
+ * @author Ahmed
+ */
+public final class StatusEffectScheduler {
+
+  private static final int KINDS = EffectKind.values().length;
+
+  /** Index of the custom-effect count in each per-actor count array. */
+  private static final int CUSTOM = KINDS;
+
+  private static final Pool[] pools = new Pool[KINDS];
+
+  static {
+    for (int k = 0; k < KINDS; k++) {
+      pools[k] = new Pool();
+    }
+  }
+
+  private static Actor[] customTargets = new Actor[8];
+  private static StatusEffect[] customEffects = new StatusEffect[8];
+  private static int customSize;
+
+  /**
+   * Active effects per actor. Actors without active effects have no entry.
+   */
+  private static final Map<Actor, ActorEffects> activeByActor = new HashMap<>();
+
+  /**
+   * What one actor has active.
+   */
+  private static final class ActorEffects {
+    /** Number of active effects, indexed by kind ordinal, with custom effects last. */
+    final int[] counts = new int[KINDS + 1];
+    /** Pool slot of the actor's effect of each merging kind, or -1. */
+    final int[] slots = new int[KINDS];
+
+    ActorEffects() {
+      Arrays.fill(slots, -1);
+    }
+  }
+
+  /**
+   * The built-in effects of one kind, stored column by column.
+   */
+  private static final class Pool {
+    Actor[] targets = new Actor[8];
+    int[] remaining = new int[8];
+    int[] amount = new int[8];
+    int size;
+
+    void add(Actor target, int turns, int perTurn) {
+      if (size == targets.length) {
+        targets = Arrays.copyOf(targets, size * 2);
+        remaining = Arrays.copyOf(remaining, size * 2);
+        amount = Arrays.copyOf(amount, size * 2);
+      }
+      targets[size] = target;
+      remaining[size] = turns;
+      amount[size] = perTurn;
+      size++;
+    }
+
+    /** Remove entry i by moving the last entry into its place. */
+    void removeAt(int i) {
+      size--;
+      targets[i] = targets[size];
+      remaining[i] = remaining[size];
+      amount[i] = amount[size];
+      targets[size] = null;
+    }
+  }
+
+  // Preventing instantiation
+  private StatusEffectScheduler() {}
+
+  /**
+   * Start ticking an effect on an actor. Built-in kinds are copied into their
+   * pool; the effect object is not used again.
+   *
+   * @param target the actor receiving the effect
+   * @param effect the effect to add, combined with any of the same kind per its {@link StackingPolicy}
+   */
+  public static void schedule(Actor target, StatusEffect effect) {
+    if (target == null || effect == null || effect.isExpired()) {
+      return;
+    }
+    EffectKind kind = effect.kind();
+    if (kind != null) {
+      schedule(target, kind, effect.remainingTurns(), effect.amountPerTurn());
+    } else {
+      if (customSize == customTargets.length) {
+        customTargets = Arrays.copyOf(customTargets, customSize * 2);
+        customEffects = Arrays.copyOf(customEffects, customSize * 2);
+      }
+      customTargets[customSize] = target;
+      customEffects[customSize] = effect;
+      customSize++;
+      recordOf(target).counts[CUSTOM]++;
+    }
+  }
+
+  private static void schedule(Actor target, EffectKind kind, int turns, int perTurn) {
+    int k = kind.ordinal();
+    Pool pool = pools[k];
+    ActorEffects record = recordOf(target);
+    int slot = record.slots[k];
+    if (slot >= 0) {
+      pool.remaining[slot] = Math.max(pool.remaining[slot], turns);
+      if (kind.stacking() == StackingPolicy.INTENSIFY) {
+        pool.amount[slot] = Math.min(pool.amount[slot] + perTurn, kind.maxAmount());
+      } else {
+        pool.amount[slot] = Math.max(pool.amount[slot], perTurn);
+      }
+      return;
+    }
+    if (kind.stacking() == StackingPolicy.INTENSIFY) {
+      perTurn = Math.min(perTurn, kind.maxAmount());
+    }
+    pool.add(target, turns, perTurn);
+    record.counts[k]++;
+    if (kind.stacking() != StackingPolicy.INDEPENDENT) {
+      record.slots[k] = pool.size - 1;
+    }
+  }
+
+  /**
+   * Apply one tick of every active effect, then drop the ones that expired.
+   *
+   * <p>Effects on actors that are no longer in the world are dropped without
+   * being applied. Actors that an effect leaves unconscious are returned; the
+   * caller decides what happens to them (the scheduler does not know which
+   * actor is the player).
+   *
+   * @param actors where every actor in the world is
+   * @return the actors knocked out this tick, in no particular order; empty if none
+   */
+  public static List<Actor> tick(ActorLocationsIterator actors) {
+    List<Actor> knockedOut = Collections.emptyList();
+
+    for (EffectKind kind : EffectKind.values()) {
+      Pool pool = pools[kind.ordinal()];
+      // Walking backwards means the entry swapped into slot i has already been ticked
+      for (int i = pool.size - 1; i >= 0; i--) {
+        Actor target = pool.targets[i];
+        if (!actors.contains(target)) {
+          expire(pool, kind, i);
+          continue;
+        }
+        kind.apply(target, pool.amount[i]);
+        if (--pool.remaining[i] <= 0) {
+          expire(pool, kind, i);
+        }
+        knockedOut = noteIfKnockedOut(target, knockedOut);
+      }
+    }
+
+    for (int i = customSize - 1; i >= 0; i--) {
+      Actor target = customTargets[i];
+      Location here = actors.contains(target) ? actors.locationOf(target) : null;
+      if (here == null) {
+        expireCustom(i);
+        continue;
+      }
+      StatusEffect effect = customEffects[i];
+      effect.applyEffect(target, here.map());
+      effect.decrementDuration();
+      if (effect.isExpired()) {
+        expireCustom(i);
+      }
+      knockedOut = noteIfKnockedOut(target, knockedOut);
+    }
+    return knockedOut;
+  }
+
+  /**
+   * Drop every effect on an actor that has left the world. {@link #tick} would
+   * drop them on its next pass anyway; this lets go of the actor straight away.
+   * Costs nothing for an actor without effects, and a scan of the pools it has
+   * effects in otherwise.
+   *
+   * @param actor the actor that was removed
+   */
+  public static void forget(Actor actor) {
+    ActorEffects record = activeByActor.get(actor);
+    if (record == null) {
+      return;
+    }
+    for (EffectKind kind : EffectKind.values()) {
+      Pool pool = pools[kind.ordinal()];
+      for (int i = pool.size - 1; i >= 0 && record.counts[kind.ordinal()] > 0; i--) {
+        if (pool.targets[i] == actor) {
+          expire(pool, kind, i);
+        }
+      }
+    }
+    for (int i = customSize - 1; i >= 0 && record.counts[CUSTOM] > 0; i--) {
+      if (customTargets[i] == actor) {
+        expireCustom(i);
+      }
+    }
+  }
+
+  /**
+   * @param actor the actor to check
+   * @param kind the kind of effect
+   * @return {@code true} if the actor has at least one active effect of that kind
+   */
+  public static boolean isAffected(Actor actor, EffectKind kind) {
+    return count(actor, kind) > 0;
+  }
+
+  /**
+   * @param actor the actor to check
+   * @param kind the kind of effect
+   * @return how many effects of that kind are active on the actor
+   */
+  public static int count(Actor actor, EffectKind kind) {
+    ActorEffects record = activeByActor.get(actor);
+    return record == null ? 0 : record.counts[kind.ordinal()];
+  }
+
+  /**
+   * @param actor the actor to check
+   * @return how many effects of any kind, custom ones included, are active on the actor
+   */
+  public static int count(Actor actor) {
+    ActorEffects record = activeByActor.get(actor);
+    if (record == null) {
+      return 0;
+    }
+    int total = 0;
+    for (int c : record.counts) {
+      total += c;
+    }
+    return total;
+  }
+
+  /**
+   * The longest remaining duration among an actor's effects of one kind.
+   * Scans that kind's pool, so costs time in proportion to its size.
+   *
+   * @param actor the actor to check
+   * @param kind the kind of effect
+   * @return the most turns any of them still has, or 0 if none are active
+   */
+  public static int remainingTurns(Actor actor, EffectKind kind) {
+    if (!isAffected(actor, kind)) {
+      return 0;
+    }
+    Pool pool = pools[kind.ordinal()];
+    int longest = 0;
+    for (int i = 0; i < pool.size; i++) {
+      if (pool.targets[i] == actor) {
+        longest = Math.max(longest, pool.remaining[i]);
+      }
+    }
+    return longest;
+  }
+
+  /**
+   * @return the number of active effects in the game
+   */
+  public static int size() {
+    int total = customSize;
+    for (Pool pool : pools) {
+      total += pool.size;
+    }
+    return total;
+  }
+
+  /**
+   * Drop every active effect. Intended for tests and for starting a new game.
+   */
+  public static void clear() {
+    for (Pool pool : pools) {
+      Arrays.fill(pool.targets, 0, pool.size, null);
+      pool.size = 0;
+    }
+    Arrays.fill(customTargets, 0, customSize, null);
+    Arrays.fill(customEffects, 0, customSize, null);
+    customSize = 0;
+    activeByActor.clear();
+  }
+
+  /**
+   * @return the number of entries in one kind's pool, which is bounded by the
+   *         number of affected actors for merging kinds
+   */
+  static int poolSize(EffectKind kind) {
+    return pools[kind.ordinal()].size;
+  }
+
+  private static ActorEffects recordOf(Actor actor) {
+    return activeByActor.computeIfAbsent(actor, a -> new ActorEffects());
+  }
+
+  private static void expire(Pool pool, EffectKind kind, int i) {
+    int k = kind.ordinal();
+    boolean merging = kind.stacking() != StackingPolicy.INDEPENDENT;
+    if (merging) {
+      activeByActor.get(pool.targets[i]).slots[k] = -1;
+    }
+    uncount(pool.targets[i], k);
+    pool.removeAt(i);
+    if (merging && i < pool.size) {
+      // The last entry moved into slot i
+      activeByActor.get(pool.targets[i]).slots[k] = i;
+    }
+  }
+
+  private static void expireCustom(int i) {
+    uncount(customTargets[i], CUSTOM);
+    customSize--;
+    customTargets[i] = customTargets[customSize];
+    customEffects[i] = customEffects[customSize];
+    customTargets[customSize] = null;
+    customEffects[customSize] = null;
+  }
+
+  private static void uncount(Actor actor, int slot) {
+    int[] counts = activeByActor.get(actor).counts;
+    counts[slot]--;
+    for (int c : counts) {
+      if (c != 0) {
+        return;
+      }
+    }
+    activeByActor.remove(actor);
+  }
+
+  private static List<Actor> noteIfKnockedOut(Actor target, List<Actor> knockedOut) {
+    if (target.isConscious()) {
+      return knockedOut;
+    }
+    if (knockedOut.isEmpty()) {
+      knockedOut = new ArrayList<>();
+    }
+    if (!knockedOut.contains(target)) {
+      knockedOut.add(target);
+    }
+    return knockedOut;
+  }
+}
@@ -8,8 +8,10 @@ import java.util.WeakHashMap;
  * Registry that maps engine {@link Actor} instances to {@link StatusRecipient}
  * handlers.
  *
- * <p>Uses a {@link WeakHashMap} so the presence of an entry does not prevent an
- * {@link Actor} from being garbage-collected. External systems (grounds, actions)
+ * <p>Uses a {@link WeakHashMap}, but most actors register themselves as their own
+ * recipient, and a value that refers to its key keeps the entry alive. Entries
+ * are therefore removed explicitly with {@link #unregister(Actor)} when an actor
+ * leaves the world (see {@link game.lifecycle.RegistryCleanup}). External systems (grounds, actions)
  * may query this registry to obtain a {@link StatusRecipient} for an {@link Actor}
  * without relying on instanceof/casting.
  *
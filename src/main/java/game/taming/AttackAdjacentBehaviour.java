@@ -0,0 +1,21 @@
+package game.taming;
+
+import edu.monash.fit2099.engine.actions.Action;
+import edu.monash.fit2099.engine.actors.Actor;
+import edu.monash.fit2099.engine.actors.Behaviour;
+import edu.monash.fit2099.engine.positions.GameMap;
+
+/**
+ * Attack the first neighbouring actor that is not tamed, with the animal's
+ * intrinsic weapon.
+ *
+ * @author Muhamad Shafy Dimas Rafarrel
+ * @version 1.0
+ */
+public class AttackAdjacentBehaviour implements Behaviour {
+
+    @Override
+    public Action generateAction(Actor actor, GameMap map) {
+        return ((TameableAnimal) actor).attackAdjacent(map);
+    }
+}
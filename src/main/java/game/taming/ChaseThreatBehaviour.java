@@ -0,0 +1,33 @@
+package game.taming;
+
+import edu.monash.fit2099.engine.actions.Action;
+import edu.monash.fit2099.engine.actors.Actor;
+import edu.monash.fit2099.engine.actors.Behaviour;
+import edu.monash.fit2099.engine.positions.GameMap;
+import game.behaviours.BehaviourTree;
+
+/**
+ * Close in on whatever is threatening the tamer along a shortest path.
+ * Planning: belongs under a {@link game.behaviours.Deferred} node, after
+ * {@link StrikeThreatBehaviour}.
+ *
+ * @author Muhamad Shafy Dimas Rafarrel
+ * @version 1.0
+ */
+public class ChaseThreatBehaviour implements Behaviour {
+
+    /**
+     * @return a step towards the threat, {@link BehaviourTree#IDLE} if it cannot be reached,
+     *         or null if the tamer is not threatened
+     */
+    @Override
+    public Action generateAction(Actor actor, GameMap map) {
+        TameableAnimal animal = (TameableAnimal) actor;
+        Actor threat = animal.threatToTamer(map);
+        if (threat == null) {
+            return null;
+        }
+        Action step = animal.moveTowards(map.locationOf(threat), map);
+        return step != null ? step : BehaviourTree.IDLE;
+    }
+}
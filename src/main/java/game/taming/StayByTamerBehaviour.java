@@ -0,0 +1,37 @@
+package game.taming;
+
+import edu.monash.fit2099.engine.actions.Action;
+import edu.monash.fit2099.engine.actors.Actor;
+import edu.monash.fit2099.engine.actors.Behaviour;
+import edu.monash.fit2099.engine.positions.GameMap;
+import edu.monash.fit2099.engine.positions.Location;
+import game.behaviours.BehaviourTree;
+
+/**
+ * Stay put when already next to the tamer. An animal that has left the world,
+ * or whose tamer has, stays where it is too. A reflex: it only looks at two
+ * locations.
+ *
+ * @author Muhamad Shafy Dimas Rafarrel
+ * @version 1.0
+ */
+public class StayByTamerBehaviour implements Behaviour {
+
+    /**
+     * @return {@link BehaviourTree#IDLE} when next to the tamer or out of the world,
+     *         or null if the animal is not tamed or should go to the tamer
+     */
+    @Override
+    public Action generateAction(Actor actor, GameMap map) {
+        TameableAnimal animal = (TameableAnimal) actor;
+        if (!animal.isTamed() || animal.getTamer() == null) {
+            return null;
+        }
+        Location myLocation = map.locationOf(animal);
+        Location tamerLocation = map.locationOf(animal.getTamer());
+        if (myLocation == null || tamerLocation == null || !map.contains(animal)) {
+            return BehaviourTree.IDLE;
+        }
+        return TameableAnimal.isAdjacent(myLocation, tamerLocation) ? BehaviourTree.IDLE : null;
+    }
+}
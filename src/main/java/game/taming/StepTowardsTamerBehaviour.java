@@ -0,0 +1,29 @@
+package game.taming;
+
+import edu.monash.fit2099.engine.actions.Action;
+import edu.monash.fit2099.engine.actors.Actor;
+import edu.monash.fit2099.engine.actors.Behaviour;
+import edu.monash.fit2099.engine.positions.GameMap;
+
+/**
+ * Step towards the tamer down the shared distance field, or through the
+ * portals when the tamer is on another map. Planning: belongs under a
+ * {@link game.behaviours.Deferred} node.
+ *
+ * @author Muhamad Shafy Dimas Rafarrel
+ * @version 1.0
+ */
+public class StepTowardsTamerBehaviour implements Behaviour {
+
+    /**
+     * @return a step or teleport towards the tamer, or null if the animal is not tamed or no step gets closer
+     */
+    @Override
+    public Action generateAction(Actor actor, GameMap map) {
+        TameableAnimal animal = (TameableAnimal) actor;
+        if (!animal.isTamed() || animal.getTamer() == null) {
+            return null;
+        }
+        return animal.followTamer(map);
+    }
+}
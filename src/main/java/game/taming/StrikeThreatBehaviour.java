@@ -0,0 +1,41 @@
+package game.taming;
+
+import edu.monash.fit2099.engine.actions.Action;
+import edu.monash.fit2099.engine.actors.Actor;
+import edu.monash.fit2099.engine.actors.Behaviour;
+import edu.monash.fit2099.engine.positions.Exit;
+import edu.monash.fit2099.engine.positions.GameMap;
+import edu.monash.fit2099.engine.positions.Location;
+
+import java.util.List;
+
+/**
+ * Attack whatever is threatening the tamer if it is within reach. A reflex:
+ * one spatial index query and a look at the animal's own exits.
+ *
+ * @author Muhamad Shafy Dimas Rafarrel
+ * @version 1.0
+ */
+public class StrikeThreatBehaviour implements Behaviour {
+
+    /**
+     * @return an attack on the threat, or null if there is none or it is out of reach
+     */
+    @Override
+    public Action generateAction(Actor actor, GameMap map) {
+        TameableAnimal animal = (TameableAnimal) actor;
+        Actor threat = animal.threatToTamer(map);
+        if (threat == null) {
+            return null;
+        }
+        Location threatLocation = map.locationOf(threat);
+        List<Exit> exits = map.locationOf(animal).getExits();
+        for (int i = 0; i < exits.size(); i++) {
+            Exit exit = exits.get(i);
+            if (exit.getDestination() == threatLocation) {
+                return animal.attack(threat, exit, map, animal.blackboard().display());
+            }
+        }
+        return null;
+    }
+}
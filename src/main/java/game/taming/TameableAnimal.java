@@ -3,19 +3,27 @@ package game.taming;
 import edu.monash.fit2099.engine.actions.Action;
 import edu.monash.fit2099.engine.actions.ActionList;
 import edu.monash.fit2099.engine.actors.Actor;
+import edu.monash.fit2099.engine.actors.Behaviour;
 import edu.monash.fit2099.engine.displays.Display;
 import edu.monash.fit2099.engine.items.Item;
+import edu.monash.fit2099.engine.positions.Exit;
 import edu.monash.fit2099.engine.positions.GameMap;
 import edu.monash.fit2099.engine.positions.Location;
 import game.abilities.Abilities;
 import game.actions.AttackAction;
 import game.actions.TameAction;
 import game.actors.GameActor;
+import game.behaviours.BehaviourAgent;
+import game.behaviours.BehaviourTree;
+import game.behaviours.Blackboard;
+import game.behaviours.Deferred;
+import game.behaviours.Guard;
+import game.behaviours.Selector;
 import game.items.ConsumableItem;
+import game.population.AnimalAttributes;
+import game.population.AnimalStore;
+import game.population.AnimalSystems;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Optional;
 import java.util.Set;
 
 /**
@@ -26,17 +34,35 @@ import java.util.Set;
  * @author Muhamad Shafy Dimas Rafarrel
  * @version 1.5
  */
-public abstract class TameableAnimal extends GameActor implements Tameable {
+public abstract class TameableAnimal extends GameActor implements Tameable, BehaviourAgent {
+
+    /** Move to a random free neighbour; never null. */
+    protected static final Behaviour WANDER = new WanderBehaviour();
+
+    /** Attack a neighbouring untamed actor. */
+    protected static final Behaviour ATTACK_ADJACENT = new AttackAdjacentBehaviour();
+
+    /**
+     * Stay next to the tamer, or step towards them when the scheduler has
+     * time to plan.
+     */
+    protected static final Behaviour FOLLOW_TAMER = new Selector(
+            new StayByTamerBehaviour(), new Deferred(new StepTowardsTamerBehaviour()));
 
     /**
-     * Whether this animal has been tamed by a player.
+     * Attack whatever is threatening the tamer if it is in reach, otherwise
+     * close in on it when the scheduler has time to plan.
      */
-    protected boolean tamed = false;
+    protected static final Behaviour DEFEND_TAMER = new Selector(
+            new StrikeThreatBehaviour(),
+            new Guard((actor, map) -> ((TameableAnimal) actor).threatToTamer(map) != null,
+                    new Deferred(new ChaseThreatBehaviour())));
 
     /**
-     * The actor who tamed this animal, or null if untamed.
+     * This animal's row in the {@link AnimalStore}, which holds its health,
+     * warmth, tamed state, tamer and random stream.
      */
-    protected Actor tamer = null;
+    private final AnimalAttributes columns;
 
     /**
      * Set of item classes that this animal will accept as taming food.
@@ -44,6 +70,11 @@ public abstract class TameableAnimal extends GameActor implements Tameable {
      */
     protected final Set<Class<? extends Item>> acceptedFoods;
 
+    /**
+     * What this animal's behaviour tree remembers between nodes.
+     */
+    private final Blackboard blackboard = new Blackboard();
+
     /**
      * Constructs a new tameable animal with specified characteristics.
      *
@@ -53,8 +84,15 @@ public abstract class TameableAnimal extends GameActor implements Tameable {
      * @param acceptedFoods set of item classes that can be used to tame this animal
      */
     public TameableAnimal(String name, char displayChar, int hitPoints, Set<Class<? extends Item>> acceptedFoods) {
-        super(name, displayChar, hitPoints);
+        this(name, displayChar, hitPoints, acceptedFoods, AnimalStore.allocate());
+    }
+
+    private TameableAnimal(String name, char displayChar, int hitPoints, Set<Class<? extends Item>> acceptedFoods,
+                           AnimalAttributes columns) {
+        super(name, displayChar, hitPoints, columns);
+        this.columns = columns;
         this.acceptedFoods = acceptedFoods;
+        AnimalStore.bind(columns, this);
     }
 
     /**
@@ -64,7 +102,7 @@ public abstract class TameableAnimal extends GameActor implements Tameable {
      */
     @Override
     public boolean isTamed() {
-        return tamed;
+        return columns.isTamed();
     }
 
     /**
@@ -77,8 +115,7 @@ public abstract class TameableAnimal extends GameActor implements Tameable {
      */
     @Override
     public void tame(Actor tamer) {
-        this.tamed = true;
-        this.tamer = tamer;
+        columns.tame(tamer);
         onTamed();
     }
 
@@ -89,7 +126,7 @@ public abstract class TameableAnimal extends GameActor implements Tameable {
      */
     @Override
     public Actor getTamer() {
-        return tamer;
+        return columns.tamer();
     }
 
     /**
@@ -153,50 +190,179 @@ public abstract class TameableAnimal extends GameActor implements Tameable {
      */
     @Override
     public Action playTurn(ActionList actions, Action lastAction, GameMap map, Display display) {
-        tickStatusEffects(map);
-        
         // Check if animal has GROUND_CONSUMPTION ability and consume items on ground
         if (this.hasAbility(Abilities.GROUND_CONSUMPTION)) {
-            consumeGroundItems(map);
+            consumeGroundItems(map, display);
         }
         
-        if (tamed) {
+        if (isTamed()) {
             return tamedBehavior(actions, lastAction, map, display);
         } else {
             return wildBehavior(actions, lastAction, map, display);
         }
     }
     
+    /**
+     * Whether this animal's turn only decides what it does, changing nothing
+     * outside the animal until its action is executed, so that it can be
+     * decided ahead on another thread (see {@code game.SpeculativeTurns}).
+     * A tamed animal may follow its tamer through the portal network, and one
+     * that eats what is on the ground changes the ground, so neither does.
+     *
+     * @return true if the turn can be decided ahead
+     */
+    public boolean decidesAhead() {
+        return !isTamed() && !this.hasAbility(Abilities.GROUND_CONSUMPTION);
+    }
+
+    /**
+     * Move to a random unoccupied neighbouring location, using this animal's
+     * own random stream.
+     *
+     * @param map the current game map
+     * @return a random movement action, or do nothing if no movement is possible
+     */
+    protected Action wander(GameMap map) {
+        int slot = columns.slot();
+        return slot >= 0 ? AnimalSystems.wander(this, slot, map) : BehaviourTree.IDLE;
+    }
+
+    /**
+     * Attack the first neighbouring actor that is not tamed.
+     *
+     * @param map the current game map
+     * @return an attack with this animal's intrinsic weapon, or null if there is no target
+     */
+    protected Action attackAdjacent(GameMap map) {
+        return AnimalSystems.attackAdjacent(this, map);
+    }
+
+    /**
+     * Take the first step of a shortest path to a target, around anything in
+     * the way.
+     *
+     * @param target where to head for; may be occupied
+     * @param map the current game map
+     * @return a movement action, or null if the target cannot be reached from here
+     */
+    protected Action moveTowards(Location target, GameMap map) {
+        return AnimalSystems.moveTowards(this, target, map);
+    }
+
+    /**
+     * Take a step towards the actor that tamed this animal. All followers of
+     * the same tamer and of the same kind share one distance field, rebuilt
+     * when the tamer moves.
+     *
+     * @param map the current game map
+     * @return a movement action, or null if no free neighbour is closer to the tamer
+     */
+    protected Action followTamer(GameMap map) {
+        return AnimalSystems.follow(this, getTamer(), map);
+    }
+
+    /**
+     * The nearest untamed actor next to this animal's tamer, if both are on
+     * this map.
+     *
+     * @param map the current game map
+     * @return the threat, or null if the animal is not tamed or the tamer is not threatened
+     */
+    protected Actor threatToTamer(GameMap map) {
+        Actor tamer = getTamer();
+        if (!isTamed() || tamer == null || !map.contains(this) || !map.contains(tamer)) {
+            return null;
+        }
+        return nearestThreat(map.locationOf(tamer), 1, map);
+    }
+
+    /**
+     * Attack an actor next to this animal. Species whose attack is more than a
+     * swing of their intrinsic weapon override this.
+     *
+     * @param target the actor to attack
+     * @param exit the exit from this animal's location to the target's
+     * @param map the current game map
+     * @param display where messages about the attack go
+     * @return the attack
+     */
+    protected Action attack(Actor target, Exit exit, GameMap map, Display display) {
+        return new AttackAction(target, exit.getName(), getIntrinsicWeapon());
+    }
+
+    /**
+     * The nearest untamed actor other than this animal within a radius of a
+     * location, found through the map's spatial index.
+     *
+     * @param around the location to look around, usually the tamer's; may be null
+     * @param radius how far to look, in moves
+     * @param map the current game map
+     * @return the nearest such actor, or null if there is none or {@code around} is not on this map
+     */
+    protected Actor nearestThreat(Location around, int radius, GameMap map) {
+        if (around == null || around.map() != map) {
+            return null;
+        }
+        return map.spatialIndex().nearest(around, radius,
+                actor -> actor != this && !actor.hasAbility(Abilities.TAMED));
+    }
+
+    /**
+     * Whether two locations are next to each other on the same map.
+     *
+     * @param a one location
+     * @param b the other location
+     * @return true if they are different, on one map and at most one move apart
+     */
+    protected static boolean isAdjacent(Location a, Location b) {
+        int deltaX = Math.abs(a.x() - b.x());
+        int deltaY = Math.abs(a.y() - b.y());
+        return a.map() == b.map() && deltaX <= 1 && deltaY <= 1 && !(deltaX == 0 && deltaY == 0);
+    }
+
+    @Override
+    public Blackboard blackboard() {
+        return blackboard;
+    }
+
+    /**
+     * Gives this animal's slot in the {@link AnimalStore} back once it has left
+     * the world, however it left (killed, frozen, poisoned, eaten a yew berry).
+     */
+    @Override
+    protected void onRemoved() {
+        AnimalStore.release(columns);
+    }
+
     /**
      * Consumes any consumable items on the ground at the animal's current location.
      * This mimics the behavior of the Explorer consuming ground items.
      * 
      * @param map the current game map
+     * @param display the display the consumption message is written to
      */
-    private void consumeGroundItems(GameMap map) {
+    private void consumeGroundItems(GameMap map, Display display) {
         Location currentLocation = map.locationOf(this);
         if (currentLocation == null) {
             return;
         }
         
-        // Get all items at current location
-        List<Item> items = new ArrayList<>(currentLocation.getItems());
-        
-        for (Item item : items) {
-            // Check if item is consumable using capability pattern (same pattern as player)
-            Optional<ConsumableItem> consumableOpt = item.asCapability(ConsumableItem.class);
-            if (consumableOpt.isPresent()) {
-                ConsumableItem consumable = consumableOpt.get();
-                
-                // Remove item from ground and consume it
-                currentLocation.removeItem(item);
-                String consumeMessage = consumable.consume(this, map);
-                System.out.println(consumeMessage);
-                
-                // Only consume one item per turn
+        // Find the first consumable item here (same capability pattern as the player)
+        Item food = null;
+        ConsumableItem consumable = null;
+        for (Item item : currentLocation.getItems()) {
+            consumable = item.capabilityOrNull(ConsumableItem.class);
+            if (consumable != null) {
+                food = item;
                 break;
             }
         }
+
+        // Only consume one item per turn: remove it from the ground and consume it
+        if (food != null) {
+            currentLocation.removeItem(food);
+            display.println(consumable.consume(this, map));
+        }
     }
 
     /**
@@ -214,8 +380,9 @@ public abstract class TameableAnimal extends GameActor implements Tameable {
         ActionList actions = super.allowableActions(otherActor, direction, map);
 
         // Only untamed animals can be tamed
-        if (!tamed) {
-            for (Item item : otherActor.getItemInventory()) {
+        if (!isTamed()) {
+            // The first acceptable item in the order it is carried
+            for (Item item : otherActor.getInventory()) {
                 if (canBeTamedWith(item)) {
                     actions.add(new TameAction(this, item));
                     break;
@@ -223,7 +390,7 @@ public abstract class TameableAnimal extends GameActor implements Tameable {
             }
         }
 
-        if (!tamed && otherActor.getIntrinsicWeapon() != null) {
+        if (!isTamed() && otherActor.getIntrinsicWeapon() != null) {
             actions.add(new AttackAction(this, direction));
         }
 
@@ -0,0 +1,21 @@
+package game.taming;
+
+import edu.monash.fit2099.engine.actions.Action;
+import edu.monash.fit2099.engine.actors.Actor;
+import edu.monash.fit2099.engine.actors.Behaviour;
+import edu.monash.fit2099.engine.positions.GameMap;
+
+/**
+ * Move to a random free neighbouring location, or stand still if there is none.
+ * Never returns null, so it belongs last in a {@link game.behaviours.Selector}.
+ *
+ * @author Muhamad Shafy Dimas Rafarrel
+ * @version 1.0
+ */
+public class WanderBehaviour implements Behaviour {
+
+    @Override
+    public Action generateAction(Actor actor, GameMap map) {
+        return ((TameableAnimal) actor).wander(map);
+    }
+}
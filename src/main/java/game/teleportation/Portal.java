@@ -0,0 +1,34 @@
+package game.teleportation;
+
+import edu.monash.fit2099.engine.actions.Action;
+import edu.monash.fit2099.engine.positions.Location;
+
+import java.util.List;
+
+/**
+ * Ground that sends an actor standing on it to one of a fixed set of
+ * destinations, possibly on another map.
+ *
+ * Implemented by the tele-door and the teleportation circle, so that the
+ * {@link PortalNetwork} can plan routes through them and an animal can use
+ * them with the same action, and the same side effects, as the player.
+ *
+ * @author Muhamad Shafy Dimas Rafarrel
+ * @version 1.0
+ */
+public interface Portal {
+
+    /**
+     * @return where this portal can send an actor
+     */
+    List<TeleportDestination> getDestinations();
+
+    /**
+     * Create the action that uses this portal.
+     *
+     * @param destination one of this portal's destinations
+     * @param source      the location of this portal
+     * @return the teleport action
+     */
+    Action teleportAction(TeleportDestination destination, Location source);
+}
@@ -0,0 +1,177 @@
+package game.teleportation;
+
+import edu.monash.fit2099.engine.actions.Action;
+import edu.monash.fit2099.engine.actors.Actor;
+import edu.monash.fit2099.engine.positions.DistanceField;
+import edu.monash.fit2099.engine.positions.Exit;
+import edu.monash.fit2099.engine.positions.GameMap;
+import edu.monash.fit2099.engine.positions.Location;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The maps of the world joined by their fixed portals (tele-doors and
+ * teleportation circles), for planning routes that cross maps.
+ *
+ * Each portal keeps a {@link DistanceField} to itself over its own map, so the
+ * cost of walking from any location to it is a lookup. A route is then a
+ * shortest path over the portals alone: from the start to each portal on its
+ * map, through a portal to one of its destinations (one turn), and from there
+ * either to another portal or, on the goal's map, to the goal. That costs time
+ * in proportion to the number of portals, not the number of tiles, and lets a
+ * tamed animal whose tamer has teleported away follow them through the same
+ * portals.
+ *
+ * The teleport cube is carried, not fixed to a map, so it is not part of the
+ * network.
+ *
+ * All methods are static; like the other registries in the game, the class is
+ * a single global service.
+ *
+ * @author Muhamad Shafy Dimas Rafarrel
+ * @version 1.0
+ */
+public final class PortalNetwork {
+
+    private static final int UNREACHABLE = DistanceField.UNREACHABLE;
+
+    private static final List<Location> entries = new ArrayList<>();
+    private static final List<DistanceField> fields = new ArrayList<>();
+
+    /** Search state, one entry per portal. */
+    private static int[] cost = new int[0];
+    private static int[] firstPortal = new int[0];
+    private static int[] firstDestination = new int[0];
+    private static boolean[] settled = new boolean[0];
+
+    // Preventing instantiation
+    private PortalNetwork() {}
+
+    /**
+     * Add every portal on a map to the network.
+     *
+     * @param map the map to scan
+     */
+    public static void scan(GameMap map) {
+        for (int x : map.getXRange()) {
+            for (int y : map.getYRange()) {
+                Location location = map.at(x, y);
+                if (location.getGroundAs(Portal.class) != null && !entries.contains(location)) {
+                    entries.add(location);
+                    fields.add(new DistanceField(map));
+                }
+            }
+        }
+        int n = entries.size();
+        cost = new int[n];
+        firstPortal = new int[n];
+        firstDestination = new int[n];
+        settled = new boolean[n];
+    }
+
+    /**
+     * Forget every portal. Intended for tests and for starting a new game.
+     */
+    public static void clear() {
+        entries.clear();
+        fields.clear();
+    }
+
+    /**
+     * @return the number of portals in the network
+     */
+    public static int size() {
+        return entries.size();
+    }
+
+    /**
+     * The next action on the shortest route through the portals from one
+     * location to another on a different map: a step towards the first portal
+     * on the route, or using it when already standing on it.
+     *
+     * @param actor the actor that is travelling
+     * @param from  where it is
+     * @param to    where it is going; usually occupied by the actor it follows
+     * @return the action, or null if there is no route or the next portal's destination is occupied
+     */
+    public static Action nextAction(Actor actor, Location from, Location to) {
+        int best = UNREACHABLE;
+        int bestPortal = -1;
+        int bestDestination = -1;
+        DistanceField goalField = to.map().distanceFields().towards(actor, to);
+
+        int n = entries.size();
+        for (int i = 0; i < n; i++) {
+            settled[i] = false;
+            cost[i] = UNREACHABLE;
+            if (entries.get(i).map() == from.map() && portalAt(i) != null) {
+                cost[i] = fieldOf(i, actor).distanceTo(from);
+                firstPortal[i] = i;
+                firstDestination[i] = -1;
+            }
+        }
+
+        while (true) {
+            int i = -1;
+            for (int k = 0; k < n; k++) {
+                if (!settled[k] && cost[k] != UNREACHABLE && (i < 0 || cost[k] < cost[i])) {
+                    i = k;
+                }
+            }
+            if (i < 0 || cost[i] >= best) {
+                break;
+            }
+            settled[i] = true;
+            List<TeleportDestination> destinations = portalAt(i).getDestinations();
+            for (int d = 0; d < destinations.size(); d++) {
+                Location arrival = destinations.get(d).getTargetLocation();
+                int arrived = cost[i] + 1;
+                int via = firstPortal[i];
+                int viaDestination = via == i ? d : firstDestination[i];
+                if (arrival.map() == to.map()) {
+                    int remaining = goalField.distanceTo(arrival);
+                    if (remaining != UNREACHABLE && arrived + remaining < best) {
+                        best = arrived + remaining;
+                        bestPortal = via;
+                        bestDestination = viaDestination;
+                    }
+                }
+                for (int k = 0; k < n; k++) {
+                    if (settled[k] || entries.get(k).map() != arrival.map() || portalAt(k) == null) {
+                        continue;
+                    }
+                    int walk = fieldOf(k, actor).distanceTo(arrival);
+                    if (walk != UNREACHABLE && arrived + walk < cost[k]) {
+                        cost[k] = arrived + walk;
+                        firstPortal[k] = via;
+                        firstDestination[k] = viaDestination;
+                    }
+                }
+            }
+        }
+
+        if (bestPortal < 0) {
+            return null;
+        }
+        Location portal = entries.get(bestPortal);
+        if (portal.equals(from)) {
+            TeleportDestination destination = portalAt(bestPortal).getDestinations().get(bestDestination);
+            if (destination.getTargetLocation().containsAnActor()) {
+                return null;
+            }
+            return portalAt(bestPortal).teleportAction(destination, portal);
+        }
+        Exit step = fieldOf(bestPortal, actor).nextStep(actor, from);
+        return step == null ? null : step.getMoveAction();
+    }
+
+    private static Portal portalAt(int i) {
+        return entries.get(i).getGroundAs(Portal.class);
+    }
+
+    private static DistanceField fieldOf(int i, Actor walker) {
+        return fields.get(i).towards(walker, entries.get(i));
+    }
+}
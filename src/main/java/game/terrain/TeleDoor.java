@@ -1,14 +1,17 @@
 package game.terrain;
 
+import edu.monash.fit2099.engine.actions.Action;
 import edu.monash.fit2099.engine.actions.ActionList;
 import edu.monash.fit2099.engine.actors.Actor;
 import edu.monash.fit2099.engine.positions.Ground;
 import edu.monash.fit2099.engine.positions.GameMap;
 import edu.monash.fit2099.engine.positions.Location;
 import game.actions.TeleportAction;
+import game.teleportation.Portal;
 import game.teleportation.TeleportDestination;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -18,7 +21,7 @@ import java.util.List;
  * @author Muhamad Shafy Dimas Rafarrel
  * @version 2.1
  */
-public class TeleDoor extends Ground {
+public class TeleDoor extends Ground implements Portal {
     private List<TeleportDestination> destinations;
 
     /**
@@ -38,6 +41,26 @@ public class TeleDoor extends Ground {
         destinations.add(destination);
     }
 
+    /**
+     * @return the destinations of this portal, in the order they were added
+     */
+    @Override
+    public List<TeleportDestination> getDestinations() {
+        return Collections.unmodifiableList(destinations);
+    }
+
+    /**
+     * Creates the action that uses this portal to reach one destination.
+     *
+     * @param destination one of this portal's destinations
+     * @param source the location of this portal
+     * @return the teleport action
+     */
+    @Override
+    public Action teleportAction(TeleportDestination destination, Location source) {
+        return new TeleDoorTeleportAction(destination);
+    }
+
     /**
      * Returns actions available at this door.
      *
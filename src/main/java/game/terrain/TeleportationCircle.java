@@ -1,14 +1,17 @@
 package game.terrain;
 
+import edu.monash.fit2099.engine.actions.Action;
 import edu.monash.fit2099.engine.actions.ActionList;
 import edu.monash.fit2099.engine.actors.Actor;
 import edu.monash.fit2099.engine.positions.Ground;
 import edu.monash.fit2099.engine.positions.GameMap;
 import edu.monash.fit2099.engine.positions.Location;
 import game.actions.TeleportAction;
+import game.teleportation.Portal;
 import game.teleportation.TeleportDestination;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Random;
 
@@ -19,7 +22,7 @@ import java.util.Random;
  * @author Muhamad Shafy Dimas Rafarrel
  * @version 2.0
  */
-public class TeleportationCircle extends Ground {
+public class TeleportationCircle extends Ground implements Portal {
     private List<TeleportDestination> destinations;
     private static final Random random = new Random();
 
@@ -40,6 +43,26 @@ public class TeleportationCircle extends Ground {
         destinations.add(destination);
     }
 
+    /**
+     * @return the destinations of this portal, in the order they were added
+     */
+    @Override
+    public List<TeleportDestination> getDestinations() {
+        return Collections.unmodifiableList(destinations);
+    }
+
+    /**
+     * Creates the action that uses this portal to reach one destination.
+     *
+     * @param destination one of this portal's destinations
+     * @param source the location of this portal
+     * @return the teleport action
+     */
+    @Override
+    public Action teleportAction(TeleportDestination destination, Location source) {
+        return new CircleTeleportAction(destination, source);
+    }
+
     /**
      * Returns actions available at this circle.
      *
@@ -12,6 +12,8 @@ package game.tuning;
  *   <li>Crocodile statistics (HP, attack damage, hit rate, warmth)</li>
  *   <li>Swamp spawner mechanics (poison duration/damage, spawn probability)</li>
  *   <li>Post-spawn effect parameters (crocodile pulse, bear berry scatter)</li>
+ *   <li>Status effect stacking caps</li>
+ *   <li>Wolf pack hunting range</li>
  * </ul>
  * 
  * @author Reynard Andyti Putra Kaban (REQ2 implementation)
@@ -48,6 +50,18 @@ public final class Tuning {
     /** Probability (0.0 to 1.0) that a yew berry will spawn in each exit when a bear spawns. */
     public static final double BEAR_YEW_BERRY_SPAWN_CHANCE_PER_EXIT = 0.5;
 
+    /** Highest damage per turn that stacked poison can reach on one actor. */
+    public static final int POISON_MAX_DPT = 20;
+
+    /**
+     * How far away, in moves, a wild wolf notices prey for its pack to hunt.
+     * Wolves are meant to hunt: prey in this range, the player included, is
+     * run down and surrounded by the pack rather than only bitten when it
+     * happens to come next to a wolf. At 1 the pack would only engage what
+     * is already next to it, which wolves do anyway.
+     */
+    public static final int WOLF_PACK_SIGHT = 6;
+
     /**
      * Private constructor to prevent instantiation.
      * This is a utility class containing only static constants.
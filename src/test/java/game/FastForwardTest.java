@@ -0,0 +1,147 @@
+package game;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import edu.monash.fit2099.engine.GameEngineException;
+import edu.monash.fit2099.engine.actions.Action;
+import edu.monash.fit2099.engine.actions.ActionList;
+import edu.monash.fit2099.engine.displays.Display;
+import edu.monash.fit2099.engine.positions.GameMap;
+import edu.monash.fit2099.engine.positions.World;
+import game.abilities.Abilities;
+import game.actions.SleepAction;
+import game.actions.WaitAction;
+import game.actors.ActorConstants;
+import game.actors.Player;
+import game.actors.Wolf;
+import game.items.Bedroll;
+import game.testing.TestFactory;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link FastForward}.
+ *
+ * <p>Cases: the turns of a multi-turn action are skipped and summarised once
+ * it ends, each still ending on the display; damage, a wild animal next to
+ * the player or running low on water interrupts it; and flushing in the
+ * middle of it shows the summary so far.
+ *
+ * @author Muhamad Shafy Dimas Rafarrel
+ * @version 1.0
+ */
+public class FastForwardTest {
+
+    /** Keeps every line printed and counts the turns published. */
+    private static final class Recorder extends Display {
+        final List<String> lines = new ArrayList<>();
+        int turns;
+
+        @Override
+        public void println(String s) {
+            lines.add(s);
+        }
+
+        @Override
+        public void endTurn() {
+            turns++;
+        }
+    }
+
+    private GameMap map;
+    private Player player;
+    private Recorder recorder;
+    private FastForward fastForward;
+
+    @BeforeEach
+    void setUp() throws GameEngineException {
+        World world = new World(new Display()) { };
+        map = TestFactory.createSnowMap("Test",
+            "....");
+        world.addGameMap(map);
+        player = new Player("Explorer", '@', 100);
+        map.addActor(player, map.at(0, 0));
+        recorder = new Recorder();
+        fastForward = new FastForward(recorder);
+    }
+
+    /** Play one turn of the player's action the way the world does, returning whether it was skipped. */
+    private boolean turn(Action[] last) {
+        if (fastForward.interrupts(player, last[0], map.locationOf(player))) {
+            last[0] = null;
+        }
+        boolean skipped = fastForward.beginTurn(last[0]);
+        if (last[0] != null) {
+            last[0] = last[0].getNextAction();
+        }
+        if (last[0] != null) {
+            fastForward.screen().println(last[0].execute(player, map));
+        }
+        fastForward.screen().endTurn();
+        return skipped;
+    }
+
+    @Test
+    void waiting_is_skipped_and_summarised() {
+        Action wait = new WaitAction(4);
+        fastForward.screen().println(wait.execute(player, map));
+        Action[] last = {wait};
+
+        int skipped = 0;
+        while (turn(last)) {
+            skipped++;
+        }
+        assertEquals(3, skipped);
+        assertEquals(4, recorder.turns);
+        assertEquals("--- 3 turns pass ---", recorder.lines.get(1));
+        assertTrue(recorder.lines.get(recorder.lines.size() - 1).endsWith("has finished waiting."));
+    }
+
+    @Test
+    void a_wild_animal_or_damage_interrupts_sleep() throws GameEngineException {
+        SleepAction sleep = new SleepAction(new Bedroll());
+        sleep.execute(player, map);
+        Action[] last = {sleep};
+        assertTrue(turn(last));
+
+        map.addActor(new Wolf(), map.at(1, 0));
+        assertFalse(turn(last));
+        assertFalse(player.hasAbility(Abilities.SLEEPING));
+        assertTrue(recorder.lines.get(0).startsWith("--- 1 turn passes (interrupted: "));
+
+        map.removeActor(map.getActorAt(map.at(1, 0)));
+        WaitAction wait = new WaitAction(5);
+        last[0] = wait;
+        assertTrue(turn(last));
+        player.hurt(1);
+        assertFalse(turn(last));
+        assertNull(wait.getNextAction());
+    }
+
+    @Test
+    void running_low_on_water_interrupts_waiting() {
+        WaitAction wait = new WaitAction(100);
+        Action[] last = {wait};
+        while (player.getHydration() > ActorConstants.HYDRATION_VERY_THIRSTY) {
+            assertTrue(turn(last));
+            player.playTurn(new ActionList(), wait, map, fastForward.screen());
+        }
+        assertFalse(turn(last));
+        assertTrue(recorder.lines.get(0).endsWith(" is very thirsty) ---"));
+    }
+
+    @Test
+    void flushing_while_skipping_shows_the_summary_so_far() {
+        Action[] last = {new WaitAction(10)};
+        assertTrue(turn(last));
+        assertTrue(turn(last));
+        assertTrue(recorder.lines.isEmpty());
+
+        fastForward.screen().println("Explorer becomes unconscious! Game Over!");
+        fastForward.screen().flush();
+        assertEquals("--- 2 turns pass ---", recorder.lines.get(0));
+        assertEquals("Explorer becomes unconscious! Game Over!", recorder.lines.get(recorder.lines.size() - 1));
+    }
+}
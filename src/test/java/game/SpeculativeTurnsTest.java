@@ -0,0 +1,354 @@
+package game;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import edu.monash.fit2099.engine.GameEngineException;
+import edu.monash.fit2099.engine.actions.Action;
+import edu.monash.fit2099.engine.actions.ActionList;
+import edu.monash.fit2099.engine.actions.DoNothingAction;
+import edu.monash.fit2099.engine.actions.MoveActorAction;
+import edu.monash.fit2099.engine.actors.Actor;
+import edu.monash.fit2099.engine.displays.Display;
+import edu.monash.fit2099.engine.positions.GameMap;
+import edu.monash.fit2099.engine.positions.Location;
+import game.taming.TameableAnimal;
+import game.testing.TestFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link SpeculativeTurns}.
+ *
+ * <p>Cases: while the player chooses, an animal on another map decides its
+ * action, and one on the player's map does not; each decides once and acts in
+ * its usual place. In the world as built for play, where the teleport cube
+ * leads to every map, an animal on the other map is decided ahead, and
+ * decides again if the player teleports onto its map. An animal that decides
+ * to move onto the player's map decides again in its usual place, after the
+ * player has moved. Every actor on a map is decided ahead, and once the map
+ * has changed a decision is only taken if it still holds, so two animals that
+ * decided on the same step do not both take it. Cancelling stops after the
+ * actor being decided, and an error thrown while deciding is thrown by
+ * {@code finish()}.
+ *
+ * @author Muhamad Shafy Dimas Rafarrel
+ * @version 2.1
+ */
+public class SpeculativeTurnsTest {
+
+    /** An animal that counts its turns, signals each one and does what it is told. */
+    private static final class Counter extends TameableAnimal {
+        final CountDownLatch played = new CountDownLatch(1);
+        final Function<GameMap, Action> act;
+        int turns;
+
+        Counter(String name, Function<GameMap, Action> act) {
+            super(name, 'c', 10, Set.of());
+            this.act = act;
+        }
+
+        @Override
+        public Action playTurn(ActionList actions, Action lastAction, GameMap map, Display display) {
+            turns++;
+            played.countDown();
+            return act.apply(map);
+        }
+
+        @Override
+        protected void onTamed() {
+        }
+
+        @Override
+        protected Action wildBehavior(ActionList actions, Action lastAction, GameMap map, Display display) {
+            return null;
+        }
+
+        @Override
+        protected Action tamedBehavior(ActionList actions, Action lastAction, GameMap map, Display display) {
+            return null;
+        }
+    }
+
+    /** Decides every actor ahead by asking a function, with actors' locations given up front. */
+    private static SpeculativeTurns.Turn turn(Map<Actor, Location> locations, Function<Actor, Action> decide,
+            Predicate<Action> stillHolds) {
+        return new SpeculativeTurns.Turn() {
+            @Override
+            public Location locationOf(Actor actor) {
+                return locations.get(actor);
+            }
+
+            @Override
+            public boolean decidesAhead(Actor actor) {
+                return true;
+            }
+
+            @Override
+            public Action decide(Actor actor, Display display) {
+                return decide.apply(actor);
+            }
+
+            @Override
+            public GameMap destinationOf(Action action) {
+                return null;
+            }
+
+            @Override
+            public boolean stillHolds(Actor actor, SpeculativeTurns.Decision decision) {
+                return stillHolds.test(decision.action());
+            }
+        };
+    }
+
+    private GameMap here;
+    private GameMap there;
+    private Earth world;
+    private Map<Actor, Action> lastActions;
+
+    @BeforeEach
+    void setUp() throws GameEngineException {
+        here = TestFactory.createSnowMap("Here",
+            "...");
+        there = TestFactory.createSnowMap("There",
+            "...");
+        var earth = new Earth(new Display()) {
+            Map<Actor, Action> lastActions() {
+                return lastActionMap;
+            }
+        };
+        earth.addGameMap(here);
+        earth.addGameMap(there);
+        world = earth;
+        lastActions = earth.lastActions();
+    }
+
+    /** A player who waits for an animal to have decided, then does what it is told. */
+    private Actor chooser(Counter waitFor, boolean[] decidedWhileChoosing, Action choice) {
+        return new Actor("Chooser", '@', 100) {
+            @Override
+            public Action playTurn(ActionList actions, Action lastAction, GameMap map, Display display) {
+                try {
+                    decidedWhileChoosing[0] = waitFor.played.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return choice;
+            }
+        };
+    }
+
+    @Test
+    void animals_on_other_maps_decide_while_the_player_chooses() throws GameEngineException {
+        Counter near = new Counter("Near", map -> new DoNothingAction());
+        Counter far = new Counter("Far", map -> new DoNothingAction());
+        boolean[] farDecided = {false};
+        int[] nearTurnsWhileChoosing = {-1};
+        Actor chooser = new Actor("Chooser", '@', 100) {
+            @Override
+            public Action playTurn(ActionList actions, Action lastAction, GameMap map, Display display) {
+                try {
+                    farDecided[0] = far.played.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                nearTurnsWhileChoosing[0] = near.turns;
+                return new DoNothingAction();
+            }
+        };
+        world.addPlayer(chooser, here.at(0, 0));
+        here.addActor(near, here.at(2, 0));
+        there.addActor(far, there.at(1, 0));
+
+        world.gameLoop();
+
+        assertTrue(farDecided[0]);
+        assertEquals(0, nearTurnsWhileChoosing[0]);
+        assertEquals(1, far.turns);
+        assertEquals(1, near.turns);
+        assertInstanceOf(DoNothingAction.class, lastActions.get(far));
+        assertInstanceOf(DoNothingAction.class, lastActions.get(near));
+    }
+
+    @Test
+    void an_animal_moving_onto_the_players_map_decides_again_after_the_player() throws GameEngineException {
+        Location target = here.at(1, 0);
+        Counter mover = new Counter("Mover",
+            map -> target.containsAnActor() ? new DoNothingAction() : new MoveActorAction(target, "to Here"));
+        boolean[] moverDecided = {false};
+        Actor chooser = chooser(mover, moverDecided, new MoveActorAction(target, "east"));
+        world.addPlayer(chooser, here.at(0, 0));
+        there.addActor(mover, there.at(1, 0));
+
+        world.gameLoop();
+
+        assertTrue(moverDecided[0]);
+        assertEquals(2, mover.turns);
+        assertSame(chooser, here.getActorAt(target));
+        assertTrue(there.contains(mover));
+        assertInstanceOf(DoNothingAction.class, lastActions.get(mover));
+    }
+
+    @Test
+    void decisions_are_checked_once_their_map_has_changed() {
+        Actor idle = new Counter("Idle", map -> null);
+        Actor first = new Counter("First", map -> null);
+        Actor second = new Counter("Second", map -> null);
+        Map<Actor, Location> locations = Map.of(idle, there.at(0, 0), first, there.at(1, 0), second, there.at(2, 0));
+        SpeculativeTurns speculation = new SpeculativeTurns();
+
+        speculation.start(List.of(idle, first, second),
+            turn(locations, actor -> actor == idle ? new DoNothingAction() : new MoveActorAction(here.at(0, 0), "west"),
+                action -> action instanceof DoNothingAction),
+            false);
+        speculation.finish();
+
+        assertNotNull(speculation.take(first));
+        speculation.markChanged(there);
+        assertNotNull(speculation.take(idle));
+        assertNull(speculation.take(second));
+    }
+
+    @Test
+    void animals_deciding_on_the_same_step_do_not_both_take_it() throws GameEngineException {
+        Location middle = there.at(1, 0);
+        Function<GameMap, Action> step = map -> middle.containsAnActor()
+            ? new DoNothingAction() : new MoveActorAction(middle, "to the middle");
+        Counter west = new Counter("West", step);
+        Counter east = new Counter("East", step);
+        boolean[] eastDecided = {false};
+        world.addPlayer(chooser(east, eastDecided, new DoNothingAction()), here.at(0, 0));
+        there.addActor(west, there.at(0, 0));
+        there.addActor(east, there.at(2, 0));
+
+        world.gameLoop();
+
+        // Whichever acts first takes the step; the other decides again and stays put
+        assertTrue(eastDecided[0]);
+        Counter mover = there.getActorAt(middle) == west ? west : east;
+        Counter other = mover == west ? east : west;
+        assertSame(mover, there.getActorAt(middle));
+        assertEquals(1, mover.turns);
+        assertEquals(2, other.turns);
+        assertInstanceOf(DoNothingAction.class, lastActions.get(other));
+    }
+
+    /** Answers the menu with the first option whose description contains some text, once an animal has decided. */
+    private static final class Chooser extends Display {
+        private final List<String> lines = new ArrayList<>();
+        private final Counter waitFor;
+        private final String choice;
+        boolean decidedWhileChoosing;
+
+        Chooser(Counter waitFor, String choice) {
+            this.waitFor = waitFor;
+            this.choice = choice;
+        }
+
+        @Override
+        public void println(String s) {
+            lines.add(s);
+        }
+
+        @Override
+        public String readString() {
+            try {
+                decidedWhileChoosing = waitFor.played.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            for (String line : lines) {
+                if (line.contains(choice)) {
+                    return line.substring(0, line.indexOf(':'));
+                }
+            }
+            throw new IllegalStateException("no option " + choice + " in " + lines);
+        }
+    }
+
+    /** The world as built for play, with a counting animal on the Plains, the map the player does not start on. */
+    private static Earth playedWorld(Display display, Counter animal) throws Exception {
+        var earth = new Earth(display) {
+            GameMap plains() {
+                // Built after the Forest, which the player starts on
+                return gameMaps.get(1);
+            }
+        };
+        earth.constructWorld();
+        earth.plains().addActor(animal, earth.plains().at(24, 0));
+        return earth;
+    }
+
+    @Test
+    void in_the_world_as_built_animals_on_the_other_map_decide_while_the_player_chooses() throws Exception {
+        Counter animal = new Counter("Far", map -> new DoNothingAction());
+        Chooser display = new Chooser(animal, " moves ");
+        Earth earth = playedWorld(display, animal);
+
+        earth.gameLoop();
+
+        assertTrue(display.decidedWhileChoosing);
+        assertEquals(1, animal.turns);
+    }
+
+    @Test
+    void in_the_world_as_built_teleporting_to_the_other_map_has_its_animals_decide_again() throws Exception {
+        Counter animal = new Counter("Far", map -> new DoNothingAction());
+        Chooser display = new Chooser(animal, "Teleport Cube to teleport to (12, 2)");
+        Earth earth = playedWorld(display, animal);
+
+        earth.gameLoop();
+
+        assertTrue(display.decidedWhileChoosing);
+        assertEquals(2, animal.turns);
+    }
+
+    @Test
+    void cancelling_stops_after_the_actor_being_decided() throws InterruptedException {
+        Actor first = new Counter("First", map -> null);
+        Actor second = new Counter("Second", map -> null);
+        CountDownLatch deciding = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        SpeculativeTurns speculation = new SpeculativeTurns();
+
+        speculation.start(List.of(first, second), turn(Map.of(first, here.at(0, 0), second, there.at(0, 0)), actor -> {
+            deciding.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return new DoNothingAction();
+        }, action -> true), false);
+        assertTrue(deciding.await(5, TimeUnit.SECONDS));
+        speculation.cancel();
+        release.countDown();
+        speculation.finish();
+
+        assertFalse(speculation.isRunning());
+        assertNotNull(speculation.take(first));
+        assertNull(speculation.take(second));
+    }
+
+    @Test
+    void an_error_while_deciding_is_thrown_by_finish() {
+        Actor actor = new Counter("Broken", map -> null);
+        IllegalStateException error = new IllegalStateException("cannot decide");
+        SpeculativeTurns speculation = new SpeculativeTurns();
+
+        speculation.start(List.of(actor), turn(Map.of(actor, there.at(0, 0)), decided -> {
+            throw error;
+        }, action -> true), false);
+
+        assertSame(error, assertThrows(IllegalStateException.class, speculation::finish));
+        assertFalse(speculation.isRunning());
+        assertNull(speculation.take(actor));
+    }
+}
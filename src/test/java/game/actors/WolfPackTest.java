@@ -0,0 +1,136 @@
+package game.actors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import edu.monash.fit2099.engine.GameEngineException;
+import edu.monash.fit2099.engine.actions.Action;
+import edu.monash.fit2099.engine.actions.ActionList;
+import edu.monash.fit2099.engine.displays.Display;
+import edu.monash.fit2099.engine.positions.GameMap;
+import edu.monash.fit2099.engine.positions.World;
+import game.actions.AttackAction;
+import game.testing.TestFactory;
+import game.tuning.Tuning;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link WolfPack}.
+ *
+ * <p>Cases, all with the default tuning: wolves that notice the same prey
+ * share it and close in on it from different sides until they can all bite,
+ * a wolf runs down the player once in sight and not before, wolves that are
+ * tamed or have nothing in sight drop out of the hunt, and a wolf or prey that
+ * leaves the world is dropped at once.
+ *
+ * @author Muhamad Shafy Dimas Rafarrel
+ * @version 1.1
+ */
+public class WolfPackTest {
+
+    private GameMap map;
+
+    @BeforeEach
+    void setUp() throws GameEngineException {
+        WolfPack.clear();
+        World world = new World(new Display()) { };
+        map = TestFactory.createSnowMap("Test",
+            ".........",
+            ".........",
+            ".........",
+            ".........",
+            ".........");
+        world.addGameMap(map);
+    }
+
+    @AfterEach
+    void tearDown() {
+        WolfPack.clear();
+    }
+
+    @Test
+    void wolves_share_prey_and_surround_it() throws GameEngineException {
+        Wolf[] wolves = {new Wolf(), new Wolf(), new Wolf()};
+        map.addActor(wolves[0], map.at(0, 0));
+        map.addActor(wolves[1], map.at(0, 2));
+        map.addActor(wolves[2], map.at(0, 4));
+        Deer deer = new Deer();
+        map.addActor(deer, map.at(5, 2));
+
+        boolean[] biting = new boolean[wolves.length];
+        for (int turn = 0; turn < 6; turn++) {
+            for (int i = 0; i < wolves.length; i++) {
+                Action action = wolves[i].playTurn(new ActionList(), null, map, new Display());
+                biting[i] = action instanceof AttackAction;
+                if (!biting[i]) {
+                    action.execute(wolves[i], map);
+                }
+            }
+            assertSame(deer, WolfPack.of(map).targetOf(wolves[0]));
+        }
+        assertArrayEquals(new boolean[] {true, true, true}, biting);
+        assertEquals(3, WolfPack.of(map).size());
+    }
+
+    @Test
+    void tamed_and_idle_wolves_leave_the_hunt() throws GameEngineException {
+        Wolf hunter = new Wolf();
+        Wolf pet = new Wolf();
+        Deer deer = new Deer();
+        map.addActor(hunter, map.at(0, 0));
+        map.addActor(pet, map.at(3, 4));
+        map.addActor(deer, map.at(8, 4));
+
+        hunter.playTurn(new ActionList(), null, map, new Display());
+        pet.playTurn(new ActionList(), null, map, new Display());
+        assertNull(WolfPack.of(map).targetOf(hunter));
+        assertNotNull(WolfPack.of(map).targetOf(pet));
+
+        pet.tame(deer);
+        hunter.playTurn(new ActionList(), null, map, new Display());
+        assertEquals(1, WolfPack.of(map).size());
+        assertNull(WolfPack.of(map).targetOf(pet));
+    }
+
+    @Test
+    void wolves_run_down_the_player_in_sight_and_ignore_prey_beyond() throws GameEngineException {
+        Wolf wolf = new Wolf();
+        Player player = new Player("Tester", '@', 100);
+        map.addActor(wolf, map.at(0, 0));
+        map.addActor(player, map.at(Tuning.WOLF_PACK_SIGHT + 1, 0));
+
+        assertNull(WolfPack.of(map).nextStep(wolf));
+        assertNull(WolfPack.of(map).targetOf(wolf));
+
+        map.moveActor(player, map.at(Tuning.WOLF_PACK_SIGHT, 0));
+        WolfPack.of(map).nextStep(wolf).execute(wolf, map);
+        assertSame(player, WolfPack.of(map).targetOf(wolf));
+        assertEquals(1, map.locationOf(wolf).x());
+    }
+
+    @Test
+    void wolves_and_prey_that_leave_the_world_are_forgotten() throws GameEngineException {
+        Wolf first = new Wolf();
+        Wolf second = new Wolf();
+        Deer deer = new Deer();
+        map.addActor(first, map.at(0, 0));
+        map.addActor(second, map.at(0, 4));
+        map.addActor(deer, map.at(4, 2));
+        WolfPack pack = WolfPack.of(map);
+        pack.nextStep(first);
+        pack.nextStep(second);
+        assertSame(deer, pack.targetOf(second));
+
+        map.removeActor(first);
+        WolfPack.forget(first);
+        assertEquals(1, pack.size());
+        assertNull(pack.targetOf(first));
+        assertSame(deer, pack.targetOf(second));
+
+        map.removeActor(deer);
+        WolfPack.forget(deer);
+        assertNull(pack.targetOf(second));
+        assertNull(pack.nextStep(second));
+    }
+}
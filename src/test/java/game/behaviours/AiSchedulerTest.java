@@ -0,0 +1,78 @@
+package game.behaviours;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import edu.monash.fit2099.engine.GameEngineException;
+import edu.monash.fit2099.engine.actions.Action;
+import edu.monash.fit2099.engine.actions.ActionList;
+import edu.monash.fit2099.engine.displays.Display;
+import edu.monash.fit2099.engine.positions.GameMap;
+import edu.monash.fit2099.engine.positions.World;
+import game.actions.AttackAction;
+import game.actors.Deer;
+import game.actors.Wolf;
+import game.testing.TestFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the {@link AiScheduler} and {@link Deferred} planning.
+ *
+ * <p>Cases: with no planning budget, reflexes still run, a follower replays the
+ * direction of its last step until it is due to plan again, and every actor
+ * plans at least once every {@link AiScheduler#MAX_STRIDE} turns.
+ *
+ * @author Muhamad Shafy Dimas Rafarrel
+ * @version 1.0
+ */
+public class AiSchedulerTest {
+
+    private GameMap map;
+
+    @BeforeEach
+    void setUp() throws GameEngineException {
+        AiScheduler.reset();
+        AiScheduler.setBudgetNanos(0);
+        World world = new World(new Display()) { };
+        map = TestFactory.createSnowMap("Test",
+            "............");
+        world.addGameMap(map);
+    }
+
+    @AfterEach
+    void tearDown() {
+        AiScheduler.reset();
+    }
+
+    @Test
+    void reflexes_run_without_a_budget() throws GameEngineException {
+        Wolf wolf = new Wolf();
+        map.addActor(wolf, map.at(5, 0));
+        map.addActor(new Deer(), map.at(6, 0));
+
+        for (int turn = 0; turn < 3; turn++) {
+            AiScheduler.beginTurn();
+            assertInstanceOf(AttackAction.class, wolf.playTurn(new ActionList(), null, map, new Display()));
+        }
+    }
+
+    @Test
+    void followers_replay_their_last_step_until_due_to_plan() throws GameEngineException {
+        Deer tamer = new Deer();
+        Wolf wolf = new Wolf();
+        map.addActor(tamer, map.at(11, 0));
+        map.addActor(wolf, map.at(0, 0));
+        wolf.tame(tamer);
+
+        int column = 0;
+        for (int turn = 0; turn < 9; turn++) {
+            AiScheduler.beginTurn();
+            Action action = wolf.playTurn(new ActionList(), null, map, new Display());
+            action.execute(wolf, map);
+            assertEquals(++column, map.locationOf(wolf).x());
+        }
+        assertEquals(2, AiScheduler.getPlansMade());
+        assertEquals(7, AiScheduler.getPlansDeferred());
+    }
+}
@@ -0,0 +1,84 @@
+package game.behaviours;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import edu.monash.fit2099.engine.GameEngineException;
+import edu.monash.fit2099.engine.actions.Action;
+import edu.monash.fit2099.engine.actions.ActionList;
+import edu.monash.fit2099.engine.displays.Display;
+import edu.monash.fit2099.engine.positions.GameMap;
+import edu.monash.fit2099.engine.positions.World;
+import game.actions.AttackAction;
+import game.actors.Bear;
+import game.actors.Deer;
+import game.actors.Wolf;
+import game.testing.TestFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the behaviour tree runtime and the animals built on it.
+ *
+ * <p>Cases: a memoised subtree runs once per turn for each actor, a tamed bear
+ * defends its tamer before following and idles with the shared action next to
+ * them, and moves are the exits' shared actions.
+ *
+ * @author Muhamad Shafy Dimas Rafarrel
+ * @version 1.0
+ */
+public class BehaviourTreeTest {
+
+    private GameMap map;
+
+    @BeforeEach
+    void setUp() throws GameEngineException {
+        World world = new World(new Display()) { };
+        map = TestFactory.createSnowMap("Test",
+            ".....",
+            ".....",
+            ".....");
+        world.addGameMap(map);
+    }
+
+    @Test
+    void memoised_subtree_runs_once_per_turn_for_each_actor() throws GameEngineException {
+        int[] runs = new int[1];
+        Memo counted = new Memo((actor, gameMap) -> {
+            runs[0]++;
+            return null;
+        });
+        BehaviourTree tree = new BehaviourTree(new Selector(new Ignore(counted), counted));
+        Deer first = new Deer();
+        Deer second = new Deer();
+        map.addActor(first, map.at(0, 0));
+        map.addActor(second, map.at(4, 2));
+
+        assertSame(BehaviourTree.IDLE, tree.decide(first, map, null));
+        assertEquals(1, runs[0]);
+        tree.decide(second, map, null);
+        assertEquals(2, runs[0]);
+        tree.decide(first, map, null);
+        assertEquals(3, runs[0]);
+    }
+
+    @Test
+    void tamed_bear_defends_then_stays_by_its_tamer() throws GameEngineException {
+        Deer tamer = new Deer();
+        Bear bear = new Bear();
+        Wolf wolf = new Wolf();
+        map.addActor(tamer, map.at(2, 1));
+        map.addActor(bear, map.at(1, 1));
+        map.addActor(wolf, map.at(2, 0));
+        bear.tame(tamer);
+
+        assertInstanceOf(AttackAction.class, bear.playTurn(new ActionList(), null, map, new Display()));
+
+        map.removeActor(wolf);
+        assertSame(BehaviourTree.IDLE, bear.playTurn(new ActionList(), null, map, new Display()));
+
+        map.moveActor(bear, map.at(4, 2));
+        map.moveActor(tamer, map.at(0, 0));
+        Action step = bear.playTurn(new ActionList(), null, map, new Display());
+        assertSame(step, bear.followOwner(map));
+    }
+}
@@ -0,0 +1,84 @@
+package game.items;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import edu.monash.fit2099.engine.GameEngineException;
+import edu.monash.fit2099.engine.actions.ActionList;
+import edu.monash.fit2099.engine.displays.Display;
+import edu.monash.fit2099.engine.positions.GameMap;
+import edu.monash.fit2099.engine.positions.Ground;
+import edu.monash.fit2099.engine.positions.World;
+import game.actors.Deer;
+import game.terrain.Snow;
+import game.testing.TestFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for finding {@link Bow} targets.
+ *
+ * <p>Cases: targets are offered nearest first up to the bow's range and no
+ * further, an upgraded bow reaches further, and ground that blocks thrown
+ * objects hides what is behind it until it is replaced.
+ *
+ * @author Ahmed
+ */
+public class BowTest {
+
+  private GameMap map;
+  private Deer archer;
+
+  /** Ground that stops arrows but not walkers. */
+  private static class Palisade extends Ground {
+    Palisade() {
+      super('#', "Palisade");
+    }
+
+    @Override
+    public boolean blocksThrownObjects() {
+      return true;
+    }
+  }
+
+  @BeforeEach
+  void setUp() throws GameEngineException {
+    World world = new World(new Display()) { };
+    map = TestFactory.createSnowMap("Test",
+        "...........",
+        "...........",
+        "...........");
+    world.addGameMap(map);
+    archer = new Deer();
+    map.addActor(archer, map.at(0, 1));
+  }
+
+  @Test
+  void targets_in_range_are_offered_nearest_first() throws GameEngineException {
+    Deer far = new Deer();
+    Deer near = new Deer();
+    Deer outOfRange = new Deer();
+    map.addActor(far, map.at(3, 0));
+    map.addActor(near, map.at(1, 2));
+    map.addActor(outOfRange, map.at(6, 1));
+
+    ActionList actions = new Bow().allowableActions(archer, map);
+    assertEquals(2, actions.size());
+    assertTrue(actions.get(0).menuDescription(archer).contains("range 1"));
+    assertTrue(actions.get(1).menuDescription(archer).contains("range 3"));
+
+    assertEquals(3, new Bow(6).allowableActions(archer, map).size());
+  }
+
+  @Test
+  void blocking_ground_hides_targets_until_it_is_gone() throws GameEngineException {
+    map.addActor(new Deer(), map.at(3, 1));
+    Bow bow = new Bow();
+    assertEquals(1, bow.allowableActions(archer, map).size());
+
+    map.at(2, 1).setGround(new Palisade());
+    assertEquals(0, bow.allowableActions(archer, map).size());
+
+    map.at(2, 1).setGround(new Snow());
+    assertEquals(1, bow.allowableActions(archer, map).size());
+  }
+}
@@ -0,0 +1,146 @@
+package game.lifecycle;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import edu.monash.fit2099.engine.GameEngineException;
+import edu.monash.fit2099.engine.actions.Action;
+import edu.monash.fit2099.engine.actions.DoNothingAction;
+import edu.monash.fit2099.engine.actors.Actor;
+import edu.monash.fit2099.engine.actors.ActorLocationsIterator;
+import edu.monash.fit2099.engine.displays.Display;
+import edu.monash.fit2099.engine.positions.GameMap;
+import edu.monash.fit2099.engine.positions.Location;
+import game.Earth;
+import game.actors.Deer;
+import game.actors.Player;
+import game.actors.Wolf;
+import game.population.AnimalStore;
+import game.population.WarmthSystem;
+import game.status.BurnEffect;
+import game.status.PoisonEffect;
+import game.status.StatusEffectScheduler;
+import game.taming.TameableAnimal;
+import game.testing.TestFactory;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Random;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Soak test of the actor lifecycle in a long game with continuous spawning.
+ *
+ * <p>Every turn it fills empty cells with deer and wolves, as the caves, tundra,
+ * meadows and swamps do, poisons and burns some of them, tames a few to a
+ * player who is removed half way, records a last action for every actor, and
+ * lets status effects, cold and a share of random kills remove them.
+ *
+ * <p>Cases: at the end, the world's last actions, the animal store and the
+ * status effect scheduler hold exactly the actors still in the world, store
+ * slots are reused rather than grown with every spawn, and no animal is left
+ * tamed to the removed player.
+ *
+ * @author Muhamad Shafy Dimas Rafarrel
+ * @version 1.1
+ */
+public class ActorLifecycleSoakTest {
+
+    private static final int TURNS = 500;
+    private static final int SIDE = 16;
+
+    private GameMap map;
+    private ActorLocationsIterator actors;
+    private Map<Actor, Action> lastActions;
+
+    @BeforeEach
+    void setUp() throws GameEngineException {
+        StatusEffectScheduler.clear();
+        char[] row = new char[SIDE];
+        Arrays.fill(row, '.');
+        String[] rows = new String[SIDE];
+        Arrays.fill(rows, new String(row));
+        map = TestFactory.createSnowMap("Soak", rows);
+
+        var world = new Earth(new Display()) {
+            ActorLocationsIterator locations() {
+                return actorLocations;
+            }
+
+            Map<Actor, Action> lastActions() {
+                return lastActionMap;
+            }
+        };
+        world.addGameMap(map);
+        actors = world.locations();
+        lastActions = world.lastActions();
+    }
+
+    @AfterEach
+    void tearDown() {
+        StatusEffectScheduler.clear();
+    }
+
+    @Test
+    void registries_only_hold_actors_still_in_the_world() throws GameEngineException {
+        Random random = new Random(2099);
+        int liveBefore = AnimalStore.size();
+        int slotsBefore = AnimalStore.slotLimit();
+        Player tamer = new Player("Tamer", '@', 100);
+        map.addActor(tamer, map.at(0, 0));
+        int spawned = 0;
+
+        for (int turn = 0; turn < TURNS; turn++) {
+            for (int i = 0; i < 4; i++) {
+                Location location = map.at(random.nextInt(SIDE), random.nextInt(SIDE));
+                if (location.containsAnActor()) {
+                    continue;
+                }
+                TameableAnimal animal = random.nextBoolean() ? new Deer() : new Wolf();
+                map.addActor(animal, location);
+                spawned++;
+                if (random.nextInt(3) == 0) {
+                    animal.addStatusEffect(new PoisonEffect(5, 3));
+                }
+                if (random.nextInt(5) == 0) {
+                    animal.addStatusEffect(new BurnEffect(3, 2));
+                }
+                if (tamer != null && random.nextInt(10) == 0) {
+                    animal.tame(tamer);
+                }
+            }
+            if (turn == TURNS / 2) {
+                map.removeActor(tamer);
+                tamer = null;
+            }
+
+            for (Actor actor : actors) {
+                lastActions.put(actor, new DoNothingAction());
+            }
+            for (Actor fallen : StatusEffectScheduler.tick(actors)) {
+                fallen.unconscious(actors.locationOf(fallen).map());
+            }
+            WarmthSystem.tick(actors, (animal, band, where) -> { });
+            for (Actor actor : actors) {
+                if (random.nextInt(20) == 0) {
+                    actor.unconscious(map);
+                }
+            }
+        }
+
+        int inWorld = 0;
+        int effects = 0;
+        for (Actor actor : actors) {
+            inWorld++;
+            effects += StatusEffectScheduler.count(actor);
+            assertTrue(lastActions.containsKey(actor));
+            assertFalse(actor instanceof TameableAnimal animal && animal.isTamed(), actor + " is still tamed");
+        }
+        assertTrue(spawned > SIDE * SIDE, "the soak should spawn more animals than fit on the map");
+        assertEquals(inWorld, lastActions.size());
+        assertEquals(inWorld, AnimalStore.size() - liveBefore);
+        assertEquals(effects, StatusEffectScheduler.size());
+        assertTrue(AnimalStore.slotLimit() - slotsBefore <= SIDE * SIDE,
+            "store grew to " + AnimalStore.slotLimit() + " slots");
+    }
+}
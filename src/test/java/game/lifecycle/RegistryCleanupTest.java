@@ -0,0 +1,109 @@
+package game.lifecycle;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import edu.monash.fit2099.engine.GameEngineException;
+import edu.monash.fit2099.engine.actions.Action;
+import edu.monash.fit2099.engine.actions.DoNothingAction;
+import edu.monash.fit2099.engine.actors.Actor;
+import edu.monash.fit2099.engine.displays.Display;
+import edu.monash.fit2099.engine.positions.GameMap;
+import game.Earth;
+import game.actors.Deer;
+import game.actors.Player;
+import game.actors.Wolf;
+import game.actors.WolfPack;
+import game.items.YewBerry;
+import game.population.AnimalStore;
+import game.status.PoisonEffect;
+import game.status.StatusEffectScheduler;
+import game.status.StatusRecipientRegistry;
+import game.testing.TestFactory;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for releasing actors that leave the world.
+ *
+ * <p>Cases: an animal that dies is dropped from the world's last actions, the
+ * status effect scheduler, the status recipient registry, the animal store and
+ * its wolf pack, whichever way it was removed, and animals tamed by an actor that leaves go
+ * back to the wild.
+ *
+ * @author Muhamad Shafy Dimas Rafarrel
+ * @version 1.0
+ */
+public class RegistryCleanupTest {
+
+    private GameMap map;
+    private Map<Actor, Action> lastActions;
+
+    @BeforeEach
+    void setUp() throws GameEngineException {
+        StatusEffectScheduler.clear();
+        map = TestFactory.createSnowMap("Test",
+            "...",
+            "...");
+        var world = new Earth(new Display()) {
+            Map<Actor, Action> lastActions() {
+                return lastActionMap;
+            }
+        };
+        world.addGameMap(map);
+        lastActions = world.lastActions();
+    }
+
+    @AfterEach
+    void tearDown() {
+        StatusEffectScheduler.clear();
+        WolfPack.clear();
+    }
+
+    @Test
+    void a_dead_animal_is_dropped_from_every_registry() throws GameEngineException {
+        Deer deer = new Deer();
+        map.addActor(deer, map.at(1, 0));
+        lastActions.put(deer, new DoNothingAction());
+        deer.addStatusEffect(new PoisonEffect(10, 1));
+        int animals = AnimalStore.size();
+        assertNotNull(StatusRecipientRegistry.getRecipient(deer));
+
+        deer.unconscious(map);
+        assertFalse(lastActions.containsKey(deer));
+        assertEquals(0, StatusEffectScheduler.count(deer));
+        assertEquals(0, StatusEffectScheduler.size());
+        assertNull(StatusRecipientRegistry.getRecipient(deer));
+        assertEquals(animals - 1, AnimalStore.size());
+
+        Wolf wolf = new Wolf();
+        map.addActor(wolf, map.at(0, 1));
+        WolfPack.of(map).nextStep(wolf);
+        assertEquals(1, WolfPack.of(map).size());
+        wolf.unconscious(map);
+        assertEquals(0, WolfPack.of(map).size());
+
+        // Removal that bypasses unconscious(), as a yew berry does, releases too
+        Deer other = new Deer();
+        map.addActor(other, map.at(2, 1));
+        new YewBerry().consume(other, map);
+        assertFalse(map.contains(other));
+        assertEquals(animals - 1, AnimalStore.size());
+    }
+
+    @Test
+    void animals_of_a_removed_tamer_go_back_to_the_wild() throws GameEngineException {
+        Player tamer = new Player("Tester", '@', 100);
+        map.addActor(tamer, map.at(0, 0));
+        Deer deer = new Deer();
+        map.addActor(deer, map.at(1, 1));
+        deer.tame(tamer);
+        assertTrue(deer.isTamed());
+
+        map.removeActor(tamer);
+        assertFalse(deer.isTamed());
+        assertNull(deer.getTamer());
+        assertTrue(map.contains(deer));
+    }
+}
@@ -0,0 +1,90 @@
+package game.population;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import edu.monash.fit2099.engine.GameEngineException;
+import edu.monash.fit2099.engine.actions.Action;
+import edu.monash.fit2099.engine.actions.MoveActorAction;
+import edu.monash.fit2099.engine.actors.attributes.BaseAttributes;
+import edu.monash.fit2099.engine.displays.Display;
+import edu.monash.fit2099.engine.positions.GameMap;
+import edu.monash.fit2099.engine.positions.World;
+import game.actors.Bear;
+import game.actors.Deer;
+import game.actors.Player;
+import game.testing.TestFactory;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the column-oriented {@link AnimalStore}.
+ *
+ * <p>Cases: attributes and taming read and write the shared columns, a dead
+ * animal's slot is reused without disturbing what the dead animal reports,
+ * including whether it was tamed, and
+ * wandering only ever picks a free neighbour.
+ *
+ * @author Muhamad Shafy Dimas Rafarrel
+ * @version 1.0
+ */
+public class AnimalStoreTest {
+
+    @Test
+    void facades_read_and_write_the_columns() {
+        Deer deer = new Deer();
+        assertEquals(50, deer.getAttribute(BaseAttributes.HEALTH));
+        assertTrue(deer.hasStatistic(BaseAttributes.WARMTH));
+
+        deer.hurt(20);
+        assertEquals(30, deer.getAttribute(BaseAttributes.HEALTH));
+        assertEquals(50, deer.getMaximumAttribute(BaseAttributes.HEALTH));
+
+        Player player = new Player("Tester", '@', 100);
+        assertFalse(deer.isTamed());
+        deer.tame(player);
+        assertTrue(deer.isTamed());
+        assertSame(player, deer.getTamer());
+    }
+
+    @Test
+    void released_slots_are_reused_and_the_dead_keep_their_numbers() throws GameEngineException {
+        GameMap map = TestFactory.createSnowMap("Test", "...");
+        new World(new Display()) { }.addGameMap(map);
+        Bear bear = new Bear();
+        map.addActor(bear, map.at(0, 0));
+        Player tamer = new Player("Tester", '@', 100);
+        bear.tame(tamer);
+        int before = AnimalStore.size();
+
+        bear.hurt(150);
+        bear.unconscious(map);
+        assertEquals(before - 1, AnimalStore.size());
+        assertEquals(50, bear.getAttribute(BaseAttributes.HEALTH));
+
+        Deer deer = new Deer();
+        assertEquals(before, AnimalStore.size());
+        deer.hurt(1);
+        assertEquals(49, deer.getAttribute(BaseAttributes.HEALTH));
+        assertEquals(50, bear.getAttribute(BaseAttributes.HEALTH));
+        assertTrue(bear.isTamed());
+        assertSame(tamer, bear.getTamer());
+        assertFalse(deer.isTamed());
+    }
+
+    @Test
+    void wandering_only_moves_to_free_neighbours() throws GameEngineException {
+        GameMap map = TestFactory.createSnowMap("Test", "...", "...");
+        new World(new Display()) { }.addGameMap(map);
+        AnimalStore.seed(7);
+        Deer deer = new Deer();
+        map.addActor(deer, map.at(1, 0));
+        map.addActor(new Deer(), map.at(0, 0));
+        map.addActor(new Deer(), map.at(2, 0));
+
+        for (int i = 0; i < 50; i++) {
+            Action action = deer.playTurn(null, null, map, new Display());
+            assertInstanceOf(MoveActorAction.class, action);
+            assertTrue(action.menuDescription(deer).matches(".*(South|South-West|South-East).*"),
+                action.menuDescription(deer));
+        }
+    }
+}
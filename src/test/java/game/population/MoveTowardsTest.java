@@ -0,0 +1,199 @@
+package game.population;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import edu.monash.fit2099.engine.GameEngineException;
+import edu.monash.fit2099.engine.actors.Actor;
+import edu.monash.fit2099.engine.displays.Display;
+import edu.monash.fit2099.engine.positions.DistanceField;
+import edu.monash.fit2099.engine.positions.DistanceFields;
+import edu.monash.fit2099.engine.positions.Exit;
+import edu.monash.fit2099.engine.positions.GameMap;
+import edu.monash.fit2099.engine.positions.Ground;
+import edu.monash.fit2099.engine.positions.Location;
+import edu.monash.fit2099.engine.positions.PathCache;
+import edu.monash.fit2099.engine.positions.World;
+import game.abilities.Abilities;
+import game.actors.Deer;
+import game.actors.Wolf;
+import game.terrain.Dirt;
+import game.terrain.Snow;
+import game.terrain.YewBerryTree;
+import game.testing.TestFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for walking towards a target with the map's shared path finder.
+ *
+ * <p>Cases: an animal walks around a row of trees that would stop a greedy
+ * step, there is no step when the target is walled off or on another map, and
+ * followers step down the shared distance field, which follows the leader and
+ * changes in the ground, and kept paths are reused until a change in the ground
+ * makes them impassable. Neither fields nor kept paths are shared between
+ * actors that the ground lets through differently, and followers of different
+ * kinds keep a field each rather than rebuilding one in turn.
+ *
+ * @author Muhamad Shafy Dimas Rafarrel
+ * @version 1.2
+ */
+public class MoveTowardsTest {
+
+    private World world;
+    private GameMap map;
+
+    @BeforeEach
+    void setUp() throws GameEngineException {
+        world = new World(new Display()) { };
+        map = TestFactory.createSnowMap("Test",
+            ".....",
+            ".....",
+            ".....",
+            ".....",
+            ".....");
+        world.addGameMap(map);
+        for (int y = 0; y < 4; y++) {
+            map.at(2, y).setGround(new YewBerryTree(false));
+        }
+    }
+
+    @Test
+    void animals_walk_around_trees() throws GameEngineException {
+        Deer deer = new Deer();
+        map.addActor(deer, map.at(0, 2));
+        Location target = map.at(4, 2);
+
+        Exit first = map.pathFinder().firstStep(deer, map.at(0, 2), target);
+        assertEquals("South-East", first.getName());
+
+        int moves = 0;
+        while (!map.locationOf(deer).equals(target) && moves < 10) {
+            AnimalSystems.moveTowards(deer, target, map).execute(deer, map);
+            moves++;
+        }
+        assertEquals(4, moves);
+    }
+
+    @Test
+    void there_is_no_step_to_an_unreachable_target() throws GameEngineException {
+        map.at(2, 4).setGround(new YewBerryTree(false));
+        Actor deer = new Deer();
+        map.addActor(deer, map.at(0, 2));
+        assertNull(AnimalSystems.moveTowards(deer, map.at(4, 2), map));
+
+        GameMap other = TestFactory.createSnowMap("Other", "...");
+        world.addGameMap(other);
+        assertNull(map.pathFinder().firstStep(deer, map.at(0, 2), other.at(0, 0)));
+    }
+
+    @Test
+    void followers_step_down_the_distance_field() throws GameEngineException {
+        Deer leader = new Deer();
+        map.addActor(leader, map.at(4, 2));
+        Deer first = new Deer();
+        map.addActor(first, map.at(0, 2));
+        Deer second = new Deer();
+        map.addActor(second, map.at(0, 0));
+
+        DistanceFields fields = map.distanceFields();
+        assertEquals("South-East", fields.nextStep(first, map.at(0, 2), map.at(4, 2)).getName());
+        DistanceField field = fields.towards(first, map.at(4, 2));
+        assertEquals(4, field.distanceTo(map.at(0, 2)));
+        assertEquals(5, field.distanceTo(map.at(0, 1)));
+        assertEquals(6, field.distanceTo(map.at(0, 0)));
+        assertEquals(DistanceField.UNREACHABLE, field.distanceTo(map.at(2, 0)));
+        assertNotNull(AnimalSystems.follow(second, leader, map));
+
+        // Cutting a path through the trees is picked up on the next query
+        map.at(2, 1).setGround(new Snow());
+        AnimalSystems.follow(first, leader, map);
+        assertEquals(4, fields.towards(first, map.at(4, 2)).distanceTo(map.at(0, 1)));
+
+        // So is the leader moving
+        map.moveActor(leader, map.at(4, 4));
+        AnimalSystems.follow(first, leader, map);
+        assertEquals(0, fields.towards(first, map.at(4, 4)).distanceTo(map.at(4, 4)));
+        assertEquals(3, fields.getBuilds());
+    }
+
+    @Test
+    void followers_of_different_kinds_keep_a_field_each() throws GameEngineException {
+        Deer leader = new Deer();
+        map.addActor(leader, map.at(4, 2));
+        Deer deer = new Deer();
+        map.addActor(deer, map.at(0, 2));
+        Wolf wolf = new Wolf();
+        map.addActor(wolf, map.at(0, 0));
+        DistanceFields fields = map.distanceFields();
+
+        for (int turn = 0; turn < 2; turn++) {
+            AnimalSystems.follow(deer, leader, map);
+            AnimalSystems.follow(wolf, leader, map);
+            // A portal network asking for the way to another goal between them
+            fields.towards(deer, map.at(0, 4));
+        }
+        assertEquals(3, fields.getBuilds());
+    }
+
+    /** Lets only cold resistant actors through. */
+    private static final class Ford extends Ground {
+        Ford() {
+            super('~', "Ford");
+        }
+
+        @Override
+        public boolean canActorEnter(Actor actor) {
+            return actor.hasAbility(Abilities.COLD_RESISTANCE);
+        }
+    }
+
+    @Test
+    void walkers_the_ground_treats_differently_do_not_share_fields_or_paths() throws GameEngineException {
+        map.at(2, 1).setGround(new Ford());
+        Deer wader = new Deer();
+        wader.enableAbility(Abilities.COLD_RESISTANCE);
+        Deer other = new Deer();
+        Location target = map.at(4, 1);
+
+        DistanceFields fields = map.distanceFields();
+        assertEquals(3, fields.towards(wader, target).distanceTo(map.at(1, 1)));
+        assertEquals(6, fields.towards(other, target).distanceTo(map.at(1, 1)));
+        assertNotSame(fields.towards(wader, target), fields.towards(other, target));
+
+        // The wader's path through the ford is not handed to the deer that cannot wade
+        PathCache cache = map.pathFinder().getCache();
+        assertNotNull(map.pathFinder().firstStep(wader, map.at(0, 1), target));
+        Exit step = map.pathFinder().firstStep(other, map.at(0, 1), target);
+        assertEquals(2, step.getDestination().y());
+        assertEquals(2, cache.getMisses());
+        assertEquals(step, map.pathFinder().firstStep(other, map.at(0, 1), target));
+        assertEquals(1, cache.getHits());
+    }
+
+    @Test
+    void kept_paths_are_reused_until_the_ground_blocks_them() throws GameEngineException {
+        Deer deer = new Deer();
+        map.addActor(deer, map.at(0, 2));
+        Location target = map.at(4, 2);
+        PathCache cache = map.pathFinder().getCache();
+
+        AnimalSystems.moveTowards(deer, target, map).execute(deer, map);
+        AnimalSystems.moveTowards(deer, target, map).execute(deer, map);
+        assertEquals(1, cache.getMisses());
+        assertEquals(1, cache.getHits());
+
+        // Burning snow down to dirt leaves it passable, so the path is kept
+        map.at(3, 3).setGround(new Dirt());
+        assertEquals(map.at(2, 4), map.locationOf(deer));
+        assertEquals("North-East", map.pathFinder().firstStep(deer, map.at(2, 4), target).getName());
+        assertEquals(2, cache.getHits());
+        assertEquals(0, cache.getInvalidations());
+
+        // A tree growing on it drops it, and the deer goes round the tree
+        map.at(3, 3).setGround(new YewBerryTree(false));
+        assertEquals("East", map.pathFinder().firstStep(deer, map.at(2, 4), target).getName());
+        assertEquals(1, cache.getInvalidations());
+        assertEquals(2, cache.getMisses());
+        assertEquals(0.5, cache.getHitRate());
+    }
+}
@@ -0,0 +1,103 @@
+package game.population;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import edu.monash.fit2099.engine.GameEngineException;
+import edu.monash.fit2099.engine.actors.Actor;
+import edu.monash.fit2099.engine.displays.Display;
+import edu.monash.fit2099.engine.positions.GameMap;
+import edu.monash.fit2099.engine.positions.SpatialIndex;
+import edu.monash.fit2099.engine.positions.World;
+import game.actors.Bear;
+import game.actors.Deer;
+import game.actors.Wolf;
+import game.testing.TestFactory;
+import java.util.Arrays;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the per-map {@link SpatialIndex}.
+ *
+ * <p>Cases: the index follows actors as they are added, moved within and
+ * between maps, and removed; radius, nearest and count queries reach well past
+ * adjacent cells and across bucket boundaries; queries around a location on
+ * another map, or none, find nothing.
+ *
+ * @author Muhamad Shafy Dimas Rafarrel
+ * @version 1.0
+ */
+public class SpatialIndexTest {
+
+    private World world;
+    private GameMap map;
+
+    @BeforeEach
+    void setUp() throws GameEngineException {
+        world = new World(new Display()) { };
+        char[] row = new char[30];
+        Arrays.fill(row, '.');
+        String[] rows = new String[20];
+        Arrays.fill(rows, new String(row));
+        map = TestFactory.createSnowMap("Test", rows);
+        world.addGameMap(map);
+    }
+
+    @Test
+    void queries_reach_beyond_adjacent_cells() throws GameEngineException {
+        Deer near = new Deer();
+        Wolf far = new Wolf();
+        Bear farther = new Bear();
+        map.addActor(near, map.at(12, 10));
+        map.addActor(far, map.at(10, 3));
+        map.addActor(farther, map.at(25, 18));
+        SpatialIndex index = map.spatialIndex();
+
+        assertEquals(3, index.size());
+        assertSame(near, index.nearest(map.at(10, 10), 20, actor -> true));
+        assertSame(far, index.nearest(map.at(10, 10), 20, actor -> actor instanceof Wolf));
+        assertNull(index.nearest(map.at(10, 10), 7, actor -> actor instanceof Bear));
+        assertSame(farther, index.nearest(map.at(10, 10), 15, actor -> actor instanceof Bear));
+
+        Actor[] found = new Actor[4];
+        assertEquals(2, index.actorsWithin(map.at(10, 10), 7, found));
+        assertEquals(1, index.actorsWithin(map.at(12, 10), 7, found));
+        assertSame(far, found[0]);
+        assertEquals(1, index.count(Bear.class, 0, 0, 29, 19));
+        assertEquals(0, index.count(Bear.class, 0, 0, 24, 19));
+        assertEquals(3, index.count(Actor.class, -5, -5, 50, 50));
+    }
+
+    @Test
+    void index_follows_moves_and_removals() throws GameEngineException {
+        GameMap other = TestFactory.createSnowMap("Other", "...", "...");
+        world.addGameMap(other);
+        Deer deer = new Deer();
+        map.addActor(deer, map.at(1, 1));
+
+        map.moveActor(deer, map.at(20, 15));
+        assertNull(map.spatialIndex().nearest(map.at(1, 2), 5, actor -> true));
+        assertSame(deer, map.spatialIndex().nearest(map.at(18, 15), 5, actor -> true));
+
+        map.moveActor(deer, other.at(1, 1));
+        assertEquals(0, map.spatialIndex().size());
+        assertEquals(1, other.spatialIndex().size());
+
+        other.removeActor(deer);
+        assertEquals(0, other.spatialIndex().size());
+        assertNull(other.spatialIndex().nearest(other.at(0, 0), 3, actor -> true));
+    }
+
+    @Test
+    void queries_around_a_location_on_another_map_find_nothing() throws GameEngineException {
+        GameMap other = TestFactory.createSnowMap("Other", "...", "...");
+        world.addGameMap(other);
+        map.addActor(new Deer(), map.at(1, 1));
+        SpatialIndex index = map.spatialIndex();
+
+        assertNull(index.nearest(other.at(1, 1), 5, actor -> true));
+        assertNull(index.nearest(null, 5, actor -> true));
+        assertEquals(0, index.actorsWithin(other.at(1, 1), 5, new Actor[4]));
+        assertEquals(0, index.actorsWithin(null, 5, new Actor[4]));
+    }
+}
@@ -0,0 +1,123 @@
+package game.population;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import edu.monash.fit2099.engine.GameEngineException;
+import edu.monash.fit2099.engine.actions.Action;
+import edu.monash.fit2099.engine.actions.ActionList;
+import edu.monash.fit2099.engine.actions.DoNothingAction;
+import edu.monash.fit2099.engine.actors.Actor;
+import edu.monash.fit2099.engine.actors.ActorLocationsIterator;
+import edu.monash.fit2099.engine.actors.attributes.BaseActorAttribute;
+import edu.monash.fit2099.engine.actors.attributes.BaseAttributes;
+import edu.monash.fit2099.engine.displays.Display;
+import edu.monash.fit2099.engine.positions.GameMap;
+import edu.monash.fit2099.engine.positions.World;
+import game.abilities.Abilities;
+import game.actors.Deer;
+import game.testing.TestFactory;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the {@link WarmthSystem}.
+ *
+ * <p>Cases: warmth falls by one per tick and each colder band is reported once,
+ * a frozen animal is removed from the map, cold resistant animals and animals
+ * outside the world keep their warmth, resistant animals are reported every
+ * turn, actors with warmth that are not animals cool the same way, and
+ * animals in the last row and column of a map are cooled too.
+ *
+ * @author Muhamad Shafy Dimas Rafarrel
+ * @version 1.0
+ */
+public class WarmthSystemTest {
+
+    private GameMap map;
+    private ActorLocationsIterator actors;
+    private final List<WarmthBand> events = new ArrayList<>();
+    private int immune;
+
+    @BeforeEach
+    void setUp() throws GameEngineException {
+        map = TestFactory.createSnowMap("Test",
+            "...",
+            "...");
+        var world = new World(new Display()) {
+            ActorLocationsIterator locations() {
+                return actorLocations;
+            }
+        };
+        world.addGameMap(map);
+        actors = world.locations();
+    }
+
+    private void tick() {
+        WarmthSystem.tick(actors, new WarmthListener() {
+            @Override
+            public void colder(Actor animal, WarmthBand band, GameMap where) {
+                events.add(band);
+            }
+
+            @Override
+            public void immune(Actor animal, GameMap where) {
+                immune++;
+            }
+        });
+    }
+
+    @Test
+    void bands_are_reported_once_and_frozen_animals_are_removed() throws GameEngineException {
+        Deer deer = new Deer();
+        map.addActor(deer, map.at(2, 1));
+        int start = deer.getAttribute(BaseAttributes.WARMTH);
+
+        tick();
+        assertEquals(start - 1, deer.getAttribute(BaseAttributes.WARMTH));
+
+        for (int i = 1; i < start; i++) {
+            tick();
+        }
+        assertEquals(List.of(WarmthBand.GETTING_COLD, WarmthBand.COLD, WarmthBand.VERY_COLD, WarmthBand.FROZEN),
+            events);
+        assertFalse(map.contains(deer));
+    }
+
+    @Test
+    void resistant_animals_and_animals_outside_the_world_keep_their_warmth() throws GameEngineException {
+        Deer resistant = new Deer();
+        resistant.enableAbility(Abilities.COLD_RESISTANCE);
+        map.addActor(resistant, map.at(0, 0));
+        Deer unplaced = new Deer();
+        int start = unplaced.getAttribute(BaseAttributes.WARMTH);
+
+        for (int i = 0; i < 5; i++) {
+            tick();
+        }
+        assertEquals(start, resistant.getAttribute(BaseAttributes.WARMTH));
+        assertEquals(start, unplaced.getAttribute(BaseAttributes.WARMTH));
+        assertTrue(events.isEmpty());
+        assertEquals(5, immune);
+    }
+
+    @Test
+    void actors_with_warmth_that_are_not_animals_cool_too() throws GameEngineException {
+        Actor traveller = new Actor("Traveller", 't', 10) {
+            @Override
+            public Action playTurn(ActionList actions, Action lastAction, GameMap map, Display display) {
+                return new DoNothingAction();
+            }
+        };
+        traveller.addNewStatistic(BaseAttributes.WARMTH, new BaseActorAttribute(9));
+        map.addActor(traveller, map.at(1, 1));
+
+        for (int i = 0; i < 9; i++) {
+            tick();
+        }
+        assertEquals(List.of(WarmthBand.GETTING_COLD, WarmthBand.COLD, WarmthBand.VERY_COLD, WarmthBand.FROZEN),
+            events);
+        assertFalse(map.contains(traveller));
+    }
+}
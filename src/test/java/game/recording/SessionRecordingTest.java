@@ -0,0 +1,103 @@
+package game.recording;
+
+import edu.monash.fit2099.engine.displays.Frame;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Round-trips frames through SessionRecorder and SessionPlayer.
+ */
+public class SessionRecordingTest {
+
+    private static final int WIDTH = 12;
+    private static final int HEIGHT = 4;
+
+    /** A map where a single '@' walks along the rows, one cell per turn. */
+    private static char[][] mapForTurn(int turn) {
+        char[][] cells = new char[HEIGHT][WIDTH];
+        for (char[] row : cells) {
+            Arrays.fill(row, '.');
+        }
+        int cell = turn % (WIDTH * HEIGHT);
+        cells[cell / WIDTH][cell % WIDTH] = '@';
+        return cells;
+    }
+
+    private static void record(Path file, int turns) throws IOException {
+        try (SessionRecorder recorder = new SessionRecorder(file)) {
+            for (int turn = 0; turn < turns; turn++) {
+                // One frame with the map and a prompt, one with the turn's NPC messages
+                recorder.frameRendered(new Frame(turn, mapForTurn(turn), 1,
+                        List.of("Turn " + turn, "Explorer (100/100)")));
+                recorder.frameRendered(new Frame(turn, null, 0, List.of("Deer moves " + turn)));
+            }
+        }
+    }
+
+    @Test
+    void seekReconstructsMapAndMessagesOfAnyTurn(@TempDir Path dir) throws IOException {
+        Path file = dir.resolve("session.rec");
+        record(file, 500);
+
+        try (SessionPlayer player = SessionPlayer.open(file)) {
+            assertEquals(0, player.firstTurn());
+            assertEquals(499, player.lastTurn());
+            assertEquals(1000, player.frameCount());
+
+            for (int turn : new int[] {0, 31, 32, 33, 250, 499, 137, 1}) {
+                List<Frame> frames = player.framesOf(turn);
+                assertEquals(2, frames.size(), "turn " + turn);
+
+                Frame first = frames.get(0);
+                assertTrue(first.hasMap());
+                char[][] expected = mapForTurn(turn);
+                for (int y = 0; y < HEIGHT; y++) {
+                    for (int x = 0; x < WIDTH; x++) {
+                        assertEquals(expected[y][x], first.cellAt(x, y), "turn " + turn + " at " + x + "," + y);
+                    }
+                }
+                assertEquals(1, first.getMapIndex());
+                assertEquals(List.of("Turn " + turn, "Explorer (100/100)"), first.getMessages());
+
+                assertFalse(frames.get(1).hasMap());
+                assertEquals(List.of("Deer moves " + turn), frames.get(1).getMessages());
+            }
+            assertTrue(player.framesOf(500).isEmpty());
+        }
+    }
+
+    @Test
+    void deltasKeepRecordingsSmall(@TempDir Path dir) throws IOException {
+        Path file = dir.resolve("session.rec");
+        record(file, 2000);
+
+        // Raw console output would be well over 100 bytes per turn for this map alone
+        assertTrue(Files.size(file) < 2000 * 20, "recording is " + Files.size(file) + " bytes");
+    }
+
+    @Test
+    void truncatedRecordingIsReadUpToLastCompleteBlock(@TempDir Path dir) throws IOException {
+        Path file = dir.resolve("cut.rec");
+        record(file, 100);
+        long size = Files.size(file);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.truncate(size - 5);
+        }
+
+        try (SessionPlayer player = SessionPlayer.open(file)) {
+            assertFalse(player.isEmpty());
+            assertTrue(player.lastTurn() < 99);
+            assertEquals(2, player.framesOf(0).size());
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package game.states;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import edu.monash.fit2099.engine.GameEngineException;
+import edu.monash.fit2099.engine.actions.Action;
+import edu.monash.fit2099.engine.actions.ActionList;
+import edu.monash.fit2099.engine.displays.Display;
+import edu.monash.fit2099.engine.displays.MessageSink;
+import edu.monash.fit2099.engine.positions.GameMap;
+import edu.monash.fit2099.engine.positions.World;
+import game.actions.AttackAction;
+import game.actors.Chimera;
+import game.actors.Deer;
+import game.states.ChimeraContext.Counter;
+import game.testing.TestFactory;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the {@link ChimeraTransitions} table and the per-chimera
+ * {@link ChimeraContext}.
+ *
+ * <p>Cases: a row applies once its counter reaches the threshold and the roll
+ * succeeds, only the first row whose counter is due is tried, and a chimera
+ * attacking turn after turn reuses one attack action.
+ *
+ * @author Muhamad Shafy Dimas Rafarrel
+ * @version 1.0
+ */
+public class ChimeraTransitionsTest {
+
+    private static final Display SILENT = MessageSink.silent();
+
+    /** A random stream whose every roll comes out as the given number. */
+    private static Random rolling(int roll) {
+        return new Random() {
+            @Override
+            public int nextInt(int bound) {
+                return roll;
+            }
+        };
+    }
+
+    @Test
+    void a_row_applies_once_its_counter_is_due_and_the_roll_succeeds() {
+        ChimeraContext lucky = new ChimeraContext(rolling(0));
+        lucky.increment(Counter.TURNS_IN_STATE);
+        lucky.increment(Counter.TURNS_IN_STATE);
+        assertSame(DefaultChimeraState.INSTANCE, ChimeraTransitions.next(DefaultChimeraState.INSTANCE, lucky, SILENT));
+        lucky.increment(Counter.TURNS_IN_STATE);
+        assertSame(FireState.INSTANCE, ChimeraTransitions.next(DefaultChimeraState.INSTANCE, lucky, SILENT));
+
+        ChimeraContext unlucky = new ChimeraContext(rolling(99));
+        for (int turn = 0; turn < 10; turn++) {
+            unlucky.increment(Counter.TURNS_IN_STATE);
+        }
+        assertSame(FireState.INSTANCE, ChimeraTransitions.next(FireState.INSTANCE, unlucky, SILENT));
+    }
+
+    @Test
+    void only_the_first_due_row_is_tried() {
+        ChimeraContext alone = new ChimeraContext(rolling(20));
+        for (int turn = 0; turn < 4; turn++) {
+            alone.increment(Counter.TURNS_ALONE);
+        }
+        assertSame(DefaultChimeraState.INSTANCE, ChimeraTransitions.next(IceState.INSTANCE, alone, SILENT));
+
+        // Three turns in state makes the poison row due; its roll fails, so the default row is not tried
+        ChimeraContext settled = new ChimeraContext(rolling(50));
+        for (int turn = 0; turn < 4; turn++) {
+            settled.increment(Counter.TURNS_ALONE);
+            settled.increment(Counter.TURNS_IN_STATE);
+        }
+        assertSame(IceState.INSTANCE, ChimeraTransitions.next(IceState.INSTANCE, settled, SILENT));
+
+        settled.enterState();
+        assertEquals(0, settled.get(Counter.TURNS_IN_STATE));
+        assertEquals(0, settled.get(Counter.TURNS_ALONE));
+    }
+
+    @Test
+    void a_chimera_reuses_its_attack_action() throws GameEngineException {
+        World world = new World(new Display()) { };
+        GameMap map = TestFactory.createSnowMap("Test",
+            "...");
+        world.addGameMap(map);
+        Chimera chimera = new Chimera();
+        map.addActor(chimera, map.at(0, 0));
+        map.addActor(new Deer(), map.at(1, 0));
+
+        Action first = chimera.playTurn(new ActionList(), null, map, new Display());
+        Action second = chimera.playTurn(new ActionList(), null, map, new Display());
+        assertInstanceOf(AttackAction.class, first);
+        assertSame(first, second);
+    }
+}
@@ -0,0 +1,77 @@
+package game.status;
+
+import edu.monash.fit2099.engine.GameEngineException;
+import edu.monash.fit2099.engine.actors.ActorLocationsIterator;
+import edu.monash.fit2099.engine.actors.attributes.BaseActorAttribute;
+import edu.monash.fit2099.engine.actors.attributes.BaseAttributes;
+import edu.monash.fit2099.engine.positions.GameMap;
+import game.actors.Deer;
+import game.testing.TestFactory;
+import java.util.Arrays;
+
+/**
+ * Measures the scheduler under sustained exposure: every actor is set alight,
+ * poisoned and frost-bitten again every turn, as if it stood on burning ground
+ * next to a swamp, and keeps bleeding from fresh wounds.
+ *
+ * <p>Not a unit test (the name keeps Surefire from running it). After
+ * {@code mvn -B test-compile}, run it with
+ * {@code java -cp target/classes:target/test-classes game.status.StatusEffectBenchmark},
+ * optionally passing the number of actors and turns as arguments. It prints the pool sizes, which stay
+ * at one entry per actor for each merging kind however many turns pass, the
+ * average cost of a tick, and the heap used before and after.
+ *
+ * @author Ahmed
+ */
+public final class StatusEffectBenchmark {
+
+  private StatusEffectBenchmark() {}
+
+  public static void main(String[] args) throws GameEngineException {
+    int actorCount = args.length > 0 ? Integer.parseInt(args[0]) : 400;
+    int turns = args.length > 1 ? Integer.parseInt(args[1]) : 2_000;
+
+    char[] row = new char[20];
+    Arrays.fill(row, '.');
+    String[] rows = new String[(actorCount + row.length - 1) / row.length];
+    Arrays.fill(rows, new String(row));
+    GameMap map = TestFactory.createSnowMap("Benchmark", rows);
+
+    ActorLocationsIterator actors = new ActorLocationsIterator();
+    Deer[] deer = new Deer[actorCount];
+    for (int i = 0; i < actorCount; i++) {
+      deer[i] = new Deer();
+      deer[i].addNewStatistic(BaseAttributes.HEALTH, new BaseActorAttribute(Integer.MAX_VALUE));
+      actors.add(deer[i], map.at(i % row.length, i / row.length));
+    }
+
+    StatusEffectScheduler.clear();
+    long heapBefore = usedHeap();
+    long start = System.nanoTime();
+    for (int turn = 0; turn < turns; turn++) {
+      for (Deer d : deer) {
+        d.addStatusEffect(new BurnEffect(5, 5));
+        d.addStatusEffect(new PoisonEffect(10, 5));
+        d.addStatusEffect(new FrostBiteEffect(3, 1));
+        d.addStatusEffect(new BleedEffect(2, 1));
+      }
+      StatusEffectScheduler.tick(actors);
+    }
+    long elapsed = System.nanoTime() - start;
+    long heapAfter = usedHeap();
+
+    System.out.printf("%d actors, %d turns of sustained exposure%n", actorCount, turns);
+    for (EffectKind kind : EffectKind.values()) {
+      System.out.printf("  %-9s %-11s %6d entries%n", kind, kind.stacking(), StatusEffectScheduler.poolSize(kind));
+    }
+    System.out.printf("  %.1f us per turn (apply + tick)%n", elapsed / 1_000.0 / turns);
+    System.out.printf("  heap used %d KB -> %d KB%n", heapBefore / 1024, heapAfter / 1024);
+    StatusEffectScheduler.clear();
+  }
+
+  private static long usedHeap() {
+    Runtime runtime = Runtime.getRuntime();
+    System.gc();
+    return runtime.totalMemory() - runtime.freeMemory();
+  }
+}
@@ -0,0 +1,155 @@
+package game.status;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import edu.monash.fit2099.engine.GameEngineException;
+import edu.monash.fit2099.engine.actors.Actor;
+import edu.monash.fit2099.engine.actors.ActorLocationsIterator;
+import edu.monash.fit2099.engine.actors.attributes.BaseActorAttribute;
+import edu.monash.fit2099.engine.actors.attributes.BaseAttributes;
+import edu.monash.fit2099.engine.positions.GameMap;
+import game.abilities.Abilities;
+import game.actors.Deer;
+import game.testing.TestFactory;
+import game.tuning.Tuning;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the batched {@link StatusEffectScheduler}.
+ *
+ * <p>Cases: stacked effects tick together and expire independently, per-actor
+ * queries follow the pools, effects on actors no longer in the world are dropped,
+ * actors knocked out by an effect are reported to the caller, each
+ * {@link StackingPolicy} keeps sustained exposure bounded, and frostbite cools
+ * animals that are not cold resistant.
+ *
+ * @author Ahmed
+ */
+public class StatusEffectSchedulerTest {
+
+  private GameMap map;
+  private ActorLocationsIterator actors;
+
+  @BeforeEach
+  void setUp() throws GameEngineException {
+    StatusEffectScheduler.clear();
+    map = TestFactory.createSnowMap("Test",
+        "...",
+        "...");
+    actors = new ActorLocationsIterator();
+  }
+
+  @AfterEach
+  void tearDown() {
+    StatusEffectScheduler.clear();
+  }
+
+  @Test
+  void stacked_effects_tick_together_and_expire_independently() throws GameEngineException {
+    Deer deer = new Deer();
+    actors.add(deer, map.at(0, 0));
+    int health = deer.getAttribute(BaseAttributes.HEALTH);
+
+    deer.addStatusEffect(new BleedEffect(2, 1));
+    deer.addStatusEffect(new BleedEffect(1, 1));
+    deer.addStatusEffect(new PoisonEffect(3, 2));
+    assertEquals(2, StatusEffectScheduler.count(deer, EffectKind.BLEED));
+    assertEquals(3, StatusEffectScheduler.count(deer));
+    assertEquals(3, StatusEffectScheduler.remainingTurns(deer, EffectKind.POISON));
+
+    StatusEffectScheduler.tick(actors);
+    assertEquals(health - 4, deer.getAttribute(BaseAttributes.HEALTH));
+    assertEquals(1, StatusEffectScheduler.count(deer, EffectKind.BLEED));
+
+    StatusEffectScheduler.tick(actors);
+    StatusEffectScheduler.tick(actors);
+    assertEquals(health - 9, deer.getAttribute(BaseAttributes.HEALTH));
+    assertFalse(StatusEffectScheduler.isAffected(deer, EffectKind.POISON));
+    assertEquals(0, StatusEffectScheduler.count(deer));
+    assertEquals(0, StatusEffectScheduler.size());
+  }
+
+  @Test
+  void effects_on_actors_outside_the_world_are_dropped() {
+    Deer deer = new Deer();
+    int health = deer.getAttribute(BaseAttributes.HEALTH);
+    deer.addStatusEffect(new BurnEffect(5, 1));
+
+    StatusEffectScheduler.tick(actors);
+    assertEquals(health, deer.getAttribute(BaseAttributes.HEALTH));
+    assertEquals(0, StatusEffectScheduler.size());
+  }
+
+  @Test
+  void knocked_out_actors_are_reported_once() throws GameEngineException {
+    Deer deer = new Deer();
+    actors.add(deer, map.at(1, 1));
+    int health = deer.getAttribute(BaseAttributes.HEALTH);
+    deer.addStatusEffect(new PoisonEffect(1, health));
+    deer.addStatusEffect(new BurnEffect(1, health));
+
+    List<Actor> fallen = StatusEffectScheduler.tick(actors);
+    assertEquals(List.of(deer), fallen);
+    assertTrue(StatusEffectScheduler.tick(actors).isEmpty());
+  }
+
+  @Test
+  void sustained_exposure_keeps_one_entry_per_merging_kind() throws GameEngineException {
+    Deer deer = new Deer();
+    actors.add(deer, map.at(0, 1));
+    deer.addNewStatistic(BaseAttributes.HEALTH, new BaseActorAttribute(100_000));
+
+    for (int turn = 0; turn < 100; turn++) {
+      deer.addStatusEffect(new BurnEffect(5, 5));
+      deer.addStatusEffect(new PoisonEffect(3, 4));
+      deer.addStatusEffect(new FrostBiteEffect(3, 1));
+      StatusEffectScheduler.tick(actors);
+    }
+    assertEquals(1, StatusEffectScheduler.poolSize(EffectKind.BURN));
+    assertEquals(1, StatusEffectScheduler.poolSize(EffectKind.POISON));
+    assertEquals(1, StatusEffectScheduler.poolSize(EffectKind.FROSTBITE));
+    assertEquals(4, StatusEffectScheduler.remainingTurns(deer, EffectKind.BURN));
+  }
+
+  @Test
+  void refresh_keeps_longest_and_strongest_and_intensify_is_capped() throws GameEngineException {
+    Deer deer = new Deer();
+    actors.add(deer, map.at(2, 0));
+    deer.addNewStatistic(BaseAttributes.HEALTH, new BaseActorAttribute(1_000));
+
+    deer.addStatusEffect(new BurnEffect(2, 5));
+    deer.addStatusEffect(new BurnEffect(4, 3));
+    assertEquals(4, StatusEffectScheduler.remainingTurns(deer, EffectKind.BURN));
+    StatusEffectScheduler.tick(actors);
+    assertEquals(995, deer.getAttribute(BaseAttributes.HEALTH));
+    StatusEffectScheduler.clear();
+
+    for (int i = 0; i < 10; i++) {
+      deer.addStatusEffect(new PoisonEffect(3, 4));
+    }
+    assertEquals(1, StatusEffectScheduler.count(deer, EffectKind.POISON));
+    StatusEffectScheduler.tick(actors);
+    assertEquals(995 - Tuning.POISON_MAX_DPT, deer.getAttribute(BaseAttributes.HEALTH));
+  }
+
+  @Test
+  void frostbite_cools_animals_that_are_not_cold_resistant() throws GameEngineException {
+    Deer deer = new Deer();
+    actors.add(deer, map.at(1, 1));
+    int warmth = deer.getAttribute(BaseAttributes.WARMTH);
+
+    deer.addStatusEffect(new FrostBiteEffect(2, 3));
+    StatusEffectScheduler.tick(actors);
+    assertEquals(warmth - 3, deer.getAttribute(BaseAttributes.WARMTH));
+
+    Deer tundraDeer = new Deer();
+    actors.add(tundraDeer, map.at(0, 1));
+    tundraDeer.enableAbility(Abilities.COLD_RESISTANCE);
+    tundraDeer.addStatusEffect(new FrostBiteEffect(2, 3));
+    StatusEffectScheduler.tick(actors);
+    assertEquals(warmth, tundraDeer.getAttribute(BaseAttributes.WARMTH));
+  }
+}
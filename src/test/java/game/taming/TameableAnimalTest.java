@@ -0,0 +1,75 @@
+package game.taming;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import edu.monash.fit2099.engine.GameEngineException;
+import edu.monash.fit2099.engine.actions.Action;
+import edu.monash.fit2099.engine.actions.ActionList;
+import edu.monash.fit2099.engine.actors.Actor;
+import edu.monash.fit2099.engine.displays.Display;
+import edu.monash.fit2099.engine.positions.GameMap;
+import edu.monash.fit2099.engine.positions.World;
+import game.actions.TameAction;
+import game.actors.Deer;
+import game.items.Apple;
+import game.items.YewBerry;
+import game.testing.TestFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for what {@link TameableAnimal} offers the actors next to it.
+ *
+ * <p>Cases: an actor carrying several foods the animal accepts is offered to
+ * tame it with the first of them in the order they are carried.
+ *
+ * @author Muhamad Shafy Dimas Rafarrel
+ * @version 1.0
+ */
+public class TameableAnimalTest {
+
+    private GameMap map;
+
+    @BeforeEach
+    void setUp() throws GameEngineException {
+        World world = new World(new Display()) { };
+        map = TestFactory.createSnowMap("Test",
+            "..");
+        world.addGameMap(map);
+    }
+
+    /** An actor that only carries what it is given. */
+    private static Actor carrier() {
+        return new Actor("Carrier", '@', 10) {
+            @Override
+            public Action playTurn(ActionList actions, Action lastAction, GameMap map, Display display) {
+                return null;
+            }
+        };
+    }
+
+    private static String tameWith(ActionList actions, Actor actor) {
+        for (Action action : actions) {
+            if (action instanceof TameAction) {
+                return action.menuDescription(actor);
+            }
+        }
+        return null;
+    }
+
+    @Test
+    void taming_uses_the_first_accepted_food_carried() throws GameEngineException {
+        Deer deer = new Deer();
+        map.addActor(deer, map.at(1, 0));
+
+        Actor berriesFirst = carrier();
+        berriesFirst.addItemToInventory(new YewBerry());
+        berriesFirst.addItemToInventory(new Apple());
+        assertTrue(tameWith(deer.allowableActions(berriesFirst, "East", map), berriesFirst).endsWith("with Yew Berry"));
+
+        Actor applesFirst = carrier();
+        applesFirst.addItemToInventory(new Apple());
+        applesFirst.addItemToInventory(new YewBerry());
+        assertTrue(tameWith(deer.allowableActions(applesFirst, "East", map), applesFirst).endsWith("with Apple"));
+    }
+}
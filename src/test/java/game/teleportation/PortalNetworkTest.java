@@ -0,0 +1,118 @@
+package game.teleportation;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import edu.monash.fit2099.engine.GameEngineException;
+import edu.monash.fit2099.engine.actions.Action;
+import edu.monash.fit2099.engine.displays.Display;
+import edu.monash.fit2099.engine.positions.GameMap;
+import edu.monash.fit2099.engine.positions.World;
+import game.actors.Deer;
+import game.actors.Player;
+import game.population.AnimalSystems;
+import game.terrain.TeleDoor;
+import game.terrain.TeleportationCircle;
+import game.testing.TestFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for routes through the {@link PortalNetwork}.
+ *
+ * <p>Cases: a tamed animal walks to the portal that leads to its tamer's map,
+ * uses it and rejoins the tamer; the shorter of two routes is taken; and there
+ * is no route to a map no portal leads to.
+ *
+ * @author Muhamad Shafy Dimas Rafarrel
+ * @version 1.0
+ */
+public class PortalNetworkTest {
+
+    private GameMap forest;
+    private GameMap plains;
+    private GameMap island;
+    private Player tamer;
+    private Deer deer;
+
+    @BeforeEach
+    void setUp() throws GameEngineException {
+        PortalNetwork.clear();
+        World world = new World(new Display()) { };
+        forest = TestFactory.createSnowMap("Forest",
+            "........",
+            "........",
+            "........");
+        plains = TestFactory.createSnowMap("Plains",
+            "......",
+            "......",
+            "......");
+        island = TestFactory.createSnowMap("Island", "...");
+        world.addGameMap(forest);
+        world.addGameMap(plains);
+        world.addGameMap(island);
+
+        TeleDoor door = new TeleDoor();
+        door.addDestination(new TeleportDestination(plains.at(0, 1), "Plains", "Plains West"));
+        forest.at(4, 1).setGround(door);
+        TeleportationCircle circle = new TeleportationCircle();
+        circle.addDestination(new TeleportDestination(plains.at(5, 2), "Plains", "Plains East"));
+        forest.at(7, 1).setGround(circle);
+        PortalNetwork.scan(forest);
+        PortalNetwork.scan(plains);
+
+        tamer = new Player("Tamer", '@', 100);
+        deer = new Deer();
+        forest.addActor(deer, forest.at(0, 1));
+        deer.tame(tamer);
+    }
+
+    @AfterEach
+    void tearDown() {
+        PortalNetwork.clear();
+    }
+
+    @Test
+    void followers_rejoin_their_tamer_through_a_portal() throws GameEngineException {
+        plains.addActor(tamer, plains.at(3, 1));
+        assertEquals(2, PortalNetwork.size());
+
+        int turns = 0;
+        while (!isNextToTamer() && turns < 20) {
+            Action action = AnimalSystems.follow(deer, tamer, mapOfDeer());
+            assertNotNull(action);
+            action.execute(deer, mapOfDeer());
+            turns++;
+        }
+        // Four steps to the door, one to use it, two to reach the tamer
+        assertEquals(7, turns);
+        assertTrue(plains.contains(deer));
+    }
+
+    @Test
+    void the_shorter_route_is_taken() throws GameEngineException {
+        // The circle lands next to this tamer, which beats the nearer door's long walk
+        plains.addActor(tamer, plains.at(5, 0));
+        forest.moveActor(deer, forest.at(5, 1));
+        Action action = PortalNetwork.nextAction(deer, forest.at(5, 1), plains.at(5, 0));
+        action.execute(deer, forest);
+        assertEquals(6, forest.locationOf(deer).x());
+    }
+
+    @Test
+    void there_is_no_route_to_a_map_without_portals() throws GameEngineException {
+        island.addActor(tamer, island.at(1, 0));
+        assertNull(AnimalSystems.follow(deer, tamer, forest));
+    }
+
+    private GameMap mapOfDeer() {
+        return forest.locationOf(deer).map();
+    }
+
+    private boolean isNextToTamer() {
+        var here = mapOfDeer().locationOf(deer);
+        var there = mapOfDeer().locationOf(tamer);
+        return here.map() == there.map()
+            && Math.abs(here.x() - there.x()) <= 1 && Math.abs(here.y() - there.y()) <= 1;
+    }
+}